@@ -0,0 +1,123 @@
+package io.stargate.sdk;
+
+import io.stargate.sdk.loadbalancer.DatacenterSnapshot;
+import io.stargate.sdk.loadbalancer.DeploymentSnapshot;
+import lombok.NonNull;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Expose the snapshot of a deployment through JMX, values are read when the attribute is requested.
+ */
+public class DeploymentMonitor implements DeploymentMonitorMXBean {
+
+    /** JMX domain. */
+    public static final String DOMAIN = "io.stargate.sdk";
+
+    /** Monitored deployment. */
+    private final ManagedServiceDeployment<?> deployment;
+
+    /**
+     * Constructor with the deployment.
+     *
+     * @param deployment
+     *      monitored deployment
+     */
+    public DeploymentMonitor(@NonNull ManagedServiceDeployment<?> deployment) {
+        this.deployment = deployment;
+    }
+
+    /**
+     * Register the deployment of an api in the platform MBean server, a previous registration for the
+     * same api is replaced.
+     *
+     * @param api
+     *      api name (rest, document, graphql, data, grpc)
+     * @param deployment
+     *      deployment of the api
+     * @return
+     *      name of the MBean
+     */
+    public static ObjectName register(@NonNull String api, @NonNull ManagedServiceDeployment<?> deployment) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(DOMAIN + ":type=Deployment,api=" + ObjectName.quote(api));
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(new DeploymentMonitor(deployment), name);
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register deployment MBean for " + api, e);
+        }
+    }
+
+    /**
+     * Unregister a MBean if still registered.
+     *
+     * @param name
+     *      name returned by {@link #register(String, ManagedServiceDeployment)}
+     */
+    public static void unregister(@NonNull ObjectName name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister deployment MBean " + name, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getCurrentDatacenter() {
+        return deployment.getLocalDatacenterClient().getDatacenterName();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getNodeFailOverCount() {
+        return deployment.getNodeFailOverCount();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getDatacenterFailOverCount() {
+        return deployment.getDatacenterFailOverCount();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getInFlight() {
+        return current().getInFlight();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getRequestRate() {
+        return current().getRequestRate();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<DatacenterSnapshot> getDatacenters() {
+        return deployment.snapshot().getDatacenters();
+    }
+
+    /**
+     * Snapshot of the datacenter in use.
+     */
+    private DatacenterSnapshot current() {
+        DeploymentSnapshot snapshot = deployment.snapshot();
+        return snapshot.getDatacenters().stream()
+                .filter(DatacenterSnapshot::isCurrent)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No current datacenter"));
+    }
+
+}
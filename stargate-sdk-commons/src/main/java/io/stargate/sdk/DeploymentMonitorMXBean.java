@@ -0,0 +1,60 @@
+package io.stargate.sdk;
+
+import io.stargate.sdk.loadbalancer.DatacenterSnapshot;
+
+import java.util.List;
+
+/**
+ * JMX view of a deployment, registered as <code>io.stargate.sdk:type=Deployment,api=&lt;api&gt;</code>.
+ */
+public interface DeploymentMonitorMXBean {
+
+    /**
+     * Gets the datacenter in use.
+     *
+     * @return
+     *      datacenter name
+     */
+    String getCurrentDatacenter();
+
+    /**
+     * Gets the nodes marked unavailable since startup.
+     *
+     * @return
+     *      node fail-over count
+     */
+    long getNodeFailOverCount();
+
+    /**
+     * Gets the fail-over to another datacenter since startup.
+     *
+     * @return
+     *      datacenter fail-over count
+     */
+    long getDatacenterFailOverCount();
+
+    /**
+     * Gets the requests in flight in the current datacenter.
+     *
+     * @return
+     *      requests in flight
+     */
+    int getInFlight();
+
+    /**
+     * Gets the requests per second in the current datacenter.
+     *
+     * @return
+     *      request rate
+     */
+    double getRequestRate();
+
+    /**
+     * Gets the state and traffic of each datacenter and node.
+     *
+     * @return
+     *      datacenters
+     */
+    List<DatacenterSnapshot> getDatacenters();
+
+}
@@ -1,13 +1,22 @@
 package io.stargate.sdk;
 
+import io.stargate.sdk.jfr.FailoverEvent;
+import io.stargate.sdk.loadbalancer.DatacenterSnapshot;
+import io.stargate.sdk.loadbalancer.DeploymentSnapshot;
 import io.stargate.sdk.loadbalancer.LoadBalancedResource;
 import io.stargate.sdk.loadbalancer.NoneResourceAvailableException;
+import io.stargate.sdk.tracing.ServiceCallSpan;
+import io.stargate.sdk.tracing.ServiceCallTracing;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +43,12 @@ public class ManagedServiceDeployment<SERVICE extends Service> {
     /** Working with a currentDC. */
     private String currentDatacenter;
 
+    /** Number of nodes marked as unavailable. */
+    private final AtomicLong nodeFailOverCount = new AtomicLong();
+
+    /** Number of switches to another datacenter. */
+    private final AtomicLong datacenterFailOverCount = new AtomicLong();
+
     /**
      * Initialize a managed topology from its definition.
      * @param sDeploy
@@ -118,15 +133,34 @@ public class ManagedServiceDeployment<SERVICE extends Service> {
      * Failing over from one DC to another
      */
     public void failOverDatacenter() {
-        getDatacenters().get(currentDatacenter).setAvailable(false);
-        Set<String> availableDc = getAvailableDatacenters();
-        if (availableDc.size() == 0) {
-            throw new NoneResourceAvailableException("No Resource available anymore on ");
+        datacenterFailOverCount.incrementAndGet();
+        FailoverEvent jfrEvent = new FailoverEvent();
+        jfrEvent.begin();
+        jfrEvent.type       = "datacenter";
+        jfrEvent.datacenter = currentDatacenter;
+        ServiceCallSpan span = ServiceCallTracing.startSpan("failover")
+                .setAttribute("stargate.failover.type", "datacenter")
+                .setAttribute("stargate.datacenter", currentDatacenter);
+        try {
+            getDatacenters().get(currentDatacenter).setAvailable(false);
+            Set<String> availableDc = getAvailableDatacenters();
+            if (availableDc.size() == 0) {
+                throw new NoneResourceAvailableException("No Resource available anymore on ");
+            }
+            // Pick one and fail over
+            String newDc = availableDc.iterator().next();
+            LOGGER.info("Fail-over from {} to {}", currentDatacenter, newDc);
+            span.setAttribute("stargate.failover.target", newDc);
+            jfrEvent.target = newDc;
+            useDataCenter(newDc);
+        } catch (RuntimeException e) {
+            span.recordError(e);
+            jfrEvent.cause = e.getClass().getName();
+            throw e;
+        } finally {
+            span.end();
+            jfrEvent.commit();
         }
-        // Pick one and fail over
-        String newDc = availableDc.iterator().next();
-        LOGGER.info("Fail-over from {} to {}", currentDatacenter, newDc);
-        useDataCenter(newDc);
     }
 
     /**
@@ -138,7 +172,65 @@ public class ManagedServiceDeployment<SERVICE extends Service> {
      *      source error
      */
     public void failOverStargateNode(LoadBalancedResource<SERVICE> lb, Throwable t) {
-        getLocalDatacenterClient().getStargateNodesLB().handleComponentError(lb, t);
+        nodeFailOverCount.incrementAndGet();
+        FailoverEvent jfrEvent = new FailoverEvent();
+        jfrEvent.begin();
+        ServiceCallSpan span = ServiceCallTracing.startSpan("failover")
+                .setAttribute("stargate.failover.type", "node")
+                .setAttribute("stargate.datacenter", currentDatacenter);
+        if (lb != null) {
+            span.setAttribute("stargate.node", lb.getId());
+        }
+        span.recordError(t);
+        try {
+            getLocalDatacenterClient().getStargateNodesLB().handleComponentError(lb, t);
+        } finally {
+            span.end();
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.type       = "node";
+                jfrEvent.datacenter = currentDatacenter;
+                jfrEvent.node       = lb != null ? lb.getId() : null;
+                jfrEvent.cause      = t != null ? t.getClass().getName() : null;
+                jfrEvent.commit();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of nodes marked as unavailable since startup.
+     *
+     * @return
+     *      node fail-over count
+     */
+    public long getNodeFailOverCount() {
+        return nodeFailOverCount.get();
+    }
+
+    /**
+     * Gets the number of fail-over to another datacenter since startup.
+     *
+     * @return
+     *      datacenter fail-over count
+     */
+    public long getDatacenterFailOverCount() {
+        return datacenterFailOverCount.get();
+    }
+
+    /**
+     * Live view of the deployment for dashboards: availability and traffic of each datacenter and node.
+     *
+     * @return
+     *      state of the datacenters and nodes
+     */
+    public DeploymentSnapshot snapshot() {
+        String current = currentDatacenter;
+        List<DatacenterSnapshot> dcs = new ArrayList<>();
+        for (ManagedServiceDatacenter<SERVICE> dc : datacenters.values()) {
+            dcs.add(new DatacenterSnapshot(dc.getDatacenterName(), dc.isAvailable(),
+                    dc.getDatacenterName().equals(current), dc.getStargateNodesLB().snapshot()));
+        }
+        dcs.sort(Comparator.comparing(DatacenterSnapshot::getName));
+        return new DeploymentSnapshot(current, getNodeFailOverCount(), getDatacenterFailOverCount(), dcs);
     }
 
     /**
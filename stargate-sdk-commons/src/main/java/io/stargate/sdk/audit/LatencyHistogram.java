@@ -0,0 +1,153 @@
+package io.stargate.sdk.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets (HdrHistogram style).
+ * <p>
+ * Each power of two is split in 16 buckets, the relative error on percentiles is below 6.25%. Recording
+ * is a few atomic increments, no lock and no allocation, so it can run on any hot path. Percentiles can
+ * be read at any time without a snapshot (hedging delay, adaptive timeouts).
+ */
+public class LatencyHistogram {
+
+    /** Number of bits used to split a power of two. */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /** Buckets per power of two. */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** Highest power of two tracked, larger values go in the last bucket. */
+    private static final int MAX_EXPONENT = 40;
+
+    /** Total number of buckets. */
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    /** Count per bucket. */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /** Number of values. */
+    private final LongAdder totalCount = new LongAdder();
+
+    /** Number of errors. */
+    private final LongAdder errorCount = new LongAdder();
+
+    /** Sum of values. */
+    private final LongAdder totalSum = new LongAdder();
+
+    /** Highest value. */
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /** Creation time used for throughput. */
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Default constructor.
+     */
+    public LatencyHistogram() {}
+
+    /**
+     * Record a value.
+     *
+     * @param value
+     *      latency, negative values are recorded as 0
+     * @param error
+     *      if the call failed
+     */
+    public void record(long value, boolean error) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(indexOf(v));
+        totalCount.increment();
+        totalSum.add(v);
+        if (error) {
+            errorCount.increment();
+        }
+        long max = maxValue.get();
+        while (v > max && !maxValue.compareAndSet(max, v)) {
+            max = maxValue.get();
+        }
+    }
+
+    /**
+     * Value at a percentile, read from the live buckets.
+     *
+     * @param percentile
+     *      percentile between 0 and 100
+     * @return
+     *      highest value of the matching bucket, 0 if empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * total));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += counts.get(i);
+            if (cumulative >= target) {
+                return Math.min(highestValueOf(i), maxValue.get());
+            }
+        }
+        return maxValue.get();
+    }
+
+    /**
+     * Build a snapshot.
+     *
+     * @return
+     *      current statistics
+     */
+    public LatencySnapshot snapshot() {
+        long count   = totalCount.sum();
+        double secs  = Math.max(1, System.nanoTime() - startNanos) / 1e9;
+        return new LatencySnapshot(count, errorCount.sum(),
+                count == 0 ? 0 : (double) totalSum.sum() / count,
+                getValueAtPercentile(50), getValueAtPercentile(99), getValueAtPercentile(99.9),
+                maxValue.get(), count / secs);
+    }
+
+    /**
+     * Bucket of a value.
+     *
+     * @param value
+     *      positive value
+     * @return
+     *      bucket index
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Highest value of a bucket.
+     *
+     * @param index
+     *      bucket index
+     * @return
+     *      highest value in the bucket
+     */
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent  = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        long width     = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+    }
+
+}
@@ -0,0 +1,152 @@
+package io.stargate.sdk.audit;
+
+/**
+ * Statistics of a {@link LatencyHistogram} at a point in time, latencies are in milliseconds.
+ */
+public class LatencySnapshot {
+
+    /** Number of calls. */
+    private final long count;
+
+    /** Number of failed calls. */
+    private final long errors;
+
+    /** Mean latency. */
+    private final double mean;
+
+    /** Median latency. */
+    private final long p50;
+
+    /** 99th percentile. */
+    private final long p99;
+
+    /** 99.9th percentile. */
+    private final long p999;
+
+    /** Highest latency. */
+    private final long max;
+
+    /** Calls per second since the histogram creation. */
+    private final double throughput;
+
+    /**
+     * Full constructor.
+     *
+     * @param count
+     *      number of calls
+     * @param errors
+     *      number of failed calls
+     * @param mean
+     *      mean latency
+     * @param p50
+     *      median latency
+     * @param p99
+     *      99th percentile
+     * @param p999
+     *      99.9th percentile
+     * @param max
+     *      highest latency
+     * @param throughput
+     *      calls per second
+     */
+    public LatencySnapshot(long count, long errors, double mean, long p50, long p99, long p999, long max, double throughput) {
+        this.count      = count;
+        this.errors     = errors;
+        this.mean       = mean;
+        this.p50        = p50;
+        this.p99        = p99;
+        this.p999       = p999;
+        this.max        = max;
+        this.throughput = throughput;
+    }
+
+    /**
+     * Ratio of failed calls.
+     *
+     * @return
+     *      error rate between 0 and 1
+     */
+    public double getErrorRate() {
+        return count == 0 ? 0 : (double) errors / count;
+    }
+
+    /**
+     * Gets count
+     *
+     * @return value of count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets errors
+     *
+     * @return value of errors
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets mean
+     *
+     * @return value of mean
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Gets p50
+     *
+     * @return value of p50
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * Gets p99
+     *
+     * @return value of p99
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    /**
+     * Gets p999
+     *
+     * @return value of p999
+     */
+    public long getP999() {
+        return p999;
+    }
+
+    /**
+     * Gets max
+     *
+     * @return value of max
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets throughput
+     *
+     * @return value of throughput
+     */
+    public double getThroughput() {
+        return throughput;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format("count=%d, errors=%d, p50=%dms, p99=%dms, p999=%dms, max=%dms, mean=%.1fms, throughput=%.2f/s",
+                count, errors, p50, p99, p999, max, mean, throughput);
+    }
+
+}
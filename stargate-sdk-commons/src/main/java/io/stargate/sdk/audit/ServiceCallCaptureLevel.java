@@ -0,0 +1,33 @@
+package io.stargate.sdk.audit;
+
+/**
+ * What an observer needs in the events, the client captures only what at least one observer needs.
+ * Levels are cumulative: headers include timings, bodies include headers.
+ */
+public enum ServiceCallCaptureLevel {
+
+    /** Nothing is captured, no observer registered. */
+    NONE,
+
+    /** Request id, url, method, response code, timings, tries and errors. */
+    TIMINGS,
+
+    /** Timings with request and response headers. */
+    HEADERS,
+
+    /** Headers with request and response bodies (truncated to the configured size). */
+    BODIES;
+
+    /**
+     * Check if this level includes another level.
+     *
+     * @param level
+     *      level to compare
+     * @return
+     *      if this level captures at least the same information
+     */
+    public boolean includes(ServiceCallCaptureLevel level) {
+        return compareTo(level) >= 0;
+    }
+
+}
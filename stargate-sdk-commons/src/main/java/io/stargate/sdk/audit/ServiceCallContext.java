@@ -0,0 +1,100 @@
+package io.stargate.sdk.audit;
+
+/**
+ * Carry the logical operation in progress on the current thread down to the transport layer.
+ * <p>
+ * Api clients know the operation (a Data API command for instance) while the http client only sees
+ * an url and a body. The operation is set around the call and copied in the {@link ServiceCallEvent}
+ * so observers can name what they record.
+ */
+public final class ServiceCallContext {
+
+    /** Operation in progress for the current thread. */
+    private static final ThreadLocal<String> OPERATION = new ThreadLocal<>();
+
+    /** Page in progress for the current thread when iterating over results. */
+    private static final ThreadLocal<Integer> PAGE = new ThreadLocal<>();
+
+    /**
+     * Hide constructor.
+     */
+    private ServiceCallContext() {}
+
+    /**
+     * Gets the operation in progress.
+     *
+     * @return
+     *      operation name or null
+     */
+    public static String getOperation() {
+        return OPERATION.get();
+    }
+
+    /**
+     * Set the operation in progress.
+     *
+     * @param operation
+     *      operation name
+     * @return
+     *      previous operation, to be restored after the call
+     */
+    public static String setOperation(String operation) {
+        String previous = OPERATION.get();
+        OPERATION.set(operation);
+        return previous;
+    }
+
+    /**
+     * Restore the previous operation after a call.
+     *
+     * @param previous
+     *      value returned by {@link #setOperation(String)}
+     */
+    public static void restoreOperation(String previous) {
+        if (previous == null) {
+            OPERATION.remove();
+        } else {
+            OPERATION.set(previous);
+        }
+    }
+
+    /**
+     * Gets the page in progress.
+     *
+     * @return
+     *      page number starting at 1, 0 when not iterating
+     */
+    public static int getPage() {
+        Integer page = PAGE.get();
+        return page == null ? 0 : page;
+    }
+
+    /**
+     * Set the page in progress.
+     *
+     * @param page
+     *      page number starting at 1
+     * @return
+     *      previous page, to be restored after the call
+     */
+    public static int setPage(int page) {
+        int previous = getPage();
+        PAGE.set(page);
+        return previous;
+    }
+
+    /**
+     * Restore the previous page after a call.
+     *
+     * @param previous
+     *      value returned by {@link #setPage(int)}
+     */
+    public static void restorePage(int previous) {
+        if (previous == 0) {
+            PAGE.remove();
+        } else {
+            PAGE.set(previous);
+        }
+    }
+
+}
@@ -21,6 +21,12 @@ public class ServiceCallEvent<SERVICE extends Service> {
     /** Unique identifier for a request. */
     protected String requestId;
 
+    /** Logical operation (Data API command, gRPC method), null when unknown. */
+    protected String operationName;
+
+    /** Page number when iterating over results, 0 otherwise. */
+    protected int pageNumber;
+
     // --- Response ---
 
     /** response time. */
@@ -241,4 +247,60 @@ public class ServiceCallEvent<SERVICE extends Service> {
     public void setService(SERVICE service) {
         this.service = service;
     }
+
+    /**
+     * Gets operationName
+     *
+     * @return value of operationName
+     */
+    public String getOperationName() {
+        return operationName;
+    }
+
+    /**
+     * Set value for operationName
+     *
+     * @param operationName new value for operationName
+     */
+    public void setOperationName(String operationName) {
+        this.operationName = operationName;
+    }
+
+    /**
+     * Gets pageNumber
+     *
+     * @return value of pageNumber
+     */
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    /**
+     * Set value for pageNumber
+     *
+     * @param pageNumber new value for pageNumber
+     */
+    public void setPageNumber(int pageNumber) {
+        this.pageNumber = pageNumber;
+    }
+
+    /**
+     * Name of the operation for statistics and metrics, never null.
+     *
+     * @return
+     *      operation name or 'unknown'
+     */
+    public String resolveOperationName() {
+        return operationName != null ? operationName : "unknown";
+    }
+
+    /**
+     * Check if the call failed.
+     *
+     * @return
+     *      if an error occurred
+     */
+    public boolean isError() {
+        return errorClass != null;
+    }
 }
@@ -4,7 +4,7 @@ import io.stargate.sdk.Service;
 import com.evanlennick.retry4j.Status;
 
 /**
- * If register in the HttpApisClient, will be triggered asynchronously
+ * If register in the HttpApisClient, will be triggered asynchronously from a single dispatching thread
  *
  * @param <RESPONSE>
  *     response type
@@ -15,6 +15,28 @@ import com.evanlennick.retry4j.Status;
  */
 public interface ServiceCallObserver<RESPONSE, S extends Service, T extends ServiceCallEvent<S>> {
 
+    /**
+     * Declare what the observer needs in the events, capture of headers and bodies is skipped when
+     * no observer needs them. Default is everything to keep the full behaviour.
+     *
+     * @return
+     *      capture level
+     */
+    default ServiceCallCaptureLevel getCaptureLevel() {
+        return ServiceCallCaptureLevel.BODIES;
+    }
+
+    /**
+     * Declare if the observer reads request bodies on demand from events without captured bodies. The request
+     * entity is then kept by the events, it is released with the request otherwise.
+     *
+     * @return
+     *      if request bodies are read on demand
+     */
+    default boolean isReadingRequestBodyOnDemand() {
+        return false;
+    }
+
     /**
      * Process event.
      *
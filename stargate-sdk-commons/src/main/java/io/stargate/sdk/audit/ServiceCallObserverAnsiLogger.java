@@ -26,6 +26,12 @@ public class ServiceCallObserverAnsiLogger implements ServiceCallObserver<String
      */
     public ServiceCallObserverAnsiLogger() {}
 
+    /** {@inheritDoc} */
+    @Override
+    public ServiceCallCaptureLevel getCaptureLevel() {
+        return ServiceCallCaptureLevel.TIMINGS;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void onCall(ServiceCallEvent<Service> event) {
@@ -0,0 +1,221 @@
+package io.stargate.sdk.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Dispatch notifications to the registered observers.
+ * <p>
+ * Nothing is done when no observer is registered. Otherwise notifications are put in a bounded
+ * queue (array based ring) drained by a single dedicated daemon thread, so observers never run on
+ * the common pool. The caller never blocks: when the queue is full the {@link DropPolicy} applies and
+ * the dropped events counter is incremented.
+ */
+@SuppressWarnings({"rawtypes"})
+public class ServiceCallObserverDispatcher implements Closeable {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ServiceCallObserverDispatcher.class);
+
+    /** Default size of the queue. */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * Behaviour when the queue is full.
+     */
+    public enum DropPolicy {
+
+        /** Incoming notification is discarded. */
+        DROP_NEWEST,
+
+        /** Oldest notification in the queue is discarded to make room. */
+        DROP_OLDEST
+    }
+
+    /** Name of the dispatching thread. */
+    private final String name;
+
+    /** Registered observers (live view). */
+    private final Map<String, ? extends ServiceCallObserver> observers;
+
+    /** Pending notifications. */
+    private final BlockingQueue<Consumer<ServiceCallObserver>> queue;
+
+    /** Number of notifications discarded. */
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    /** Behaviour when the queue is full. */
+    private volatile DropPolicy dropPolicy;
+
+    /** Thread draining the queue, started on first notification. */
+    private volatile Thread worker;
+
+    /** Flag to stop the dispatcher. */
+    private volatile boolean running = true;
+
+    /**
+     * Constructor with default capacity and policy.
+     *
+     * @param name
+     *      name of the dispatching thread
+     * @param observers
+     *      registered observers
+     */
+    public ServiceCallObserverDispatcher(String name, Map<String, ? extends ServiceCallObserver> observers) {
+        this(name, observers, DEFAULT_CAPACITY, DropPolicy.DROP_NEWEST);
+    }
+
+    /**
+     * Full constructor.
+     *
+     * @param name
+     *      name of the dispatching thread
+     * @param observers
+     *      registered observers
+     * @param capacity
+     *      size of the queue
+     * @param dropPolicy
+     *      behaviour when the queue is full
+     */
+    public ServiceCallObserverDispatcher(String name, Map<String, ? extends ServiceCallObserver> observers, int capacity, DropPolicy dropPolicy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive");
+        }
+        this.name       = name;
+        this.observers  = observers;
+        this.queue      = new ArrayBlockingQueue<>(capacity);
+        this.dropPolicy = dropPolicy;
+    }
+
+    /**
+     * Check if there is at least one observer.
+     *
+     * @return
+     *      if some observer is registered
+     */
+    public boolean hasObservers() {
+        return !observers.isEmpty();
+    }
+
+    /**
+     * Send a notification to all observers, never blocks.
+     *
+     * @param notification
+     *      invocation of the observer
+     */
+    public void dispatch(Consumer<ServiceCallObserver> notification) {
+        if (!running || observers.isEmpty()) {
+            return;
+        }
+        startWorker();
+        if (queue.offer(notification)) {
+            return;
+        }
+        droppedEvents.incrementAndGet();
+        if (dropPolicy == DropPolicy.DROP_OLDEST) {
+            queue.poll();
+            if (!queue.offer(notification)) {
+                droppedEvents.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Start the dispatching thread if needed.
+     */
+    private void startWorker() {
+        if (worker == null) {
+            synchronized (this) {
+                if (worker == null) {
+                    Thread t = new Thread(this::drain, name);
+                    t.setDaemon(true);
+                    t.start();
+                    worker = t;
+                }
+            }
+        }
+    }
+
+    /**
+     * Loop of the dispatching thread.
+     */
+    @SuppressWarnings("unchecked")
+    private void drain() {
+        while (running) {
+            Consumer<ServiceCallObserver> notification;
+            try {
+                notification = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            for (ServiceCallObserver observer : observers.values()) {
+                try {
+                    notification.accept(observer);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Observer {} failed to process event", observer.getClass().getName(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stop the dispatching thread, pending notifications are discarded.
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        queue.clear();
+    }
+
+    /**
+     * Gets the number of notifications discarded because the queue was full.
+     *
+     * @return
+     *      dropped events
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * Gets the number of pending notifications.
+     *
+     * @return
+     *      queue size
+     */
+    public int getPendingEvents() {
+        return queue.size();
+    }
+
+    /**
+     * Gets dropPolicy.
+     *
+     * @return
+     *      value of dropPolicy
+     */
+    public DropPolicy getDropPolicy() {
+        return dropPolicy;
+    }
+
+    /**
+     * Set value for dropPolicy.
+     *
+     * @param dropPolicy
+     *      new value for dropPolicy
+     */
+    public void setDropPolicy(DropPolicy dropPolicy) {
+        this.dropPolicy = dropPolicy;
+    }
+
+}
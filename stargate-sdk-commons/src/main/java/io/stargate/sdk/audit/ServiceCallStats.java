@@ -0,0 +1,73 @@
+package io.stargate.sdk.audit;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency statistics of the api invocations, globally, per operation and per node.
+ */
+public class ServiceCallStats {
+
+    /** All invocations. */
+    private final LatencySnapshot global;
+
+    /** Statistics per operation (Data API command, http method and resource, gRPC operation). */
+    private final Map<String, LatencySnapshot> operations;
+
+    /** Statistics per node. */
+    private final Map<String, LatencySnapshot> nodes;
+
+    /**
+     * Full constructor.
+     *
+     * @param global
+     *      all invocations
+     * @param operations
+     *      statistics per operation
+     * @param nodes
+     *      statistics per node
+     */
+    public ServiceCallStats(LatencySnapshot global, Map<String, LatencySnapshot> operations, Map<String, LatencySnapshot> nodes) {
+        this.global     = global;
+        this.operations = Collections.unmodifiableMap(new TreeMap<>(operations));
+        this.nodes      = Collections.unmodifiableMap(new TreeMap<>(nodes));
+    }
+
+    /**
+     * Gets global
+     *
+     * @return value of global
+     */
+    public LatencySnapshot getGlobal() {
+        return global;
+    }
+
+    /**
+     * Gets operations
+     *
+     * @return value of operations
+     */
+    public Map<String, LatencySnapshot> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Gets nodes
+     *
+     * @return value of nodes
+     */
+    public Map<String, LatencySnapshot> getNodes() {
+        return nodes;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("all: ").append(global);
+        operations.forEach((k, v) -> sb.append("\n").append(k).append(": ").append(v));
+        nodes.forEach((k, v) -> sb.append("\nnode ").append(k).append(": ").append(v));
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,132 @@
+package io.stargate.sdk.audit;
+
+import com.evanlennick.retry4j.Status;
+import io.stargate.sdk.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Observer recording the latency of invocations in histograms, globally, per operation and per node.
+ * <p>
+ * Events are received from the observers dispatching thread, recording is lock-free and does not allocate
+ * once the histogram of an operation exists. Only timings are needed so headers and bodies are never captured.
+ */
+public class ServiceCallStatsRecorder implements ServiceCallObserver<Object, Service, ServiceCallEvent<Service>> {
+
+    /** Name used to register the observer. */
+    public static final String NAME = "latency-stats";
+
+    /** All invocations. */
+    private final LatencyHistogram global = new LatencyHistogram();
+
+    /** Histograms per operation. */
+    private final ConcurrentMap<String, LatencyHistogram> operations = new ConcurrentHashMap<>();
+
+    /** Histograms per node. */
+    private final ConcurrentMap<String, LatencyHistogram> nodes = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     */
+    public ServiceCallStatsRecorder() {}
+
+    /** {@inheritDoc} */
+    @Override
+    public ServiceCallCaptureLevel getCaptureLevel() {
+        return ServiceCallCaptureLevel.TIMINGS;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onCall(ServiceCallEvent<Service> event) {
+        record(event);
+    }
+
+    /**
+     * Record an invocation, http or gRPC.
+     *
+     * @param event
+     *      invocation event
+     */
+    public void record(ServiceCallEvent<?> event) {
+        long    elapsed = event.getResponseElapsedTime();
+        boolean error   = event.isError();
+        global.record(elapsed, error);
+        histogram(operations, event.resolveOperationName()).record(elapsed, error);
+        if (event.getService() != null) {
+            histogram(nodes, event.getService().getId()).record(elapsed, error);
+        }
+    }
+
+    /**
+     * Live histogram of an operation, percentiles can be read without a snapshot.
+     *
+     * @param operation
+     *      operation name
+     * @return
+     *      histogram, null if the operation has not been invoked
+     */
+    public LatencyHistogram getOperationHistogram(String operation) {
+        return operations.get(operation);
+    }
+
+    /**
+     * Live histogram of all invocations.
+     *
+     * @return
+     *      histogram
+     */
+    public LatencyHistogram getGlobalHistogram() {
+        return global;
+    }
+
+    /**
+     * Snapshot of the statistics.
+     *
+     * @return
+     *      statistics globally, per operation and per node
+     */
+    public ServiceCallStats stats() {
+        return new ServiceCallStats(global.snapshot(), snapshot(operations), snapshot(nodes));
+    }
+
+    /**
+     * Get or create a histogram, lookup first to avoid the lambda on the hot path.
+     */
+    private static LatencyHistogram histogram(ConcurrentMap<String, LatencyHistogram> map, String key) {
+        LatencyHistogram histogram = map.get(key);
+        if (histogram == null) {
+            histogram = map.computeIfAbsent(key, k -> new LatencyHistogram());
+        }
+        return histogram;
+    }
+
+    /**
+     * Snapshot all histograms of a map.
+     */
+    private static Map<String, LatencySnapshot> snapshot(Map<String, LatencyHistogram> map) {
+        Map<String, LatencySnapshot> result = new HashMap<>();
+        map.forEach((k, v) -> result.put(k, v.snapshot()));
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSuccess(Status<Object> s) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onCompletion(Status<Object> s) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFailure(Status<Object> s) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFailedTry(Status<Object> s) {}
+
+}
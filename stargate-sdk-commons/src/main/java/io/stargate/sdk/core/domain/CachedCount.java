@@ -0,0 +1,101 @@
+package io.stargate.sdk.core.domain;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Approximate count of a collection or a table, computed once and served from memory for a time to live.
+ * <p>
+ * Counting means reading every page of the results: the value is an approximation of the current count,
+ * as old as the time to live at most. Concurrent callers wait for a single computation.
+ */
+public class CachedCount {
+
+    /** Count the records. */
+    private final LongSupplier counter;
+
+    /** Time to live of a value. */
+    private final Duration ttl;
+
+    /** Last value. */
+    private volatile long value;
+
+    /** Time of the last computation, 0 when not computed. */
+    private volatile long computedAt;
+
+    /**
+     * Constructor with the counter and the time to live.
+     *
+     * @param counter
+     *      count the records
+     * @param ttl
+     *      time to live of a value
+     */
+    public CachedCount(LongSupplier counter, Duration ttl) {
+        if (counter == null) {
+            throw new IllegalArgumentException("Counter is required");
+        }
+        if (ttl == null || ttl.isNegative()) {
+            throw new IllegalArgumentException("Time to live should be positive");
+        }
+        this.counter = counter;
+        this.ttl     = ttl;
+    }
+
+    /**
+     * Value from memory if younger than the time to live, computed otherwise.
+     *
+     * @return
+     *      approximate count
+     */
+    public long get() {
+        if (isExpired()) {
+            synchronized (this) {
+                if (isExpired()) {
+                    value      = counter.getAsLong();
+                    computedAt = System.currentTimeMillis();
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Forget the value, the next call computes it again.
+     */
+    public void invalidate() {
+        computedAt = 0;
+    }
+
+    /**
+     * Age of the value.
+     *
+     * @return
+     *      age of the value, null when not computed
+     */
+    public Duration getAge() {
+        long at = computedAt;
+        return at == 0 ? null : Duration.ofMillis(System.currentTimeMillis() - at);
+    }
+
+    /**
+     * If the value should be computed.
+     *
+     * @return
+     *      true when not computed or older than the time to live
+     */
+    public boolean isExpired() {
+        long at = computedAt;
+        return at == 0 || System.currentTimeMillis() - at >= ttl.toMillis();
+    }
+
+    /**
+     * Gets ttl
+     *
+     * @return value of ttl
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+}
@@ -16,27 +16,10 @@
 
 package io.stargate.sdk.core.domain;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
-import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import io.stargate.sdk.serialization.CustomEJsonCalendarDeserializer;
-import io.stargate.sdk.serialization.CustomEJsonCalendarSerializer;
-import io.stargate.sdk.serialization.CustomEJsonDateDeserializer;
-import io.stargate.sdk.serialization.CustomEJsonDateSerializer;
-import io.stargate.sdk.serialization.CustomEJsonInstantDeserializer;
-import io.stargate.sdk.serialization.CustomEJsonInstantSerializer;
+import io.stargate.sdk.utils.JsonUtils;
 import lombok.NonNull;
 
-import java.text.SimpleDateFormat;
-import java.time.Instant;
-import java.util.Calendar;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -50,39 +33,14 @@ import java.util.Set;
  */
 public class ObjectMap extends HashMap<String, Object> {
 
-    /** object mapper. */
-    private static ObjectMapper objectMapper;
-
     /**
-     * Initialize object mapper.
+     * Access the mapper used for conversions, same as the one of the Data API (EJson codecs).
      *
      * @return
      *      mapper
      */
-    public static synchronized ObjectMapper getObjectMapper() {
-        if (objectMapper == null) {
-            objectMapper = new ObjectMapper()
-                    .configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true)
-                    .configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true)
-                    .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true)
-                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-                    .configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, false)
-                    .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
-                    .registerModule(new JavaTimeModule())
-                    .setDateFormat(new SimpleDateFormat("dd/MM/yyyy"))
-                    .setSerializationInclusion(JsonInclude.Include.NON_NULL)
-                    .setAnnotationIntrospector(new JacksonAnnotationIntrospector());
-
-            SimpleModule module = new SimpleModule();
-            module.addSerializer(Date.class, new CustomEJsonDateSerializer());
-            module.addSerializer(Calendar.class, new CustomEJsonCalendarSerializer());
-            module.addSerializer(Instant.class, new CustomEJsonInstantSerializer());
-            module.addDeserializer(Date.class, new CustomEJsonDateDeserializer());
-            module.addDeserializer(Calendar.class, new CustomEJsonCalendarDeserializer());
-            module.addDeserializer(Instant.class, new CustomEJsonInstantDeserializer());
-            objectMapper.registerModule(module);
-        }
-        return objectMapper;
+    public static ObjectMapper getObjectMapper() {
+        return JsonUtils.getDataApiObjectMapper();
     }
 
     /** Serial. */
@@ -251,6 +209,6 @@ public class ObjectMap extends HashMap<String, Object> {
      *      object map
      */
     public static ObjectMap of(@NonNull  Object o) {
-        return getObjectMapper().convertValue(o, ObjectMap.class);
+        return JsonUtils.convertValueForDataApi(o, ObjectMap.class);
     }
 }
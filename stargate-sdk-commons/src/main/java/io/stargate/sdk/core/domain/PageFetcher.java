@@ -0,0 +1,24 @@
+package io.stargate.sdk.core.domain;
+
+/**
+ * Fetch a page of results from its paging state.
+ *
+ * @param <R>
+ *      type of results
+ */
+@FunctionalInterface
+public interface PageFetcher<R> {
+
+    /**
+     * Fetch a page.
+     *
+     * @param pageState
+     *      paging state returned with the previous page, null for the first page
+     * @param pageNumber
+     *      page number starting at 1
+     * @return
+     *      page of results
+     */
+    Page<R> fetch(String pageState, int pageNumber);
+
+}
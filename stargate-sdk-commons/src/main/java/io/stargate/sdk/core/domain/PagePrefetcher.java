@@ -0,0 +1,272 @@
+package io.stargate.sdk.core.domain;
+
+import io.stargate.sdk.tracing.ServiceCallScope;
+import io.stargate.sdk.tracing.ServiceCallSpan;
+import io.stargate.sdk.tracing.ServiceCallTracing;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Iterate over the pages of a query, requesting the next pages while the caller processes the current one.
+ * <p>
+ * A page needs the paging state of the previous one so requests are chained: page N+1 is requested as soon
+ * as page N is received. At most <code>depth</code> pages are requested ahead of the page handed out, which
+ * bounds the memory used; with a depth of 0 pages are fetched on the calling thread when needed.
+ * Page requests are blocking http calls, asynchronous fetches run on a dedicated pool of daemon threads
+ * unless an executor is provided, never on the common pool.
+ * <p>
+ * An operation span can cover the iteration: it starts with the first page and ends when the last page is
+ * handed out, on error or on {@link #close()}.
+ *
+ * @param <R>
+ *      type of results
+ */
+public class PagePrefetcher<R> implements Iterator<Page<R>>, Closeable {
+
+    /** Default pool of the asynchronous fetches, threads are created on demand and released when idle. */
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryDaemon());
+
+    /** Fetch a page. */
+    private final PageFetcher<R> fetcher;
+
+    /** Pages requested ahead of the page handed out. */
+    private final int depth;
+
+    /** Executor of the asynchronous fetches. */
+    private final Executor executor;
+
+    /** Pages requested and not handed out yet, a null page marks the end. */
+    private final Deque<CompletableFuture<Page<R>>> ahead = new ArrayDeque<>();
+
+    /** Paging state of the next page when fetching on the calling thread. */
+    private String pageState;
+
+    /** Pages requested. */
+    private int requested;
+
+    /** The last page has been handed out or requested. */
+    private boolean ended;
+
+    /** Start the span of the operation, none when null. */
+    private Supplier<ServiceCallSpan> operationSpan;
+
+    /** Span of the operation, started with the first page. */
+    private ServiceCallSpan span;
+
+    /** Pages handed out. */
+    private int handedOut;
+
+    /** The iteration is over, the operation span has been ended. */
+    private boolean closed;
+
+    /**
+     * Constructor with the fetcher, asynchronous fetches run on the default pool.
+     *
+     * @param fetcher
+     *      fetch a page
+     * @param pageState
+     *      paging state of the first page, null to start from the beginning
+     * @param depth
+     *      pages requested ahead of the page handed out, 0 to disable prefetching
+     */
+    public PagePrefetcher(PageFetcher<R> fetcher, String pageState, int depth) {
+        this(fetcher, pageState, depth, null);
+    }
+
+    /**
+     * Constructor with the fetcher and the executor of asynchronous fetches.
+     *
+     * @param fetcher
+     *      fetch a page
+     * @param pageState
+     *      paging state of the first page, null to start from the beginning
+     * @param depth
+     *      pages requested ahead of the page handed out, 0 to disable prefetching
+     * @param executor
+     *      executor of the asynchronous fetches, null for the default pool
+     */
+    public PagePrefetcher(PageFetcher<R> fetcher, String pageState, int depth, Executor executor) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("Prefetch depth should be positive");
+        }
+        this.fetcher   = fetcher;
+        this.pageState = pageState;
+        this.depth     = depth;
+        this.executor  = executor == null ? DEFAULT_EXECUTOR : executor;
+    }
+
+    /**
+     * Cover the iteration with an operation span, parent of the spans of the page requests.
+     *
+     * @param operationSpan
+     *      start the span of the operation
+     * @return
+     *      current instance
+     */
+    public PagePrefetcher<R> operationSpan(Supplier<ServiceCallSpan> operationSpan) {
+        this.operationSpan = operationSpan;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        if (depth == 0 || closed) {
+            return !ended && !closed;
+        }
+        return inSpan(() -> {
+            fill(1);
+            return !ahead.isEmpty() && join(ahead.peek()) != null;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Page<R> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more pages");
+        }
+        Page<R> page = inSpan(this::nextPage);
+        handedOut++;
+        if (ended && ahead.isEmpty()) {
+            close();
+        }
+        return page;
+    }
+
+    /**
+     * Stop the iteration: pages requested ahead are discarded and the operation span ends, once.
+     */
+    @Override
+    public void close() {
+        ended = true;
+        ahead.forEach(f -> f.cancel(false));
+        ahead.clear();
+        if (span != null && !closed) {
+            span.setAttribute("stargate.pages", handedOut);
+            span.end();
+        }
+        closed = true;
+    }
+
+    /**
+     * Hand out the next page.
+     */
+    private Page<R> nextPage() {
+        if (depth == 0) {
+            Page<R> page = fetcher.fetch(pageState, ++requested);
+            pageState = page.getPageState().orElse(null);
+            ended     = pageState == null;
+            return page;
+        }
+        Page<R> page = join(ahead.poll());
+        if (!page.getPageState().isPresent()) {
+            // Pages chained after the last one resolve to null without any request
+            ahead.clear();
+            ended = true;
+        }
+        fill(depth);
+        return page;
+    }
+
+    /**
+     * Run within the operation span, started on first use, so that the page requests are its children.
+     */
+    private <T> T inSpan(Supplier<T> action) {
+        if (span == null && operationSpan != null && !closed) {
+            span = operationSpan.get();
+        }
+        if (span == null) {
+            return action.get();
+        }
+        try (ServiceCallScope scope = span.makeCurrent()) {
+            return action.get();
+        } catch (RuntimeException e) {
+            span.recordError(e);
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Request pages until the expected number of pages is pending.
+     */
+    private void fill(int pending) {
+        while (!ended && ahead.size() < pending) {
+            int number = ++requested;
+            CompletableFuture<Page<R>> previous = ahead.peekLast();
+            if (previous == null && number > 1) {
+                // Everything handed out, chain on the state of the last page
+                previous = CompletableFuture.completedFuture(new Page<>(0, pageState, null));
+            }
+            if (previous == null) {
+                String firstState = pageState;
+                ahead.add(CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> fetcher.fetch(firstState, number)), executor));
+            } else {
+                CompletableFuture<Page<R>> after = previous;
+                Supplier<Page<R>> task = ServiceCallTracing.wrap(() -> fetchAfter(after.join(), number));
+                ahead.add(previous.thenApplyAsync(p -> task.get(), executor));
+            }
+        }
+    }
+
+    /**
+     * Fetch the page following a page, null after the last page.
+     */
+    private Page<R> fetchAfter(Page<R> previous, int number) {
+        if (previous == null || !previous.getPageState().isPresent()) {
+            return null;
+        }
+        return fetcher.fetch(previous.getPageState().get(), number);
+    }
+
+    /**
+     * Wait for a page, the error of the fetch is thrown as is.
+     */
+    private Page<R> join(CompletableFuture<Page<R>> future) {
+        try {
+            Page<R> page = future.join();
+            if (page != null) {
+                pageState = page.getPageState().orElse(null);
+            }
+            return page;
+        } catch (CompletionException e) {
+            ended = true;
+            ahead.clear();
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Daemon threads, an abandoned iteration never keeps the JVM alive.
+     */
+    private static final class ThreadFactoryDaemon implements ThreadFactory {
+
+        /** Thread counter. */
+        private final AtomicInteger count = new AtomicInteger();
+
+        /** {@inheritDoc} */
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "stargate-page-prefetch-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+
+}
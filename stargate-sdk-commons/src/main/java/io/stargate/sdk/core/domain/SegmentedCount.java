@@ -0,0 +1,70 @@
+package io.stargate.sdk.core.domain;
+
+import io.stargate.sdk.tracing.ServiceCallTracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Count disjoint segments concurrently and sum the counts.
+ */
+public class SegmentedCount {
+
+    /** Default number of segments counted at the same time. */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    /**
+     * Hide constructor in utilities.
+     */
+    private SegmentedCount() {}
+
+    /**
+     * Count the segments with at most <code>parallelism</code> segments counted at the same time.
+     *
+     * @param segments
+     *      count of each segment
+     * @param parallelism
+     *      segments counted at the same time
+     * @return
+     *      sum of the counts
+     */
+    public static long sum(List<Supplier<Long>> segments, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism should be greater than 0");
+        }
+        if (segments.isEmpty()) {
+            return 0;
+        }
+        if (segments.size() == 1) {
+            return segments.get(0).get();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, segments.size()));
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (Supplier<Long> segment : segments) {
+                futures.add(executor.submit(ServiceCallTracing.wrap(segment)::get));
+            }
+            long total = 0;
+            for (Future<Long> future : futures) {
+                total += future.get();
+            }
+            return total;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Error when counting a segment", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted when counting segments", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
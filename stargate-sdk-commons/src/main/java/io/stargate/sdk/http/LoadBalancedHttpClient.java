@@ -3,13 +3,17 @@ package io.stargate.sdk.http;
 import io.stargate.sdk.ManagedServiceDeployment;
 import io.stargate.sdk.ServiceDeployment;
 import io.stargate.sdk.api.ApiConstants;
+import io.stargate.sdk.exception.AuthenticationException;
 import io.stargate.sdk.http.domain.ApiResponseHttp;
 
 import io.stargate.sdk.loadbalancer.LoadBalancedResource;
 import io.stargate.sdk.loadbalancer.NoneResourceAvailableException;
+import io.stargate.sdk.loadbalancer.ResourceStats;
 import io.stargate.sdk.loadbalancer.UnavailableResourceException;
 import org.apache.hc.core5.http.Method;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -100,6 +104,20 @@ public class LoadBalancedHttpClient implements ApiConstants {
         return http(mapper, Method.POST, body, null, CONTENT_TYPE_JSON, true);
     }
 
+    /**
+     * Syntaxic sugar for a POST on the non-blocking client.
+     *
+     * @param mapper
+     *       mapper for the URL
+     * @param body
+     *      provide a request body
+     * @return
+     *      http response when available
+     */
+    public CompletableFuture<ApiResponseHttp> POST_ASYNC(Function<ServiceHttp, String> mapper, String body) {
+        return httpAsync(mapper, Method.POST, body, CONTENT_TYPE_JSON, true);
+    }
+
     /**
      * Syntaxic sugar for a HEAD.
      *
@@ -243,18 +261,24 @@ public class LoadBalancedHttpClient implements ApiConstants {
                 // Build Parameters
                 String targetEndPoint = mapper.apply(lb.getResource());
                 if (null != suffix) targetEndPoint+= suffix;
-                // Invoke request
-                return RetryHttpClient.getInstance()
-                        .executeHttp(lb.getResource(), method, targetEndPoint, deployment.lookupToken(), body, contentType, mandatory);
-            } catch(UnavailableResourceException rex) {
-                LOGGER.warn("A stargate node is down [{}], falling back to another node...", lb.getResource().getId());
+                // Invoke request, traffic of the node is recorded for the deployment snapshot
+                ResourceStats stats = lb.getStats();
+                long start = stats.onRequestStart();
+                boolean error = true;
                 try {
-                    deployment.failOverStargateNode(lb, rex);
-                } catch (NoneResourceAvailableException nex) {
-                    LOGGER.warn("No node availables is localDc [{}], falling back to another DC if available ...",
-                            deployment.getLocalDatacenterClient().getDatacenterName());
-                    deployment.failOverDatacenter();
+                    ApiResponseHttp res = RetryHttpClient.getInstance()
+                            .executeHttp(lb.getResource(), method, targetEndPoint, deployment.lookupToken(), body, contentType, mandatory);
+                    error = res.getCode() >= 500;
+                    return res;
+                } catch (IllegalArgumentException | AuthenticationException clientError) {
+                    // 4xx, the node did its job
+                    error = false;
+                    throw clientError;
+                } finally {
+                    stats.onRequestEnd(start, error);
                 }
+            } catch(UnavailableResourceException rex) {
+                failOver(lb, rex);
             } catch(NoneResourceAvailableException nex) {
                 LOGGER.warn("No node availables is DataCenter [{}], falling back to another DC if available ...",
                         deployment.getLocalDatacenterClient().getDatacenterName());
@@ -264,6 +288,112 @@ public class LoadBalancedHttpClient implements ApiConstants {
         }
     }
 
+    /**
+     * Execute an HTTP call on the non-blocking client, the node is selected and failed over like the
+     * blocking calls but no thread waits for the response.
+     *
+     * @param mapper
+     *      building the request from a node
+     * @param method
+     *      http method used
+     * @param body
+     *      request body (optional)
+     * @param contentType
+     *      request content type
+     * @param mandatory
+     *      handling 404 error code, could raise exception or not
+     * @return
+     *      http response when available
+     */
+    private CompletableFuture<ApiResponseHttp> httpAsync(Function<ServiceHttp, String> mapper,
+                                                         final Method method, String body,
+                                                         String contentType, boolean mandatory) {
+        LoadBalancedResource<ServiceHttp> lb;
+        String targetEndPoint;
+        String token;
+        try {
+            lb             = lookupNode();
+            targetEndPoint = mapper.apply(lb.getResource());
+            token          = deployment.lookupToken();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        // Traffic of the node is recorded for the deployment snapshot
+        ResourceStats stats = lb.getStats();
+        long start = stats.onRequestStart();
+        CompletableFuture<ApiResponseHttp> call = RetryHttpClient.getInstance()
+                .executeHttpAsync(lb.getResource(), method, targetEndPoint, token, body, contentType, mandatory);
+        CompletableFuture<ApiResponseHttp> result = new CompletableFuture<>();
+        call.whenComplete((res, error) -> {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            // 4xx, the node did its job
+            stats.onRequestEnd(start, res != null
+                    ? res.getCode() >= 500
+                    : !(cause instanceof IllegalArgumentException || cause instanceof AuthenticationException));
+            if (cause instanceof UnavailableResourceException) {
+                try {
+                    failOver(lb, (UnavailableResourceException) cause);
+                    httpAsync(mapper, method, body, contentType, mandatory).whenComplete((next, nextError) -> {
+                        if (nextError != null) {
+                            result.completeExceptionally(nextError);
+                        } else {
+                            result.complete(next);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            } else if (cause != null) {
+                result.completeExceptionally(cause);
+            } else {
+                result.complete(res);
+            }
+        });
+        result.whenComplete((res, error) -> {
+            if (result.isCancelled()) {
+                call.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Get an available node, falling back to other data centers when the current one has none.
+     *
+     * @return
+     *      available node
+     */
+    private LoadBalancedResource<ServiceHttp> lookupNode() {
+        while (true) {
+            try {
+                return deployment.lookupStargateNode();
+            } catch(NoneResourceAvailableException nex) {
+                LOGGER.warn("No node availables is DataCenter [{}], falling back to another DC if available ...",
+                        deployment.getLocalDatacenterClient().getDatacenterName());
+                deployment.failOverDatacenter();
+            }
+        }
+    }
+
+    /**
+     * Mark a node as down and fall back to another node, or to another data center.
+     *
+     * @param lb
+     *      node down
+     * @param rex
+     *      error of the node
+     */
+    private void failOver(LoadBalancedResource<ServiceHttp> lb, UnavailableResourceException rex) {
+        LOGGER.warn("A stargate node is down [{}], falling back to another node...", lb.getResource().getId());
+        try {
+            deployment.failOverStargateNode(lb, rex);
+        } catch (NoneResourceAvailableException nex) {
+            LOGGER.warn("No node availables is localDc [{}], falling back to another DC if available ...",
+                    deployment.getLocalDatacenterClient().getDatacenterName());
+            deployment.failOverDatacenter();
+        }
+    }
+
     /**
      * Gets deployment
      *
@@ -5,13 +5,21 @@ import com.evanlennick.retry4j.Status;
 import com.evanlennick.retry4j.config.RetryConfig;
 import com.evanlennick.retry4j.config.RetryConfigBuilder;
 import io.stargate.sdk.api.ApiConstants;
+import io.stargate.sdk.audit.ServiceCallCaptureLevel;
+import io.stargate.sdk.audit.ServiceCallContext;
 import io.stargate.sdk.audit.ServiceCallObserver;
+import io.stargate.sdk.audit.ServiceCallObserverDispatcher;
 import io.stargate.sdk.exception.AlreadyExistException;
 import io.stargate.sdk.exception.AuthenticationException;
 import io.stargate.sdk.http.audit.ServiceHttpCallEvent;
 import io.stargate.sdk.http.domain.ApiResponseHttp;
+import io.stargate.sdk.jfr.HttpAttemptEvent;
 import io.stargate.sdk.loadbalancer.UnavailableResourceException;
-import io.stargate.sdk.utils.CompletableFutures;
+import io.stargate.sdk.tracing.ServiceCallSpan;
+import io.stargate.sdk.tracing.ServiceCallTracing;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
 import org.apache.hc.client5.http.auth.StandardAuthScheme;
 import org.apache.hc.client5.http.classic.methods.HttpDelete;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
@@ -21,18 +29,25 @@ import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.classic.methods.HttpPut;
 import org.apache.hc.client5.http.classic.methods.HttpTrace;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.cookie.StandardCookieSpec;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ClassicHttpRequest;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Method;
 import org.apache.hc.core5.http.ParseException;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.pool.PoolStats;
 import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
@@ -52,10 +67,11 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Wrapping the HttpClient and provide helpers
@@ -79,6 +95,9 @@ public class RetryHttpClient implements ApiConstants {
     /** Default settings in Request and Retry */
     public static final Duration DEFAULT_RETRY_DELAY  = Duration.ofMillis(100);
 
+    /** Default maximum size of bodies captured in events for observers, unlimited to keep the full bodies. */
+    public static final int DEFAULT_OBSERVED_BODY_SIZE = -1;
+
     /** Default settings in Request and Retry */
     public static LinkedHashMap<String, String> userAgents = new LinkedHashMap<>();
     
@@ -91,10 +110,32 @@ public class RetryHttpClient implements ApiConstants {
     
     /** HttpComponent5. */
     protected CloseableHttpClient httpClient = null;
+
+    /** Connection pool of the http client. */
+    protected PoolingHttpClientConnectionManager connectionManager = null;
+
+    /** Non-blocking HttpComponent5, started on first asynchronous call. */
+    protected CloseableHttpAsyncClient asyncHttpClient = null;
     
     /** Observers. */
     protected static Map<String, ServiceCallObserver<?,?,?>> apiInvocationsObserversMap = new ConcurrentHashMap<>();
 
+    /** Dispatch events to observers on a dedicated thread. */
+    protected static volatile ServiceCallObserverDispatcher observerDispatcher =
+            new ServiceCallObserverDispatcher("stargate-http-observers", apiInvocationsObserversMap);
+
+    /** Information needed by the registered observers. */
+    protected static volatile ServiceCallCaptureLevel observersCaptureLevel = ServiceCallCaptureLevel.NONE;
+
+    /** A registered observer reads request bodies on demand, events keep the request entity. */
+    protected static volatile boolean observersReadRequestBody;
+
+    /** Maximum size in characters of bodies captured in events, negative means unlimited. */
+    protected static volatile int observedBodyMaxSize = DEFAULT_OBSERVED_BODY_SIZE;
+
+    /** Credentials headers are masked in events for observers. */
+    protected static volatile boolean observedCredentialsMasked = true;
+
     /** Default request configuration. */
     protected static RequestConfig requestConfig = RequestConfig.custom()
             .setCookieSpec(StandardCookieSpec.STRICT)
@@ -141,8 +182,115 @@ public class RetryHttpClient implements ApiConstants {
      * @param listener
      *      current listener
      */
-    public static void registerListener(String name, ServiceCallObserver<?,?,?> listener) {
+    public static synchronized void registerListener(String name, ServiceCallObserver<?,?,?> listener) {
         apiInvocationsObserversMap.put(name, listener);
+        updateCaptureLevel();
+    }
+
+    /**
+     * Remove a listener.
+     *
+     * @param name
+     *      current name
+     */
+    public static synchronized void unregisterListener(String name) {
+        apiInvocationsObserversMap.remove(name);
+        updateCaptureLevel();
+    }
+
+    /**
+     * Remove a listener if it is still the one registered under this name.
+     *
+     * @param name
+     *      current name
+     * @param listener
+     *      listener registered under the name
+     */
+    public static synchronized void unregisterListener(String name, ServiceCallObserver<?,?,?> listener) {
+        apiInvocationsObserversMap.remove(name, listener);
+        updateCaptureLevel();
+    }
+
+    /**
+     * Capture what the most demanding observer needs.
+     */
+    private static void updateCaptureLevel() {
+        ServiceCallCaptureLevel level = ServiceCallCaptureLevel.NONE;
+        boolean readRequestBody = false;
+        for (ServiceCallObserver<?,?,?> observer : apiInvocationsObserversMap.values()) {
+            if (observer.getCaptureLevel().includes(level)) {
+                level = observer.getCaptureLevel();
+            }
+            readRequestBody |= observer.isReadingRequestBodyOnDemand();
+        }
+        observersCaptureLevel    = level;
+        observersReadRequestBody = readRequestBody;
+    }
+
+    /**
+     * Update maximum size of request and response bodies captured in events for observers.
+     *
+     * @param maxSize
+     *      maximum size in characters, negative means unlimited
+     */
+    public static void withObservedBodyMaxSize(int maxSize) {
+        observedBodyMaxSize = maxSize;
+    }
+
+    /**
+     * Gets the maximum size of request and response bodies captured in events for observers.
+     *
+     * @return
+     *      maximum size in characters, negative means unlimited
+     */
+    public static int getObservedBodyMaxSize() {
+        return observedBodyMaxSize;
+    }
+
+    /**
+     * Mask or not the values of the Authorization and X-Cassandra-Token headers captured in events for observers.
+     * They are masked by default, observers relying on the token (e.g. to identify the caller) can disable it.
+     *
+     * @param masked
+     *      replace credentials by <code>***</code> when true
+     */
+    public static void withObservedCredentialsMasked(boolean masked) {
+        observedCredentialsMasked = masked;
+    }
+
+    /**
+     * Gets whether credentials headers are masked in events for observers.
+     *
+     * @return
+     *      true when credentials are replaced by <code>***</code>
+     */
+    public static boolean isObservedCredentialsMasked() {
+        return observedCredentialsMasked;
+    }
+
+    /**
+     * Update the queue used to notify observers, pending events of the previous queue are discarded.
+     *
+     * @param capacity
+     *      maximum number of pending events
+     * @param dropPolicy
+     *      behaviour when the queue is full
+     */
+    public static synchronized void withObserverQueue(int capacity, ServiceCallObserverDispatcher.DropPolicy dropPolicy) {
+        ServiceCallObserverDispatcher previous = observerDispatcher;
+        observerDispatcher = new ServiceCallObserverDispatcher("stargate-http-observers",
+                apiInvocationsObserversMap, capacity, dropPolicy);
+        previous.close();
+    }
+
+    /**
+     * Access the observer dispatcher (dropped events, pending events).
+     *
+     * @return
+     *      observer dispatcher
+     */
+    public static ServiceCallObserverDispatcher getObserverDispatcher() {
+        return observerDispatcher;
     }
     
     // -------------------------------------------
@@ -167,11 +315,49 @@ public class RetryHttpClient implements ApiConstants {
             connManager.setValidateAfterInactivity(TimeValue.ofSeconds(10));
             connManager.setMaxTotal(100);
             connManager.setDefaultMaxPerRoute(10);
-            _instance.httpClient = HttpClients.custom().setConnectionManager(connManager).build();
+            _instance.connectionManager = connManager;
+            _instance.httpClient = HttpClients.custom()
+                    .setConnectionManager(connManager)
+                    // Count the response bytes as received, before decompression
+                    .addResponseInterceptorLast(WireCountingEntity::intercept)
+                    .build();
         }
         return _instance;
     }
 
+    /**
+     * Statistics of the connection pool (leased, available, pending, max).
+     *
+     * @return
+     *      pool statistics
+     */
+    public PoolStats getConnectionPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Non-blocking client, its pool has the same bounds as the blocking one. The client is started on
+     * first use, its I/O threads are daemons.
+     *
+     * @return
+     *      started asynchronous client
+     */
+    public synchronized CloseableHttpAsyncClient getAsyncHttpClient() {
+        if (asyncHttpClient == null) {
+            asyncHttpClient = HttpAsyncClients.custom()
+                    .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                            .setMaxConnTotal(100)
+                            .setMaxConnPerRoute(10)
+                            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                    .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                                    .build())
+                            .build())
+                    .build();
+            asyncHttpClient.start();
+        }
+        return asyncHttpClient;
+    }
+
     /**
      * Add an item to the user agent chain.
      *
@@ -385,20 +571,28 @@ public class RetryHttpClient implements ApiConstants {
      *      api response
      */
     public ApiResponseHttp executeHttp(ServiceHttp sHttp, HttpUriRequestBase req, boolean mandatory) {
-        // Initializing the invocation event
-        ServiceHttpCallEvent event = new ServiceHttpCallEvent(sHttp, req);
+        // Initializing the invocation event, only when someone listens
+        ServiceCallObserverDispatcher dispatcher = observerDispatcher;
+        ServiceHttpCallEvent event = null;
+        if (dispatcher.hasObservers()) {
+            event = new ServiceHttpCallEvent(sHttp, req, observersCaptureLevel, observedBodyMaxSize,
+                    observersReadRequestBody, observedCredentialsMasked);
+            event.setOperationName(ServiceCallContext.getOperation());
+            event.setPageNumber(ServiceCallContext.getPage());
+        }
         // Invoking the expected endpoint
-        Status<CloseableHttpResponse> status = executeWithRetries(req);
+        HttpClientContext context = HttpClientContext.create();
+        Status<CloseableHttpResponse> status = executeWithRetries(sHttp, req, context);
         try {
             // Parsing result as expected bean
-            ApiResponseHttp res = mapResponse(status, event);
+            ApiResponseHttp res = mapResponse(status, event, context);
             // Error management
             if (HttpURLConnection.HTTP_NOT_FOUND == res.getCode() && !mandatory) {
                 return res;
             }
             if (res.getCode() >= 300) {
               LOGGER.error("Error for request [{}], url={}, method={}, code={}, body={}", 
-                      event.getRequestId(),
+                      event != null ? event.getRequestId() : "-",
                       req.getUri().toString(), req.getMethod(),
                       res.getCode(), res.getBody());
               processErrors(res, mandatory);
@@ -406,21 +600,118 @@ public class RetryHttpClient implements ApiConstants {
             }
             return res;
         } catch (UnavailableResourceException e) {
-            event.setErrorClass(e.getClass().getName());
-            event.setErrorMessage(e.getMessage());
+            recordError(event, e);
             throw e;
         } catch (IllegalArgumentException e) {
-            event.setErrorClass(e.getClass().getName());
-            event.setErrorMessage(e.getMessage());
+            recordError(event, e);
             throw e;
         } catch (Exception e) {
-            event.setErrorClass(e.getClass().getName());
-            event.setErrorMessage(e.getMessage());
+            recordError(event, e);
             throw new RuntimeException("Error in HTTP Request", e);
         } finally {
-            CompletableFuture.runAsync(()-> notifyAsync(listener->listener.onCall(event)));
+            if (event != null) {
+                ServiceHttpCallEvent callEvent = event;
+                dispatcher.dispatch(listener -> listener.onCall(callEvent));
+            }
         }
     }
+
+    /**
+     * Keep the error in the event, if any.
+     *
+     * @param event
+     *      event to be sent, null without observers
+     * @param e
+     *      error
+     */
+    private static void recordError(ServiceHttpCallEvent event, Exception e) {
+        if (event != null) {
+            event.setErrorClass(e.getClass().getName());
+            event.setErrorMessage(e.getMessage());
+        }
+    }
+
+    /**
+     * Execute a request on the non-blocking client, no thread is held while the request is in flight.
+     * <p>
+     * Retries, errors, spans, flight recorder and observer events are the ones of
+     * {@link #executeHttp(ServiceHttp, Method, String, String, String, String, boolean)}, the future
+     * completes on an I/O thread of the client. Retry notifications of the observers carry no response.
+     * Cancelling the future aborts the exchange.
+     *
+     * @param sHttp
+     *      service http
+     * @param method
+     *      http method
+     * @param url
+     *      url
+     * @param token
+     *      authentication token
+     * @param reqBody
+     *      request body
+     * @param contentType
+     *      request content type
+     * @param mandatory
+     *      allow 404 errors
+     * @return
+     *      api response when available
+     */
+    public CompletableFuture<ApiResponseHttp> executeHttpAsync(ServiceHttp sHttp, final Method method, final String url, final String token, String reqBody, String contentType, boolean mandatory) {
+        HttpUriRequestBase req = buildRequest(method, url, token, reqBody, contentType);
+        ServiceCallObserverDispatcher dispatcher = observerDispatcher;
+        ServiceHttpCallEvent event = null;
+        if (dispatcher.hasObservers()) {
+            event = new ServiceHttpCallEvent(sHttp, req, observersCaptureLevel, observedBodyMaxSize,
+                    observersReadRequestBody, observedCredentialsMasked);
+            event.setOperationName(ServiceCallContext.getOperation());
+            event.setPageNumber(ServiceCallContext.getPage());
+        }
+        SimpleRequestBuilder asyncReq = SimpleRequestBuilder.create(method)
+                .setUri(url)
+                .setHeaders(req.getHeaders())
+                .setRequestConfig(requestConfig);
+        if (null != reqBody) {
+            asyncReq.setBody(reqBody, ContentType.TEXT_PLAIN.withCharset(StandardCharsets.UTF_8));
+        }
+        AsyncRetries retries = new AsyncRetries(sHttp, asyncReq.build());
+        retries.attempt.get();
+
+        ServiceHttpCallEvent callEvent = event;
+        CompletableFuture<ApiResponseHttp> result = new CompletableFuture<>();
+        result.whenComplete((res, error) -> {
+            if (result.isCancelled()) {
+                retries.result.cancel(false);
+            }
+        });
+        retries.result.whenComplete((response, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            try {
+                ApiResponseHttp res = mapResponse(retries, response, callEvent);
+                if (res.getCode() >= 300 && (HttpURLConnection.HTTP_NOT_FOUND != res.getCode() || mandatory)) {
+                    LOGGER.error("Error for request [{}], url={}, method={}, code={}, body={}",
+                            callEvent != null ? callEvent.getRequestId() : "-",
+                            url, method, res.getCode(), res.getBody());
+                    processErrors(res, mandatory);
+                    logHttpError(res);
+                }
+                result.complete(res);
+            } catch (UnavailableResourceException | IllegalArgumentException e) {
+                recordError(callEvent, e);
+                result.completeExceptionally(e);
+            } catch (Exception e) {
+                recordError(callEvent, e);
+                result.completeExceptionally(new RuntimeException("Error in HTTP Request", e));
+            } finally {
+                if (callEvent != null) {
+                    dispatcher.dispatch(listener -> listener.onCall(callEvent));
+                }
+            }
+        });
+        return result;
+    }
     
     
     
@@ -430,7 +721,9 @@ public class RetryHttpClient implements ApiConstants {
      * @param status
      *      current result of the retries
      * @param event
-     *      event to be sent
+     *      event to be sent, null without observers
+     * @param context
+     *      execution context holding the response as received
      * @return
      *      bean populated
      * @throws ParseException
@@ -438,31 +731,48 @@ public class RetryHttpClient implements ApiConstants {
      * @throws IOException
      *      error in accessing payload
      */
-    private ApiResponseHttp mapResponse(Status<CloseableHttpResponse> status, ServiceHttpCallEvent event)
+    private ApiResponseHttp mapResponse(Status<CloseableHttpResponse> status, ServiceHttpCallEvent event, HttpClientContext context)
     throws ParseException, IOException {
         ApiResponseHttp res;
-        event.setTotalTries(status.getTotalTries());
-        event.setLastException(status.getLastExceptionThatCausedRetry());
-        event.setResponseElapsedTime(status.getTotalElapsedDuration().toMillis());
-        try (CloseableHttpResponse response = status.getResult()) {
+        if (event != null) {
+            event.setTotalTries(status.getTotalTries());
+            event.setLastException(status.getLastExceptionThatCausedRetry());
+            event.setResponseElapsedTime(status.getTotalElapsedDuration().toMillis());
             event.setResponseTimestamp(status.getEndTime());
+        }
+        try (CloseableHttpResponse response = status.getResult()) {
             if (response == null) {
-                event.setHttpResponseCode(HttpURLConnection.HTTP_UNAVAILABLE);
+                if (event != null) {
+                    event.setHttpResponseCode(HttpURLConnection.HTTP_UNAVAILABLE);
+                }
                 res = new ApiResponseHttp("Response is empty, please check url", 
                         HttpURLConnection.HTTP_UNAVAILABLE, null);
             } else {
-                event.setHttpResponseCode(response.getCode());
                 Map<String, String > headers = new HashMap<>();
                 Arrays.stream(response.getHeaders()).forEach(h -> headers.put(h.getName(), h.getValue()));
-                event.setHttpResponseHeaders(headers);
     
                 // Parse body if present
                 String body = null;
+                long length = -1;
                 if (null != response.getEntity()) {
+                     length = response.getEntity().getContentLength();
                      body = EntityUtils.toString(response.getEntity());
                      EntityUtils.consume(response.getEntity());
                 }
-                event.setHttpResponseBody(body);
+                if (event != null) {
+                    event.setHttpResponseCode(response.getCode());
+                    event.captureResponseHeaders(headers);
+                    if (body != null) {
+                        // Advertised length when known, otherwise the decoded body
+                        event.setHttpResponseSize(length >= 0 ? length : utf8Length(body));
+                        WireCountingEntity wire = context.getAttribute(WireCountingEntity.ATTRIBUTE, WireCountingEntity.class);
+                        if (wire != null) {
+                            event.setHttpResponseWireSize(wire.getCount());
+                            event.setHttpResponseEncoding(wire.getEncoding());
+                        }
+                    }
+                    event.captureResponseBody(body);
+                }
             
                 // Mapping response
                 res = new ApiResponseHttp(body, response.getCode(), headers);
@@ -472,17 +782,76 @@ public class RetryHttpClient implements ApiConstants {
     }
     
     /**
-     * Asynchronously send calls to listener for tracing.
+     * Mapping the response of the non-blocking client to framework HTTP BEAN.
+     *
+     * @param retries
+     *      attempts of the call
+     * @param response
+     *      response, null when every attempt failed
+     * @param event
+     *      event to be sent, null without observers
+     * @return
+     *      bean populated
+     */
+    private ApiResponseHttp mapResponse(AsyncRetries retries, SimpleHttpResponse response, ServiceHttpCallEvent event) {
+        if (event != null) {
+            event.setTotalTries(retries.status.getTotalTries());
+            event.setLastException(retries.status.getLastExceptionThatCausedRetry());
+            event.setResponseElapsedTime(retries.status.getTotalElapsedDuration().toMillis());
+            event.setResponseTimestamp(retries.status.getEndTime());
+        }
+        if (response == null) {
+            if (event != null) {
+                event.setHttpResponseCode(HttpURLConnection.HTTP_UNAVAILABLE);
+            }
+            return new ApiResponseHttp("Response is empty, please check url",
+                    HttpURLConnection.HTTP_UNAVAILABLE, null);
+        }
+        Map<String, String > headers = new HashMap<>();
+        Arrays.stream(response.getHeaders()).forEach(h -> headers.put(h.getName(), h.getValue()));
+        // Json is UTF-8 unless the response says otherwise
+        String body = null;
+        byte[] bytes = response.getBodyBytes();
+        if (bytes != null) {
+            ContentType contentType = response.getContentType();
+            body = new String(bytes, contentType != null && contentType.getCharset() != null
+                    ? contentType.getCharset() : StandardCharsets.UTF_8);
+        }
+        if (event != null) {
+            event.setHttpResponseCode(response.getCode());
+            event.captureResponseHeaders(headers);
+            if (bytes != null) {
+                event.setHttpResponseSize(bytes.length);
+            }
+            event.captureResponseBody(body);
+        }
+        return new ApiResponseHttp(body, response.getCode(), headers);
+    }
+
+    /**
+     * Size of a string encoded in UTF-8, without encoding it.
      *
-     * @param lambda
-     *      operations to execute
+     * @param body
+     *      decoded body
      * @return
-     *      void
+     *      size in bytes
      */
-    private CompletionStage<Void> notifyAsync(Consumer<ServiceCallObserver> lambda) {
-        return CompletableFutures.allDone(apiInvocationsObserversMap.values().stream()
-                .map(l -> CompletableFuture.runAsync(() -> lambda.accept(l)))
-                .collect(Collectors.toList()));
+    static long utf8Length(String body) {
+        long length = 0;
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < body.length() && Character.isLowSurrogate(body.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
     }
 
     /**
@@ -535,27 +904,67 @@ public class RetryHttpClient implements ApiConstants {
     /**
      * Implementing retries.
      *
+     * @param sHttp
+     *      target service, null for authentication calls
      * @param req
      *      current request
+     * @param context
+     *      execution context, shared by the attempts
      * @return
      *      the closeable response
      */
     @SuppressWarnings("unchecked")
-    private Status<CloseableHttpResponse> executeWithRetries(ClassicHttpRequest req) {
+    private Status<CloseableHttpResponse> executeWithRetries(ServiceHttp sHttp, ClassicHttpRequest req, HttpClientContext context) {
+        AtomicInteger attempt = new AtomicInteger();
         Callable<CloseableHttpResponse> executeRequest = () -> {
-            return httpClient.execute(req);
+            // One client span and one flight recorder event per attempt
+            int attemptNumber = attempt.getAndIncrement();
+            HttpAttemptEvent jfrEvent = new HttpAttemptEvent();
+            jfrEvent.begin();
+            ServiceCallSpan span = ServiceCallTracing.startSpan(req.getMethod(), ServiceCallSpan.Kind.CLIENT)
+                    .setAttribute("http.request.method", req.getMethod())
+                    .setAttribute("url.path", req.getPath())
+                    .setAttribute("http.request.resend_count", attemptNumber);
+            span.inject(req::setHeader);
+            try {
+                CloseableHttpResponse response = httpClient.execute(req, context);
+                span.setAttribute("http.response.status_code", response.getCode());
+                jfrEvent.statusCode    = response.getCode();
+                jfrEvent.responseBytes = response.getEntity() != null ? response.getEntity().getContentLength() : 0;
+                return response;
+            } catch (Exception e) {
+                span.recordError(e);
+                jfrEvent.error = e.getClass().getName();
+                throw e;
+            } finally {
+                span.end();
+                if (jfrEvent.shouldCommit()) {
+                    jfrEvent.method       = req.getMethod();
+                    jfrEvent.path         = req.getPath();
+                    jfrEvent.node         = sHttp != null ? sHttp.getId() : null;
+                    jfrEvent.attempt      = attemptNumber;
+                    jfrEvent.requestBytes = req.getEntity() != null ? req.getEntity().getContentLength() : 0;
+                    jfrEvent.commit();
+                }
+            }
         };
         return new CallExecutorBuilder<String>()
                 .config(retryConfig)
                 .onSuccessListener(s -> {
-                    CompletableFuture.runAsync(()-> notifyAsync(listener->listener.onSuccess(s)));
+                    if (observerDispatcher.hasObservers()) {
+                        observerDispatcher.dispatch(listener -> listener.onSuccess(s));
+                    }
                 })
                 .onCompletionListener(s -> {
-                    CompletableFuture.runAsync(()-> notifyAsync(listener->listener.onCompletion(s)));
+                    if (observerDispatcher.hasObservers()) {
+                        observerDispatcher.dispatch(listener -> listener.onCompletion(s));
+                    }
                 })
                 .onFailureListener(s -> {
                     LOGGER.error("Calls failed after {} retries", s.getTotalTries());
-                    CompletableFuture.runAsync(()-> notifyAsync(listener->listener.onFailure(s)));
+                    if (observerDispatcher.hasObservers()) {
+                        observerDispatcher.dispatch(listener -> listener.onFailure(s));
+                    }
                 })
                 .afterFailedTryListener(s -> {
                     LOGGER.error("Failure on attempt {}/{} ", s.getTotalTries(), retryConfig.getMaxNumberOfTries());
@@ -565,12 +974,159 @@ public class RetryHttpClient implements ApiConstants {
                     } catch (URISyntaxException e) {
                         LOGGER.error("Cannot display URI ", e);
                     }
-                    CompletableFuture.runAsync(()-> notifyAsync(listener->listener.onFailedTry(s)));
+                    if (observerDispatcher.hasObservers()) {
+                        observerDispatcher.dispatch(listener -> listener.onFailedTry(s));
+                    }
                 })
                 .build()
                 .execute(executeRequest);
     }
     
+    /**
+     * Attempts of a call on the non-blocking client, the retry configuration is the one of the blocking
+     * calls. A failed attempt is retried after the backoff delay without holding a thread, when every
+     * attempt failed the call completes without response.
+     */
+    private final class AsyncRetries {
+
+        /** Target service, null for authentication calls. */
+        private final ServiceHttp sHttp;
+
+        /** Request, sent again by each attempt. */
+        private final SimpleHttpRequest req;
+
+        /** Tries, timings and last error, response is never set. */
+        private final Status<CloseableHttpResponse> status = new Status<>();
+
+        /** Response of the last attempt, null when every attempt failed. */
+        private final CompletableFuture<SimpleHttpResponse> result = new CompletableFuture<>();
+
+        /** Next attempt, in the tracing context of the caller. */
+        private final Supplier<Void> attempt;
+
+        private AsyncRetries(ServiceHttp sHttp, SimpleHttpRequest req) {
+            this.sHttp = sHttp;
+            this.req   = req;
+            this.attempt = ServiceCallTracing.wrap(() -> {
+                send();
+                return null;
+            });
+            status.setId(UUID.randomUUID().toString());
+            status.setStartTime(System.currentTimeMillis());
+        }
+
+        /**
+         * Send one attempt, its span and flight recorder event end with the exchange.
+         */
+        private void send() {
+            if (result.isDone()) {
+                return;
+            }
+            int attemptNumber = status.getTotalTries();
+            status.setTotalTries(attemptNumber + 1);
+            HttpAttemptEvent jfrEvent = new HttpAttemptEvent();
+            jfrEvent.begin();
+            ServiceCallSpan span = ServiceCallTracing.startSpan(req.getMethod(), ServiceCallSpan.Kind.CLIENT)
+                    .setAttribute("http.request.method", req.getMethod())
+                    .setAttribute("url.path", req.getPath())
+                    .setAttribute("http.request.resend_count", attemptNumber);
+            span.inject(req::setHeader);
+            Future<SimpleHttpResponse> exchange = getAsyncHttpClient().execute(req, new FutureCallback<SimpleHttpResponse>() {
+
+                @Override
+                public void completed(SimpleHttpResponse response) {
+                    span.setAttribute("http.response.status_code", response.getCode());
+                    jfrEvent.statusCode    = response.getCode();
+                    jfrEvent.responseBytes = response.getBodyBytes() != null ? response.getBodyBytes().length : 0;
+                    end(span, jfrEvent, attemptNumber);
+                    complete(response);
+                    if (observerDispatcher.hasObservers()) {
+                        observerDispatcher.dispatch(listener -> listener.onSuccess(status));
+                        observerDispatcher.dispatch(listener -> listener.onCompletion(status));
+                    }
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    span.recordError(e);
+                    jfrEvent.error = e.getClass().getName();
+                    end(span, jfrEvent, attemptNumber);
+                    retry(e);
+                }
+
+                @Override
+                public void cancelled() {
+                    end(span, jfrEvent, attemptNumber);
+                    result.cancel(false);
+                }
+            });
+            result.whenComplete((response, error) -> {
+                if (result.isCancelled()) {
+                    exchange.cancel(true);
+                }
+            });
+        }
+
+        /**
+         * Schedule the next attempt or give up.
+         */
+        private void retry(Exception e) {
+            status.setLastExceptionThatCausedRetry(e);
+            if (!isRetryable(e)) {
+                status.setEndTime(System.currentTimeMillis());
+                result.completeExceptionally(e);
+                return;
+            }
+            if (status.getTotalTries() >= retryConfig.getMaxNumberOfTries()) {
+                LOGGER.error("Calls failed after {} retries", status.getTotalTries());
+                complete(null);
+                if (observerDispatcher.hasObservers()) {
+                    observerDispatcher.dispatch(listener -> listener.onFailure(status));
+                    observerDispatcher.dispatch(listener -> listener.onCompletion(status));
+                }
+                return;
+            }
+            LOGGER.error("Failure on attempt {}/{} ", status.getTotalTries(), retryConfig.getMaxNumberOfTries());
+            LOGGER.error("Failed request {} on {}", req.getMethod(), req.getRequestUri());
+            LOGGER.error("+ Exception was ", e);
+            if (observerDispatcher.hasObservers()) {
+                observerDispatcher.dispatch(listener -> listener.onFailedTry(status));
+            }
+            Duration wait = retryConfig.getBackoffStrategy()
+                    .getDurationToWait(status.getTotalTries(), retryConfig.getDelayBetweenRetries());
+            CompletableFuture.delayedExecutor(wait.toMillis(), TimeUnit.MILLISECONDS).execute(attempt::get);
+        }
+
+        /**
+         * The retry configuration retries on this error.
+         */
+        private boolean isRetryable(Exception e) {
+            if (retryConfig.isRetryOnAnyException()) {
+                return retryConfig.getRetryOnAnyExceptionExcluding().stream().noneMatch(c -> c.isInstance(e));
+            }
+            return retryConfig.getRetryOnSpecificExceptions().stream().anyMatch(c -> c.isInstance(e));
+        }
+
+        private void complete(SimpleHttpResponse response) {
+            status.setEndTime(System.currentTimeMillis());
+            status.setTotalElapsedDuration(Duration.ofMillis(status.getEndTime() - status.getStartTime()));
+            status.setSuccessful(response != null);
+            result.complete(response);
+        }
+
+        private void end(ServiceCallSpan span, HttpAttemptEvent jfrEvent, int attemptNumber) {
+            span.end();
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.method       = req.getMethod();
+                jfrEvent.path         = req.getPath();
+                jfrEvent.node         = sHttp != null ? sHttp.getId() : null;
+                jfrEvent.attempt      = attemptNumber;
+                jfrEvent.requestBytes = req.getBody() != null ? req.getBody().getBodyBytes().length : 0;
+                jfrEvent.commit();
+            }
+        }
+    }
+
     /**
      * Process ERRORS.Anything above code 300 can be marked as an error Still something
      * 404 is expected and should not result in throwing exception (=not find)
@@ -0,0 +1,114 @@
+package io.stargate.sdk.http;
+
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Response entity as received from the network, counting the bytes read.
+ * <p>
+ * Installed by a response interceptor, below the decompression of the client: the count is the size
+ * on the wire (compressed when the response has a content encoding) while the body read by the caller
+ * is decoded.
+ */
+class WireCountingEntity extends HttpEntityWrapper {
+
+    /** Context attribute holding the entity of the last response. */
+    static final String ATTRIBUTE = "io.stargate.sdk.http.wire-entity";
+
+    /** Content encoding as received, null for identity. */
+    private final String encoding;
+
+    /** Bytes read from the wire. */
+    private long count;
+
+    /**
+     * Wrap an entity.
+     *
+     * @param entity
+     *      entity as received
+     */
+    WireCountingEntity(HttpEntity entity) {
+        super(entity);
+        this.encoding = entity.getContentEncoding();
+    }
+
+    /**
+     * Response interceptor wrapping the entity and publishing it in the context.
+     *
+     * @param response
+     *      http response
+     * @param details
+     *      entity details
+     * @param context
+     *      execution context
+     */
+    static void intercept(HttpResponse response, EntityDetails details, HttpContext context) {
+        if (response instanceof ClassicHttpResponse && ((ClassicHttpResponse) response).getEntity() != null) {
+            ClassicHttpResponse classic = (ClassicHttpResponse) response;
+            WireCountingEntity entity = new WireCountingEntity(classic.getEntity());
+            classic.setEntity(entity);
+            context.setAttribute(ATTRIBUTE, entity);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public InputStream getContent() throws IOException {
+        return new FilterInputStream(super.getContent()) {
+
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) {
+                    count++;
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int n = super.read(b, off, len);
+                if (n > 0) {
+                    count += n;
+                }
+                return n;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                long skipped = super.skip(n);
+                count += skipped;
+                return skipped;
+            }
+        };
+    }
+
+    /**
+     * Gets the bytes read from the wire.
+     *
+     * @return
+     *      bytes read
+     */
+    long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the content encoding as received.
+     *
+     * @return
+     *      encoding, null for identity
+     */
+    String getEncoding() {
+        return encoding;
+    }
+
+}
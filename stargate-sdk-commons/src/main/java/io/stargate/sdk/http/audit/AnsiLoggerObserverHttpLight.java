@@ -1,5 +1,6 @@
 package io.stargate.sdk.http.audit;
 
+import io.stargate.sdk.audit.ServiceCallCaptureLevel;
 import io.stargate.sdk.utils.AnsiUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +19,12 @@ public class AnsiLoggerObserverHttpLight extends AnsiLoggerObserverHttp {
      */
     public AnsiLoggerObserverHttpLight() {}
 
+    /** {@inheritDoc} */
+    @Override
+    public ServiceCallCaptureLevel getCaptureLevel() {
+        return ServiceCallCaptureLevel.TIMINGS;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void onCall(ServiceHttpCallEvent event) {
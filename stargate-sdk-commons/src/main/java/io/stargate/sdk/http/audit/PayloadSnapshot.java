@@ -0,0 +1,107 @@
+package io.stargate.sdk.http.audit;
+
+/**
+ * Bytes exchanged at a point in time, the response is counted decoded and as received on the wire.
+ */
+public class PayloadSnapshot {
+
+    /** Number of calls. */
+    private final long count;
+
+    /** Bytes sent in request bodies, requests are never compressed. */
+    private final long requestBytes;
+
+    /** Bytes of the response bodies once decoded. */
+    private final long responseBytes;
+
+    /** Bytes of the response bodies received on the wire, compressed when encoded. */
+    private final long responseWireBytes;
+
+    /** Number of responses received with a content encoding. */
+    private final long compressedResponses;
+
+    /**
+     * Full constructor.
+     *
+     * @param count
+     *      number of calls
+     * @param requestBytes
+     *      bytes sent
+     * @param responseBytes
+     *      bytes received once decoded
+     * @param responseWireBytes
+     *      bytes received on the wire
+     * @param compressedResponses
+     *      responses with a content encoding
+     */
+    public PayloadSnapshot(long count, long requestBytes, long responseBytes, long responseWireBytes, long compressedResponses) {
+        this.count               = count;
+        this.requestBytes        = requestBytes;
+        this.responseBytes       = responseBytes;
+        this.responseWireBytes   = responseWireBytes;
+        this.compressedResponses = compressedResponses;
+    }
+
+    /**
+     * Ratio of the wire size over the decoded size of responses.
+     *
+     * @return
+     *      compression ratio, 1 when nothing is compressed
+     */
+    public double getCompressionRatio() {
+        return responseBytes == 0 ? 1 : (double) responseWireBytes / responseBytes;
+    }
+
+    /**
+     * Gets count
+     *
+     * @return value of count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets requestBytes
+     *
+     * @return value of requestBytes
+     */
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * Gets responseBytes
+     *
+     * @return value of responseBytes
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * Gets responseWireBytes
+     *
+     * @return value of responseWireBytes
+     */
+    public long getResponseWireBytes() {
+        return responseWireBytes;
+    }
+
+    /**
+     * Gets compressedResponses
+     *
+     * @return value of compressedResponses
+     */
+    public long getCompressedResponses() {
+        return compressedResponses;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format("count=%d, requestBytes=%d, responseBytes=%d, responseWireBytes=%d, compressed=%d, ratio=%.2f",
+                count, requestBytes, responseBytes, responseWireBytes, compressedResponses, getCompressionRatio());
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.stargate.sdk.http.audit;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Bytes exchanged with the http apis, globally, per operation and per collection.
+ */
+public class PayloadStats {
+
+    /** All invocations. */
+    private final PayloadSnapshot global;
+
+    /** Bytes per operation (Data API command, http method and resource). */
+    private final Map<String, PayloadSnapshot> operations;
+
+    /** Bytes per collection or table, qualified by its namespace. */
+    private final Map<String, PayloadSnapshot> collections;
+
+    /**
+     * Full constructor.
+     *
+     * @param global
+     *      all invocations
+     * @param operations
+     *      bytes per operation
+     * @param collections
+     *      bytes per collection
+     */
+    public PayloadStats(PayloadSnapshot global, Map<String, PayloadSnapshot> operations, Map<String, PayloadSnapshot> collections) {
+        this.global      = global;
+        this.operations  = Collections.unmodifiableMap(new TreeMap<>(operations));
+        this.collections = Collections.unmodifiableMap(new TreeMap<>(collections));
+    }
+
+    /**
+     * Gets global
+     *
+     * @return value of global
+     */
+    public PayloadSnapshot getGlobal() {
+        return global;
+    }
+
+    /**
+     * Gets operations
+     *
+     * @return value of operations
+     */
+    public Map<String, PayloadSnapshot> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Gets collections
+     *
+     * @return value of collections
+     */
+    public Map<String, PayloadSnapshot> getCollections() {
+        return collections;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("all: ").append(global);
+        operations.forEach((k, v) -> sb.append("\n").append(k).append(": ").append(v));
+        collections.forEach((k, v) -> sb.append("\ncollection ").append(k).append(": ").append(v));
+        return sb.toString();
+    }
+
+}
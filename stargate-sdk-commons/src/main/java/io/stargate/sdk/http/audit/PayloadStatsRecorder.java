@@ -0,0 +1,204 @@
+package io.stargate.sdk.http.audit;
+
+import com.evanlennick.retry4j.Status;
+import io.stargate.sdk.audit.ServiceCallCaptureLevel;
+import io.stargate.sdk.audit.ServiceCallObserver;
+import io.stargate.sdk.http.ServiceHttp;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Observer counting the bytes exchanged with the http apis, globally, per operation and per collection.
+ * <p>
+ * Responses are counted twice: decoded, as parsed by the client, and as received on the wire, which is
+ * smaller when the server compresses. Counters are lock-free and only timings are captured.
+ */
+public class PayloadStatsRecorder implements ServiceCallObserver<String, ServiceHttp, ServiceHttpCallEvent> {
+
+    /** Name used to register the observer. */
+    public static final String NAME = "payload-stats";
+
+    /** All invocations. */
+    private final Counters global = new Counters();
+
+    /** Counters per operation. */
+    private final ConcurrentMap<String, Counters> operations = new ConcurrentHashMap<>();
+
+    /** Counters per collection. */
+    private final ConcurrentMap<String, Counters> collections = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     */
+    public PayloadStatsRecorder() {}
+
+    /** {@inheritDoc} */
+    @Override
+    public ServiceCallCaptureLevel getCaptureLevel() {
+        return ServiceCallCaptureLevel.TIMINGS;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onCall(ServiceHttpCallEvent event) {
+        record(event);
+    }
+
+    /**
+     * Record the payloads of an invocation.
+     *
+     * @param event
+     *      invocation event
+     */
+    public void record(ServiceHttpCallEvent event) {
+        global.record(event);
+        counters(operations, event.resolveOperationName()).record(event);
+        String collection = collectionOf(event.getHttpRequestUrl());
+        if (collection != null) {
+            counters(collections, collection).record(event);
+        }
+    }
+
+    /**
+     * Snapshot of the counters.
+     *
+     * @return
+     *      bytes exchanged globally, per operation and per collection
+     */
+    public PayloadStats stats() {
+        return new PayloadStats(global.snapshot(), snapshot(operations), snapshot(collections));
+    }
+
+    /**
+     * Collection or table targeted by an url, qualified by its namespace: <code>/v1/ns1/coll1</code> for the
+     * Data API, <code>/v2/namespaces/ns1/collections/coll1</code> for the Document API and
+     * <code>/v2/keyspaces/ns1/coll1</code> for the REST API all give <code>ns1.coll1</code>.
+     *
+     * @param url
+     *      target url
+     * @return
+     *      qualified collection name, null for other resources (schemas, namespaces, authentication)
+     */
+    public static String collectionOf(String url) {
+        if (url == null) {
+            return null;
+        }
+        int start = url.indexOf("://");
+        start = url.indexOf('/', start < 0 ? 0 : start + 3);
+        if (start < 0) {
+            return null;
+        }
+        int end = url.indexOf('?', start);
+        String[] segments = url.substring(start + 1, end < 0 ? url.length() : end).split("/");
+        for (int i = 0; i < segments.length; i++) {
+            int remaining = segments.length - i - 1;
+            switch (segments[i]) {
+                case "v1":
+                    if (remaining == 2) {
+                        return segments[i + 1] + "." + segments[i + 2];
+                    }
+                    break;
+                case "collections":
+                    if (i >= 2 && remaining >= 1 && "namespaces".equals(segments[i - 2])) {
+                        return segments[i - 1] + "." + segments[i + 1];
+                    }
+                    break;
+                case "keyspaces":
+                    if (remaining >= 2 && (i == 0 || !"schemas".equals(segments[i - 1]))) {
+                        return segments[i + 1] + "." + segments[i + 2];
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get or create counters, lookup first to avoid the lambda on the hot path.
+     */
+    private static Counters counters(ConcurrentMap<String, Counters> map, String key) {
+        Counters counters = map.get(key);
+        if (counters == null) {
+            counters = map.computeIfAbsent(key, k -> new Counters());
+        }
+        return counters;
+    }
+
+    /**
+     * Snapshot all counters of a map.
+     */
+    private static Map<String, PayloadSnapshot> snapshot(Map<String, Counters> map) {
+        Map<String, PayloadSnapshot> result = new HashMap<>();
+        map.forEach((k, v) -> result.put(k, v.snapshot()));
+        return result;
+    }
+
+    /**
+     * Live counters of a key.
+     */
+    private static final class Counters {
+
+        /** Calls. */
+        private final LongAdder count = new LongAdder();
+
+        /** Request bytes. */
+        private final LongAdder requestBytes = new LongAdder();
+
+        /** Decoded response bytes. */
+        private final LongAdder responseBytes = new LongAdder();
+
+        /** Response bytes on the wire. */
+        private final LongAdder responseWireBytes = new LongAdder();
+
+        /** Responses with a content encoding. */
+        private final LongAdder compressedResponses = new LongAdder();
+
+        /**
+         * Add an invocation, unknown sizes are ignored and the wire size defaults to the decoded size.
+         */
+        void record(ServiceHttpCallEvent event) {
+            count.increment();
+            if (event.getHttpRequestSize() > 0) {
+                requestBytes.add(event.getHttpRequestSize());
+            }
+            long decoded = Math.max(event.getHttpResponseSize(), 0);
+            long wire    = event.getHttpResponseWireSize() >= 0 ? event.getHttpResponseWireSize() : decoded;
+            responseBytes.add(decoded);
+            responseWireBytes.add(wire);
+            if (event.getHttpResponseEncoding() != null) {
+                compressedResponses.increment();
+            }
+        }
+
+        /**
+         * Current values.
+         */
+        PayloadSnapshot snapshot() {
+            return new PayloadSnapshot(count.sum(), requestBytes.sum(), responseBytes.sum(),
+                    responseWireBytes.sum(), compressedResponses.sum());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSuccess(Status<String> s) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onCompletion(Status<String> s) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFailure(Status<String> s) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFailedTry(Status<String> s) {}
+
+}
@@ -1,14 +1,23 @@
 package io.stargate.sdk.http.audit;
 
 import io.stargate.sdk.api.ApiConstants;
+import io.stargate.sdk.audit.ServiceCallCaptureLevel;
 import io.stargate.sdk.audit.ServiceCallEvent;
 import io.stargate.sdk.http.ServiceHttp;
 import org.apache.hc.core5.http.ClassicHttpRequest;
 import org.apache.hc.core5.http.Header;
-import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.HttpEntity;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Event triggered for Api Invocation with input/output tracing.
@@ -26,24 +35,56 @@ public class ServiceHttpCallEvent extends ServiceCallEvent<ServiceHttp> implemen
     protected String httpRequestUrl;
 
     /** Request HTTP . */
-    protected Map<String, String> httpRequestHeaders = new HashMap<>();
+    protected Map<String, String> httpRequestHeaders = Collections.emptyMap();
 
     /** Request HTTP. */
     protected String httpRequestBody;
 
+    /** Size of the request body in bytes, -1 when unknown. */
+    protected long httpRequestSize = -1;
+
     // -- HTTP RESPONSE --
 
     /** Response HTTP. */
     protected int httpResponseCode;
 
     /** Response HTTP. */
-    protected Map<String, String> httpResponseHeaders = new HashMap<>();
+    protected Map<String, String> httpResponseHeaders = Collections.emptyMap();
 
     /** Response HTTP. */
     protected String httpResponseBody;
 
+    /** Size of the response body in bytes, -1 when unknown. */
+    protected long httpResponseSize = -1;
+
+    /** Size of the response body as received on the wire (compressed when encoded), -1 when unknown. */
+    protected long httpResponseWireSize = -1;
+
+    /** Content encoding of the response as received, null for identity. */
+    protected String httpResponseEncoding;
+
+    /** Placeholder for a variable segment of a resource. */
+    private static final String SEGMENT_VARIABLE = "{}";
+
+    /** Segments kept as is when building a resource template, others are variables (keyspace, table, id...). */
+    private static final Set<String> SEGMENT_KEYWORDS = new HashSet<>(Arrays.asList(
+            "api", "json", "rest", "auth", "graphql", "graphql-schema", "graphql-admin", "stargate", "health",
+            "schemas", "keyspaces", "namespaces", "collections", "tables", "columns", "indexes", "types", "rows"));
+
+    /** Marker appended to truncated bodies. */
+    public static final String TRUNCATED_SUFFIX = "...[truncated]";
+
+    /** Information to capture. */
+    protected final ServiceCallCaptureLevel captureLevel;
+
+    /** Maximum size in characters of captured bodies, negative means unlimited. */
+    protected final int maxBodySize;
+
+    /** Repeatable request entity kept by reference when requested and the body is not captured, read on demand only. */
+    protected transient HttpEntity httpRequestEntity;
+
     /**
-     * Constructor with http request.
+     * Constructor with http request, everything is captured.
      *
      * @param service
      *      current service
@@ -51,31 +92,262 @@ public class ServiceHttpCallEvent extends ServiceCallEvent<ServiceHttp> implemen
      *      current http request
      */
     public ServiceHttpCallEvent(ServiceHttp service, ClassicHttpRequest req) {
+        this(service, req, ServiceCallCaptureLevel.BODIES, -1);
+    }
+
+    /**
+     * Constructor with http request.
+     *
+     * @param service
+     *      current service
+     * @param req
+     *      current http request
+     * @param captureLevel
+     *      information to capture
+     * @param maxBodySize
+     *      maximum size in characters of captured bodies, negative means unlimited
+     */
+    public ServiceHttpCallEvent(ServiceHttp service, ClassicHttpRequest req, ServiceCallCaptureLevel captureLevel, int maxBodySize) {
+        this(service, req, captureLevel, maxBodySize, false);
+    }
+
+    /**
+     * Constructor with http request, keeping the request entity for observers reading the body on demand.
+     *
+     * @param service
+     *      current service
+     * @param req
+     *      current http request
+     * @param captureLevel
+     *      information to capture
+     * @param maxBodySize
+     *      maximum size in characters of captured bodies, negative means unlimited
+     * @param keepRequestEntity
+     *      keep the repeatable request entity when the body is not captured, see {@link #readRequestBody(int)}
+     */
+    public ServiceHttpCallEvent(ServiceHttp service, ClassicHttpRequest req, ServiceCallCaptureLevel captureLevel,
+                                int maxBodySize, boolean keepRequestEntity) {
+        this(service, req, captureLevel, maxBodySize, keepRequestEntity, true);
+    }
+
+    /**
+     * Constructor with http request, choosing whether credentials are masked in the captured headers.
+     *
+     * @param service
+     *      current service
+     * @param req
+     *      current http request
+     * @param captureLevel
+     *      information to capture
+     * @param maxBodySize
+     *      maximum size in characters of captured bodies, negative means unlimited
+     * @param keepRequestEntity
+     *      keep the repeatable request entity when the body is not captured, see {@link #readRequestBody(int)}
+     * @param maskCredentials
+     *      replace the values of the Authorization and X-Cassandra-Token headers by <code>***</code>
+     */
+    public ServiceHttpCallEvent(ServiceHttp service, ClassicHttpRequest req, ServiceCallCaptureLevel captureLevel,
+                                int maxBodySize, boolean keepRequestEntity, boolean maskCredentials) {
         super();
-        this.timestamp = System.currentTimeMillis();
-        this.service  = service;
+        this.timestamp    = System.currentTimeMillis();
+        this.service      = service;
+        this.captureLevel = captureLevel;
+        this.maxBodySize  = maxBodySize;
         try {
             if (req.containsHeader(HEADER_REQUEST_ID)) {
                 this.requestId = req.getHeader(HEADER_REQUEST_ID).getValue();
             }
             this.httpRequestMethod = req.getMethod();
-            this.httpRequestUrl = req.getUri().toString();
-            for (Header h : req.getHeaders()) {
-                if (h.getName().equalsIgnoreCase(HEADER_AUTHORIZATION) ||
-                        h.getName().equalsIgnoreCase(HEADER_CASSANDRA)) {
-                    this.httpRequestHeaders.put(h.getName(), "***");
-                } else {
-                    this.httpRequestHeaders.put(h.getName(), h.getValue());
+            this.httpRequestUrl    = req.getUri().toString();
+            if (req.getEntity() != null) {
+                this.httpRequestSize = req.getEntity().getContentLength();
+            }
+            if (keepRequestEntity && !captureLevel.includes(ServiceCallCaptureLevel.BODIES)
+                    && req.getEntity() != null && req.getEntity().isRepeatable()) {
+                this.httpRequestEntity = req.getEntity();
+            }
+            if (captureLevel == ServiceCallCaptureLevel.NONE) {
+                return;
+            }
+            if (captureLevel.includes(ServiceCallCaptureLevel.HEADERS)) {
+                this.httpRequestHeaders = new HashMap<>();
+                for (Header h : req.getHeaders()) {
+                    if (maskCredentials && (h.getName().equalsIgnoreCase(HEADER_AUTHORIZATION) ||
+                            h.getName().equalsIgnoreCase(HEADER_CASSANDRA))) {
+                        this.httpRequestHeaders.put(h.getName(), "***");
+                    } else {
+                        this.httpRequestHeaders.put(h.getName(), h.getValue());
+                    }
                 }
             }
-            if (req.getEntity() != null) {
-                this.httpRequestBody = EntityUtils.toString(req.getEntity());
+            if (captureLevel.includes(ServiceCallCaptureLevel.BODIES) && req.getEntity() != null) {
+                this.httpRequestBody = readBody(req.getEntity(), maxBodySize);
             }
         } catch (Exception pe) {
             // Ignore errors in the monitoring process
         }
     }
 
+    /**
+     * Capture the response headers if needed.
+     *
+     * @param headers
+     *      response headers
+     */
+    public void captureResponseHeaders(Map<String, String> headers) {
+        if (captureLevel.includes(ServiceCallCaptureLevel.HEADERS)) {
+            this.httpResponseHeaders = headers;
+        }
+    }
+
+    /**
+     * Capture the response body if needed, truncated to the maximum size.
+     *
+     * @param body
+     *      response body
+     */
+    public void captureResponseBody(String body) {
+        if (captureLevel.includes(ServiceCallCaptureLevel.BODIES)) {
+            this.httpResponseBody = truncate(body, maxBodySize);
+        }
+    }
+
+    /**
+     * Read the request body on demand. The captured body is returned when available, else the request
+     * entity is read again when kept: observers capturing only timings and declaring
+     * {@link io.stargate.sdk.audit.ServiceCallObserver#isReadingRequestBodyOnDemand()} can look at the body of a few calls.
+     *
+     * @param maxSize
+     *      maximum size in characters, negative means unlimited
+     * @return
+     *      request body, null if not available
+     */
+    public String readRequestBody(int maxSize) {
+        if (httpRequestBody != null) {
+            return httpRequestBody;
+        }
+        if (httpRequestEntity == null) {
+            return null;
+        }
+        try {
+            return readBody(httpRequestEntity, maxSize);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Name of the operation: the one provided by the client (Data API command) or the http method and
+     * the resource with variable segments replaced to keep a bounded cardinality.
+     *
+     * @return
+     *      operation name
+     */
+    @Override
+    public String resolveOperationName() {
+        if (operationName != null) {
+            return operationName;
+        }
+        return httpRequestMethod + " " + resourceTemplate(httpRequestUrl);
+    }
+
+    /**
+     * Check if the call failed, client errors (4xx) are not failures of the service.
+     *
+     * @return
+     *      if an error occurred
+     */
+    @Override
+    public boolean isError() {
+        return super.isError() || httpResponseCode >= 500;
+    }
+
+    /**
+     * Build the template of a resource, <code>http://host:8082/v2/keyspaces/ks1/table1?where=..</code>
+     * gives <code>/v2/keyspaces/{}/{}</code>.
+     *
+     * @param url
+     *      target url
+     * @return
+     *      resource template
+     */
+    public static String resourceTemplate(String url) {
+        if (url == null) {
+            return SEGMENT_VARIABLE;
+        }
+        int start = url.indexOf("://");
+        start = url.indexOf('/', start < 0 ? 0 : start + 3);
+        if (start < 0) {
+            return "/";
+        }
+        int end = url.indexOf('?', start);
+        String path = url.substring(start + 1, end < 0 ? url.length() : end);
+        StringBuilder template = new StringBuilder();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            template.append('/');
+            boolean version = segment.length() > 1 && segment.charAt(0) == 'v' && Character.isDigit(segment.charAt(1));
+            template.append(version || SEGMENT_KEYWORDS.contains(segment) ? segment : SEGMENT_VARIABLE);
+        }
+        return template.length() == 0 ? "/" : template.toString();
+    }
+
+    /**
+     * Read the request body up to the maximum size in characters, the entity is not fully copied.
+     *
+     * @param entity
+     *      request entity
+     * @param maxBodySize
+     *      maximum size in characters, negative means unlimited
+     * @return
+     *      body as a String
+     * @throws IOException
+     *      error reading the entity
+     */
+    private static String readBody(HttpEntity entity, int maxBodySize) throws IOException {
+        int limit = (maxBodySize < 0) ? Integer.MAX_VALUE : maxBodySize;
+        try (Reader reader = new InputStreamReader(entity.getContent(), StandardCharsets.UTF_8)) {
+            StringBuilder body = new StringBuilder();
+            char[] buffer = new char[4096];
+            while (body.length() < limit) {
+                int read = reader.read(buffer, 0, Math.min(buffer.length, limit - body.length()));
+                if (read < 0) {
+                    return body.toString();
+                }
+                body.append(buffer, 0, read);
+            }
+            return reader.read() != -1 ? body.append(TRUNCATED_SUFFIX).toString() : body.toString();
+        }
+    }
+
+    /**
+     * Truncate a body.
+     *
+     * @param body
+     *      current body
+     * @param maxBodySize
+     *      maximum size in characters, negative means unlimited
+     * @return
+     *      truncated body
+     */
+    private static String truncate(String body, int maxBodySize) {
+        if (body == null || maxBodySize < 0 || body.length() <= maxBodySize) {
+            return body;
+        }
+        return body.substring(0, maxBodySize) + TRUNCATED_SUFFIX;
+    }
+
+    /**
+     * Gets captureLevel
+     *
+     * @return value of captureLevel
+     */
+    public ServiceCallCaptureLevel getCaptureLevel() {
+        return captureLevel;
+    }
+
     /**
      * Gets httpRequestMethod
      *
@@ -112,6 +384,69 @@ public class ServiceHttpCallEvent extends ServiceCallEvent<ServiceHttp> implemen
         return httpRequestBody;
     }
 
+    /**
+     * Gets httpRequestSize
+     *
+     * @return value of httpRequestSize
+     */
+    public long getHttpRequestSize() {
+        return httpRequestSize;
+    }
+
+    /**
+     * Gets httpResponseSize
+     *
+     * @return value of httpResponseSize
+     */
+    public long getHttpResponseSize() {
+        return httpResponseSize;
+    }
+
+    /**
+     * Set value for httpResponseSize
+     *
+     * @param httpResponseSize new value for httpResponseSize
+     */
+    public void setHttpResponseSize(long httpResponseSize) {
+        this.httpResponseSize = httpResponseSize;
+    }
+
+    /**
+     * Gets httpResponseWireSize
+     *
+     * @return value of httpResponseWireSize
+     */
+    public long getHttpResponseWireSize() {
+        return httpResponseWireSize;
+    }
+
+    /**
+     * Set value for httpResponseWireSize
+     *
+     * @param httpResponseWireSize new value for httpResponseWireSize
+     */
+    public void setHttpResponseWireSize(long httpResponseWireSize) {
+        this.httpResponseWireSize = httpResponseWireSize;
+    }
+
+    /**
+     * Gets httpResponseEncoding
+     *
+     * @return value of httpResponseEncoding
+     */
+    public String getHttpResponseEncoding() {
+        return httpResponseEncoding;
+    }
+
+    /**
+     * Set value for httpResponseEncoding
+     *
+     * @param httpResponseEncoding new value for httpResponseEncoding
+     */
+    public void setHttpResponseEncoding(String httpResponseEncoding) {
+        this.httpResponseEncoding = httpResponseEncoding;
+    }
+
     /**
      * Gets httpResponseCode
      *
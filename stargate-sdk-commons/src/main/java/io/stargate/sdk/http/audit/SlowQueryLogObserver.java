@@ -0,0 +1,273 @@
+package io.stargate.sdk.http.audit;
+
+import com.evanlennick.retry4j.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.stargate.sdk.audit.ServiceCallCaptureLevel;
+import io.stargate.sdk.audit.ServiceCallObserver;
+import io.stargate.sdk.http.ServiceHttp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log the calls slower than a threshold as a single line of json, sampled.
+ * <p>
+ * Entries give the operation, the shape of the query with every value redacted, the page, the payload
+ * sizes and the node. Only timings are captured: the request body is read again from the request for
+ * the few calls logged, so expensive queries can be found in production without logging bodies.
+ * <pre>
+ * {"operation":"find","elapsedMs":1520,"node":"dc1-node1","status":200,"tries":1,"page":3,
+ *  "requestBytes":96,"responseBytes":48210,"shape":{"find":{"filter":{"age":{"$gt":"?"}}}}}
+ * </pre>
+ */
+public class SlowQueryLogObserver implements ServiceCallObserver<String, ServiceHttp, ServiceHttpCallEvent> {
+
+    /** Logger for slow queries, entries are logged at WARN level. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(SlowQueryLogObserver.class);
+
+    /** Name used to register the observer. */
+    public static final String NAME = "slow-query-log";
+
+    /** Replacement of each value in a shape. */
+    public static final String REDACTED = "?";
+
+    /** Bodies above this size are not parsed. */
+    private static final int MAX_SHAPE_BODY_SIZE = 64 * 1024;
+
+    /** Query parameter holding the REST filter. */
+    private static final String PARAM_WHERE = "where=";
+
+    /** Local mapper, entries are plain json whatever the serialization provider. */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** Calls slower than this threshold are candidates. */
+    private final long thresholdMillis;
+
+    /** Ratio of candidates logged. */
+    private final double sampleRate;
+
+    /** Slow calls seen. */
+    private final LongAdder slowCalls = new LongAdder();
+
+    /** Slow calls logged. */
+    private final LongAdder loggedCalls = new LongAdder();
+
+    /**
+     * Constructor with threshold and sampling.
+     *
+     * @param thresholdMillis
+     *      calls slower than this threshold are logged
+     * @param sampleRate
+     *      ratio of slow calls logged, between 0 and 1
+     */
+    public SlowQueryLogObserver(long thresholdMillis, double sampleRate) {
+        if (thresholdMillis < 0) {
+            throw new IllegalArgumentException("Threshold should be positive");
+        }
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Sample rate should be between 0 and 1");
+        }
+        this.thresholdMillis = thresholdMillis;
+        this.sampleRate      = sampleRate;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ServiceCallCaptureLevel getCaptureLevel() {
+        return ServiceCallCaptureLevel.TIMINGS;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isReadingRequestBodyOnDemand() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onCall(ServiceHttpCallEvent event) {
+        if (event.getResponseElapsedTime() < thresholdMillis) {
+            return;
+        }
+        slowCalls.increment();
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        loggedCalls.increment();
+        if (LOGGER.isWarnEnabled()) {
+            LOGGER.warn(toEntry(event));
+        }
+    }
+
+    /**
+     * Build the log entry of a call.
+     *
+     * @param event
+     *      invocation event
+     * @return
+     *      single line json entry
+     */
+    public String toEntry(ServiceHttpCallEvent event) {
+        ObjectNode entry = MAPPER.createObjectNode();
+        entry.put("operation", event.resolveOperationName());
+        entry.put("elapsedMs", event.getResponseElapsedTime());
+        entry.put("node", event.getService() != null ? event.getService().getId() : null);
+        entry.put("status", event.getHttpResponseCode());
+        entry.put("tries", event.getTotalTries());
+        if (event.getPageNumber() > 0) {
+            entry.put("page", event.getPageNumber());
+        }
+        entry.put("requestBytes", event.getHttpRequestSize());
+        entry.put("responseBytes", event.getHttpResponseSize());
+        if (event.getRequestId() != null) {
+            entry.put("requestId", event.getRequestId());
+        }
+        JsonNode shape = shapeOf(event);
+        if (shape != null) {
+            entry.set("shape", shape);
+        }
+        if (event.getErrorClass() != null) {
+            entry.put("error", event.getErrorClass());
+        }
+        try {
+            return MAPPER.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot marshall slow query entry", e);
+        }
+    }
+
+    /**
+     * Shape of the query: the body for the Data API and the Document API, the <code>where</code>
+     * parameter for the REST API.
+     */
+    private JsonNode shapeOf(ServiceHttpCallEvent event) {
+        String json = event.readRequestBody(MAX_SHAPE_BODY_SIZE);
+        if (json == null || json.endsWith(ServiceHttpCallEvent.TRUNCATED_SUFFIX)) {
+            json = whereParameter(event.getHttpRequestUrl());
+        }
+        return json == null ? null : shapeOf(json);
+    }
+
+    /**
+     * Redact all values of a json document, keeping field names and operators.
+     *
+     * @param json
+     *      json document
+     * @return
+     *      shape of the document, null if the document is not json
+     */
+    public static JsonNode shapeOf(String json) {
+        try {
+            return redact(MAPPER.readTree(json));
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Replace values, arrays are reduced to the shape of their first element (vectors, $in lists).
+     */
+    private static JsonNode redact(JsonNode node) {
+        JsonNodeFactory factory = JsonNodeFactory.instance;
+        if (node.isObject()) {
+            ObjectNode shape = factory.objectNode();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                shape.set(field.getKey(), redact(field.getValue()));
+            }
+            return shape;
+        }
+        if (node.isArray()) {
+            ArrayNode shape = factory.arrayNode();
+            if (node.size() > 0) {
+                shape.add(redact(node.get(0)));
+            }
+            return shape;
+        }
+        return factory.textNode(REDACTED);
+    }
+
+    /**
+     * Extract the REST filter from the url.
+     */
+    private static String whereParameter(String url) {
+        if (url == null) {
+            return null;
+        }
+        int query = url.indexOf('?');
+        int start = url.indexOf(PARAM_WHERE, Math.max(query, 0));
+        if (query < 0 || start < 0 || (url.charAt(start - 1) != '?' && url.charAt(start - 1) != '&')) {
+            return null;
+        }
+        int end = url.indexOf('&', start);
+        String where = url.substring(start + PARAM_WHERE.length(), end < 0 ? url.length() : end);
+        return URLDecoder.decode(where, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets thresholdMillis
+     *
+     * @return value of thresholdMillis
+     */
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+    /**
+     * Gets sampleRate
+     *
+     * @return value of sampleRate
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Number of calls above the threshold.
+     *
+     * @return
+     *      slow calls
+     */
+    public long getSlowCalls() {
+        return slowCalls.sum();
+    }
+
+    /**
+     * Number of slow calls logged after sampling.
+     *
+     * @return
+     *      logged calls
+     */
+    public long getLoggedCalls() {
+        return loggedCalls.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSuccess(Status<String> s) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onCompletion(Status<String> s) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFailure(Status<String> s) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFailedTry(Status<String> s) {}
+
+}
@@ -4,6 +4,7 @@ import io.stargate.sdk.api.ApiConstants;
 import io.stargate.sdk.api.TokenProvider;
 import io.stargate.sdk.http.RetryHttpClient;
 import io.stargate.sdk.http.domain.ApiResponseHttp;
+import io.stargate.sdk.jfr.TokenRefreshEvent;
 import io.stargate.sdk.loadbalancer.Loadbalancer;
 import io.stargate.sdk.utils.Assert;
 import io.stargate.sdk.utils.JsonUtils;
@@ -150,8 +151,13 @@ public class TokenProviderHttpAuth implements TokenProvider, ApiConstants {
      * @return
      */
     private String renewToken() {
+        TokenRefreshEvent jfrEvent = new TokenRefreshEvent();
+        jfrEvent.begin();
+        String endpoint = null;
+        boolean success = false;
         try {
-            HttpPost httpPost = new HttpPost(endPointAuthenticationLB.get() + "/v1/auth");
+            endpoint = endPointAuthenticationLB.get() + "/v1/auth";
+            HttpPost httpPost = new HttpPost(endpoint);
             httpPost.addHeader(HEADER_CONTENT_TYPE, CONTENT_TYPE_JSON);
             httpPost.addHeader(HEADER_USER_AGENT, REQUEST_WITH);
             httpPost.addHeader(HEADER_REQUEST_ID, UUID.randomUUID().toString());
@@ -165,13 +171,21 @@ public class TokenProviderHttpAuth implements TokenProvider, ApiConstants {
             ApiResponseHttp response = RetryHttpClient.getInstance().executeHttp(null, httpPost, true);
 
             if (response != null && 201 == response.getCode() || 200 == response.getCode()) {
-                return (String) JsonUtils.unmarshallBean(response.getBody(), Map.class).get("authToken");
+                String authToken = (String) JsonUtils.unmarshallBean(response.getBody(), Map.class).get("authToken");
+                success = authToken != null;
+                return authToken;
             } else {
                 throw new IllegalStateException("Cannot generate authentication token " + response.getBody());
             }
 
         } catch(Exception e)  {
             throw new IllegalArgumentException("Cannot generate authentication token", e);
+        } finally {
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.endpoint = endpoint;
+                jfrEvent.success  = success;
+                jfrEvent.commit();
+            }
         }
     }
 
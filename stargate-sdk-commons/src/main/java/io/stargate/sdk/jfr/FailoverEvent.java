@@ -0,0 +1,43 @@
+package io.stargate.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event when a node is marked unavailable or the client moves to another datacenter.
+ */
+@Name("io.stargate.sdk.Failover")
+@Label("Failover")
+@Category({"Stargate", "SDK"})
+@Description("Node marked unavailable or fail-over to another datacenter")
+public class FailoverEvent extends Event {
+
+    /** Fail-over type, node or datacenter. */
+    @Label("Type")
+    public String type;
+
+    /** Datacenter in use before the fail-over. */
+    @Label("Datacenter")
+    public String datacenter;
+
+    /** Node marked unavailable. */
+    @Label("Node")
+    public String node;
+
+    /** Datacenter in use after the fail-over. */
+    @Label("Target")
+    public String target;
+
+    /** Exception class that caused the fail-over. */
+    @Label("Cause")
+    public String cause;
+
+    /**
+     * Default constructor.
+     */
+    public FailoverEvent() {}
+
+}
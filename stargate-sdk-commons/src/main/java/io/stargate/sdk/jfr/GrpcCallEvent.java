@@ -0,0 +1,39 @@
+package io.stargate.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for each gRPC call, retries included.
+ */
+@Name("io.stargate.sdk.GrpcCall")
+@Label("gRPC Call")
+@Category({"Stargate", "SDK"})
+@Description("Call to the gRPC API of a Stargate node")
+public class GrpcCallEvent extends Event {
+
+    /** Operation (ExecuteQuery, ExecuteBatch). */
+    @Label("Operation")
+    public String operation;
+
+    /** Node identifier. */
+    @Label("Node")
+    public String node;
+
+    /** Number of tries, 0 when unknown. */
+    @Label("Tries")
+    public int tries;
+
+    /** Exception class when the call failed. */
+    @Label("Error")
+    public String error;
+
+    /**
+     * Default constructor.
+     */
+    public GrpcCallEvent() {}
+
+}
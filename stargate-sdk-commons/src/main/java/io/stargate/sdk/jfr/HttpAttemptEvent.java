@@ -0,0 +1,58 @@
+package io.stargate.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for each attempt of an http request, retries are distinct events.
+ */
+@Name("io.stargate.sdk.HttpAttempt")
+@Label("Http Attempt")
+@Category({"Stargate", "SDK"})
+@Description("Attempt of an http request to a Stargate node")
+public class HttpAttemptEvent extends Event {
+
+    /** Http method. */
+    @Label("Method")
+    public String method;
+
+    /** Path of the request. */
+    @Label("Path")
+    public String path;
+
+    /** Node identifier, null for authentication calls. */
+    @Label("Node")
+    public String node;
+
+    /** Attempt number, starting at 0. */
+    @Label("Attempt")
+    public int attempt;
+
+    /** Status code, 0 when no response was received. */
+    @Label("Status Code")
+    public int statusCode;
+
+    /** Size of the request body, -1 when unknown. */
+    @Label("Request Size")
+    @DataAmount
+    public long requestBytes;
+
+    /** Size of the response body, -1 when unknown. */
+    @Label("Response Size")
+    @DataAmount
+    public long responseBytes;
+
+    /** Exception class when the attempt failed. */
+    @Label("Error")
+    public String error;
+
+    /**
+     * Default constructor.
+     */
+    public HttpAttemptEvent() {}
+
+}
@@ -0,0 +1,43 @@
+package io.stargate.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for each page fetched when iterating over a collection.
+ */
+@Name("io.stargate.sdk.PageFetch")
+@Label("Page Fetch")
+@Category({"Stargate", "SDK"})
+@Description("Page of results fetched from the Data API or the Document API")
+public class PageFetchEvent extends Event {
+
+    /** Api, data or document. */
+    @Label("Api")
+    public String api;
+
+    /** Collection name. */
+    @Label("Collection")
+    public String collection;
+
+    /** Page number, starting at 1. */
+    @Label("Page")
+    public int page;
+
+    /** Number of documents in the page. */
+    @Label("Documents")
+    public int documents;
+
+    /** If another page is available. */
+    @Label("Has More")
+    public boolean hasMore;
+
+    /**
+     * Default constructor.
+     */
+    public PageFetchEvent() {}
+
+}
@@ -0,0 +1,31 @@
+package io.stargate.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event when an authentication token is generated or renewed.
+ */
+@Name("io.stargate.sdk.TokenRefresh")
+@Label("Token Refresh")
+@Category({"Stargate", "SDK"})
+@Description("Generation or renewal of an authentication token")
+public class TokenRefreshEvent extends Event {
+
+    /** Authentication endpoint. */
+    @Label("Endpoint")
+    public String endpoint;
+
+    /** If a token was returned. */
+    @Label("Success")
+    public boolean success;
+
+    /**
+     * Default constructor.
+     */
+    public TokenRefreshEvent() {}
+
+}
@@ -0,0 +1,129 @@
+package io.stargate.sdk.loadbalancer;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * State of a datacenter and its nodes at a point in time.
+ */
+public class DatacenterSnapshot {
+
+    /** Datacenter name. */
+    private final String name;
+
+    /** If the datacenter can be used. */
+    private final boolean available;
+
+    /** If the client currently uses this datacenter. */
+    private final boolean current;
+
+    /** Nodes of the datacenter. */
+    private final List<NodeSnapshot> nodes;
+
+    /**
+     * Full constructor.
+     *
+     * @param name
+     *      datacenter name
+     * @param available
+     *      if the datacenter can be used
+     * @param current
+     *      if the client currently uses this datacenter
+     * @param nodes
+     *      nodes of the datacenter
+     */
+    public DatacenterSnapshot(String name, boolean available, boolean current, List<NodeSnapshot> nodes) {
+        this.name      = name;
+        this.available = available;
+        this.current   = current;
+        this.nodes     = Collections.unmodifiableList(nodes);
+    }
+
+    /**
+     * Requests in flight on all nodes.
+     *
+     * @return
+     *      requests in flight
+     */
+    public int getInFlight() {
+        return nodes.stream().mapToInt(NodeSnapshot::getInFlight).sum();
+    }
+
+    /**
+     * Requests per second on all nodes over the last window.
+     *
+     * @return
+     *      request rate
+     */
+    public double getRequestRate() {
+        return nodes.stream().mapToDouble(NodeSnapshot::getRequestRate).sum();
+    }
+
+    /**
+     * Ratio of failed requests on all nodes over the last window.
+     *
+     * @return
+     *      error rate between 0 and 1
+     */
+    public double getErrorRate() {
+        double rate = getRequestRate();
+        return rate == 0 ? 0 : nodes.stream().mapToDouble(n -> n.getRequestRate() * n.getErrorRate()).sum() / rate;
+    }
+
+    /**
+     * Number of nodes used by the load balancer.
+     *
+     * @return
+     *      available nodes
+     */
+    public int getAvailableNodes() {
+        return (int) nodes.stream().filter(NodeSnapshot::isAvailable).count();
+    }
+
+    /**
+     * Gets name
+     *
+     * @return value of name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets available
+     *
+     * @return value of available
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Gets current
+     *
+     * @return value of current
+     */
+    public boolean isCurrent() {
+        return current;
+    }
+
+    /**
+     * Gets nodes
+     *
+     * @return value of nodes
+     */
+    public List<NodeSnapshot> getNodes() {
+        return nodes;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(name)
+                .append(available ? " UP" : " DOWN")
+                .append(current ? " (current)" : "");
+        nodes.forEach(n -> sb.append("\n  + ").append(n));
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,88 @@
+package io.stargate.sdk.loadbalancer;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * State of a deployment (datacenters and nodes of an api) at a point in time.
+ */
+public class DeploymentSnapshot {
+
+    /** Datacenter in use. */
+    private final String currentDatacenter;
+
+    /** Nodes marked unavailable since startup. */
+    private final long nodeFailOverCount;
+
+    /** Fail-over to another datacenter since startup. */
+    private final long datacenterFailOverCount;
+
+    /** Datacenters. */
+    private final List<DatacenterSnapshot> datacenters;
+
+    /**
+     * Full constructor.
+     *
+     * @param currentDatacenter
+     *      datacenter in use
+     * @param nodeFailOverCount
+     *      nodes marked unavailable since startup
+     * @param datacenterFailOverCount
+     *      fail-over to another datacenter since startup
+     * @param datacenters
+     *      datacenters
+     */
+    public DeploymentSnapshot(String currentDatacenter, long nodeFailOverCount, long datacenterFailOverCount, List<DatacenterSnapshot> datacenters) {
+        this.currentDatacenter       = currentDatacenter;
+        this.nodeFailOverCount       = nodeFailOverCount;
+        this.datacenterFailOverCount = datacenterFailOverCount;
+        this.datacenters             = Collections.unmodifiableList(datacenters);
+    }
+
+    /**
+     * Gets currentDatacenter
+     *
+     * @return value of currentDatacenter
+     */
+    public String getCurrentDatacenter() {
+        return currentDatacenter;
+    }
+
+    /**
+     * Gets nodeFailOverCount
+     *
+     * @return value of nodeFailOverCount
+     */
+    public long getNodeFailOverCount() {
+        return nodeFailOverCount;
+    }
+
+    /**
+     * Gets datacenterFailOverCount
+     *
+     * @return value of datacenterFailOverCount
+     */
+    public long getDatacenterFailOverCount() {
+        return datacenterFailOverCount;
+    }
+
+    /**
+     * Gets datacenters
+     *
+     * @return value of datacenters
+     */
+    public List<DatacenterSnapshot> getDatacenters() {
+        return datacenters;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("current=").append(currentDatacenter)
+                .append(", nodeFailOvers=").append(nodeFailOverCount)
+                .append(", datacenterFailOvers=").append(datacenterFailOverCount);
+        datacenters.forEach(dc -> sb.append("\n").append(dc));
+        return sb.toString();
+    }
+
+}
@@ -38,6 +38,9 @@ public class LoadBalancedResource< RSC > implements Comparable <LoadBalancedReso
     /** Unavailability error. **/
     private Throwable unavailabilityError;
 
+    /** Live traffic of the resource. **/
+    private final ResourceStats stats = new ResourceStats();
+
     /** Unavailability date. **/
     private Date unavailabilityTriggerDate;
   
@@ -300,5 +303,15 @@ public class LoadBalancedResource< RSC > implements Comparable <LoadBalancedReso
     public void setResource(RSC rsc) {
         this.resource = rsc;
     }
-    
+
+    /**
+     * Live traffic of the resource.
+     *
+     * @return
+     *      requests in flight, rates and latency
+     */
+    public ResourceStats getStats() {
+        return stats;
+    }
+
 }
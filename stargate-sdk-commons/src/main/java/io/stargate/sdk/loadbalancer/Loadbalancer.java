@@ -204,7 +204,7 @@ public class Loadbalancer < RSC >  {
     
     /** {@inheritDoc} **/
     @Override
-    public final String toString() {
+    public final synchronized String toString() {
         StringBuilder strBuildDer = new StringBuilder();
         strBuildDer.append("\nLoadBalanced state : globalCount <" + globalCount + "> totalCount <" + totalCount + "> ");
         strBuildDer.append(" unavailableCount <" + unavailableCount + ">");
@@ -231,7 +231,7 @@ public class Loadbalancer < RSC >  {
      * @return
      *          gestion des erreurs
      */
-    public final LoadBalancedResource< RSC > handleComponentError(
+    public final synchronized LoadBalancedResource< RSC > handleComponentError(
             final LoadBalancedResource< RSC > component,
             final Throwable parentException) {
         component.setAvailable(false);
@@ -243,6 +243,20 @@ public class Loadbalancer < RSC >  {
         return getLoadBalancedResource();
     }
 
+    /**
+     * Consistent view of the resources: availability, weights and traffic.
+     *
+     * @return
+     *      state of each resource
+     */
+    public final synchronized List<NodeSnapshot> snapshot() {
+        List<NodeSnapshot> nodes = new ArrayList<>(resources.size());
+        for (LoadBalancedResource< RSC > rsc : resources) {
+            nodes.add(new NodeSnapshot(rsc));
+        }
+        return nodes;
+    }
+
     /**
      * Permet de rechercher la liste des �lemtents.
      *
@@ -0,0 +1,173 @@
+package io.stargate.sdk.loadbalancer;
+
+import io.stargate.sdk.audit.LatencySnapshot;
+
+import java.util.Date;
+
+/**
+ * State and traffic of a node at a point in time.
+ */
+public class NodeSnapshot {
+
+    /** Node identifier. */
+    private final String id;
+
+    /** If the node is used by the load balancer. */
+    private final boolean available;
+
+    /** Why the node has been ejected, null when available. */
+    private final String unavailabilityCause;
+
+    /** When the node has been ejected, null when available. */
+    private final Date unavailableSince;
+
+    /** Share of the traffic in percent. */
+    private final double currentWeight;
+
+    /** Requests in flight. */
+    private final int inFlight;
+
+    /** Requests since startup. */
+    private final long requestCount;
+
+    /** Failed requests since startup. */
+    private final long errorCount;
+
+    /** Requests per second over the last window. */
+    private final double requestRate;
+
+    /** Ratio of failed requests over the last window. */
+    private final double errorRate;
+
+    /** Latency in milliseconds. */
+    private final LatencySnapshot latency;
+
+    /**
+     * Read the state of a resource, to be called under the load balancer lock.
+     *
+     * @param rsc
+     *      load balanced resource
+     */
+    NodeSnapshot(LoadBalancedResource<?> rsc) {
+        ResourceStats stats      = rsc.getStats();
+        this.id                  = rsc.getId();
+        this.available           = rsc.isAvailable();
+        this.unavailabilityCause = available ? null : rsc.getUnavailabilityCause();
+        this.unavailableSince    = available ? null : rsc.getUnavailabilityTriggerDate();
+        this.currentWeight       = rsc.getCurrentWeight();
+        this.inFlight            = stats.getInFlight();
+        this.requestCount        = stats.getRequestCount();
+        this.errorCount          = stats.getErrorCount();
+        this.requestRate         = stats.getRequestRate();
+        this.errorRate           = stats.getErrorRate();
+        this.latency             = stats.getLatency().snapshot();
+    }
+
+    /**
+     * Gets id
+     *
+     * @return value of id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets available
+     *
+     * @return value of available
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Gets unavailabilityCause
+     *
+     * @return value of unavailabilityCause
+     */
+    public String getUnavailabilityCause() {
+        return unavailabilityCause;
+    }
+
+    /**
+     * Gets unavailableSince
+     *
+     * @return value of unavailableSince
+     */
+    public Date getUnavailableSince() {
+        return unavailableSince;
+    }
+
+    /**
+     * Gets currentWeight
+     *
+     * @return value of currentWeight
+     */
+    public double getCurrentWeight() {
+        return currentWeight;
+    }
+
+    /**
+     * Gets inFlight
+     *
+     * @return value of inFlight
+     */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Gets requestCount
+     *
+     * @return value of requestCount
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Gets errorCount
+     *
+     * @return value of errorCount
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Gets requestRate
+     *
+     * @return value of requestRate
+     */
+    public double getRequestRate() {
+        return requestRate;
+    }
+
+    /**
+     * Gets errorRate
+     *
+     * @return value of errorRate
+     */
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * Gets latency
+     *
+     * @return value of latency
+     */
+    public LatencySnapshot getLatency() {
+        return latency;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format("%s %s weight=%.0f%% inFlight=%d rate=%.2f/s errors=%.1f%% p99=%dms%s",
+                id, available ? "UP" : "DOWN", currentWeight, inFlight, requestRate, errorRate * 100,
+                latency.getP99(), available ? "" : " (" + unavailabilityCause + ")");
+    }
+
+}
@@ -0,0 +1,169 @@
+package io.stargate.sdk.loadbalancer;
+
+import io.stargate.sdk.audit.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live traffic of a load balanced resource: requests in flight, rates over the last window and latency.
+ * <p>
+ * Recording is lock-free, rates are computed over tumbling windows of 10 seconds and rolled by the first
+ * call (record or read) after the window ends.
+ */
+public class ResourceStats {
+
+    /** Duration of a rate window. */
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /** Requests in flight. */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /** Requests since startup. */
+    private final LongAdder requestCount = new LongAdder();
+
+    /** Failed requests since startup. */
+    private final LongAdder errorCount = new LongAdder();
+
+    /** Requests in current window. */
+    private final LongAdder windowRequests = new LongAdder();
+
+    /** Failed requests in current window. */
+    private final LongAdder windowErrors = new LongAdder();
+
+    /** Latency in milliseconds. */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /** Start of the current window. */
+    private volatile long windowStart = System.nanoTime();
+
+    /** Requests per second over the last window. */
+    private volatile double requestRate;
+
+    /** Ratio of failed requests over the last window. */
+    private volatile double errorRate;
+
+    /**
+     * Default constructor.
+     */
+    public ResourceStats() {}
+
+    /**
+     * A request is sent to the resource.
+     *
+     * @return
+     *      start time to provide when the request ends
+     */
+    public long onRequestStart() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * A request sent to the resource has ended.
+     *
+     * @param startNanos
+     *      value returned by {@link #onRequestStart()}
+     * @param error
+     *      if the request failed
+     */
+    public void onRequestEnd(long startNanos, boolean error) {
+        long now = System.nanoTime();
+        inFlight.decrementAndGet();
+        roll(now);
+        requestCount.increment();
+        windowRequests.increment();
+        if (error) {
+            errorCount.increment();
+            windowErrors.increment();
+        }
+        latency.record(TimeUnit.NANOSECONDS.toMillis(now - startNanos), error);
+    }
+
+    /**
+     * Close the current window when it is over.
+     *
+     * @param now
+     *      current time in nanoseconds
+     */
+    private void roll(long now) {
+        if (now - windowStart < WINDOW_NANOS) {
+            return;
+        }
+        synchronized (this) {
+            long elapsed = now - windowStart;
+            if (elapsed < WINDOW_NANOS) {
+                return;
+            }
+            long requests = windowRequests.sumThenReset();
+            long errors   = windowErrors.sumThenReset();
+            requestRate   = requests * 1e9 / elapsed;
+            errorRate     = requests == 0 ? 0 : (double) errors / requests;
+            windowStart   = now;
+        }
+    }
+
+    /**
+     * Gets requests in flight.
+     *
+     * @return
+     *      requests in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Gets requests since startup.
+     *
+     * @return
+     *      request count
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Gets failed requests since startup.
+     *
+     * @return
+     *      error count
+     */
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /**
+     * Gets requests per second over the last window.
+     *
+     * @return
+     *      request rate
+     */
+    public double getRequestRate() {
+        roll(System.nanoTime());
+        return requestRate;
+    }
+
+    /**
+     * Gets the ratio of failed requests over the last window.
+     *
+     * @return
+     *      error rate between 0 and 1
+     */
+    public double getErrorRate() {
+        roll(System.nanoTime());
+        return errorRate;
+    }
+
+    /**
+     * Gets latency histogram.
+     *
+     * @return
+     *      latency in milliseconds
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+}
@@ -0,0 +1,134 @@
+package io.stargate.sdk.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom deserializer for vectors (float[]).
+ * <p>
+ * Values are read straight from the token stream into a primitive array, no boxed number is
+ * ever created. Both the Json array form and the EJson binary form <code>{"$binary": "base64"}</code>
+ * are accepted.
+ */
+public class CustomEJsonVectorDeserializer extends JsonDeserializer<float[]> {
+
+    /** Initial capacity when the vector size is unknown. */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * Default constructor.
+     */
+    public CustomEJsonVectorDeserializer() {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public float[] deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        return readVector(jp);
+    }
+
+    /**
+     * Read a vector from the current token of the parser.
+     *
+     * @param jp
+     *      parser positioned on the vector value
+     * @return
+     *      vector or null if the value is null
+     * @throws IOException
+     *      invalid content
+     */
+    public static float[] readVector(JsonParser jp) throws IOException {
+        JsonToken token = jp.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.START_ARRAY) {
+            float[] buffer = new float[INITIAL_CAPACITY];
+            int size = 0;
+            while ((token = jp.nextToken()) != JsonToken.END_ARRAY) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, size << 1);
+                }
+                buffer[size++] = (token == JsonToken.VALUE_NULL) ? 0f : jp.getFloatValue();
+            }
+            return (size == buffer.length) ? buffer : Arrays.copyOf(buffer, size);
+        }
+        if (token == JsonToken.START_OBJECT) {
+            float[] vector = null;
+            while (jp.nextToken() == JsonToken.FIELD_NAME) {
+                String field = jp.currentName();
+                jp.nextToken();
+                if (CustomEJsonVectorSerializer.EJSON_BINARY.equals(field)) {
+                    vector = fromBytes(jp.getBinaryValue());
+                } else {
+                    jp.skipChildren();
+                }
+            }
+            if (vector == null) {
+                throw new IllegalArgumentException("Vector object should contain a '"
+                        + CustomEJsonVectorSerializer.EJSON_BINARY + "' field");
+            }
+            return vector;
+        }
+        throw new IllegalArgumentException("Cannot read a vector from token " + token);
+    }
+
+    /**
+     * Unpack big-endian float32 values.
+     *
+     * @param bytes
+     *      packed bytes
+     * @return
+     *      vector
+     */
+    public static float[] fromBytes(byte[] bytes) {
+        if (bytes.length % Float.BYTES != 0) {
+            throw new IllegalArgumentException("Binary vector size should be a multiple of " + Float.BYTES);
+        }
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.BIG_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    /**
+     * Convert a vector already materialized as an object (list of numbers, EJson binary map) to a float array.
+     *
+     * @param value
+     *      current value
+     * @return
+     *      vector or null if the value is null
+     */
+    public static float[] asVector(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof float[]) {
+            return (float[]) value;
+        }
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            float[] vector = new float[list.size()];
+            for (int i = 0; i < vector.length; i++) {
+                Object item = list.get(i);
+                vector[i] = (item == null) ? 0f : ((Number) item).floatValue();
+            }
+            return vector;
+        }
+        if (value instanceof Map && ((Map<?, ?>) value).get(CustomEJsonVectorSerializer.EJSON_BINARY) instanceof String) {
+            return fromBytes(Base64.getDecoder().decode((String)
+                    ((Map<?, ?>) value).get(CustomEJsonVectorSerializer.EJSON_BINARY)));
+        }
+        throw new IllegalArgumentException("Cannot convert " + value.getClass().getSimpleName() + " to a vector");
+    }
+
+}
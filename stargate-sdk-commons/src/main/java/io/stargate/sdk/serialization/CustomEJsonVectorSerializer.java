@@ -0,0 +1,65 @@
+package io.stargate.sdk.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Custom Serializer for vectors (float[]).
+ * <p>
+ * By default the vector is written as a Json array of numbers, each float being written with its
+ * shortest round-trip representation. When the serialization attribute {@link #ATTRIBUTE_BINARY_ENCODING}
+ * is set to <code>true</code> the vector is written as an EJson binary <code>{"$binary": "base64"}</code>
+ * of big-endian float32 values, about 3 times smaller than the textual form.
+ */
+public class CustomEJsonVectorSerializer extends StdSerializer<float[]> {
+
+    /** Serialization attribute to enable the binary encoding of vectors. */
+    public static final String ATTRIBUTE_BINARY_ENCODING = "stargate.vector.binary";
+
+    /** EJson keyword for binary content. */
+    public static final String EJSON_BINARY = "$binary";
+
+    /**
+     * Default constructor.
+     */
+    public CustomEJsonVectorSerializer() {
+        super(float[].class);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void serialize(float[] value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (Boolean.TRUE.equals(provider.getAttribute(ATTRIBUTE_BINARY_ENCODING))) {
+            gen.writeStartObject();
+            gen.writeFieldName(EJSON_BINARY);
+            gen.writeBinary(toBytes(value));
+            gen.writeEndObject();
+        } else {
+            gen.writeStartArray(value, value.length);
+            for (float v : value) {
+                gen.writeNumber(v);
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Pack a vector as big-endian float32 values.
+     *
+     * @param vector
+     *      current vector
+     * @return
+     *      packed bytes
+     */
+    public static byte[] toBytes(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.BIG_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+}
@@ -0,0 +1,106 @@
+package io.stargate.sdk.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Default serialization backend relying on a Jackson ObjectMapper.
+ */
+public class JacksonSerializationProvider implements SerializationProvider {
+
+    /** Jackson mapper. */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor with the mapper.
+     *
+     * @param objectMapper
+     *      configured object mapper
+     */
+    public JacksonSerializationProvider(@NonNull ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String marshall(Object o) {
+        try {
+            return objectMapper.writeValueAsString(o);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot marshall object " + o, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void marshall(Object o, OutputStream out) {
+        try {
+            objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, o);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot marshall object " + o, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T unmarshall(String body, Class<T> clazz) {
+        try {
+            return objectMapper.readValue(body, clazz);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot unmarshall object " + body, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T unmarshall(String body, Type type) {
+        try {
+            return objectMapper.readValue(body, objectMapper.getTypeFactory().constructType(type));
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot unmarshall object " + body, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T unmarshall(InputStream in, Class<T> clazz) {
+        try {
+            return objectMapper.readerFor(clazz)
+                    .without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+                    .readValue(in);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot unmarshall object of class " + clazz.getName(), e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T convertValue(Object bean, Class<T> clazz) {
+        return objectMapper.convertValue(bean, clazz);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JsonParser createParser(String json) throws IOException {
+        // Values are bound by the mapper
+        return objectMapper.createParser(json);
+    }
+
+    /**
+     * Gets objectMapper.
+     *
+     * @return
+     *      value of objectMapper
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+}
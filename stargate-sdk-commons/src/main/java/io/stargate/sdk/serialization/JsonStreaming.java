@@ -0,0 +1,22 @@
+package io.stargate.sdk.serialization;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadFeature;
+
+/**
+ * Streaming parsers of the backends not based on Jackson: tokens only, no mapper is built.
+ */
+final class JsonStreaming {
+
+    /** Shared factory, thread safe once configured. */
+    static final JsonFactory FACTORY = JsonFactory.builder()
+            .enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+            .build();
+
+    /**
+     * Hide default constructor.
+     */
+    private JsonStreaming() {
+    }
+
+}
@@ -0,0 +1,111 @@
+package io.stargate.sdk.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Serialization backend used by the SDK to marshall requests and unmarshall responses.
+ * <p>
+ * The default implementation is {@link JacksonSerializationProvider}, another engine (tuned ObjectMapper,
+ * DSL-JSON, jsoniter...) can be plugged with <code>JsonUtils.withSerializationProvider()</code> and
+ * <code>JsonUtils.withDataApiSerializationProvider()</code>, for every client of the JVM.
+ * Implementations must be thread safe and wrap errors as runtime exceptions.
+ */
+public interface SerializationProvider {
+
+    /**
+     * Transform object as a String.
+     *
+     * @param o
+     *      object to be serialized.
+     * @return
+     *      body as String
+     */
+    String marshall(Object o);
+
+    /**
+     * Write object in the stream.
+     *
+     * @param o
+     *      object to be serialized.
+     * @param out
+     *      target stream (not closed)
+     */
+    void marshall(Object o, OutputStream out);
+
+    /**
+     * Load body as expected object.
+     *
+     * @param body
+     *      response body as String
+     * @param clazz
+     *      target class
+     * @return
+     *      expected object
+     * @param <T>
+     *      parameter
+     */
+    <T> T unmarshall(String body, Class<T> clazz);
+
+    /**
+     * Load body as expected object, used for generic types.
+     *
+     * @param body
+     *      response body as String
+     * @param type
+     *      target type
+     * @return
+     *      expected object
+     * @param <T>
+     *      parameter
+     */
+    <T> T unmarshall(String body, Type type);
+
+    /**
+     * Read expected object from the stream.
+     *
+     * @param in
+     *      source stream (not closed)
+     * @param clazz
+     *      target class
+     * @return
+     *      expected object
+     * @param <T>
+     *      parameter
+     */
+    <T> T unmarshall(InputStream in, Class<T> clazz);
+
+    /**
+     * Convert an object (map, bean) into another type.
+     *
+     * @param bean
+     *      current bean
+     * @param clazz
+     *      target class
+     * @return
+     *      converted object
+     * @param <T>
+     *      parameter
+     */
+    <T> T convertValue(Object bean, Class<T> clazz);
+
+    /**
+     * Streaming parser over a json text, used to scan documents and responses without binding them. The
+     * default parser reads tokens only, values are then bound with {@link #unmarshall(String, Type)}.
+     *
+     * @param json
+     *      json text
+     * @return
+     *      parser, to be closed
+     * @throws IOException
+     *      error while creating the parser
+     */
+    default JsonParser createParser(String json) throws IOException {
+        return JsonStreaming.FACTORY.createParser(json);
+    }
+
+}
@@ -0,0 +1,17 @@
+package io.stargate.sdk.tracing;
+
+/**
+ * Scope of a span made current, to be closed on the thread which opened it.
+ */
+public interface ServiceCallScope extends AutoCloseable {
+
+    /** Scope doing nothing. */
+    ServiceCallScope NOOP = () -> {};
+
+    /**
+     * Restore the previous context.
+     */
+    @Override
+    void close();
+
+}
@@ -0,0 +1,91 @@
+package io.stargate.sdk.tracing;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Span of work traced by the SDK: a logical operation, an http attempt, a fail-over or a page fetch.
+ */
+public interface ServiceCallSpan {
+
+    /**
+     * Role of the span.
+     */
+    enum Kind {
+
+        /** Work inside the SDK (operation, page, fail-over). */
+        INTERNAL,
+
+        /** Remote call to a Stargate node. */
+        CLIENT
+    }
+
+    /** Span doing nothing. */
+    ServiceCallSpan NOOP = new ServiceCallSpan() {
+        @Override
+        public ServiceCallSpan setAttribute(String key, String value) { return this; }
+        @Override
+        public ServiceCallSpan setAttribute(String key, long value) { return this; }
+        @Override
+        public void recordError(Throwable error) {}
+        @Override
+        public void inject(BiConsumer<String, String> headers) {}
+        @Override
+        public ServiceCallScope makeCurrent() { return ServiceCallScope.NOOP; }
+        @Override
+        public void end() {}
+    };
+
+    /**
+     * Add an attribute.
+     *
+     * @param key
+     *      attribute name
+     * @param value
+     *      attribute value
+     * @return
+     *      current span
+     */
+    ServiceCallSpan setAttribute(String key, String value);
+
+    /**
+     * Add an attribute.
+     *
+     * @param key
+     *      attribute name
+     * @param value
+     *      attribute value
+     * @return
+     *      current span
+     */
+    ServiceCallSpan setAttribute(String key, long value);
+
+    /**
+     * Mark the span as failed.
+     *
+     * @param error
+     *      cause
+     */
+    void recordError(Throwable error);
+
+    /**
+     * Write the trace context of this span in request headers (W3C <code>traceparent</code> by default).
+     *
+     * @param headers
+     *      header setter
+     */
+    void inject(BiConsumer<String, String> headers);
+
+    /**
+     * Make the span the parent of spans started on this thread until the scope is closed.
+     *
+     * @return
+     *      scope to close on the same thread
+     */
+    ServiceCallScope makeCurrent();
+
+    /**
+     * Complete the span, can be invoked from any thread.
+     */
+    void end();
+
+}
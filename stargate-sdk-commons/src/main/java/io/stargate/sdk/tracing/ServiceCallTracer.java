@@ -0,0 +1,45 @@
+package io.stargate.sdk.tracing;
+
+import java.util.function.Supplier;
+
+/**
+ * Create spans for the SDK operations, the default implementation does nothing.
+ * <p>
+ * An OpenTelemetry implementation is provided in <code>stargate-sdk-tracing</code>, it is registered
+ * with <code>StargateClientBuilder.withTracer()</code> or {@link ServiceCallTracing#withTracer(ServiceCallTracer)}.
+ */
+public interface ServiceCallTracer {
+
+    /** Tracer doing nothing. */
+    ServiceCallTracer NOOP = new ServiceCallTracer() {
+        @Override
+        public ServiceCallSpan startSpan(String name, ServiceCallSpan.Kind kind) { return ServiceCallSpan.NOOP; }
+        @Override
+        public <T> Supplier<T> wrap(Supplier<T> task) { return task; }
+    };
+
+    /**
+     * Start a span, child of the current context.
+     *
+     * @param name
+     *      span name
+     * @param kind
+     *      span kind
+     * @return
+     *      started span, not current
+     */
+    ServiceCallSpan startSpan(String name, ServiceCallSpan.Kind kind);
+
+    /**
+     * Capture the current context so the task keeps its parent when executed on another thread.
+     *
+     * @param task
+     *      asynchronous task
+     * @return
+     *      wrapped task
+     * @param <T>
+     *      result type
+     */
+    <T> Supplier<T> wrap(Supplier<T> task);
+
+}
@@ -0,0 +1,80 @@
+package io.stargate.sdk.tracing;
+
+import lombok.NonNull;
+
+import java.util.function.Supplier;
+
+/**
+ * Access the tracer used by the SDK.
+ */
+public final class ServiceCallTracing {
+
+    /** Current tracer. */
+    private static volatile ServiceCallTracer tracer = ServiceCallTracer.NOOP;
+
+    /**
+     * Hide constructor.
+     */
+    private ServiceCallTracing() {}
+
+    /**
+     * Update the tracer.
+     *
+     * @param serviceCallTracer
+     *      new tracer
+     */
+    public static void withTracer(@NonNull ServiceCallTracer serviceCallTracer) {
+        tracer = serviceCallTracer;
+    }
+
+    /**
+     * Gets the tracer.
+     *
+     * @return
+     *      current tracer
+     */
+    public static ServiceCallTracer getTracer() {
+        return tracer;
+    }
+
+    /**
+     * Start a span, child of the current context.
+     *
+     * @param name
+     *      span name
+     * @param kind
+     *      span kind
+     * @return
+     *      started span
+     */
+    public static ServiceCallSpan startSpan(String name, ServiceCallSpan.Kind kind) {
+        return tracer.startSpan(name, kind);
+    }
+
+    /**
+     * Start a span for work inside the SDK.
+     *
+     * @param name
+     *      span name
+     * @return
+     *      started span
+     */
+    public static ServiceCallSpan startSpan(String name) {
+        return tracer.startSpan(name, ServiceCallSpan.Kind.INTERNAL);
+    }
+
+    /**
+     * Keep the current context for an asynchronous task.
+     *
+     * @param task
+     *      asynchronous task
+     * @return
+     *      wrapped task
+     * @param <T>
+     *      result type
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        return tracer.wrap(task);
+    }
+
+}
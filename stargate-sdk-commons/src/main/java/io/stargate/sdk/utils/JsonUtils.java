@@ -17,8 +17,8 @@
 package io.stargate.sdk.utils;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
@@ -31,7 +31,13 @@ import io.stargate.sdk.serialization.CustomEJsonDateDeserializer;
 import io.stargate.sdk.serialization.CustomEJsonDateSerializer;
 import io.stargate.sdk.serialization.CustomEJsonInstantDeserializer;
 import io.stargate.sdk.serialization.CustomEJsonInstantSerializer;
+import io.stargate.sdk.serialization.CustomEJsonVectorDeserializer;
+import io.stargate.sdk.serialization.CustomEJsonVectorSerializer;
+import io.stargate.sdk.serialization.JacksonSerializationProvider;
+import io.stargate.sdk.serialization.SerializationProvider;
 
+import java.io.IOException;
+import java.lang.reflect.Type;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.util.Calendar;
@@ -61,8 +67,37 @@ public class JsonUtils {
                 .setSerializationInclusion(Include.NON_NULL)
                 .setAnnotationIntrospector(new JacksonAnnotationIntrospector());
 
-    /** Object mapper with customization fo data API. */
-    private static ObjectMapper dataApiObjectMapper;
+    /** Serialization backend, default is Jackson with {@link #objectMapper}. */
+    private static volatile SerializationProvider serializationProvider = new JacksonSerializationProvider(objectMapper);
+
+    /** Serialization backend for the Data API, null for the default one. */
+    private static volatile SerializationProvider dataApiSerializationProvider;
+
+    /**
+     * Default Data API mapper and backend, built on first use by the class loader without locking.
+     */
+    private static final class DataApiDefaults {
+
+        /** Object mapper with customization fo data API. */
+        private static final ObjectMapper MAPPER = new ObjectMapper()
+                .configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true)
+                .configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true)
+                .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, false)
+                .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+                // Shortest round-trip float formatting and fast parsing (vectors)
+                .configure(JsonGenerator.Feature.USE_FAST_DOUBLE_WRITER, true)
+                .configure(JsonParser.Feature.USE_FAST_DOUBLE_PARSER, true)
+                .registerModule(new JavaTimeModule())
+                .setDateFormat(new SimpleDateFormat("dd/MM/yyyy"))
+                .setSerializationInclusion(Include.NON_NULL)
+                .setAnnotationIntrospector(new JacksonAnnotationIntrospector())
+                .registerModule(getDataApiModule());
+
+        /** Default backend of the Data API. */
+        private static final SerializationProvider PROVIDER = new JacksonSerializationProvider(MAPPER);
+    }
 
     /**
      * Building the data api specific object mapper.
@@ -70,32 +105,122 @@ public class JsonUtils {
      * @return
      *      object mapper.
      */
-    public static synchronized ObjectMapper getDataApiObjectMapper() {
-        if (dataApiObjectMapper == null) {
-            dataApiObjectMapper = new ObjectMapper()
-                    .configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true)
-                    .configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true)
-                    .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true)
-                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-                    .configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, false)
-                    .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
-                    .registerModule(new JavaTimeModule())
-                    .setDateFormat(new SimpleDateFormat("dd/MM/yyyy"))
-                    .setSerializationInclusion(Include.NON_NULL)
-                    .setAnnotationIntrospector(new JacksonAnnotationIntrospector());
-
-            SimpleModule module = new SimpleModule();
-            module.addSerializer(Date.class, new CustomEJsonDateSerializer());
-            module.addSerializer(Calendar.class, new CustomEJsonCalendarSerializer());
-            module.addSerializer(Instant.class, new CustomEJsonInstantSerializer());
-            module.addDeserializer(Date.class, new CustomEJsonDateDeserializer());
-            module.addDeserializer(Calendar.class, new CustomEJsonCalendarDeserializer());
-            module.addDeserializer(Instant.class, new CustomEJsonInstantDeserializer());
-            dataApiObjectMapper.registerModule(module);
+    public static ObjectMapper getDataApiObjectMapper() {
+        SerializationProvider provider = dataApiSerializationProvider;
+        if (provider instanceof JacksonSerializationProvider) {
+            return ((JacksonSerializationProvider) provider).getObjectMapper();
         }
-        return dataApiObjectMapper;
+        return DataApiDefaults.MAPPER;
+    }
+
+    /**
+     * Jackson module with the EJson codecs expected by the Data API (dates, vectors). To be registered
+     * in custom mappers provided to {@link #withDataApiSerializationProvider(SerializationProvider)}.
+     *
+     * @return
+     *      jackson module
+     */
+    public static SimpleModule getDataApiModule() {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(Date.class, new CustomEJsonDateSerializer());
+        module.addSerializer(Calendar.class, new CustomEJsonCalendarSerializer());
+        module.addSerializer(Instant.class, new CustomEJsonInstantSerializer());
+        module.addDeserializer(Date.class, new CustomEJsonDateDeserializer());
+        module.addDeserializer(Calendar.class, new CustomEJsonCalendarDeserializer());
+        module.addDeserializer(Instant.class, new CustomEJsonInstantDeserializer());
+        module.addSerializer(float[].class, new CustomEJsonVectorSerializer());
+        module.addDeserializer(float[].class, new CustomEJsonVectorDeserializer());
+        return module;
+    }
+
+    /**
+     * Override the serialization backend (Rest, Document, GraphQL Apis). The backend is global to the JVM:
+     * every client of the process uses it, set it once at startup.
+     *
+     * @param provider
+     *      serialization provider
+     */
+    public static void withSerializationProvider(SerializationProvider provider) {
+        Assert.notNull(provider, "serialization provider");
+        serializationProvider = provider;
+    }
+
+    /**
+     * Override the serialization backend for the Data API, a Jackson backend should register the EJson
+     * codecs ({@link #getDataApiModule()}). The backend is global to the JVM: every client of the process
+     * uses it, set it once at startup.
+     *
+     * @param provider
+     *      serialization provider
+     */
+    public static void withDataApiSerializationProvider(SerializationProvider provider) {
+        Assert.notNull(provider, "serialization provider");
+        dataApiSerializationProvider = provider;
+    }
+
+    /**
+     * Use a tuned Jackson mapper for all Apis, global to the JVM. The mapper is used as is for Rest, Document
+     * and GraphQL Apis, a copy with the EJson codecs is used for the Data API.
+     *
+     * @param mapper
+     *      jackson object mapper
+     */
+    public static void withObjectMapper(ObjectMapper mapper) {
+        Assert.notNull(mapper, "objectMapper");
+        withSerializationProvider(new JacksonSerializationProvider(mapper));
+        withDataApiSerializationProvider(new JacksonSerializationProvider(mapper.copy().registerModule(getDataApiModule())));
+    }
+
+    /**
+     * Access the serialization backend.
+     *
+     * @return
+     *      serialization provider
+     */
+    public static SerializationProvider getSerializationProvider() {
+        return serializationProvider;
     }
 
+    /**
+     * Access the serialization backend of the Data API.
+     *
+     * @return
+     *      serialization provider
+     */
+    public static SerializationProvider getDataApiSerializationProvider() {
+        SerializationProvider provider = dataApiSerializationProvider;
+        return provider != null ? provider : DataApiDefaults.PROVIDER;
+    }
+
+    /**
+     * Read the value the parser is positioned on with the Data API backend. Parsers of a Jackson backend
+     * bind it with their mapper, for other backends the json of the value is sliced and unmarshalled.
+     *
+     * @param jp
+     *      parser created by the backend on the json text, positioned on the first token of the value
+     * @param json
+     *      json text of the parser
+     * @param type
+     *      target type
+     * @return
+     *      value, the parser is positioned on its last token
+     * @param <T>
+     *      parameter
+     * @throws IOException
+     *      error while reading
+     */
+    public static <T> T readValueForDataApi(JsonParser jp, String json, Type type) throws IOException {
+        if (jp.getCodec() instanceof ObjectMapper) {
+            ObjectMapper mapper = (ObjectMapper) jp.getCodec();
+            return mapper.readValue(jp, mapper.getTypeFactory().constructType(type));
+        }
+        int start = (int) jp.currentTokenLocation().getCharOffset();
+        jp.skipChildren();
+        // Scalar tokens are read lazily, complete it for the end offset to be past the value
+        jp.finishToken();
+        int end = (int) jp.currentLocation().getCharOffset();
+        return getDataApiSerializationProvider().unmarshall(json.substring(start, end), type);
+    }
 
     /**
      * Default constructor
@@ -236,6 +361,9 @@ public class JsonUtils {
      *      object mapper
      */
     public static ObjectMapper getObjectMapper() {
+        if (serializationProvider instanceof JacksonSerializationProvider) {
+            return ((JacksonSerializationProvider) serializationProvider).getObjectMapper();
+        }
         return objectMapper;
     }
     
@@ -253,7 +381,7 @@ public class JsonUtils {
             if (o instanceof String) {
                return (String) o;
             }
-            return getObjectMapper().writeValueAsString(o);
+            return getSerializationProvider().marshall(o);
         } catch (Exception e) {
             throw new RuntimeException("Cannot marshall object " + o, e);
         } 
@@ -273,7 +401,39 @@ public class JsonUtils {
             if (o instanceof String) {
                 return (String) o;
             }
-            return getDataApiObjectMapper().writeValueAsString(o);
+            return getDataApiSerializationProvider().marshall(o);
+        } catch (Exception e) {
+            throw new RuntimeException("Cannot marshall object " + o, e);
+        }
+    }
+
+    /**
+     * Transform object as a String, vectors can be encoded as EJson binary.
+     *
+     * @param o
+     *      object to be serialized.
+     * @param binaryVectors
+     *      if true vectors are written as base64 packed float32 (server must accept it)
+     * @return
+     *      body as String
+     */
+    public static String marshallForDataApi(Object o, boolean binaryVectors) {
+        if (!binaryVectors) {
+            return marshallForDataApi(o);
+        }
+        Objects.requireNonNull(o);
+        try {
+            if (o instanceof String) {
+                return (String) o;
+            }
+            SerializationProvider provider = getDataApiSerializationProvider();
+            if (!(provider instanceof JacksonSerializationProvider)) {
+                // serialization attributes are specific to Jackson
+                return provider.marshall(o);
+            }
+            return ((JacksonSerializationProvider) provider).getObjectMapper().writer()
+                    .withAttribute(CustomEJsonVectorSerializer.ATTRIBUTE_BINARY_ENCODING, Boolean.TRUE)
+                    .writeValueAsString(o);
         } catch (Exception e) {
             throw new RuntimeException("Cannot marshall object " + o, e);
         }
@@ -291,7 +451,7 @@ public class JsonUtils {
      *     current type
      */
     public static <T> T convertValue(Object bean, Class<T> clazz) {
-       return  getObjectMapper().convertValue(bean, clazz);
+       return getSerializationProvider().convertValue(bean, clazz);
     }
 
     /**
@@ -306,7 +466,7 @@ public class JsonUtils {
      *     current type
      */
     public static <T> T convertValueForDataApi(Object bean, Class<T> clazz) {
-        return  getDataApiObjectMapper().convertValue(bean, clazz);
+        return getDataApiSerializationProvider().convertValue(bean, clazz);
     }
     
     /**
@@ -322,13 +482,7 @@ public class JsonUtils {
      *      expected object
      */
     public static <T> T unmarshallType(String body, TypeReference<T> ref) {
-        try {
-            return getObjectMapper().readValue(body, ref);
-        } catch (JsonMappingException e) {
-            throw new RuntimeException("Cannot unmarshall object " + body, e);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Cannot unmarshall object " + body, e);
-        }
+        return getSerializationProvider().unmarshall(body, ref.getType());
     }
 
     /**
@@ -344,13 +498,7 @@ public class JsonUtils {
      *      expected object
      */
     public static <T> T unmarshallTypeForDataApi(String body, TypeReference<T> ref) {
-        try {
-            return getDataApiObjectMapper().readValue(body, ref);
-        } catch (JsonMappingException e) {
-            throw new RuntimeException("Cannot unmarshall object " + body, e);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Cannot unmarshall object " + body, e);
-        }
+        return getDataApiSerializationProvider().unmarshall(body, ref.getType());
     }
     
     /**
@@ -366,13 +514,7 @@ public class JsonUtils {
      *       expected objects
      */
     public static <T> T unmarshallBean(String body, Class<T> ref) {
-        try {
-            return getObjectMapper().readValue(body, ref);
-        } catch (JsonMappingException e) {
-            throw new RuntimeException("Cannot unmarshall object " + body, e);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Cannot unmarshall object " + body, e);
-        }
+        return getSerializationProvider().unmarshall(body, ref);
     }
 
     /**
@@ -388,12 +530,6 @@ public class JsonUtils {
      *       expected objects
      */
     public static <T> T unmarshallBeanForDataApi(String body, Class<T> ref) {
-        try {
-            return getDataApiObjectMapper().readValue(body, ref);
-        } catch (JsonMappingException e) {
-            throw new RuntimeException("Cannot unmarshall object " + body, e);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Cannot unmarshall object " + body, e);
-        }
+        return getDataApiSerializationProvider().unmarshall(body, ref);
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package io.stargate.sdk.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesce identical calls in flight: the first caller of a key executes the call, callers arriving with
+ * the same key before it completes wait for it and share its result or its error.
+ * <p>
+ * Nothing is kept once the call completes, a later caller executes the call again.
+ *
+ * @param <K>
+ *      key identifying identical calls
+ * @param <V>
+ *      result of a call
+ */
+public class SingleFlight<K, V> {
+
+    /** Calls in flight. */
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /** Calls executed. */
+    private final LongAdder executed = new LongAdder();
+
+    /** Calls served by a call in flight. */
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Default constructor.
+     */
+    public SingleFlight() {}
+
+    /**
+     * Execute the call or wait for the identical call in flight.
+     *
+     * @param key
+     *      key of the call
+     * @param call
+     *      call to execute
+     * @return
+     *      result of the call
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        executed.increment();
+        try {
+            V result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Number of calls in flight.
+     *
+     * @return
+     *      calls in flight
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Gets executed
+     *
+     * @return value of executed
+     */
+    public long getExecuted() {
+        return executed.sum();
+    }
+
+    /**
+     * Gets coalesced
+     *
+     * @return value of coalesced
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+}
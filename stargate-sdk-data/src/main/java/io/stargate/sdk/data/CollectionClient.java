@@ -1,15 +1,20 @@
 package io.stargate.sdk.data;
 
+import io.stargate.sdk.audit.ServiceCallContext;
 import io.stargate.sdk.core.domain.Page;
 import io.stargate.sdk.data.domain.ApiData;
 import io.stargate.sdk.data.domain.ApiError;
 import io.stargate.sdk.data.domain.ApiResponse;
 import io.stargate.sdk.data.domain.DocumentMutationResult;
 import io.stargate.sdk.data.domain.DocumentMutationStatus;
+import io.stargate.sdk.data.domain.FindByIdsResult;
 import io.stargate.sdk.data.domain.JsonDocument;
 import io.stargate.sdk.data.domain.JsonDocumentMutationResult;
+import io.stargate.sdk.data.domain.JsonDocumentRaw;
 import io.stargate.sdk.data.domain.JsonDocumentResult;
 import io.stargate.sdk.data.domain.JsonResultUpdate;
+import io.stargate.sdk.data.domain.PagedResultIterable;
+import io.stargate.sdk.data.domain.ScanCheckpoint;
 import io.stargate.sdk.data.domain.UpdateStatus;
 import io.stargate.sdk.data.domain.odm.Document;
 import io.stargate.sdk.data.domain.odm.DocumentResult;
@@ -21,22 +26,35 @@ import io.stargate.sdk.data.domain.query.SelectQuery;
 import io.stargate.sdk.data.domain.query.UpdateQuery;
 import io.stargate.sdk.data.exception.DataApiDocumentAlreadyExistException;
 import io.stargate.sdk.http.ServiceHttp;
+import io.stargate.sdk.http.domain.FilterOperator;
+import io.stargate.sdk.jfr.PageFetchEvent;
+import io.stargate.sdk.tracing.ServiceCallScope;
+import io.stargate.sdk.tracing.ServiceCallSpan;
+import io.stargate.sdk.tracing.ServiceCallTracing;
 import io.stargate.sdk.utils.Assert;
 import io.stargate.sdk.utils.JsonUtils;
+import io.stargate.sdk.utils.SingleFlight;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -44,12 +62,16 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static io.stargate.sdk.data.utils.DataApiUtils.executeOperation;
+import static io.stargate.sdk.data.utils.DataApiUtils.executeOperationAsync;
+import static io.stargate.sdk.data.utils.DataApiUtils.executeOperationRaw;
+import static io.stargate.sdk.data.utils.DataApiUtils.executeOperationRawAsync;
 import static io.stargate.sdk.data.utils.DataApiUtils.validate;
 import static io.stargate.sdk.utils.AnsiUtils.green;
 
@@ -66,6 +88,9 @@ public class CollectionClient {
     /** keep reference to namespace client. */
     private final NamespaceClient namespaceClient;
 
+    /** Colored namespace and collection, computed once for debug logs. */
+    private final String logTarget;
+
     /** Resource collection. */
     public final Function<ServiceHttp, String> collectionResource;
 
@@ -73,6 +98,42 @@ public class CollectionClient {
     @Getter @Setter
     private boolean insertManyOrdered = false;
 
+    /** Flag to send vectors as EJson binary (base64 float32), only if the server accepts it. */
+    @Getter @Setter
+    private boolean vectorBinaryEncoding = false;
+
+    /** Flag to decode fields of documents returned by find() only when accessed, for wide documents. */
+    @Getter @Setter
+    private boolean lazyDocumentParsing = false;
+
+    /** Default number of $in queries run in parallel by findByIds. */
+    public static final int DEFAULT_FIND_BY_IDS_CONCURRENCY = 5;
+
+    /** Operations not modifying documents, other operations invalidate the near cache. */
+    private static final Set<String> READ_OPERATIONS = Set.of("find", "findOne", "countDocuments", "estimatedDocumentCount");
+
+    /**
+     * Flag to share a single call between identical reads in flight (same operation and payload),
+     * callers then share the returned documents.
+     */
+    @Getter @Setter
+    private boolean coalesceReads = false;
+
+    /** Reads in flight, keyed by operation and json payload. */
+    @Getter
+    private final SingleFlight<String, ApiResponse> readCoalescer = new SingleFlight<>();
+
+    /** Client side cache of findById and findOne, disabled when null. */
+    @Getter
+    private NearCache nearCache;
+
+    /** Namespace and collection, prefix of the near cache keys. */
+    private final String cacheTarget;
+
+    /** Batches the findById calls in _id $in queries, disabled when null. */
+    @Getter
+    private volatile FindByIdBatcher findByIdBatcher;
+
     /**
      * Full constructor.
      *
@@ -84,9 +145,82 @@ public class CollectionClient {
     protected CollectionClient(@NonNull NamespaceClient namespaceClient, @NonNull String collection) {
         this.collection         = collection;
         this.namespaceClient    = namespaceClient;
+        this.logTarget          = green(namespaceClient.getNamespace()) + "/" + green(collection);
+        this.cacheTarget        = namespaceClient.getNamespace() + "/" + collection;
         this.collectionResource = (node) -> namespaceClient.getNamespaceResource().apply(node) + "/" + getCollection();
     }
 
+    /**
+     * Reactive facade of this client, calls are sent with the non-blocking http client.
+     * Reactor should be in the classpath.
+     *
+     * @return
+     *      reactive client
+     */
+    public ReactiveCollectionClient reactive() {
+        return new ReactiveCollectionClient(this);
+    }
+
+    /**
+     * Cache the documents read with findById and findOne, writes made through this client invalidate
+     * the entries of the collection they target. A cache can be shared by several clients.
+     *
+     * @param nearCache
+     *      near cache, null to disable caching
+     * @return
+     *      current instance
+     */
+    public CollectionClient withNearCache(NearCache nearCache) {
+        this.nearCache = nearCache;
+        return this;
+    }
+
+    /**
+     * Group the findById calls made within a window in a single find with an _id $in filter,
+     * with the default window and batch size.
+     *
+     * @return
+     *      current instance
+     */
+    public CollectionClient withFindByIdBatching() {
+        return withFindByIdBatching(FindByIdBatcher.DEFAULT_WINDOW, FindByIdBatcher.DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Group the findById calls made within a window in a single find with an _id $in filter.
+     * Each call waits up to the window, batching pays off with many concurrent callers.
+     *
+     * @param window
+     *      time to wait for other calls after the first call of a batch
+     * @param maxBatchSize
+     *      identifiers sending the batch before the end of the window
+     * @return
+     *      current instance
+     */
+    public CollectionClient withFindByIdBatching(@NonNull Duration window, int maxBatchSize) {
+        FindByIdBatcher previous = this.findByIdBatcher;
+        this.findByIdBatcher = new FindByIdBatcher(this, window, maxBatchSize);
+        if (previous != null) {
+            previous.close();
+        }
+        return this;
+    }
+
+    /**
+     * Stop batching findById calls, pending calls are sent.
+     *
+     * @return
+     *      current instance
+     */
+    public CollectionClient withoutFindByIdBatching() {
+        FindByIdBatcher previous = this.findByIdBatcher;
+        this.findByIdBatcher = null;
+        if (previous != null) {
+            previous.close();
+        }
+        return this;
+    }
+
     // --------------------------
     // ---   Insert One      ----
     // --------------------------
@@ -113,7 +247,7 @@ public class CollectionClient {
      *      document identifier and status
      */
     public final CompletableFuture<JsonDocumentMutationResult> insertOneAsync(String json) {
-        return CompletableFuture.supplyAsync(() -> insertOne(json));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> insertOne(json)));
     }
 
     /**
@@ -143,7 +277,7 @@ public class CollectionClient {
      *      mutation result with status and id
      */
     public final CompletableFuture<JsonDocumentMutationResult> insertOneAsync(@NonNull JsonDocument document) {
-        return CompletableFuture.supplyAsync(() -> insertOne(document));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> insertOne(document)));
     }
 
     /**
@@ -157,16 +291,8 @@ public class CollectionClient {
      *     represent the pojo, payload of document
      */
     public final <T> DocumentMutationResult<T> insertOne(@NonNull Document<T> document) {
-        log.debug("insert into {}/{}", green(namespaceClient.getNamespace()), green(collection));
-        if (document.getId() == null) {
-            // Enforce the UUID at client side to retrieve it in an easier way
-            document.setId(UUID.randomUUID().toString());
-        }
-        ApiResponse response = execute("insertOne", Map.of("document", document));
-        if (response.getErrors()!= null && !response.getErrors().isEmpty()) {
-            throw new DataApiDocumentAlreadyExistException(response.getErrors().get(0));
-        }
-        return new DocumentMutationResult<>(document, DocumentMutationStatus.CREATED);
+        log.debug("insert into {}", logTarget);
+        return insertOneResult(document, execute("insertOne", insertOnePayload(document)));
     }
 
     /**
@@ -180,7 +306,7 @@ public class CollectionClient {
      *      document identifier and status
      */
     public final <T> CompletableFuture<DocumentMutationResult<T>> insertOneASync(@NonNull Document<T> document) {
-        return CompletableFuture.supplyAsync(() -> insertOne(document));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> insertOne(document)));
     }
 
     // --------------------------
@@ -209,7 +335,7 @@ public class CollectionClient {
      *      document status and identifier
      */
     public final CompletableFuture<JsonDocumentMutationResult> upsertOneAsync(String json) {
-        return CompletableFuture.supplyAsync(() -> upsertOne(json));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> upsertOne(json)));
     }
 
     /**
@@ -239,7 +365,7 @@ public class CollectionClient {
      *      document status and identifier
      */
     public final CompletableFuture<JsonDocumentMutationResult> upsertOneAsync(@NonNull JsonDocument document) {
-        return CompletableFuture.supplyAsync(() -> upsertOne(document));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> upsertOne(document)));
     }
 
     /**
@@ -253,24 +379,8 @@ public class CollectionClient {
      *      document status and identifier
      */
     public <DOC> DocumentMutationResult<DOC> upsertOne(@NonNull Document<DOC> document) {
-        log.debug("upsert into {}/{}", green(namespaceClient.getNamespace()), green(collection));
-        if (document.getId() == null) {
-            document.setId(UUID.randomUUID().toString());
-       }
-       JsonResultUpdate u = findOneAndReplace(UpdateQuery.builder()
-               .filter(new Filter().where("_id").isEqualsTo(document.getId()))
-               .replaceBy(document)
-               .withUpsert() // with option upsert=true
-               .build());
-        DocumentMutationResult<DOC> result = new DocumentMutationResult<>(document);
-        if (u.getUpdateStatus().getUpsertedId() != null && u.getUpdateStatus().getUpsertedId().equals(document.getId())) {
-            result.setStatus(DocumentMutationStatus.CREATED);
-        } else if (u.getUpdateStatus().getModifiedCount() == 0) {
-            result.setStatus(DocumentMutationStatus.UNCHANGED);
-        } else {
-            result.setStatus(DocumentMutationStatus.UPDATED);
-        }
-        return result;
+        log.debug("upsert into {}", logTarget);
+        return upsertOneResult(document, findOneAndReplace(upsertOneQuery(document)));
     }
 
     /**
@@ -284,7 +394,7 @@ public class CollectionClient {
      *      current document nature
      */
     public <DOC> CompletableFuture<DocumentMutationResult<DOC>> upsertOneASync(@NonNull Document<DOC> document) {
-        return CompletableFuture.supplyAsync(() -> upsertOne(document));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> upsertOne(document)));
     }
 
     // --------------------------
@@ -312,7 +422,7 @@ public class CollectionClient {
      *      list of status
      */
     public final CompletableFuture<List<JsonDocumentMutationResult>> insertManyASync(String json) {
-        return CompletableFuture.supplyAsync(() -> insertMany(json));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> insertMany(json)));
     }
 
     /**
@@ -336,7 +446,7 @@ public class CollectionClient {
      *      list of statuses when complete.
      */
     public final CompletableFuture<List<JsonDocumentMutationResult>> insertManyJsonDocumentsASync(List<JsonDocument> documents) {
-        return CompletableFuture.supplyAsync(() -> insertManyJsonDocuments(documents));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> insertManyJsonDocuments(documents)));
     }
 
     /**
@@ -388,7 +498,7 @@ public class CollectionClient {
      *      list of status
      */
     public final <DOC> CompletableFuture<List<DocumentMutationResult<DOC>>> insertManyASync(List<Document<DOC>> documents) {
-        return CompletableFuture.supplyAsync(() -> insertMany(documents));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> insertMany(documents)));
     }
 
     /**
@@ -446,7 +556,7 @@ public class CollectionClient {
      *      insertion status for each document (in order of input).
      */
     public final CompletableFuture<List<JsonDocumentMutationResult>> upsertManyASync(String json) {
-        return CompletableFuture.supplyAsync(() -> upsertMany(json));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> upsertMany(json)));
     }
 
     /**
@@ -470,7 +580,7 @@ public class CollectionClient {
      *      list of ids
      */
     public final CompletableFuture<List<JsonDocumentMutationResult>> upsertManyJsonDocumentsASync(List<JsonDocument> documents) {
-        return  CompletableFuture.supplyAsync(() -> upsertManyJsonDocuments(documents));
+        return  CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> upsertManyJsonDocuments(documents)));
     }
 
     /**
@@ -522,7 +632,7 @@ public class CollectionClient {
      *      list of ids
      */
     public final <DOC> CompletableFuture<List<DocumentMutationResult<DOC>>> upsertManyASync(List<Document<DOC>> documents) {
-        return  CompletableFuture.supplyAsync(() -> upsertMany(documents));
+        return  CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> upsertMany(documents)));
     }
 
     /**
@@ -570,47 +680,18 @@ public class CollectionClient {
      * @return
      *      list of ids
      */
-    @SuppressWarnings("unchecked")
     private <DOC> List<DocumentMutationResult<DOC>> insertMany(List<Document<DOC>> documents, boolean replaceIfExists) {
         if (documents != null && !documents.isEmpty()) {
-            log.debug("insert many (size={},ordered={}) into {}/{}", green(String.valueOf(documents.size())),
-                    green(String.valueOf(insertManyOrdered)), green(namespaceClient.getNamespace()), green(collection));
+            if (log.isDebugEnabled()) {
+                log.debug("insert many (size={},ordered={}) into {}", green(String.valueOf(documents.size())),
+                        green(String.valueOf(insertManyOrdered)), logTarget);
+            }
 
             // Creating Status for output
             Map<String, DocumentMutationResult<DOC>> results = initResultMap(documents);
 
             // Insert documents synchronously
-            ApiResponse apiResponse = execute("insertMany",
-                    Map.of("documents", documents, "options",
-                    Map.of("ordered", insertManyOrdered)));
-
-            validate(apiResponse);
-            if (apiResponse.getStatus() != null) {
-                Optional.ofNullable(
-                        apiResponse.getStatus().get("insertedIds")
-                ).ifPresent(ids -> ((List<String>) ids)
-                     .forEach(id -> results.computeIfPresent(id, (k, v) -> {
-                        v.setStatus(DocumentMutationStatus.CREATED);
-                        return v;
-                     }))
-                );
-            }
-
-            // Identify documents already existing
-            if (apiResponse.getErrors()!=null) {
-                Pattern pattern = Pattern.compile("'(.*?)'");
-                apiResponse.getErrors()
-                        .stream()
-                        .filter(error -> "DOCUMENT_ALREADY_EXISTS".equals(error.getErrorCode()))
-                        .map(ApiError::getMessage)
-                        .map(pattern::matcher)
-                        .filter(Matcher::find)
-                        .map(matcher -> matcher.group(1))
-                        .forEach(id -> results.computeIfPresent(id, (k, v) -> {
-                            v.setStatus(DocumentMutationStatus.ALREADY_EXISTS);
-                            return v;
-                        }));
-            }
+            insertManyResults(results, execute("insertMany", insertManyPayload(documents)));
 
             // Update ALREADY_EXISTS items
             if (replaceIfExists) {
@@ -674,7 +755,7 @@ public class CollectionClient {
      *      list of ids
      */
     public final CompletableFuture<List<JsonDocumentMutationResult>> insertManyChunkedASync(String json, int chunkSize, int concurrency) {
-        return CompletableFuture.supplyAsync(() -> insertManyChunked(json, chunkSize, concurrency));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> insertManyChunked(json, chunkSize, concurrency)));
     }
 
     /**
@@ -706,7 +787,7 @@ public class CollectionClient {
      *      list of ids
      */
     public final CompletableFuture<List<JsonDocumentMutationResult>> insertManyJsonDocumentsChunkedASync(List<JsonDocument> documents, int chunkSize, int concurrency) {
-        return CompletableFuture.supplyAsync(() -> insertManyJsonDocumentsChunked(documents, chunkSize, concurrency));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> insertManyJsonDocumentsChunked(documents, chunkSize, concurrency)));
     }
 
     /**
@@ -742,7 +823,7 @@ public class CollectionClient {
      *      list of ids
      */
     public final <DOC> CompletableFuture<List<DocumentMutationResult<DOC>>> insertManyChunkedASync(List<Document<DOC>> documents, int chunkSize, int concurrency) {
-        return CompletableFuture.supplyAsync(() -> insertManyChunked(documents, chunkSize, concurrency));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> insertManyChunked(documents, chunkSize, concurrency)));
     }
 
     // ---------------------------------
@@ -778,7 +859,7 @@ public class CollectionClient {
      *      list of ids
      */
     public final CompletableFuture<List<JsonDocumentMutationResult>> upsertManyChunkedASync(String json, int chunkSize, int concurrency) {
-        return CompletableFuture.supplyAsync(() -> upsertManyChunked(json, chunkSize, concurrency));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> upsertManyChunked(json, chunkSize, concurrency)));
     }
 
     /**
@@ -810,7 +891,7 @@ public class CollectionClient {
      *      list of ids
      */
     public final CompletableFuture<List<JsonDocumentMutationResult>> upsertManyJsonDocumentsChunkedASync(List<JsonDocument> documents, int chunkSize, int concurrency) {
-        return CompletableFuture.supplyAsync(() -> upsertManyJsonDocumentsChunked(documents, chunkSize, concurrency));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> upsertManyJsonDocumentsChunked(documents, chunkSize, concurrency)));
     }
 
     /**
@@ -846,7 +927,7 @@ public class CollectionClient {
      *      list of ids
      */
     public final <DOC> CompletableFuture<List<DocumentMutationResult<DOC>>> upsertManyChunkedASync(List<Document<DOC>> documents, int chunkSize, int concurrency) {
-        return CompletableFuture.supplyAsync(() -> upsertManyChunked(documents, chunkSize, concurrency));
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> upsertManyChunked(documents, chunkSize, concurrency)));
     }
 
     /**
@@ -880,11 +961,13 @@ public class CollectionClient {
         for (int i = 0; i < documents.size(); i += chunkSize) {
             int start = i;
             int end = Math.min(i + chunkSize, documents.size());
-            Callable<List<DocumentMutationResult<DOC>>> task = () -> {
-                log.debug("insert block (size={}) {}/{}", end-start, green(namespaceClient.getNamespace()), green(collection));
+            Supplier<List<DocumentMutationResult<DOC>>> task = ServiceCallTracing.wrap(() -> {
+                if (log.isDebugEnabled()) {
+                    log.debug("insert block (size={}) {}", end - start, logTarget);
+                }
                 return insertMany(documents.subList(start, end), replaceIfExists);
-            };
-            futures.add(executor.submit(task));
+            });
+            futures.add(executor.submit(task::get));
         }
 
         // Wait for all futures to completes
@@ -925,7 +1008,7 @@ public class CollectionClient {
      *      number of document.
      */
     public Integer countDocuments(Filter jsonFilter) {
-        log.debug("Counting {}/{}", green(namespaceClient.getNamespace()), green(collection));
+        log.debug("Counting {}", logTarget);
         return execute("countDocuments", jsonFilter).getStatusKeyAsInt("count");
     }
 
@@ -959,10 +1042,53 @@ public class CollectionClient {
      *      result if exists
      */
     public Optional<JsonDocumentResult> findOne(SelectQuery query) {
-        log.debug("Query in {}/{}", green(namespaceClient.getNamespace()), green(collection));
+        if (nearCache != null && query != null) {
+            return nearCache.findOne(cacheTarget, query, () -> findOneRemote(query));
+        }
+        return findOneRemote(query);
+    }
+
+    /**
+     * Find one document matching the query with a call to the Data API.
+     *
+     * @param query
+     *      query documents and vector
+     * @return
+     *      result if exists
+     */
+    private Optional<JsonDocumentResult> findOneRemote(SelectQuery query) {
+        log.debug("Query in {}", logTarget);
         return Optional.ofNullable(execute("findOne", query).getData().getDocument());
     }
 
+    /**
+     * Find one document matching the query on the non-blocking client, the near cache is used when set.
+     *
+     * @param query
+     *      query documents and vector
+     * @return
+     *      result if exists, when available
+     */
+    CompletableFuture<Optional<JsonDocumentResult>> findOneAsync(SelectQuery query) {
+        if (nearCache != null && query != null) {
+            return nearCache.findOneAsync(cacheTarget, query, () -> findOneRemoteAsync(query));
+        }
+        return findOneRemoteAsync(query);
+    }
+
+    /**
+     * Find one document matching the query with a call to the Data API on the non-blocking client.
+     *
+     * @param query
+     *      query documents and vector
+     * @return
+     *      result if exists, when available
+     */
+    private CompletableFuture<Optional<JsonDocumentResult>> findOneRemoteAsync(SelectQuery query) {
+        log.debug("Query in {}", logTarget);
+        return executeAsync("findOne", query).thenApply(res -> Optional.ofNullable(res.getData().getDocument()));
+    }
+
     /**
      * Find one document matching the query.
      *
@@ -972,7 +1098,7 @@ public class CollectionClient {
      *      result if exists
      */
     public Optional<JsonDocumentResult> findOne(String rawJsonQuery) {
-        log.debug("Query in {}/{}", green(namespaceClient.getNamespace()), green(collection));
+        log.debug("Query in {}", logTarget);
         return Optional.ofNullable(execute("findOne", rawJsonQuery).getData().getDocument());
     }
 
@@ -1053,7 +1179,34 @@ public class CollectionClient {
      *      document
      */
     public Optional<JsonDocumentResult> findById(String id) {
-        return findOne(SelectQuery.findById(id));
+        FindByIdBatcher batcher = findByIdBatcher;
+        if (batcher == null || id == null) {
+            return findOne(SelectQuery.findById(id));
+        }
+        if (nearCache != null) {
+            return nearCache.findOne(cacheTarget, SelectQuery.findById(id), () -> batcher.findById(id));
+        }
+        return batcher.findById(id);
+    }
+
+    /**
+     * Find document from its id without blocking the caller, the near cache and the batching are used
+     * when set.
+     *
+     * @param id
+     *      document identifier
+     * @return
+     *      document, when available
+     */
+    CompletableFuture<Optional<JsonDocumentResult>> findByIdAsync(@NonNull String id) {
+        FindByIdBatcher batcher = findByIdBatcher;
+        if (batcher == null) {
+            return findOneAsync(SelectQuery.findById(id));
+        }
+        if (nearCache != null) {
+            return nearCache.findOneAsync(cacheTarget, SelectQuery.findById(id), () -> batcher.findByIdAsync(id));
+        }
+        return batcher.findByIdAsync(id);
     }
 
     /**
@@ -1088,6 +1241,149 @@ public class CollectionClient {
         return findById(id).map(mapper::map);
     }
 
+    // --------------------------
+    // ---   Find By Ids     ----
+    // --------------------------
+
+    /**
+     * Find documents from their ids, with $in queries of 20 ids run 5 at a time.
+     *
+     * @param ids
+     *      document identifiers
+     * @return
+     *      documents in the order of the identifiers and missing identifiers
+     */
+    public FindByIdsResult<JsonDocumentResult> findByIds(@NonNull Collection<String> ids) {
+        return findByIds(ids, SelectQuery.PAGING_SIZE_MAX, DEFAULT_FIND_BY_IDS_CONCURRENCY);
+    }
+
+    /**
+     * Find documents from their ids, split in $in queries run in parallel. Duplicate identifiers
+     * are fetched and returned once.
+     *
+     * @param ids
+     *      document identifiers
+     * @param chunkSize
+     *      identifiers per query, up to 20 to fetch a chunk in a single page
+     * @param concurrency
+     *      queries in parallel
+     * @return
+     *      documents in the order of the identifiers and missing identifiers
+     */
+    public FindByIdsResult<JsonDocumentResult> findByIds(@NonNull Collection<String> ids, int chunkSize, int concurrency) {
+        if (chunkSize < 1 || chunkSize > FindByIdBatcher.MAX_IN_VALUES) {
+            throw new IllegalArgumentException("ChunkSize must be between 1 and " + FindByIdBatcher.MAX_IN_VALUES);
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be greater than 0");
+        }
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<String, JsonDocumentResult> found = new HashMap<>();
+        if (!distinctIds.isEmpty()) {
+            int chunks = (distinctIds.size() + chunkSize - 1) / chunkSize;
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, chunks));
+            try {
+                List<Future<List<JsonDocumentResult>>> futures = new ArrayList<>();
+                for (int i = 0; i < distinctIds.size(); i += chunkSize) {
+                    List<String> chunk = distinctIds.subList(i, Math.min(i + chunkSize, distinctIds.size()));
+                    Supplier<List<JsonDocumentResult>> task = ServiceCallTracing.wrap(() -> {
+                        if (log.isDebugEnabled()) {
+                            log.debug("findByIds block (size={}) {}", chunk.size(), logTarget);
+                        }
+                        return find(SelectQuery.builder()
+                                .filter(new Filter("_id", FilterOperator.IN, chunk))
+                                .build()).collect(Collectors.toList());
+                    });
+                    futures.add(executor.submit(task::get));
+                }
+                for (Future<List<JsonDocumentResult>> future : futures) {
+                    future.get().forEach(doc -> found.put(doc.getId(), doc));
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException("Error when process a block", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("findByIds has been interrupted", e);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        List<JsonDocumentResult> documents = new ArrayList<>(found.size());
+        List<String> missingIds = new ArrayList<>();
+        for (String id : distinctIds) {
+            JsonDocumentResult doc = found.get(id);
+            if (doc != null) {
+                documents.add(doc);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new FindByIdsResult<>(documents, missingIds);
+    }
+
+    /**
+     * Find documents from their ids.
+     *
+     * @param ids
+     *      document identifiers
+     * @param clazz
+     *      class for target pojo
+     * @return
+     *      documents in the order of the identifiers and missing identifiers
+     * @param <DOC>
+     *       class to be marshalled
+     */
+    public <DOC> FindByIdsResult<DocumentResult<DOC>> findByIds(@NonNull Collection<String> ids, Class<DOC> clazz) {
+        return findByIds(ids).map(r -> new DocumentResult<>(r, clazz));
+    }
+
+    /**
+     * Find documents from their ids.
+     *
+     * @param ids
+     *      document identifiers
+     * @param mapper
+     *      convert a json into expected pojo
+     * @return
+     *      documents in the order of the identifiers and missing identifiers
+     * @param <DOC>
+     *       class to be marshalled
+     */
+    public <DOC> FindByIdsResult<DocumentResult<DOC>> findByIds(@NonNull Collection<String> ids, DocumentResultMapper<DOC> mapper) {
+        return findByIds(ids).map(mapper::map);
+    }
+
+    /**
+     * Find documents from their ids asynchronously.
+     *
+     * @param ids
+     *      document identifiers
+     * @return
+     *      documents in the order of the identifiers and missing identifiers
+     */
+    public CompletableFuture<FindByIdsResult<JsonDocumentResult>> findByIdsAsync(@NonNull Collection<String> ids) {
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> findByIds(ids)));
+    }
+
+    /**
+     * Find documents from their ids asynchronously.
+     *
+     * @param ids
+     *      document identifiers
+     * @param clazz
+     *      class for target pojo
+     * @return
+     *      documents in the order of the identifiers and missing identifiers
+     * @param <DOC>
+     *       class to be marshalled
+     */
+    public <DOC> CompletableFuture<FindByIdsResult<DocumentResult<DOC>>> findByIdsAsync(@NonNull Collection<String> ids, Class<DOC> clazz) {
+        return CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> findByIds(ids, clazz)));
+    }
+
     // --------------------------
     // --- Find By Vector    ----
     // --------------------------
@@ -1141,7 +1437,8 @@ public class CollectionClient {
     // --------------------------
 
     /**
-     * Search records with a filter
+     * Search records with a filter, pages are fetched as the stream is consumed. The operation span
+     * ends when the results are exhausted or the stream is closed.
      *
      * @param query
      *      filter
@@ -1149,25 +1446,119 @@ public class CollectionClient {
      *      all items
      */
     public Stream<JsonDocumentResult> find(SelectQuery query) {
-        List<JsonDocumentResult> documents = new ArrayList<>();
-        String pageState;
-        AtomicInteger pageCount = new AtomicInteger(0);
-        do {
-            log.debug("Fetching page " + pageCount.incrementAndGet());
-            Page<JsonDocumentResult> pageX = findPage(query);
-            pageState = pageX.getPageState().orElse(null);
-
-            // We do not need all items of this page as limit is exceed
-            if (query.getLimit().isPresent() &&
-                    documents.size() + pageX.getResults().size() > query.getLimit().get()) {
-                documents.addAll(pageX.getResults().subList(0, query.getLimit().get() - documents.size()));
-                break;
+        return findIterable(query).stream();
+    }
+
+    /**
+     * Search records with a filter, pages are fetched as the results are iterated.
+     *
+     * @param query
+     *      filter
+     * @return
+     *      lazy iterable over the results, use <code>prefetch(depth)</code> to overlap round trips with processing
+     */
+    public PagedResultIterable<JsonDocumentResult> findIterable(@NonNull SelectQuery query) {
+        return new PagedResultIterable<>(query, (pageQuery, pageNumber) -> {
+            if (log.isDebugEnabled()) {
+                log.debug("Fetching page {} in {}", pageNumber, logTarget);
+            }
+            return findPageTraced(pageQuery, pageNumber);
+        }).operationSpan(() -> ServiceCallTracing.startSpan("CollectionClient.find")
+                .setAttribute("stargate.collection", collection));
+    }
+
+    /**
+     * Fetch a page in its own span.
+     *
+     * @param query
+     *      current query
+     * @param pageNumber
+     *      page number starting at 1
+     * @return
+     *      page of results
+     */
+    Page<JsonDocumentResult> findPageTraced(SelectQuery query, int pageNumber) {
+        ServiceCallSpan span = ServiceCallTracing.startSpan("page").setAttribute("stargate.page", pageNumber);
+        int previousPage = ServiceCallContext.setPage(pageNumber);
+        PageFetchEvent jfrEvent = new PageFetchEvent();
+        jfrEvent.begin();
+        try (ServiceCallScope scope = span.makeCurrent()) {
+            Page<JsonDocumentResult> page = findPage(query);
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.api        = "data";
+                jfrEvent.collection = collection;
+                jfrEvent.page       = pageNumber;
+                jfrEvent.documents  = page.getResults().size();
+                jfrEvent.hasMore    = page.getPageState().isPresent();
+                jfrEvent.commit();
+            }
+            return page;
+        } catch (RuntimeException e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            span.end();
+            ServiceCallContext.restorePage(previousPage);
+        }
+    }
+
+    /**
+     * Fetch a page on the non-blocking client in its own span, the span ends with the call.
+     *
+     * @param query
+     *      current query
+     * @param pageNumber
+     *      page number starting at 1
+     * @return
+     *      page of results when available
+     */
+    CompletableFuture<Page<JsonDocumentResult>> findPageTracedAsync(SelectQuery query, int pageNumber) {
+        ServiceCallSpan span = ServiceCallTracing.startSpan("page").setAttribute("stargate.page", pageNumber);
+        int previousPage = ServiceCallContext.setPage(pageNumber);
+        PageFetchEvent jfrEvent = new PageFetchEvent();
+        jfrEvent.begin();
+        CompletableFuture<Page<JsonDocumentResult>> page;
+        try (ServiceCallScope scope = span.makeCurrent()) {
+            page = findPageAsync(query);
+        } catch (RuntimeException e) {
+            span.recordError(e);
+            span.end();
+            throw e;
+        } finally {
+            ServiceCallContext.restorePage(previousPage);
+        }
+        return page.whenComplete((result, error) -> {
+            if (error != null) {
+                span.recordError(error instanceof CompletionException ? error.getCause() : error);
+            } else if (jfrEvent.shouldCommit()) {
+                jfrEvent.api        = "data";
+                jfrEvent.collection = collection;
+                jfrEvent.page       = pageNumber;
+                jfrEvent.documents  = result.getResults().size();
+                jfrEvent.hasMore    = result.getPageState().isPresent();
+                jfrEvent.commit();
             }
-            documents.addAll(pageX.getResults());
-            // Reusing query for next page
-            query.setPageState(pageState);
-        } while(pageState != null);
-        return documents.stream();
+            span.end();
+        });
+    }
+
+    /**
+     * Find documents matching the query on the non-blocking client, no thread waits for the response.
+     *
+     * @param query
+     *      current query
+     * @return
+     *      page of results when available, completed on an I/O thread of the http client
+     */
+    public CompletableFuture<Page<JsonDocumentResult>> findPageAsync(SelectQuery query) {
+        log.debug("Query in {}", logTarget);
+        int pageSize = (query != null && query.getLimit().isPresent()) ? query.getLimit().get() : SelectQuery.PAGING_SIZE_MAX;
+        if (lazyDocumentParsing) {
+            return executeRawAsync("find", query).thenApply(res -> mapPageRawAsPageJsonResult(
+                    new Page<>(pageSize, res.getData().getNextPageState(), res.getData().getRawDocuments())));
+        }
+        return executeAsync("find", query).thenApply(res ->
+                new Page<>(pageSize, res.getData().getNextPageState(), res.getData().getDocuments()));
     }
 
     /**
@@ -1179,7 +1570,10 @@ public class CollectionClient {
      *      page of results
      */
     public Page<JsonDocumentResult> findPage(SelectQuery query) {
-        log.debug("Query in {}/{}", green(namespaceClient.getNamespace()), green(collection));
+        if (lazyDocumentParsing) {
+            return mapPageRawAsPageJsonResult(findPageRaw(query));
+        }
+        log.debug("Query in {}", logTarget);
         ApiData apiData = execute("find", query).getData();
         int pageSize = (query != null && query.getLimit().isPresent()) ? query.getLimit().get() : SelectQuery.PAGING_SIZE_MAX;
         return new Page<>(pageSize, apiData.getNextPageState(), apiData.getDocuments());
@@ -1194,11 +1588,81 @@ public class CollectionClient {
      *      result if exists
      */
     public Page<JsonDocumentResult> findPage(String query) {
-        log.debug("Query in {}/{}", green(namespaceClient.getNamespace()), green(collection));
+        if (lazyDocumentParsing) {
+            return mapPageRawAsPageJsonResult(findPageRaw(query));
+        }
+        log.debug("Query in {}", logTarget);
         ApiData apiData = execute("find", query).getData();
         return new Page<>(20, apiData.getNextPageState(), apiData.getDocuments());
     }
 
+    /**
+     * Map a page of raw documents to a page of lazy json results.
+     *
+     * @param pageRaw
+     *      current page
+     * @return
+     *      new page
+     */
+    private Page<JsonDocumentResult> mapPageRawAsPageJsonResult(Page<JsonDocumentRaw> pageRaw) {
+        return new Page<>(
+                pageRaw.getPageSize(),
+                pageRaw.getPageState().orElse(null),
+                pageRaw.getResults().stream()
+                        .map(JsonDocumentRaw::getDocument)
+                        .collect(Collectors.toList()));
+    }
+
+    // --------------------------
+    // ---     Find Raw      ----
+    // --------------------------
+
+    /**
+     * Search records with a filter, documents are returned as raw json and parsed only when accessed.
+     *
+     * @param query
+     *      filter
+     * @return
+     *      all items
+     */
+    public Stream<JsonDocumentRaw> findRaw(@NonNull SelectQuery query) {
+        return new PagedResultIterable<>(query, (pageQuery, pageNumber) -> {
+            if (log.isDebugEnabled()) {
+                log.debug("Fetching raw page {} in {}", pageNumber, logTarget);
+            }
+            return findPageRaw(pageQuery);
+        }).stream();
+    }
+
+    /**
+     * Find documents matching the query, documents are returned as raw json.
+     *
+     * @param query
+     *      current query
+     * @return
+     *      page of results
+     */
+    public Page<JsonDocumentRaw> findPageRaw(SelectQuery query) {
+        log.debug("Raw Query in {}", logTarget);
+        ApiData apiData = executeRaw("find", query).getData();
+        int pageSize = (query != null && query.getLimit().isPresent()) ? query.getLimit().get() : SelectQuery.PAGING_SIZE_MAX;
+        return new Page<>(pageSize, apiData.getNextPageState(), apiData.getRawDocuments());
+    }
+
+    /**
+     * Find documents matching the query, documents are returned as raw json.
+     *
+     * @param query
+     *      execute a direct json Query
+     * @return
+     *      page of results
+     */
+    public Page<JsonDocumentRaw> findPageRaw(String query) {
+        log.debug("Raw Query in {}", logTarget);
+        ApiData apiData = executeRaw("find", query).getData();
+        return new Page<>(20, apiData.getNextPageState(), apiData.getRawDocuments());
+    }
+
     // ------------------------------
     // ---  Similarity Search    ----
     // ------------------------------
@@ -1361,6 +1825,45 @@ public class CollectionClient {
         return find(SelectQuery.builder().build());
     }
 
+    /**
+     * Scan the results of a query from the beginning, the position can be saved to resume the scan.
+     *
+     * @param query
+     *      query scanned
+     * @return
+     *      resumable scan
+     */
+    public ResumableScan resumableScan(@NonNull SelectQuery query) {
+        return new ResumableScan(this, query, null);
+    }
+
+    /**
+     * Resume the scan of a query from a checkpoint.
+     *
+     * @param query
+     *      query scanned, the same query as the one producing the checkpoint
+     * @param checkpoint
+     *      position saved
+     * @return
+     *      resumable scan
+     */
+    public ResumableScan resumableScan(@NonNull SelectQuery query, ScanCheckpoint checkpoint) {
+        return new ResumableScan(this, query, checkpoint);
+    }
+
+    /**
+     * Scan the collection with segments read concurrently, see {@link io.stargate.sdk.data.domain.query.ScanSegments}
+     * to build the segments.
+     *
+     * @param segments
+     *      disjoint filters covering the collection
+     * @return
+     *      parallel scan, configure parallelism and base query before reading it
+     */
+    public ParallelScan parallelScan(@NonNull List<Filter> segments) {
+        return new ParallelScan(this, segments);
+    }
+
     /**
      * Find All with Object Mapping.
      *
@@ -1509,7 +2012,7 @@ public class CollectionClient {
      *      number of deleted records and status
      */
     public DeleteResult deleteOne(DeleteQuery deleteQuery) {
-        log.debug("Delete in {}/{}", green(namespaceClient.getNamespace()), green(collection));
+        log.debug("Delete in {}", logTarget);
         return new DeleteResult(execute("deleteOne", deleteQuery));
     }
 
@@ -1578,9 +2081,10 @@ public class CollectionClient {
                 Executors.newFixedThreadPool(concurrency);
         ExecutorCompletionService<DeleteResult> completionService =
                 new ExecutorCompletionService<>(executor);
+        Supplier<DeleteResult> deletePage = ServiceCallTracing.wrap(() -> deleteManyPaged(deleteQuery));
         try {
             for (int i = 0; i < concurrency; i++) {
-                completionService.submit(() -> deleteManyPaged(deleteQuery));
+                completionService.submit(deletePage::get);
             }
 
             int activeTasks = concurrency;
@@ -1590,7 +2094,7 @@ public class CollectionClient {
                 DeleteResult result = completedFuture.get();
                 totalCount.addAndGet(result.getDeletedCount());
                 if (result.isMoreData()) {
-                    completionService.submit(() -> deleteManyPaged(deleteQuery));
+                    completionService.submit(deletePage::get);
                 } else {
                     activeTasks--;
                 }
@@ -1618,7 +2122,7 @@ public class CollectionClient {
      *      number of deleted records
      */
     public DeleteResult deleteManyPaged(DeleteQuery deleteQuery) {
-        log.debug("Delete in {}/{}", green(namespaceClient.getNamespace()), green(collection));
+        log.debug("Delete in {}", logTarget);
         return new DeleteResult(execute("deleteMany", deleteQuery));
     }
 
@@ -1683,8 +2187,19 @@ public class CollectionClient {
      *      returned object by the Api
      */
     private JsonResultUpdate updateQuery(String operation, UpdateQuery query) {
-        log.debug("{} in {}/{}", operation, green(namespaceClient.getNamespace()), green(collection));
-        ApiResponse response = execute(operation, query);
+        log.debug("{} in {}", operation, logTarget);
+        return updateResult(execute(operation, query));
+    }
+
+    /**
+     * Map the response of an update.
+     *
+     * @param response
+     *      response of the Api
+     * @return
+     *      document and status of the update
+     */
+    JsonResultUpdate updateResult(ApiResponse response) {
         JsonResultUpdate jru = new JsonResultUpdate();
         if (response.getData() != null) {
             jru.setJsonResult(response.getData().getDocument());
@@ -1737,7 +2252,7 @@ public class CollectionClient {
      *      update status
      */
     public UpdateStatus updateOne(UpdateQuery query) {
-        log.debug("updateOne in {}/{}", green(namespaceClient.getNamespace()), green(collection));
+        log.debug("updateOne in {}", logTarget);
         return updateQuery("updateOne", query).getUpdateStatus();
     }
 
@@ -1754,7 +2269,7 @@ public class CollectionClient {
      *      update status
      */
     public UpdateStatus updateMany(UpdateQuery query) {
-        log.debug("updateMany in {}/{}", green(namespaceClient.getNamespace()), green(collection));
+        log.debug("updateMany in {}", logTarget);
         return updateQuery("updateMany", query).getUpdateStatus();
     }
 
@@ -1762,6 +2277,141 @@ public class CollectionClient {
     // ---  Utilities        ----
     // --------------------------
 
+    /**
+     * Payload of an insertOne, the identifier is generated client side when missing.
+     *
+     * @param document
+     *      document to insert
+     * @return
+     *      payload
+     */
+    static Map<String, Object> insertOnePayload(Document<?> document) {
+        if (document.getId() == null) {
+            // Enforce the UUID at client side to retrieve it in an easier way
+            document.setId(UUID.randomUUID().toString());
+        }
+        return Map.of("document", document);
+    }
+
+    /**
+     * Map the response of an insertOne.
+     *
+     * @param document
+     *      document inserted
+     * @param response
+     *      response of the Api
+     * @return
+     *      mutation result
+     * @param <T>
+     *     represent the pojo, payload of document
+     */
+    static <T> DocumentMutationResult<T> insertOneResult(Document<T> document, ApiResponse response) {
+        if (response.getErrors()!= null && !response.getErrors().isEmpty()) {
+            throw new DataApiDocumentAlreadyExistException(response.getErrors().get(0));
+        }
+        return new DocumentMutationResult<>(document, DocumentMutationStatus.CREATED);
+    }
+
+    /**
+     * Query of an upsertOne, a findOneAndReplace with upsert. The identifier is generated client side
+     * when missing.
+     *
+     * @param document
+     *      document to upsert
+     * @return
+     *      update query
+     */
+    static UpdateQuery upsertOneQuery(Document<?> document) {
+        if (document.getId() == null) {
+            document.setId(UUID.randomUUID().toString());
+        }
+        return UpdateQuery.builder()
+               .filter(new Filter().where("_id").isEqualsTo(document.getId()))
+               .replaceBy(document)
+               .withUpsert() // with option upsert=true
+               .build();
+    }
+
+    /**
+     * Map the result of an upsertOne.
+     *
+     * @param document
+     *      document upserted
+     * @param u
+     *      result of the findOneAndReplace
+     * @return
+     *      mutation result
+     * @param <DOC>
+     *     represent the pojo, payload of document
+     */
+    static <DOC> DocumentMutationResult<DOC> upsertOneResult(Document<DOC> document, JsonResultUpdate u) {
+        DocumentMutationResult<DOC> result = new DocumentMutationResult<>(document);
+        if (u.getUpdateStatus().getUpsertedId() != null && u.getUpdateStatus().getUpsertedId().equals(document.getId())) {
+            result.setStatus(DocumentMutationStatus.CREATED);
+        } else if (u.getUpdateStatus().getModifiedCount() == 0) {
+            result.setStatus(DocumentMutationStatus.UNCHANGED);
+        } else {
+            result.setStatus(DocumentMutationStatus.UPDATED);
+        }
+        return result;
+    }
+
+    /**
+     * Payload of an insertMany.
+     *
+     * @param documents
+     *      documents with their identifiers
+     * @return
+     *      payload
+     */
+    Map<String, Object> insertManyPayload(List<? extends Document<?>> documents) {
+        return Map.of("documents", documents, "options", Map.of("ordered", insertManyOrdered));
+    }
+
+    /**
+     * Update the statuses of the documents from the response of an insertMany.
+     *
+     * @param results
+     *      results of the documents by identifier, from {@link #initResultMap(List)}
+     * @param apiResponse
+     *      response of the Api
+     * @return
+     *      results
+     * @param <DOC>
+     *     represent the pojo, payload of document
+     */
+    @SuppressWarnings("unchecked")
+    static <DOC> List<DocumentMutationResult<DOC>> insertManyResults(Map<String, DocumentMutationResult<DOC>> results, ApiResponse apiResponse) {
+        validate(apiResponse);
+        if (apiResponse.getStatus() != null) {
+            Optional.ofNullable(
+                    apiResponse.getStatus().get("insertedIds")
+            ).ifPresent(ids -> ((List<String>) ids)
+                 .forEach(id -> results.computeIfPresent(id, (k, v) -> {
+                    v.setStatus(DocumentMutationStatus.CREATED);
+                    return v;
+                 }))
+            );
+        }
+
+        // Identify documents already existing
+        if (apiResponse.getErrors()!=null) {
+            Pattern pattern = Pattern.compile("'(.*?)'");
+            apiResponse.getErrors()
+                    .stream()
+                    .filter(error -> "DOCUMENT_ALREADY_EXISTS".equals(error.getErrorCode()))
+                    .map(ApiError::getMessage)
+                    .map(pattern::matcher)
+                    .filter(Matcher::find)
+                    .map(matcher -> matcher.group(1))
+                    .forEach(id -> results.computeIfPresent(id, (k, v) -> {
+                        v.setStatus(DocumentMutationStatus.ALREADY_EXISTS);
+                        return v;
+                    }));
+        }
+        return new ArrayList<>(results.values());
+    }
+
     /**
      * Initialization of the collection of document, filling uid
      * @param documents
@@ -1771,7 +2421,7 @@ public class CollectionClient {
      * @param <DOC>
      *     represent the pojo, payload of document
      */
-    private static <DOC> Map<String, DocumentMutationResult<DOC>> initResultMap(List<Document<DOC>> documents) {
+    static <DOC> Map<String, DocumentMutationResult<DOC>> initResultMap(List<Document<DOC>> documents) {
         Map<String, DocumentMutationResult<DOC>> results = new LinkedHashMap<>(documents.size());
         documents.forEach(d -> {
             if (d.getId() == null) {
@@ -1835,7 +2485,125 @@ public class CollectionClient {
      *      payload returned
      */
     private ApiResponse execute(String operation, Object payload) {
-       return executeOperation(namespaceClient.getDataApiClient().getStargateHttpClient(), collectionResource, operation, payload);
+        if (READ_OPERATIONS.contains(operation)) {
+            if (!coalesceReads) {
+                return executeOperation(namespaceClient.getDataApiClient().getStargateHttpClient(), collectionResource, operation, payload, vectorBinaryEncoding);
+            }
+            String body = serialize(payload);
+            return readCoalescer.execute(operation + ":" + body, () ->
+                    executeOperation(namespaceClient.getDataApiClient().getStargateHttpClient(), collectionResource, operation, body, vectorBinaryEncoding));
+        }
+        if (nearCache == null) {
+            return executeOperation(namespaceClient.getDataApiClient().getStargateHttpClient(), collectionResource, operation, payload, vectorBinaryEncoding);
+        }
+        try {
+            return executeOperation(namespaceClient.getDataApiClient().getStargateHttpClient(), collectionResource, operation, payload, vectorBinaryEncoding);
+        } finally {
+            // Even a failed write may have been applied
+            nearCache.invalidate(cacheTarget, writtenIds(payload));
+        }
+    }
+
+    /**
+     * Execute an operation on the non-blocking client, a write invalidates the near cache when complete.
+     * Reads are not coalesced.
+     *
+     * @param operation
+     *      operation to run
+     * @param payload
+     *      payload of the operation
+     * @return
+     *      response of the Api when available
+     */
+    CompletableFuture<ApiResponse> executeAsync(String operation, Object payload) {
+        CompletableFuture<ApiResponse> response = executeOperationAsync(
+                namespaceClient.getDataApiClient().getStargateHttpClient(), collectionResource, operation, payload, vectorBinaryEncoding);
+        if (nearCache == null || READ_OPERATIONS.contains(operation)) {
+            return response;
+        }
+        // Even a failed write may have been applied
+        return response.whenComplete((res, error) -> nearCache.invalidate(cacheTarget, writtenIds(payload)));
+    }
+
+    /**
+     * Identifiers of the documents targeted by a write.
+     *
+     * @param payload
+     *      payload of the write
+     * @return
+     *      identifiers, null when the write is not limited to known identifiers
+     */
+    @SuppressWarnings("unchecked")
+    private static List<String> writtenIds(Object payload) {
+        if (payload instanceof UpdateQuery) {
+            String id = NearCache.idOf(((UpdateQuery) payload).getFilter());
+            return id == null ? null : Collections.singletonList(id);
+        }
+        if (payload instanceof DeleteQuery) {
+            String id = NearCache.idOf(((DeleteQuery) payload).getFilter());
+            return id == null ? null : Collections.singletonList(id);
+        }
+        if (payload instanceof Map && ((Map<String, Object>) payload).get("document") instanceof Document) {
+            String id = ((Document<?>) ((Map<String, Object>) payload).get("document")).getId();
+            return id == null ? null : Collections.singletonList(id);
+        }
+        if (payload instanceof Map && ((Map<String, Object>) payload).get("documents") instanceof List) {
+            List<String> ids = new ArrayList<>();
+            for (Object doc : (List<Object>) ((Map<String, Object>) payload).get("documents")) {
+                if (!(doc instanceof Document) || ((Document<?>) doc).getId() == null) {
+                    return null;
+                }
+                ids.add(((Document<?>) doc).getId());
+            }
+            return ids;
+        }
+        return null;
+    }
+
+    /**
+     * Syntax sugar, documents of the response are kept as raw json.
+     *
+     * @param operation
+     *      operation to run
+     * @param payload
+     *      payload returned
+     */
+    private ApiResponse executeRaw(String operation, Object payload) {
+        if (!coalesceReads) {
+            return executeOperationRaw(namespaceClient.getDataApiClient().getStargateHttpClient(), collectionResource, operation, payload, vectorBinaryEncoding);
+        }
+        String body = serialize(payload);
+        return readCoalescer.execute(operation + "/raw:" + body, () ->
+                executeOperationRaw(namespaceClient.getDataApiClient().getStargateHttpClient(), collectionResource, operation, body, vectorBinaryEncoding));
+    }
+
+    /**
+     * Execute an operation on the non-blocking client, documents are kept as raw json.
+     *
+     * @param operation
+     *      operation to run
+     * @param payload
+     *      payload of the operation
+     * @return
+     *      response of the Api when available
+     */
+    private CompletableFuture<ApiResponse> executeRawAsync(String operation, Object payload) {
+        return executeOperationRawAsync(namespaceClient.getDataApiClient().getStargateHttpClient(), collectionResource, operation, payload, vectorBinaryEncoding);
+    }
+
+    /**
+     * Serialize a payload once, the json is both the key of the coalesced read and the body sent.
+     *
+     * @param payload
+     *      payload of the operation
+     * @return
+     *      json payload
+     */
+    private String serialize(Object payload) {
+        if (payload == null) {
+            return "{}";
+        }
+        return payload instanceof String ? (String) payload : JsonUtils.marshallForDataApi(payload, vectorBinaryEncoding);
     }
 
 }
@@ -2,15 +2,19 @@ package io.stargate.sdk.data;
 
 import io.stargate.sdk.core.domain.Page;
 import io.stargate.sdk.data.domain.DocumentMutationResult;
+import io.stargate.sdk.data.domain.FindByIdsResult;
 import io.stargate.sdk.data.domain.odm.Document;
 import io.stargate.sdk.data.domain.odm.DocumentResult;
 import io.stargate.sdk.data.domain.query.DeleteQuery;
 import io.stargate.sdk.data.domain.query.DeleteResult;
 import io.stargate.sdk.data.domain.query.Filter;
 import io.stargate.sdk.data.domain.query.SelectQuery;
+import io.stargate.sdk.tracing.ServiceCallTracing;
 import lombok.Getter;
 import lombok.NonNull;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -55,6 +59,21 @@ public class CollectionRepository<DOC> {
         return collectionClient.getCollection();
     }
 
+    /**
+     * Group the findById calls made within a window in a single find with an _id $in filter.
+     *
+     * @param window
+     *      time to wait for other calls after the first call of a batch
+     * @param maxBatchSize
+     *      identifiers sending the batch before the end of the window
+     * @return
+     *      current instance
+     */
+    public CollectionRepository<DOC> withFindByIdBatching(@NonNull Duration window, int maxBatchSize) {
+        collectionClient.withFindByIdBatching(window, maxBatchSize);
+        return this;
+    }
+
     /**
      * Check existence of a document from its id.
      * Projection to make it as light as possible.
@@ -296,6 +315,30 @@ public class CollectionRepository<DOC> {
         return collectionClient.findById(id, docClass);
     }
 
+    /**
+     * Find by ids, with $in queries run in parallel.
+     *
+     * @param ids
+     *      identifiers
+     * @return
+     *      objects in the order of the identifiers and missing identifiers
+     */
+    public FindByIdsResult<DocumentResult<DOC>> findByIds(@NonNull Collection<String> ids) {
+        return collectionClient.findByIds(ids, docClass);
+    }
+
+    /**
+     * Find by ids asynchronously.
+     *
+     * @param ids
+     *      identifiers
+     * @return
+     *      objects in the order of the identifiers and missing identifiers
+     */
+    public CompletableFuture<FindByIdsResult<DocumentResult<DOC>>> findByIdsAsync(@NonNull Collection<String> ids) {
+        return collectionClient.findByIdsAsync(ids, docClass);
+    }
+
     /**
      * Find all item in the collection.
      *
@@ -368,7 +411,7 @@ public class CollectionRepository<DOC> {
      */
     public int deleteAll(List<Document<DOC>> documents) {
         List<CompletableFuture<Integer>> futures = documents.stream()
-                .map(record -> CompletableFuture.supplyAsync(() -> delete(record) ? 1 : 0))
+                .map(record -> CompletableFuture.supplyAsync(ServiceCallTracing.wrap(() -> delete(record) ? 1 : 0)))
                 .collect(Collectors.toList());
         return futures.stream()
                 .map(CompletableFuture::join) // This will wait for the result of each future
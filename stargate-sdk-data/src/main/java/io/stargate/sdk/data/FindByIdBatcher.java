@@ -0,0 +1,282 @@
+package io.stargate.sdk.data;
+
+import io.stargate.sdk.data.domain.JsonDocumentResult;
+import io.stargate.sdk.data.domain.query.Filter;
+import io.stargate.sdk.data.domain.query.SelectQuery;
+import io.stargate.sdk.http.domain.FilterOperator;
+import io.stargate.sdk.tracing.ServiceCallTracing;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Group the findById calls made within a short window in a single find with an <code>_id $in</code> filter.
+ * <p>
+ * The first call of a batch starts the window, the batch is sent when the window ends or as soon as it
+ * holds <code>maxBatchSize</code> distinct identifiers. Results are dispatched to the callers, identifiers
+ * requested several times in a batch are fetched once. Callers wait up to the window before the call is
+ * sent: batching is a trade of latency for fewer requests and only pays off with concurrent callers.
+ * <p>
+ * Once closed, for instance when the batching settings of the collection change, calls still holding the
+ * batcher are served with a direct findOne.
+ */
+@Slf4j
+@Getter
+public class FindByIdBatcher implements AutoCloseable {
+
+    /** Default window. */
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(2);
+
+    /** Default maximum identifiers in a batch, fetched in a single page. */
+    public static final int DEFAULT_MAX_BATCH_SIZE = SelectQuery.PAGING_SIZE_MAX;
+
+    /** Maximum values of a $in filter accepted by the Data API. */
+    public static final int MAX_IN_VALUES = 100;
+
+    /** Client of the collection. */
+    private final CollectionClient collectionClient;
+
+    /** Time to wait for other calls. */
+    private final Duration window;
+
+    /** Maximum identifiers in a batch. */
+    private final int maxBatchSize;
+
+    /** Timer ending the windows. */
+    private final ScheduledExecutorService timer;
+
+    /** Threads sending the batches, out of the caller and timer threads. */
+    private final ExecutorService sender;
+
+    /** Batches sent. */
+    private final LongAdder batches = new LongAdder();
+
+    /** findById calls served. */
+    private final LongAdder calls = new LongAdder();
+
+    /** Callers waiting in the current batch, by identifier. */
+    private Map<String, List<CompletableFuture<Optional<JsonDocumentResult>>>> pending = new LinkedHashMap<>();
+
+    /** The batcher is closed, calls are not batched anymore. */
+    private boolean closed;
+
+    /**
+     * Constructor with the collection and the batch bounds.
+     *
+     * @param collectionClient
+     *      client of the collection
+     * @param window
+     *      time to wait for other calls after the first call of a batch
+     * @param maxBatchSize
+     *      maximum identifiers in a batch, at most 100
+     */
+    public FindByIdBatcher(@NonNull CollectionClient collectionClient, @NonNull Duration window, int maxBatchSize) {
+        if (maxBatchSize < 1 || maxBatchSize > MAX_IN_VALUES) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_IN_VALUES);
+        }
+        this.collectionClient = collectionClient;
+        this.window           = window;
+        this.maxBatchSize     = maxBatchSize;
+        this.timer            = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "stargate-findbyid-batcher-" + collectionClient.getCollection());
+            t.setDaemon(true);
+            return t;
+        });
+        this.sender           = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "stargate-findbyid-sender-" + collectionClient.getCollection());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Find a document from its identifier, waiting for the batch.
+     *
+     * @param id
+     *      document identifier
+     * @return
+     *      document if found
+     */
+    public Optional<JsonDocumentResult> findById(@NonNull String id) {
+        try {
+            return findByIdAsync(id).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Find a document from its identifier, completed when the batch returns.
+     *
+     * @param id
+     *      document identifier
+     * @return
+     *      document if found
+     */
+    public CompletableFuture<Optional<JsonDocumentResult>> findByIdAsync(@NonNull String id) {
+        CompletableFuture<Optional<JsonDocumentResult>> future = new CompletableFuture<>();
+        Map<String, List<CompletableFuture<Optional<JsonDocumentResult>>>> full = null;
+        boolean direct;
+        synchronized (this) {
+            direct = closed;
+            if (!direct) {
+                full = enqueue(id, future);
+            }
+        }
+        if (direct) {
+            // Outside of the lock, callers of a closed batcher do not wait for each other
+            return findDirect(id);
+        }
+        calls.increment();
+        if (full != null) {
+            sendAsync(full);
+        }
+        return future;
+    }
+
+    /**
+     * Add a caller to the pending batch, called under the lock.
+     *
+     * @return
+     *      the batch to send when it is full, null otherwise
+     */
+    private Map<String, List<CompletableFuture<Optional<JsonDocumentResult>>>> enqueue(String id, CompletableFuture<Optional<JsonDocumentResult>> future) {
+        if (pending.isEmpty()) {
+            Map<String, List<CompletableFuture<Optional<JsonDocumentResult>>>> batch = pending;
+            timer.schedule(() -> flush(batch), window.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        pending.computeIfAbsent(id, k -> new ArrayList<>()).add(future);
+        if (pending.size() < maxBatchSize) {
+            return null;
+        }
+        Map<String, List<CompletableFuture<Optional<JsonDocumentResult>>>> full = pending;
+        pending = new LinkedHashMap<>();
+        return full;
+    }
+
+    /**
+     * Find a document with a single findOne, used once the batcher is closed.
+     */
+    private CompletableFuture<Optional<JsonDocumentResult>> findDirect(String id) {
+        CompletableFuture<Optional<JsonDocumentResult>> future = new CompletableFuture<>();
+        try {
+            future.complete(collectionClient.findOne(SelectQuery.findById(id)));
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
+        return future;
+    }
+
+    /**
+     * End of the window of a batch, sent unless it was sent when full.
+     */
+    private void flush(Map<String, List<CompletableFuture<Optional<JsonDocumentResult>>>> batch) {
+        synchronized (this) {
+            if (pending != batch) {
+                return;
+            }
+            pending = new LinkedHashMap<>();
+        }
+        sendAsync(batch);
+    }
+
+    /**
+     * Fetch the documents of a batch out of the caller and timer threads, on the caller thread when
+     * the batcher has been closed meanwhile.
+     */
+    private void sendAsync(Map<String, List<CompletableFuture<Optional<JsonDocumentResult>>>> batch) {
+        Supplier<Void> task = ServiceCallTracing.wrap(() -> {
+            send(batch);
+            return null;
+        });
+        try {
+            sender.execute(task::get);
+        } catch (RejectedExecutionException e) {
+            send(batch);
+        }
+    }
+
+    /**
+     * Fetch the documents of a batch and complete the callers.
+     */
+    private void send(Map<String, List<CompletableFuture<Optional<JsonDocumentResult>>>> batch) {
+        batches.increment();
+        try {
+            List<String> ids = new ArrayList<>(batch.keySet());
+            if (log.isDebugEnabled()) {
+                log.debug("findById batch of {} id(s) in {}", ids.size(), collectionClient.getCollection());
+            }
+            SelectQuery query = SelectQuery.builder()
+                    .filter(new Filter("_id", FilterOperator.IN, ids))
+                    .build();
+            Map<String, JsonDocumentResult> found = new HashMap<>();
+            collectionClient.find(query).forEach(doc -> found.put(doc.getId(), doc));
+            batch.forEach((id, futures) -> futures.forEach(f -> f.complete(Optional.ofNullable(found.get(id)))));
+        } catch (Throwable t) {
+            // Callers are always completed, whatever the error
+            batch.values().forEach(futures -> futures.forEach(f -> f.completeExceptionally(t)));
+        }
+    }
+
+    /**
+     * Send the pending batch and stop the timer, batches in flight complete.
+     */
+    @Override
+    public void close() {
+        Map<String, List<CompletableFuture<Optional<JsonDocumentResult>>>> batch;
+        synchronized (this) {
+            closed  = true;
+            batch   = pending;
+            pending = new LinkedHashMap<>();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+        timer.shutdownNow();
+        sender.shutdown();
+    }
+
+    /**
+     * Number of batches sent.
+     *
+     * @return
+     *      batches sent
+     */
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    /**
+     * Number of findById calls served.
+     *
+     * @return
+     *      calls served
+     */
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+}
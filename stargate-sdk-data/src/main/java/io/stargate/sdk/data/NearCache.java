@@ -0,0 +1,299 @@
+package io.stargate.sdk.data;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.stargate.sdk.data.domain.JsonDocumentResult;
+import io.stargate.sdk.data.domain.query.SelectQuery;
+import io.stargate.sdk.utils.JsonUtils;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Client side cache of the documents read with findById and findOne, Caffeine
+ * (<code>com.github.ben-manes.caffeine:caffeine</code>) should be in the classpath.
+ * <p>
+ * Entries are bounded in number and in age, eviction is W-TinyLFU. A cache can be shared by the clients
+ * of several collections, documents are keyed by namespace, collection and _id, other findOne queries by
+ * their normalized json. Writes made through a client using the cache invalidate the documents they target
+ * and the findOne queries of the collection; writes made by other clients are seen once entries expire.
+ * Absent documents are cached too. Cached documents are shared between callers and should not be modified.
+ * <p>
+ * Invalidating the findOne queries of a collection does not scan the cache: keys carry a generation of their
+ * collection, a write moves to the next generation and the entries of the previous one are never read again,
+ * they are evicted by size or age like any other entry.
+ */
+@Getter
+public class NearCache {
+
+    /** Default maximum number of entries. */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10000;
+
+    /** Default time to live of an entry. */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+
+    /** Cached documents. */
+    private final Cache<Key, Optional<JsonDocumentResult>> cache;
+
+    /** Current generations of each collection. */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Generations> generations = new ConcurrentHashMap<>();
+
+    /**
+     * Cache with default bounds.
+     */
+    public NearCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL);
+    }
+
+    /**
+     * Cache with bounds.
+     *
+     * @param maximumSize
+     *      maximum number of entries
+     * @param ttl
+     *      time to live of an entry after its write
+     */
+    public NearCache(long maximumSize, @NonNull Duration ttl) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size should be greater than 0");
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Find a document in cache or load it, queries on _id only are cached by _id.
+     *
+     * @param collection
+     *      namespace and collection
+     * @param query
+     *      findOne query
+     * @param loader
+     *      load the document on a miss
+     * @return
+     *      document if found
+     */
+    Optional<JsonDocumentResult> findOne(String collection, SelectQuery query, Supplier<Optional<JsonDocumentResult>> loader) {
+        String id = idOf(query);
+        Generations generation = generationsOf(collection);
+        Key key = id != null
+                ? new Key(collection, true, generation.documents.get(), id)
+                : new Key(collection, false, generation.queries.get(), normalize(query));
+        return cache.get(key, k -> loader.get());
+    }
+
+    /**
+     * Find a document in cache or load it without blocking. The loaded document is kept only if no write
+     * invalidated the collection while it was loaded.
+     *
+     * @param collection
+     *      namespace and collection
+     * @param query
+     *      findOne query
+     * @param loader
+     *      load the document on a miss
+     * @return
+     *      document if found, when available
+     */
+    CompletableFuture<Optional<JsonDocumentResult>> findOneAsync(String collection, SelectQuery query,
+                                                                 Supplier<CompletableFuture<Optional<JsonDocumentResult>>> loader) {
+        String id = idOf(query);
+        Generations generation = generationsOf(collection);
+        long queries = generation.queries.get();
+        Key key = id != null
+                ? new Key(collection, true, generation.documents.get(), id)
+                : new Key(collection, false, queries, normalize(query));
+        Optional<JsonDocumentResult> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return loader.get().thenApply(document -> {
+            // Every write moves the queries to their next generation
+            if (generation.queries.get() == queries) {
+                cache.put(key, document);
+            }
+            return document;
+        });
+    }
+
+    /**
+     * Invalidate the documents written and the findOne queries of the collection.
+     *
+     * @param collection
+     *      namespace and collection
+     * @param ids
+     *      identifiers of the documents written, null when unknown to invalidate the whole collection
+     */
+    void invalidate(String collection, Collection<String> ids) {
+        Generations generation = generationsOf(collection);
+        if (ids == null) {
+            generation.documents.incrementAndGet();
+        } else {
+            long documents = generation.documents.get();
+            ids.forEach(id -> cache.invalidate(new Key(collection, true, documents, id)));
+        }
+        generation.queries.incrementAndGet();
+    }
+
+    /**
+     * Generations of a collection, created on first use.
+     */
+    private Generations generationsOf(String collection) {
+        return generations.computeIfAbsent(collection, c -> new Generations());
+    }
+
+    /**
+     * Remove every entry.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Statistics of the cache: hits, misses, evictions.
+     *
+     * @return
+     *      statistics since the creation of the cache
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * Number of entries.
+     *
+     * @return
+     *      approximate number of entries
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Identifier targeted by a query filtering on _id only, null for any other query.
+     *
+     * @param query
+     *      query
+     * @return
+     *      identifier or null
+     */
+    static String idOf(SelectQuery query) {
+        if (query.getProjection() != null || query.getSort() != null || query.getOptions() != null) {
+            return null;
+        }
+        return idOf(query.getFilter());
+    }
+
+    /**
+     * Identifier of a filter on _id only, as <code>{"_id": id}</code> or <code>{"_id": {"$eq": id}}</code>.
+     *
+     * @param filter
+     *      filter
+     * @return
+     *      identifier or null
+     */
+    static String idOf(Map<String, Object> filter) {
+        if (filter == null || filter.size() != 1) {
+            return null;
+        }
+        Object id = filter.get("_id");
+        if (id instanceof Map && ((Map<?, ?>) id).size() == 1) {
+            id = ((Map<?, ?>) id).get("$eq");
+        }
+        return id instanceof String ? (String) id : null;
+    }
+
+    /**
+     * Json of the query with the keys of every object sorted, equal queries give the same json.
+     */
+    private static String normalize(SelectQuery query) {
+        Map<String, Object> json = new TreeMap<>();
+        json.put("projection", sorted(query.getProjection()));
+        json.put("filter", sorted(query.getFilter()));
+        json.put("sort", sorted(query.getSort()));
+        json.put("options", sorted(query.getOptions()));
+        return JsonUtils.marshall(json);
+    }
+
+    private static Object sorted(Object value) {
+        if (value instanceof Map) {
+            Map<String, Object> map = new TreeMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> map.put(String.valueOf(k), sorted(v)));
+            return map;
+        }
+        if (value instanceof List) {
+            return ((List<?>) value).stream().map(NearCache::sorted).collect(Collectors.toList());
+        }
+        return value;
+    }
+
+    /**
+     * Generations of the entries of a collection.
+     */
+    private static final class Generations {
+
+        /** Generation of the documents, changed when the whole collection is invalidated. */
+        private final AtomicLong documents = new AtomicLong();
+
+        /** Generation of the findOne queries, changed on every write. */
+        private final AtomicLong queries = new AtomicLong();
+    }
+
+    /**
+     * Key of an entry.
+     */
+    private static final class Key {
+
+        /** Namespace and collection. */
+        private final String collection;
+
+        /** The value is an _id or a normalized query. */
+        private final boolean byId;
+
+        /** Generation of the documents or of the queries of the collection. */
+        private final long generation;
+
+        /** _id or normalized query. */
+        private final String value;
+
+        private Key(String collection, boolean byId, long generation, String value) {
+            this.collection = collection;
+            this.byId       = byId;
+            this.generation = generation;
+            this.value      = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return byId == key.byId && generation == key.generation
+                    && collection.equals(key.collection) && value.equals(key.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(collection, byId, generation, value);
+        }
+    }
+
+}
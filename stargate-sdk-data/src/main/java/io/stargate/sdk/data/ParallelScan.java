@@ -0,0 +1,370 @@
+package io.stargate.sdk.data;
+
+import io.stargate.sdk.data.domain.JsonDocumentResult;
+import io.stargate.sdk.data.domain.query.Filter;
+import io.stargate.sdk.data.domain.query.SelectQuery;
+import io.stargate.sdk.tracing.ServiceCallTracing;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Scan a collection with several segments read concurrently.
+ * <p>
+ * Each segment is a filter combined with the filter of the base query and paged on its own, at most
+ * <code>parallelism</code> segments are read at the same time. Results are merged in a stream, without
+ * any order between segments, or handed to a callback segment by segment.
+ */
+@Slf4j
+@Getter
+public class ParallelScan {
+
+    /** Default number of segments read at the same time. */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    /** Delay between two checks of the scan being closed while a reader waits for the consumer. */
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    /** Client of the collection. */
+    private final CollectionClient collectionClient;
+
+    /** Segments of the collection. */
+    private final List<Filter> segments;
+
+    /** Query providing projection and filter common to all segments. */
+    private SelectQuery query = new SelectQuery();
+
+    /** Segments read at the same time. */
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    /** Pages of each segment requested ahead while documents are consumed. */
+    private int prefetchDepth;
+
+    /**
+     * Constructor with the collection and the segments.
+     *
+     * @param collectionClient
+     *      client of the collection
+     * @param segments
+     *      disjoint segments, see {@link io.stargate.sdk.data.domain.query.ScanSegments}
+     */
+    public ParallelScan(@NonNull CollectionClient collectionClient, @NonNull List<Filter> segments) {
+        if (segments.isEmpty()) {
+            throw new IllegalArgumentException("At least one segment is expected");
+        }
+        this.collectionClient = collectionClient;
+        this.segments         = new ArrayList<>(segments);
+    }
+
+    /**
+     * Base query: projection and filter applied to every segment. Sort and limit are not supported as
+     * segments are read independently.
+     *
+     * @param query
+     *      base query
+     * @return
+     *      current instance
+     */
+    public ParallelScan query(@NonNull SelectQuery query) {
+        if (query.getSort() != null || query.getLimit().isPresent()) {
+            throw new IllegalArgumentException("Sort and limit are not supported in a parallel scan");
+        }
+        this.query = query;
+        return this;
+    }
+
+    /**
+     * Number of segments read at the same time.
+     *
+     * @param parallelism
+     *      segments read at the same time
+     * @return
+     *      current instance
+     */
+    public ParallelScan parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism should be greater than 0");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Pages of each segment requested ahead while its documents are consumed.
+     *
+     * @param depth
+     *      pages requested ahead, 0 to disable prefetching
+     * @return
+     *      current instance
+     */
+    public ParallelScan prefetch(int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("Prefetch depth should be positive");
+        }
+        this.prefetchDepth = depth;
+        return this;
+    }
+
+    /**
+     * Query of a segment: the base query with the filter of the segment.
+     *
+     * @param segment
+     *      segment index
+     * @return
+     *      query of the segment
+     */
+    public SelectQuery segmentQuery(int segment) {
+        Map<String, Object> filter = query.getFilter() == null ? new HashMap<>() : new HashMap<>(query.getFilter());
+        segments.get(segment).getFilter().forEach((field, condition) -> {
+            if (filter.putIfAbsent(field, condition) != null) {
+                throw new IllegalArgumentException("Field '" + field + "' is filtered by both the query and the segment");
+            }
+        });
+        SelectQuery segmentQuery = query.copy();
+        segmentQuery.setFilter(filter);
+        return segmentQuery;
+    }
+
+    /**
+     * Documents of a segment, fetched page by page.
+     *
+     * @param segment
+     *      segment index
+     * @return
+     *      documents of the segment
+     */
+    public Stream<JsonDocumentResult> segment(int segment) {
+        return collectionClient.findIterable(segmentQuery(segment)).prefetch(prefetchDepth).stream();
+    }
+
+    /**
+     * Read the segments concurrently and hand the documents of each segment to the callback, on the thread
+     * reading the segment. Returns when all segments are read, the first error is thrown and stops the scan.
+     *
+     * @param callback
+     *      called with the segment index and the documents of the segment
+     */
+    public void forEachSegment(@NonNull BiConsumer<Integer, Stream<JsonDocumentResult>> callback) {
+        ExecutorService executor = newReaders();
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < segments.size(); i++) {
+                int segment = i;
+                Supplier<Void> task = ServiceCallTracing.wrap(() -> {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Scanning segment {}/{}", segment + 1, segments.size());
+                    }
+                    try (Stream<JsonDocumentResult> documents = segment(segment)) {
+                        callback.accept(segment, documents);
+                    }
+                    return null;
+                });
+                futures.add(executor.submit(task::get));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException("Error when scanning a segment", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted when scanning segments", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Pool reading the segments, daemon threads never keep the JVM alive when a scan is abandoned.
+     */
+    private ExecutorService newReaders() {
+        return Executors.newFixedThreadPool(Math.min(parallelism, segments.size()), r -> {
+            Thread t = new Thread(r, "stargate-parallel-scan-" + collectionClient.getCollection());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Read the segments concurrently and merge their documents in a stream. Segments are read ahead of the
+     * consumer by at most a few pages. The stream should be closed, or fully consumed, to release the threads.
+     *
+     * @return
+     *      documents of all segments
+     */
+    public Stream<JsonDocumentResult> stream() {
+        MergedIterator merged = new MergedIterator();
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.NONNULL), false)
+                .onClose(merged::close);
+    }
+
+    /**
+     * Merge the documents of the segments, read by a pool of threads, through a bounded queue.
+     */
+    private class MergedIterator implements Iterator<JsonDocumentResult> {
+
+        /** Marks the end of a segment. */
+        private final Object segmentEnd = new Object();
+
+        /** Documents read and not consumed yet, bounded to block readers ahead of the consumer. */
+        private final BlockingQueue<Object> queue =
+                new ArrayBlockingQueue<>(2 * Math.min(parallelism, segments.size()) * SelectQuery.PAGING_SIZE_MAX);
+
+        /** Threads reading the segments. */
+        private ExecutorService executor;
+
+        /** The scan is closed, readers stop waiting for the consumer. */
+        private volatile boolean closed;
+
+        /** Segments not fully read. */
+        private int remaining = segments.size();
+
+        /** Next element of the queue. */
+        private Object next;
+
+        @Override
+        public boolean hasNext() {
+            start();
+            while (next == null && remaining > 0) {
+                Object element = take();
+                if (element == segmentEnd) {
+                    remaining--;
+                } else if (element instanceof RuntimeException) {
+                    close();
+                    throw (RuntimeException) element;
+                } else if (element instanceof Error) {
+                    close();
+                    throw (Error) element;
+                } else if (element instanceof Throwable) {
+                    close();
+                    throw new IllegalStateException("Error when scanning a segment", (Throwable) element);
+                } else {
+                    next = element;
+                }
+            }
+            if (next == null) {
+                close();
+            }
+            return next != null;
+        }
+
+        @Override
+        public JsonDocumentResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more documents");
+            }
+            JsonDocumentResult document = (JsonDocumentResult) next;
+            next = null;
+            return document;
+        }
+
+        /**
+         * Submit the segments on first access.
+         */
+        private void start() {
+            if (executor != null) {
+                return;
+            }
+            executor = newReaders();
+            for (int i = 0; i < segments.size(); i++) {
+                int segment = i;
+                Supplier<Void> task = ServiceCallTracing.wrap(() -> {
+                    read(segment);
+                    return null;
+                });
+                executor.submit(task::get);
+            }
+        }
+
+        /**
+         * Read a segment into the queue, errors (including {@link Error}) are handed to the consumer.
+         */
+        private void read(int segment) {
+            if (log.isDebugEnabled()) {
+                log.debug("Scanning segment {}/{}", segment + 1, segments.size());
+            }
+            try {
+                try (Stream<JsonDocumentResult> documents = segment(segment)) {
+                    Iterator<JsonDocumentResult> it = documents.iterator();
+                    while (it.hasNext()) {
+                        if (!offer(it.next())) {
+                            return;
+                        }
+                    }
+                    offer(segmentEnd);
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Throwable t) {
+                    offer(t);
+                }
+            } catch (InterruptedException e) {
+                // Scan closed by the consumer
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Wait for room in the queue until the scan is closed.
+         *
+         * @return
+         *      if the element has been queued, false when the scan is closed
+         */
+        private boolean offer(Object element) throws InterruptedException {
+            while (!closed) {
+                if (queue.offer(element, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Object take() {
+            try {
+                return queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new IllegalStateException("Interrupted when scanning segments", e);
+            }
+        }
+
+        /**
+         * Stop the readers.
+         */
+        private void close() {
+            closed = true;
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+            remaining = 0;
+        }
+    }
+
+}
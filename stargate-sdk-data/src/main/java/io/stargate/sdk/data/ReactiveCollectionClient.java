@@ -0,0 +1,430 @@
+package io.stargate.sdk.data;
+
+import io.stargate.sdk.core.domain.Page;
+import io.stargate.sdk.data.domain.DocumentMutationResult;
+import io.stargate.sdk.data.domain.JsonDocument;
+import io.stargate.sdk.data.domain.JsonDocumentMutationResult;
+import io.stargate.sdk.data.domain.JsonDocumentResult;
+import io.stargate.sdk.data.domain.JsonResultUpdate;
+import io.stargate.sdk.data.domain.UpdateStatus;
+import io.stargate.sdk.data.domain.odm.Document;
+import io.stargate.sdk.data.domain.odm.DocumentResult;
+import io.stargate.sdk.data.domain.query.DeleteQuery;
+import io.stargate.sdk.data.domain.query.DeleteResult;
+import io.stargate.sdk.data.domain.query.Filter;
+import io.stargate.sdk.data.domain.query.SelectQuery;
+import io.stargate.sdk.data.domain.query.UpdateQuery;
+import io.stargate.sdk.tracing.ServiceCallScope;
+import io.stargate.sdk.tracing.ServiceCallSpan;
+import io.stargate.sdk.tracing.ServiceCallTracing;
+import lombok.Getter;
+import lombok.NonNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Reactive client for a collection, Reactor (<code>io.projectreactor:reactor-core</code>) should be in the classpath.
+ * <p>
+ * Calls are sent with the non-blocking http client: no thread waits for a response, signals are emitted on
+ * the I/O threads of the http client. Move blocking work downstream to another scheduler with
+ * <code>publishOn</code>. Concurrency is bounded by the connection pool of the http client.
+ * <p>
+ * Results of a find are fetched page by page on demand: a page is requested only when the subscriber has
+ * requested the documents of the previous one, cancelling the subscription aborts the page in flight.
+ */
+@Getter
+public class ReactiveCollectionClient {
+
+    /** Maximum number of documents in an insertMany command. */
+    public static final int MAX_CHUNK_SIZE = 20;
+
+    /** Default number of insertMany commands in flight. */
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    /** Client of the collection, sending the commands. */
+    private final CollectionClient collectionClient;
+
+    /**
+     * Constructor with the client of the collection.
+     *
+     * @param collectionClient
+     *      client of the collection
+     */
+    public ReactiveCollectionClient(@NonNull CollectionClient collectionClient) {
+        this.collectionClient = collectionClient;
+    }
+
+    // --------------------------
+    // ---       Find        ----
+    // --------------------------
+
+    /**
+     * Search documents with a filter, pages are fetched on demand. The operation span starts on
+     * subscription, in the tracing context of the caller, and ends with the results.
+     *
+     * @param query
+     *      filter
+     * @return
+     *      documents
+     */
+    public Flux<JsonDocumentResult> find(@NonNull SelectQuery query) {
+        return Flux.defer(ServiceCallTracing.wrap(() -> findPages(query)));
+    }
+
+    /**
+     * Search documents with a filter, pages are fetched on demand.
+     *
+     * @param query
+     *      filter
+     * @param clazz
+     *      class for target pojo
+     * @param <DOC>
+     *      class to be marshalled
+     * @return
+     *      documents
+     */
+    public <DOC> Flux<DocumentResult<DOC>> find(@NonNull SelectQuery query, Class<DOC> clazz) {
+        return find(query).map(r -> new DocumentResult<>(r, clazz));
+    }
+
+    /**
+     * Get all documents of the collection, pages are fetched on demand.
+     *
+     * @return
+     *      documents
+     */
+    public Flux<JsonDocumentResult> findAll() {
+        return find(SelectQuery.builder().build());
+    }
+
+    /**
+     * Read the segments of a parallel scan concurrently, at most <code>parallelism</code> segments at a
+     * time, documents of the segments are interleaved.
+     *
+     * @param scan
+     *      parallel scan
+     * @return
+     *      documents of all segments
+     */
+    public Flux<JsonDocumentResult> scan(@NonNull ParallelScan scan) {
+        return Flux.range(0, scan.getSegments().size())
+                .flatMap(segment -> find(scan.segmentQuery(segment)), scan.getParallelism());
+    }
+
+    /**
+     * Find the first document matching the query.
+     *
+     * @param query
+     *      filter
+     * @return
+     *      document or empty
+     */
+    public Mono<JsonDocumentResult> findOne(@NonNull SelectQuery query) {
+        return call(() -> collectionClient.findOneAsync(query)).flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * Find a document from its identifier.
+     *
+     * @param id
+     *      document identifier
+     * @return
+     *      document or empty
+     */
+    public Mono<JsonDocumentResult> findById(@NonNull String id) {
+        return call(() -> collectionClient.findByIdAsync(id)).flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * Count documents matching a filter.
+     *
+     * @param filter
+     *      filter
+     * @return
+     *      number of documents
+     */
+    public Mono<Integer> countDocuments(Filter filter) {
+        return call(() -> collectionClient.executeAsync("countDocuments", filter)
+                .thenApply(res -> res.getStatusKeyAsInt("count")));
+    }
+
+    // --------------------------
+    // ---      Insert       ----
+    // --------------------------
+
+    /**
+     * Insert a document.
+     *
+     * @param document
+     *      document
+     * @return
+     *      mutation result
+     */
+    public Mono<JsonDocumentMutationResult> insertOne(@NonNull JsonDocument document) {
+        return call(() -> collectionClient.executeAsync("insertOne", CollectionClient.insertOnePayload(document))
+                .thenApply(res -> CollectionClient.insertOneResult(document, res).asJsonDocumentMutationResult()));
+    }
+
+    /**
+     * Insert or replace a document.
+     *
+     * @param document
+     *      document
+     * @return
+     *      mutation result
+     */
+    public Mono<JsonDocumentMutationResult> upsertOne(@NonNull JsonDocument document) {
+        return call(() -> collectionClient.executeAsync("findOneAndReplace", CollectionClient.upsertOneQuery(document))
+                .thenApply(res -> CollectionClient.upsertOneResult(document, collectionClient.updateResult(res))
+                        .asJsonDocumentMutationResult()));
+    }
+
+    /**
+     * Insert a stream of documents in chunks of {@link #MAX_CHUNK_SIZE}.
+     *
+     * @param documents
+     *      documents to insert
+     * @return
+     *      mutation results, in the order of the chunks
+     */
+    public Flux<JsonDocumentMutationResult> insertMany(@NonNull Flux<JsonDocument> documents) {
+        return insertMany(documents, MAX_CHUNK_SIZE, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Insert a stream of documents in chunks. Documents are requested from the source only when a chunk
+     * can be sent, at most <code>concurrency</code> insertMany commands are in flight.
+     *
+     * @param documents
+     *      documents to insert
+     * @param chunkSize
+     *      documents per insertMany command, between 1 and 20
+     * @param concurrency
+     *      insertMany commands in flight
+     * @return
+     *      mutation results, in the order of the chunks
+     */
+    public Flux<JsonDocumentMutationResult> insertMany(@NonNull Flux<JsonDocument> documents, int chunkSize, int concurrency) {
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("ChunkSize must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be greater than 0");
+        }
+        return documents
+                .buffer(chunkSize)
+                .flatMapSequential(chunk -> call(() -> insertChunk(chunk)), concurrency, 1)
+                .flatMapIterable(results -> results);
+    }
+
+    /**
+     * Send an insertMany command for a chunk of documents.
+     */
+    private CompletableFuture<List<JsonDocumentMutationResult>> insertChunk(List<JsonDocument> chunk) {
+        List<Document<Map<String, Object>>> documents = new ArrayList<>(chunk);
+        Map<String, DocumentMutationResult<Map<String, Object>>> results = CollectionClient.initResultMap(documents);
+        return collectionClient.executeAsync("insertMany", collectionClient.insertManyPayload(documents))
+                .thenApply(res -> CollectionClient.insertManyResults(results, res).stream()
+                        .map(DocumentMutationResult::asJsonDocumentMutationResult)
+                        .collect(Collectors.toList()));
+    }
+
+    // --------------------------
+    // --- Update and Delete  ---
+    // --------------------------
+
+    /**
+     * Update the first document matching the query.
+     *
+     * @param query
+     *      update query
+     * @return
+     *      update status
+     */
+    public Mono<UpdateStatus> updateOne(@NonNull UpdateQuery query) {
+        return call(() -> collectionClient.executeAsync("updateOne", query)
+                .thenApply(res -> collectionClient.updateResult(res).getUpdateStatus()));
+    }
+
+    /**
+     * Update the first document matching the query and return it.
+     *
+     * @param query
+     *      update query
+     * @return
+     *      update result
+     */
+    public Mono<JsonResultUpdate> findOneAndUpdate(@NonNull UpdateQuery query) {
+        return call(() -> collectionClient.executeAsync("findOneAndUpdate", query)
+                .thenApply(collectionClient::updateResult));
+    }
+
+    /**
+     * Delete a document from its identifier.
+     *
+     * @param id
+     *      document identifier
+     * @return
+     *      delete result
+     */
+    public Mono<DeleteResult> deleteById(@NonNull String id) {
+        return call(() -> collectionClient.executeAsync("deleteOne", DeleteQuery.deleteById(id))
+                .thenApply(DeleteResult::new));
+    }
+
+    // --------------------------
+    // ---     Utilities     ----
+    // --------------------------
+
+    /**
+     * Documents of a find, pages are fetched with the demand of the subscriber.
+     */
+    private Flux<JsonDocumentResult> findPages(SelectQuery query) {
+        ServiceCallSpan span = ServiceCallTracing.startSpan("CollectionClient.find")
+                .setAttribute("stargate.collection", collectionClient.getCollection());
+        AtomicInteger pageNumber = new AtomicInteger();
+        Runnable end = () -> {
+            span.setAttribute("stargate.pages", pageNumber.get());
+            span.end();
+        };
+        Flux<JsonDocumentResult> documents = Flux.create(sink -> {
+            PageEmitter emitter = new PageEmitter(sink, span, query, pageNumber);
+            sink.onCancel(emitter::cancel);
+            sink.onRequest(n -> emitter.drain());
+        });
+        Optional<Integer> limit = query.getLimit();
+        if (limit.isPresent()) {
+            documents = documents.limitRequest(limit.get());
+        }
+        // Span ended before the subscriber sees the end of the results
+        return documents
+                .doOnError(span::recordError)
+                .doOnTerminate(end)
+                .doOnCancel(end);
+    }
+
+    /**
+     * Emit the documents of a find. A page is fetched only when the subscriber requests more documents than
+     * the current page holds, one page at a time.
+     */
+    private final class PageEmitter {
+
+        /** Subscriber of the documents. */
+        private final FluxSink<JsonDocumentResult> sink;
+
+        /** Span of the operation, parent of the pages. */
+        private final ServiceCallSpan span;
+
+        /** Query of the find, copied for each page. */
+        private final SelectQuery query;
+
+        /** Pages fetched. */
+        private final AtomicInteger pageNumber;
+
+        /** Serialize the drains, from the subscriber and from the responses. */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /** Documents of the current page. */
+        private volatile Iterator<JsonDocumentResult> documents = Collections.emptyIterator();
+
+        /** State of the next page, null after the last one. */
+        private volatile String pageState;
+
+        /** Last page received. */
+        private volatile boolean lastPage;
+
+        /** Page in flight, null when none. */
+        private volatile CompletableFuture<Page<JsonDocumentResult>> inFlight;
+
+        private PageEmitter(FluxSink<JsonDocumentResult> sink, ServiceCallSpan span, SelectQuery query, AtomicInteger pageNumber) {
+            this.sink       = sink;
+            this.span       = span;
+            this.query      = query;
+            this.pageNumber = pageNumber;
+        }
+
+        /**
+         * Emit the documents requested, fetch the next page when the current one does not cover the demand.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (sink.requestedFromDownstream() > 0 && documents.hasNext() && !sink.isCancelled()) {
+                    sink.next(documents.next());
+                }
+                if (!documents.hasNext() && inFlight == null && !sink.isCancelled()) {
+                    if (lastPage) {
+                        sink.complete();
+                        return;
+                    }
+                    if (sink.requestedFromDownstream() > 0) {
+                        fetch();
+                    }
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        /**
+         * Fetch the next page in the span of the operation.
+         */
+        private void fetch() {
+            SelectQuery pageQuery = query.copy();
+            if (pageState != null) {
+                pageQuery.setPageState(pageState);
+            }
+            CompletableFuture<Page<JsonDocumentResult>> page;
+            try (ServiceCallScope scope = span.makeCurrent()) {
+                page = collectionClient.findPageTracedAsync(pageQuery, pageNumber.incrementAndGet());
+            } catch (RuntimeException e) {
+                sink.error(e);
+                return;
+            }
+            inFlight = page;
+            page.whenComplete((result, error) -> {
+                if (error != null) {
+                    sink.error(error instanceof CompletionException ? error.getCause() : error);
+                    return;
+                }
+                documents = result.getResults().iterator();
+                pageState = result.getPageState().orElse(null);
+                lastPage  = pageState == null;
+                inFlight  = null;
+                drain();
+            });
+        }
+
+        /**
+         * Abort the page in flight.
+         */
+        private void cancel() {
+            CompletableFuture<Page<JsonDocumentResult>> page = inFlight;
+            if (page != null) {
+                page.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Send a call on subscription, the tracing context of the caller is kept. Cancelling the subscription
+     * aborts the call.
+     */
+    private <T> Mono<T> call(Supplier<CompletableFuture<T>> request) {
+        return Mono.fromFuture(ServiceCallTracing.wrap(request));
+    }
+
+}
@@ -0,0 +1,254 @@
+package io.stargate.sdk.data;
+
+import com.evanlennick.retry4j.CallExecutor;
+import com.evanlennick.retry4j.CallExecutorBuilder;
+import com.evanlennick.retry4j.config.RetryConfig;
+import com.evanlennick.retry4j.config.RetryConfigBuilder;
+import com.evanlennick.retry4j.exception.RetriesExhaustedException;
+import com.evanlennick.retry4j.exception.UnexpectedException;
+import io.stargate.sdk.core.domain.Page;
+import io.stargate.sdk.data.domain.ApiError;
+import io.stargate.sdk.data.domain.JsonDocumentResult;
+import io.stargate.sdk.data.domain.ScanCheckpoint;
+import io.stargate.sdk.data.domain.query.SelectQuery;
+import io.stargate.sdk.data.exception.DataApiException;
+import io.stargate.sdk.loadbalancer.NoneResourceAvailableException;
+import io.stargate.sdk.loadbalancer.UnavailableResourceException;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Scan of a query that can be resumed from a {@link ScanCheckpoint}.
+ * <p>
+ * The checkpoint follows the documents consumed and is handed to a listener each time a page is fully
+ * consumed, the application saves it and starts a new scan from it after a restart. A page request that
+ * fails is retried on its own, the scan goes on without reading the previous pages again.
+ * <p>
+ * Page retries come on top of the retries of the http client: each attempt of a page is an http call that
+ * {@link io.stargate.sdk.http.RetryHttpClient} already retries on connection errors and timeouts (3 tries
+ * by default). With the default page retry a page facing connection errors is requested up to 3 x 3 = 9
+ * times before the scan fails. Errors returned by the server (5xx, Data API server errors) are not retried
+ * by the http client, they are retried here only.
+ */
+@Slf4j
+public class ResumableScan implements Iterator<JsonDocumentResult> {
+
+    /** Server errors as reported by the http client, see RetryHttpClient. */
+    private static final Pattern HTTP_SERVER_ERROR = Pattern.compile(".*\\(http:5\\d\\d\\)$", Pattern.DOTALL);
+
+    /** Prefix of the Data API error codes raised by the server side (timeouts, unavailable nodes). */
+    private static final String DATA_API_SERVER_ERROR = "SERVER_";
+
+    /**
+     * Default retries of a page: 3 attempts on transient errors only, exponential backoff starting at 1 second.
+     * Invalid queries, authentication errors and other client errors fail at once.
+     */
+    public static final RetryConfig DEFAULT_PAGE_RETRY = new RetryConfigBuilder()
+            .retryOnCustomExceptionLogic(ResumableScan::isTransient)
+            .withDelayBetweenTries(Duration.of(1, ChronoUnit.SECONDS))
+            .withExponentialBackoff()
+            .withMaxNumberOfTries(3)
+            .build();
+
+    /** Client of the collection. */
+    private final CollectionClient collectionClient;
+
+    /** Query scanned. */
+    private final SelectQuery query;
+
+    /** Current position. */
+    private final ScanCheckpoint checkpoint;
+
+    /** Retries of a page. */
+    private RetryConfig pageRetry = DEFAULT_PAGE_RETRY;
+
+    /** Called with the checkpoint each time a page is fully consumed. */
+    private Consumer<ScanCheckpoint> checkpointListener;
+
+    /** Documents of the page being read. */
+    private List<JsonDocumentResult> documents;
+
+    /** Paging state of the page after the page being read. */
+    private String nextPageState;
+
+    /**
+     * Constructor with the query and the position to resume from.
+     *
+     * @param collectionClient
+     *      client of the collection
+     * @param query
+     *      query scanned, limit is not supported
+     * @param checkpoint
+     *      position to resume from, null to start from the beginning
+     */
+    public ResumableScan(@NonNull CollectionClient collectionClient, @NonNull SelectQuery query, ScanCheckpoint checkpoint) {
+        if (query.getLimit().isPresent()) {
+            throw new IllegalArgumentException("Limit is not supported in a resumable scan");
+        }
+        this.collectionClient = collectionClient;
+        this.query            = query;
+        this.checkpoint       = checkpoint == null ? new ScanCheckpoint() : checkpoint.copy();
+    }
+
+    /**
+     * Tell if an error of a page request is worth retrying: connection errors, timeouts, unavailable nodes
+     * and server errors (http 5xx, Data API server errors).
+     *
+     * @param error
+     *      error of a page request
+     * @return
+     *      if the page request can be retried
+     */
+    public static boolean isTransient(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof IOException
+                    || t instanceof TimeoutException
+                    || t instanceof UnavailableResourceException
+                    || t instanceof NoneResourceAvailableException) {
+                return true;
+            }
+            if (t instanceof DataApiException) {
+                ApiError apiError = ((DataApiException) t).getJsonApiError();
+                return apiError != null && apiError.getErrorCode() != null
+                        && apiError.getErrorCode().startsWith(DATA_API_SERVER_ERROR);
+            }
+            if (t.getMessage() != null && HTTP_SERVER_ERROR.matcher(t.getMessage()).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retries of a failed page request, see {@link #DEFAULT_PAGE_RETRY}.
+     *
+     * @param pageRetry
+     *      retry configuration
+     * @return
+     *      current instance
+     */
+    public ResumableScan pageRetry(@NonNull RetryConfig pageRetry) {
+        this.pageRetry = pageRetry;
+        return this;
+    }
+
+    /**
+     * Listener called with a copy of the checkpoint each time a page is fully consumed.
+     *
+     * @param listener
+     *      checkpoint listener
+     * @return
+     *      current instance
+     */
+    public ResumableScan onCheckpoint(Consumer<ScanCheckpoint> listener) {
+        this.checkpointListener = listener;
+        return this;
+    }
+
+    /**
+     * Position of the scan, after the last document returned.
+     *
+     * @return
+     *      copy of the checkpoint
+     */
+    public ScanCheckpoint getCheckpoint() {
+        return checkpoint.copy();
+    }
+
+    /**
+     * Remaining documents of the scan as a stream.
+     *
+     * @return
+     *      documents
+     */
+    public Stream<JsonDocumentResult> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        while (!checkpoint.isCompleted()) {
+            if (documents == null) {
+                Page<JsonDocumentResult> page = fetch();
+                documents     = page.getResults();
+                nextPageState = page.getPageState().orElse(null);
+            }
+            if (checkpoint.getOffset() < documents.size()) {
+                return true;
+            }
+            // Page fully consumed, move to the next one
+            documents = null;
+            checkpoint.setPageState(nextPageState);
+            checkpoint.setOffset(0);
+            checkpoint.setPages(checkpoint.getPages() + 1);
+            checkpoint.setCompleted(nextPageState == null);
+            if (checkpointListener != null) {
+                checkpointListener.accept(checkpoint.copy());
+            }
+        }
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JsonDocumentResult next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more documents");
+        }
+        JsonDocumentResult document = documents.get(checkpoint.getOffset());
+        checkpoint.setOffset(checkpoint.getOffset() + 1);
+        checkpoint.setCount(checkpoint.getCount() + 1);
+        return document;
+    }
+
+    /**
+     * Fetch the page of the checkpoint, retrying on failure.
+     */
+    @SuppressWarnings("unchecked")
+    private Page<JsonDocumentResult> fetch() {
+        SelectQuery pageQuery = query.copy();
+        if (checkpoint.getPageState() != null) {
+            pageQuery.setPageState(checkpoint.getPageState());
+        }
+        int pageNumber = (int) checkpoint.getPages() + 1;
+        CallExecutor<Page<JsonDocumentResult>> executor = new CallExecutorBuilder<Page<JsonDocumentResult>>()
+                .config(pageRetry)
+                .afterFailedTryListener(s -> log.warn("Failure on page {}, attempt {}/{}",
+                        pageNumber, s.getTotalTries(), pageRetry.getMaxNumberOfTries()))
+                .build();
+        try {
+            return executor.execute(() -> collectionClient.findPageTraced(pageQuery, pageNumber)).getResult();
+        } catch (RetriesExhaustedException e) {
+            throw rethrow(e.getStatus().getLastExceptionThatCausedRetry(), pageNumber);
+        } catch (UnexpectedException e) {
+            // Error not retried
+            throw rethrow(e.getCause(), pageNumber);
+        }
+    }
+
+    /**
+     * Error of a page request as thrown by the client.
+     */
+    private static RuntimeException rethrow(Throwable error, int pageNumber) {
+        if (error instanceof RuntimeException) {
+            return (RuntimeException) error;
+        }
+        return new IllegalStateException("Cannot fetch page " + pageNumber, error);
+    }
+
+}
@@ -1,5 +1,6 @@
 package io.stargate.sdk.data.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 
 import java.util.List;
@@ -20,6 +21,12 @@ public class ApiData {
      */
     JsonDocumentResult document;
 
+    /**
+     * List of documents as raw json, populated only for raw queries.
+     */
+    @JsonIgnore
+    List<JsonDocumentRaw> rawDocuments;
+
     /**
      * Next page state.
      */
@@ -0,0 +1,66 @@
+package io.stargate.sdk.data.domain;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Result of a findByIds: documents found in the order of the requested identifiers and identifiers
+ * with no document.
+ *
+ * @param <T>
+ *     represents the returned document
+ */
+@Getter
+public class FindByIdsResult<T> {
+
+    /**
+     * Documents found, in the order of the requested identifiers.
+     */
+    private final List<T> documents;
+
+    /**
+     * Identifiers with no document, in the order of the requested identifiers.
+     */
+    private final List<String> missingIds;
+
+    /**
+     * Constructor with documents and missing identifiers.
+     *
+     * @param documents
+     *      documents found
+     * @param missingIds
+     *      identifiers with no document
+     */
+    public FindByIdsResult(List<T> documents, List<String> missingIds) {
+        this.documents  = documents;
+        this.missingIds = missingIds;
+    }
+
+    /**
+     * Check if every identifier has a document.
+     *
+     * @return
+     *      no identifier is missing
+     */
+    public boolean isComplete() {
+        return missingIds.isEmpty();
+    }
+
+    /**
+     * Convert the documents.
+     *
+     * @param mapper
+     *      conversion of a document
+     * @param <R>
+     *      target document
+     * @return
+     *      result with converted documents
+     */
+    public <R> FindByIdsResult<R> map(Function<T, R> mapper) {
+        return new FindByIdsResult<>(documents.stream().map(mapper).collect(Collectors.toList()), missingIds);
+    }
+
+}
@@ -18,14 +18,19 @@ package io.stargate.sdk.data.domain;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.stargate.sdk.core.domain.ObjectMap;
 import io.stargate.sdk.data.domain.odm.Document;
+import io.stargate.sdk.serialization.CustomEJsonVectorDeserializer;
+import io.stargate.sdk.utils.Assert;
 import io.stargate.sdk.utils.JsonUtils;
 import lombok.Data;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 
+import java.io.IOException;
 import java.lang.reflect.Array;
 import java.time.Instant;
 import java.util.Calendar;
@@ -59,8 +64,27 @@ public class JsonDocument extends Document<Map<String, Object>> {
      *      json structure
      */
     public JsonDocument(String json) {
-        data(json);
-        parseIdAndVector();
+        Assert.hasLength(json, "json");
+        this.data = new LinkedHashMap<>();
+        // Streaming parse, the vector is decoded as primitives without boxing
+        try (JsonParser jp = JsonUtils.getDataApiSerializationProvider().createParser(json)) {
+            if (jp.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Json document should be an object");
+            }
+            while (jp.nextToken() == JsonToken.FIELD_NAME) {
+                String field = jp.currentName();
+                JsonToken token = jp.nextToken();
+                if ("_id".equals(field) && token == JsonToken.VALUE_STRING) {
+                    this.id = jp.getText();
+                } else if ("$vector".equals(field)) {
+                    this.vector = CustomEJsonVectorDeserializer.readVector(jp);
+                } else {
+                    data.put(field, JsonUtils.readValueForDataApi(jp, json, Object.class));
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot unmarshall object " + json, e);
+        }
     }
 
     /**
@@ -72,11 +96,7 @@ public class JsonDocument extends Document<Map<String, Object>> {
             data.remove("_id");
         }
         if (data.containsKey("$vector")) {
-            List<Double> doubleList = (List<Double>) data.get("$vector");
-            this.vector = new float[doubleList.size()];
-            for (int i = 0; i < doubleList.size(); i++) {
-                this.vector[i] = doubleList.get(i).floatValue();
-            }
+            this.vector = CustomEJsonVectorDeserializer.asVector(data.get("$vector"));
             data.remove("$vector");
         }
     }
@@ -0,0 +1,164 @@
+package io.stargate.sdk.data.domain;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.stargate.sdk.serialization.CustomEJsonVectorDeserializer;
+import io.stargate.sdk.utils.JsonUtils;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact index over the json of a document, used for lazy field access.
+ * <p>
+ * The json is scanned once to record the boundaries of each top level field, values are not
+ * decoded. A field is decoded on its first access only and the value cached.
+ */
+class JsonDocumentIndex {
+
+    /** Marker of a decoded null value, concurrent maps do not accept nulls. */
+    private static final Object NULL_VALUE = new Object();
+
+    /** Json source. */
+    private final String json;
+
+    /** Boundaries in the json (start, end) of each value, in order of the document. */
+    private final Map<String, int[]> fields = new LinkedHashMap<>();
+
+    /** Decoded values, documents can be shared between threads (near cache, coalesced reads). */
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+    /** Document id, decoded during the scan (scalar only). */
+    private String id;
+
+    /** Document similarity, decoded during the scan. */
+    private Float similarity;
+
+    /**
+     * Scan the document.
+     *
+     * @param json
+     *      document as json
+     */
+    JsonDocumentIndex(String json) {
+        this.json = json;
+        try (JsonParser jp = JsonUtils.getDataApiSerializationProvider().createParser(json)) {
+            if (jp.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Document should be a json object");
+            }
+            while (jp.nextToken() == JsonToken.FIELD_NAME) {
+                String field = jp.currentName();
+                JsonToken token = jp.nextToken();
+                if ("_id".equals(field) && token.isScalarValue()) {
+                    id = jp.getValueAsString();
+                } else if ("$similarity".equals(field)) {
+                    similarity = (token == JsonToken.VALUE_NULL) ? null : jp.getFloatValue();
+                } else {
+                    int start = (int) jp.currentTokenLocation().getCharOffset();
+                    jp.skipChildren();
+                    // Scalar tokens are read lazily, complete it for the end offset to be past the value
+                    jp.finishToken();
+                    fields.put(field, new int[] { start, (int) jp.currentLocation().getCharOffset() });
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot unmarshall object " + json, e);
+        }
+    }
+
+    /**
+     * Gets id.
+     *
+     * @return
+     *      document id
+     */
+    String getId() {
+        return id;
+    }
+
+    /**
+     * Gets similarity.
+     *
+     * @return
+     *      similarity if present
+     */
+    Float getSimilarity() {
+        return similarity;
+    }
+
+    /**
+     * Decode the vector.
+     *
+     * @return
+     *      vector if present
+     */
+    float[] getVector() {
+        int[] bounds = fields.get("$vector");
+        if (bounds == null) {
+            return null;
+        }
+        try (JsonParser jp = JsonUtils.getDataApiSerializationProvider().createParser(slice(bounds))) {
+            jp.nextToken();
+            return CustomEJsonVectorDeserializer.readVector(jp);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot unmarshall vector " + slice(bounds), e);
+        }
+    }
+
+    /**
+     * Check the presence of a field (vector excluded).
+     *
+     * @param key
+     *      field name
+     * @return
+     *      if the field exists
+     */
+    boolean contains(String key) {
+        return !"$vector".equals(key) && fields.containsKey(key);
+    }
+
+    /**
+     * Decode a field on first access.
+     *
+     * @param key
+     *      field name
+     * @return
+     *      decoded value
+     */
+    Object get(String key) {
+        if (!contains(key)) {
+            return null;
+        }
+        Object value = values.computeIfAbsent(key, k -> {
+            Object decoded = JsonUtils.unmarshallBeanForDataApi(slice(fields.get(k)), Object.class);
+            return decoded == null ? NULL_VALUE : decoded;
+        });
+        return value == NULL_VALUE ? null : value;
+    }
+
+    /**
+     * Decode all fields (vector excluded).
+     *
+     * @return
+     *      fields as a map
+     */
+    Map<String, Object> toMap() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        for (String key : fields.keySet()) {
+            if (contains(key)) {
+                data.put(key, get(key));
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Extract value of a field.
+     */
+    private String slice(int[] bounds) {
+        return json.substring(bounds[0], bounds[1]);
+    }
+
+}
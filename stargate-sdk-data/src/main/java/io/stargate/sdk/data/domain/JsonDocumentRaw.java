@@ -0,0 +1,82 @@
+package io.stargate.sdk.data.domain;
+
+import io.stargate.sdk.data.domain.odm.DocumentResult;
+import io.stargate.sdk.data.domain.odm.DocumentResultMapper;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Document returned as the raw json slice of the Api response.
+ * <p>
+ * Nothing is parsed until {@link #getDocument()} is invoked, services forwarding documents
+ * unchanged can use <code>getJson()</code> directly.
+ */
+public class JsonDocumentRaw {
+
+    /** Json of the document as returned by the Api. */
+    @Getter
+    private final String json;
+
+    /** Parsed document, lazily initialized. */
+    private volatile JsonDocumentResult document;
+
+    /**
+     * Constructor with the json content.
+     *
+     * @param json
+     *      document as json
+     */
+    public JsonDocumentRaw(@NonNull String json) {
+        this.json = json;
+    }
+
+    /**
+     * Parse the json on first access, fields of the document are themselves decoded lazily.
+     *
+     * @return
+     *      parsed document
+     */
+    public JsonDocumentResult getDocument() {
+        JsonDocumentResult result = document;
+        if (result == null) {
+            result = JsonDocumentResult.lazy(json);
+            document = result;
+        }
+        return result;
+    }
+
+    /**
+     * Parse the json and map as a bean.
+     *
+     * @param clazz
+     *      target class
+     * @return
+     *      mapped document
+     * @param <T>
+     *      type of bean
+     */
+    public <T> DocumentResult<T> getDocument(@NonNull Class<T> clazz) {
+        return new DocumentResult<>(getDocument(), clazz);
+    }
+
+    /**
+     * Parse the json and map with a mapper.
+     *
+     * @param mapper
+     *      custom mapper
+     * @return
+     *      mapped document
+     * @param <T>
+     *      type of bean
+     */
+    public <T> DocumentResult<T> getDocument(@NonNull DocumentResultMapper<T> mapper) {
+        return mapper.map(getDocument());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return json;
+    }
+
+}
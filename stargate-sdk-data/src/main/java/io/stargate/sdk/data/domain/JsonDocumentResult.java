@@ -1,11 +1,14 @@
 package io.stargate.sdk.data.domain;
 
 import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.stargate.sdk.data.domain.odm.DocumentResult;
 import io.stargate.sdk.utils.JsonUtils;
-import lombok.Data;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.Setter;
 
 import java.lang.reflect.Array;
@@ -21,20 +24,61 @@ import java.util.UUID;
  * Represents entity returns for find() queries working with shemaless documents.
  */
 @Getter @Setter
+@JsonDeserialize(using = JsonDocumentResultDeserializer.class)
 public class JsonDocumentResult extends DocumentResult<Map<String, Object>> {
 
     /**
-     * Output as a map (to use JsonAySetter annotation).
+     * Output as a map (to use JsonAySetter annotation), data is populated directly by {@link JsonDocumentResultDeserializer}.
      */
     @JsonAnySetter
     protected Map<String, Object> jsonRawData;
 
+    /**
+     * Index over the json for lazy documents, fields are decoded on first access.
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private JsonDocumentIndex lazyIndex;
+
     /**
      * Default constructor.
      */
     public JsonDocumentResult() {
     }
 
+    /**
+     * Create a document backed by its json, fields are decoded on first access and cached.
+     * <p>
+     * Only a scan of the json is done at creation, a good fit for wide documents where only a few
+     * fields are read. A call to {@link #getData()} decodes the remaining fields.
+     *
+     * @param json
+     *      document as json
+     * @return
+     *      lazy document
+     */
+    public static JsonDocumentResult lazy(@NonNull String json) {
+        JsonDocumentResult result = new JsonDocumentResult();
+        result.lazyIndex  = new JsonDocumentIndex(json);
+        result.id         = result.lazyIndex.getId();
+        result.similarity = result.lazyIndex.getSimilarity();
+        return result;
+    }
+
+    /**
+     * Vector is decoded on first access for lazy documents.
+     *
+     * @return
+     *      vector
+     */
+    @Override
+    public float[] getVector() {
+        if (vector == null && lazyIndex != null) {
+            vector = lazyIndex.getVector();
+        }
+        return vector;
+    }
+
     /**
      * For a schemaless document you might want to overrride.
      *
@@ -56,11 +100,26 @@ public class JsonDocumentResult extends DocumentResult<Map<String, Object>> {
     @SuppressWarnings("unchecked")
     public Map<String, Object> getData() {
         if (data == null) {
-            data = JsonUtils.convertValueForDataApi(jsonRawData, Map.class);
+            data = (lazyIndex != null) ? lazyIndex.toMap() : JsonUtils.convertValueForDataApi(jsonRawData, Map.class);
         }
         return super.getData();
     }
 
+    /**
+     * Access a value without materializing the whole document for lazy documents.
+     *
+     * @param key
+     *      field name
+     * @return
+     *      value or null
+     */
+    private Object getValue(String key) {
+        if (data == null && lazyIndex != null) {
+            return lazyIndex.get(key);
+        }
+        return getData().get(key);
+    }
+
     /**
      * Access element from the map.
      *
@@ -76,37 +135,38 @@ public class JsonDocumentResult extends DocumentResult<Map<String, Object>> {
     @SuppressWarnings("unchecked")
     private <K> K get(String key, Class<K> type) {
         Objects.requireNonNull(type, "Type is required");
-        if (getData().containsKey(key)) {
-            if (type.isAssignableFrom(data.get(key).getClass())) {
-                return (K) data.get(key);
+        if (isAttributeExist(key)) {
+            Object value = getValue(key);
+            if (type.isAssignableFrom(value.getClass())) {
+                return (K) value;
             }
             // Integer -> Long
-            if (type.equals(Long.class) && data.get(key) instanceof Integer) {
-                return (K) Long.valueOf((Integer) data.get(key));
+            if (type.equals(Long.class) && value instanceof Integer) {
+                return (K) Long.valueOf((Integer) value);
             }
             // Integer -> Short
-            if (type.equals(Short.class) && data.get(key) instanceof Integer) {
-                return (K) (Short) ((Integer) data.get(key)).shortValue();
+            if (type.equals(Short.class) && value instanceof Integer) {
+                return (K) (Short) ((Integer) value).shortValue();
             }
             // Integer -> Byte
-            if (type.equals(Byte.class) && data.get(key) instanceof Integer) {
-                return (K) (Byte) ((Integer) data.get(key)).byteValue();
+            if (type.equals(Byte.class) && value instanceof Integer) {
+                return (K) (Byte) ((Integer) value).byteValue();
             }
             // Double -> Float
-            if (type.equals(Float.class) && data.get(key) instanceof Double) {
-                return (K) (Float) ((Double) data.get(key)).floatValue();
+            if (type.equals(Float.class) && value instanceof Double) {
+                return (K) (Float) ((Double) value).floatValue();
             }
             // String -> Character
-            if (type.equals(Character.class) && data.get(key) instanceof String) {
-                return (K) (Character) ((String) data.get(key)).charAt(0);
+            if (type.equals(Character.class) && value instanceof String) {
+                return (K) (Character) ((String) value).charAt(0);
             }
             // String -> UUID
-            if (type.equals(UUID.class) && data.get(key) instanceof String) {
-                return (K) UUID.fromString((String) data.get(key));
+            if (type.equals(UUID.class) && value instanceof String) {
+                return (K) UUID.fromString((String) value);
             }
 
             throw new IllegalArgumentException("Argument '" + key + "' is not a " + type.getSimpleName() + " but a "
-                    + data.get(key).getClass().getSimpleName());
+                    + value.getClass().getSimpleName());
         }
         return null;
     }
@@ -160,7 +220,7 @@ public class JsonDocumentResult extends DocumentResult<Map<String, Object>> {
      *     type f parameters
      */
     public <T> T getObject(String k, Class<T> type) {
-        return JsonUtils.convertValueForDataApi(getData().get(k), type);
+        return JsonUtils.convertValueForDataApi(getValue(k), type);
     }
 
     /**
@@ -316,7 +376,10 @@ public class JsonDocumentResult extends DocumentResult<Map<String, Object>> {
      *      if key exists
      */
     public boolean isAttributeExist(String key) {
-        return data.containsKey(key);
+        if (data == null && lazyIndex != null) {
+            return lazyIndex.contains(key);
+        }
+        return getData().containsKey(key);
     }
 
 }
@@ -0,0 +1,72 @@
+package io.stargate.sdk.data.domain;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.stargate.sdk.serialization.CustomEJsonVectorDeserializer;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Custom deserializer for JsonDocumentResult.
+ * <p>
+ * Reserved fields are decoded directly into the result: <code>_id</code> as a String,
+ * <code>$vector</code> as a primitive float[] and <code>$similarity</code> as a float, also kept in
+ * the data map. Other fields are read once into the data map (no intermediate any-setter map).
+ */
+public class JsonDocumentResultDeserializer extends StdDeserializer<JsonDocumentResult> {
+
+    /** Serial. */
+    private static final long serialVersionUID = -2407339716437164418L;
+
+    /**
+     * Default constructor.
+     */
+    public JsonDocumentResultDeserializer() {
+        super(JsonDocumentResult.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JsonDocumentResult deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        JsonToken token = jp.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jp.nextToken();
+        } else if (token != JsonToken.FIELD_NAME) {
+            return (JsonDocumentResult) ctxt.handleUnexpectedToken(JsonDocumentResult.class, jp);
+        }
+        JsonDocumentResult result = new JsonDocumentResult();
+        Map<String, Object> data = new LinkedHashMap<>();
+        for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String field = jp.currentName();
+            JsonToken valueToken = jp.nextToken();
+            switch (field) {
+                case "_id":
+                    if (valueToken.isScalarValue()) {
+                        result.setId(jp.getValueAsString());
+                    } else {
+                        // structured identifiers ($uuid, $objectId) kept as is
+                        data.put(field, ctxt.readValue(jp, Object.class));
+                    }
+                break;
+                case "$vector":
+                    result.setVector(CustomEJsonVectorDeserializer.readVector(jp));
+                break;
+                case "$similarity":
+                    Float similarity = valueToken == JsonToken.VALUE_NULL ? null : jp.getFloatValue();
+                    result.setSimilarity(similarity);
+                    // also kept in the data, as read before through getData() and getFloat("$similarity")
+                    data.put(field, valueToken == JsonToken.VALUE_NULL ? null : jp.getNumberValue());
+                break;
+                default:
+                    data.put(field, ctxt.readValue(jp, Object.class));
+            }
+        }
+        result.setData(data);
+        return result;
+    }
+
+}
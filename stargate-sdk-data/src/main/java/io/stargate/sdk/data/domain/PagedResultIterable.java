@@ -0,0 +1,240 @@
+package io.stargate.sdk.data.domain;
+
+import io.stargate.sdk.core.domain.Page;
+import io.stargate.sdk.core.domain.PagePrefetcher;
+import io.stargate.sdk.data.domain.query.SelectQuery;
+import io.stargate.sdk.tracing.ServiceCallSpan;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Results of a find fetched page by page, when the consumer needs them.
+ * <p>
+ * Each page is fetched with its own copy of the query, so the query is not altered and the iterable can be
+ * iterated again. Only the pages being consumed, and the pages prefetched if enabled, are held in memory
+ * and, when the query has a limit, no page is requested once the limit is reached.
+ *
+ * @param <DOC>
+ *          parameterized type
+ */
+public class PagedResultIterable<DOC> implements ResultIterable<DOC> {
+
+    /** Query to page on. */
+    private final SelectQuery query;
+
+    /** Fetch a page for a query and a page number starting at 1. */
+    private final BiFunction<SelectQuery, Integer, Page<DOC>> pageFetcher;
+
+    /** Minimum number of documents fetched before handing them out, one page by default. */
+    private int batchSize = 1;
+
+    /** Pages requested ahead while the current one is consumed, none by default. */
+    private int prefetchDepth;
+
+    /** Executor of the pages requested ahead, null for the default pool. */
+    private Executor prefetchExecutor;
+
+    /** Start the span of the operation, one per iteration, none when null. */
+    private Supplier<ServiceCallSpan> operationSpan;
+
+    /** If an iterator reached the end of the results. */
+    private volatile boolean fullyFetched;
+
+    /**
+     * Constructor with query and page fetcher.
+     *
+     * @param query
+     *      query, paging state is read as a starting point
+     * @param pageFetcher
+     *      fetch a page for a query and a page number
+     */
+    public PagedResultIterable(@NonNull SelectQuery query, @NonNull BiFunction<SelectQuery, Integer, Page<DOC>> pageFetcher) {
+        this.query       = query;
+        this.pageFetcher = pageFetcher;
+    }
+
+    /**
+     * Pages are fetched until at least batchSize documents are buffered, the Data API page size
+     * being fixed by the server a batch is a whole number of pages.
+     *
+     * @param batchSize
+     *      minimum number of documents fetched at once
+     * @return
+     *      current instance
+     */
+    @Override
+    public ResultIterable<DOC> batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size should be greater than 0");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Request the next pages while the current one is consumed, at most <code>depth</code> pages are held
+     * ahead of the consumer. Queries with a limit are not prefetched so nothing is fetched past the limit.
+     *
+     * @param depth
+     *      pages requested ahead, 0 to disable prefetching
+     * @return
+     *      current instance
+     */
+    public PagedResultIterable<DOC> prefetch(int depth) {
+        return prefetch(depth, null);
+    }
+
+    /**
+     * Request the next pages while the current one is consumed, on the provided executor.
+     *
+     * @param depth
+     *      pages requested ahead, 0 to disable prefetching
+     * @param executor
+     *      executor of the blocking page requests, null for the default pool of daemon threads
+     * @return
+     *      current instance
+     */
+    public PagedResultIterable<DOC> prefetch(int depth, Executor executor) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("Prefetch depth should be positive");
+        }
+        this.prefetchDepth    = depth;
+        this.prefetchExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Trace each iteration in an operation span, parent of the page spans. The span starts with the first
+     * page and ends when the results are exhausted, on error or when the stream is closed.
+     *
+     * @param operationSpan
+     *      start the span of the operation
+     * @return
+     *      current instance
+     */
+    public PagedResultIterable<DOC> operationSpan(Supplier<ServiceCallSpan> operationSpan) {
+        this.operationSpan = operationSpan;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isFullyFetched() {
+        return fullyFetched;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<DOC> iterator() {
+        return new PageIterator();
+    }
+
+    /**
+     * Sequential stream over the documents, closing the stream ends the operation span.
+     *
+     * @return
+     *      stream of documents
+     */
+    @Override
+    public Stream<DOC> stream() {
+        PageIterator it = new PageIterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false)
+                .onClose(it::close);
+    }
+
+    /**
+     * Iterate over the documents of the current batch, fetching the next one when consumed.
+     */
+    private final class PageIterator implements Iterator<DOC> {
+
+        /** Maximum number of documents, null for all. */
+        private final Integer limit = query.getLimit().orElse(null);
+
+        /** Pages of this iterator, each fetched with its own copy of the query. */
+        private final PagePrefetcher<DOC> pages = new PagePrefetcher<>((pageState, pageNumber) -> {
+            SelectQuery pageQuery = query.copy();
+            if (pageState != null) {
+                pageQuery.setPageState(pageState);
+            }
+            return pageFetcher.apply(pageQuery, pageNumber);
+        }, null, limit == null ? prefetchDepth : 0, prefetchExecutor).operationSpan(operationSpan);
+
+        /** Documents of the current batch. */
+        private Iterator<DOC> batch = Collections.emptyIterator();
+
+        /** Documents returned. */
+        private int returned;
+
+        /** No more pages. */
+        private boolean lastPage;
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            if (limit != null && returned >= limit) {
+                fullyFetched = true;
+                close();
+                return false;
+            }
+            while (!batch.hasNext()) {
+                if (lastPage) {
+                    fullyFetched = true;
+                    close();
+                    return false;
+                }
+                batch = fetchBatch();
+            }
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DOC next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more documents");
+            }
+            returned++;
+            return batch.next();
+        }
+
+        /**
+         * Fetch pages until the batch size is reached, previous documents are released.
+         */
+        private Iterator<DOC> fetchBatch() {
+            List<DOC> documents = null;
+            do {
+                Page<DOC> page    = pages.next();
+                List<DOC> results = page.isEmpty() ? Collections.emptyList() : page.getResults();
+                lastPage          = !page.getPageState().isPresent();
+                if (documents == null && (batchSize <= results.size() || lastPage)) {
+                    return results.iterator();
+                }
+                if (documents == null) {
+                    documents = new ArrayList<>();
+                }
+                documents.addAll(results);
+            } while (!lastPage && documents.size() < batchSize && (limit == null || returned + documents.size() < limit));
+            return documents.iterator();
+        }
+
+        /**
+         * Stop the iteration, the operation span ends.
+         */
+        private void close() {
+            pages.close();
+        }
+    }
+
+}
@@ -1,10 +1,10 @@
 package io.stargate.sdk.data.domain;
 
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -43,14 +43,18 @@ public interface ResultIterable<DOC> extends Iterable<DOC> {
      *      all elements
      */
     default List<DOC> all() {
-        if (!this.iterator().hasNext()) {
-            return Collections.emptyList();
-        } else {
-            // not parallel
-            return StreamSupport
-                    .stream(this.spliterator(), false)
-                    .collect(Collectors.toList());
-        }
+        // a single iteration, each iterator fetches the results again
+        return stream().collect(Collectors.toList());
+    }
+
+    /**
+     * Sequential stream over the elements, fetched as they are consumed.
+     *
+     * @return
+     *      stream of elements
+     */
+    default Stream<DOC> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
     }
 
     /**
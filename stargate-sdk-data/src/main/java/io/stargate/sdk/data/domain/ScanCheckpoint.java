@@ -0,0 +1,82 @@
+package io.stargate.sdk.data.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.stargate.sdk.utils.JsonUtils;
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * Position of a scan, saved to resume the scan after a failure or a restart.
+ * <p>
+ * The position is the paging state of the page being read and the number of documents of this page
+ * already consumed: resuming fetches the page again and skips these documents. The paging state is
+ * opaque and only valid for the query that produced it.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ScanCheckpoint implements Serializable {
+
+    /** Serial. */
+    private static final long serialVersionUID = 3165946087201573648L;
+
+    /** Paging state of the page being read, null for the first page. */
+    private String pageState;
+
+    /** Documents of the page being read already consumed. */
+    private int offset;
+
+    /** Documents consumed since the beginning of the scan. */
+    private long count;
+
+    /** Pages fully consumed since the beginning of the scan. */
+    private long pages;
+
+    /** All documents have been consumed. */
+    private boolean completed;
+
+    /**
+     * Default constructor, start of a scan.
+     */
+    public ScanCheckpoint() {
+    }
+
+    /**
+     * Copy of the checkpoint.
+     *
+     * @return
+     *      copy
+     */
+    public ScanCheckpoint copy() {
+        ScanCheckpoint copy = new ScanCheckpoint();
+        copy.pageState = pageState;
+        copy.offset    = offset;
+        copy.count     = count;
+        copy.pages     = pages;
+        copy.completed = completed;
+        return copy;
+    }
+
+    /**
+     * Serialize the checkpoint as json.
+     *
+     * @return
+     *      json
+     */
+    public String toJson() {
+        return JsonUtils.marshall(this);
+    }
+
+    /**
+     * Read a checkpoint serialized as json.
+     *
+     * @param json
+     *      json
+     * @return
+     *      checkpoint
+     */
+    public static ScanCheckpoint fromJson(String json) {
+        return JsonUtils.unmarshallBean(json, ScanCheckpoint.class);
+    }
+
+}
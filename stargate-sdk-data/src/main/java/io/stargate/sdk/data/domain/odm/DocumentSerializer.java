@@ -36,18 +36,16 @@ public class DocumentSerializer<T> extends JsonSerializer<Document<T>> {
         } else {
             dataMap = JsonUtils.convertValueForDataApi(value.getData(), Map.class);
         }
+        // Using the provider (and not the generator codec) to keep serialization attributes
         for (Map.Entry<String, Object> entry : dataMap.entrySet()) {
-            gen.writeObjectField(entry.getKey(), entry.getValue());
+            serializerProvider.defaultSerializeField(entry.getKey(), entry.getValue(), gen);
         }
         if (!dataMap.containsKey("_id") && value.getId() != null) {
             gen.writeStringField("_id", value.getId());
         }
         if (!dataMap.containsKey("$vector") && value.getVector() != null) {
-            gen.writeArrayFieldStart("$vector");
-            for (float v : value.getVector()) {
-                gen.writeNumber(v);
-            }
-            gen.writeEndArray();
+            // Vector codec registered for float[] (array or EJson binary)
+            serializerProvider.defaultSerializeField("$vector", value.getVector(), gen);
         }
         gen.writeEndObject();
     }
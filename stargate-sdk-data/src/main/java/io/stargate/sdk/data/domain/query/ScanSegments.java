@@ -0,0 +1,103 @@
+package io.stargate.sdk.data.domain.query;
+
+import io.stargate.sdk.http.domain.FilterOperator;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Split a collection in disjoint segments scanned independently, each segment is a filter.
+ * <p>
+ * The Data API does not expose the token ranges of a collection, segments are either ranges of _id from
+ * split points or filters provided by the caller on a field known to be evenly distributed. Segments
+ * should not overlap and should cover the collection, or documents are read twice or skipped.
+ */
+public class ScanSegments {
+
+    /**
+     * Hide default constructor
+     */
+    private ScanSegments() {}
+
+    /**
+     * Segments from filters provided by the caller.
+     *
+     * @param filters
+     *      one filter per segment
+     * @return
+     *      segments
+     */
+    public static List<Filter> of(@NonNull Filter... filters) {
+        if (filters.length == 0) {
+            throw new IllegalArgumentException("At least one segment is expected");
+        }
+        return Arrays.asList(filters);
+    }
+
+    /**
+     * Ranges of _id delimited by split points: <code>[, p1[</code>, <code>[p1, p2[</code> ... <code>[pn, ]</code>.
+     *
+     * @param splitPoints
+     *      sorted identifiers delimiting the ranges
+     * @return
+     *      splitPoints.length + 1 segments
+     */
+    public static List<Filter> idRanges(@NonNull String... splitPoints) {
+        for (int i = 1; i < splitPoints.length; i++) {
+            if (splitPoints[i - 1].compareTo(splitPoints[i]) >= 0) {
+                throw new IllegalArgumentException("Split points should be sorted and distinct");
+            }
+        }
+        List<Filter> segments = new ArrayList<>();
+        String lower = null;
+        for (String splitPoint : splitPoints) {
+            segments.add(idRange(lower, splitPoint));
+            lower = splitPoint;
+        }
+        segments.add(idRange(lower, null));
+        return segments;
+    }
+
+    /**
+     * Even ranges of _id for collections using the default identifiers, random UUIDs as lowercase
+     * hexadecimal strings.
+     *
+     * @param segments
+     *      number of segments
+     * @return
+     *      segments
+     */
+    public static List<Filter> uuidRanges(int segments) {
+        if (segments < 1) {
+            throw new IllegalArgumentException("Number of segments should be greater than 0");
+        }
+        String[] splitPoints = new String[segments - 1];
+        for (int i = 1; i < segments; i++) {
+            splitPoints[i - 1] = String.format("%08x", (i * 0x100000000L) / segments);
+        }
+        return idRanges(splitPoints);
+    }
+
+    /**
+     * Filter on a range of _id, bounds are optional.
+     */
+    private static Filter idRange(String lower, String upper) {
+        Map<String, Object> range = new HashMap<>();
+        if (lower != null) {
+            range.put(FilterOperator.GREATER_THAN_OR_EQUALS_TO.getOperator(), lower);
+        }
+        if (upper != null) {
+            range.put(FilterOperator.LESS_THAN.getOperator(), upper);
+        }
+        Filter filter = new Filter();
+        if (!range.isEmpty()) {
+            filter.getFilter().put("_id", range);
+        }
+        return filter;
+    }
+
+}
@@ -160,6 +160,21 @@ public class SelectQuery {
         return Optional.empty();
     }
 
+    /**
+     * Copy of the query with its own options, paging on the copy does not alter this query.
+     *
+     * @return
+     *      copy of the query
+     */
+    public SelectQuery copy() {
+        SelectQuery copy = new SelectQuery();
+        copy.projection = projection;
+        copy.filter     = filter;
+        copy.sort       = sort;
+        copy.options    = options == null ? null : new HashMap<>(options);
+        return copy;
+    }
+
     /**
      * Update page state
      *
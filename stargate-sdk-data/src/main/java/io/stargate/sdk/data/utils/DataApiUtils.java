@@ -1,8 +1,13 @@
 package io.stargate.sdk.data.utils;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.stargate.sdk.audit.ServiceCallContext;
 import io.stargate.sdk.data.domain.ApiData;
 import io.stargate.sdk.data.domain.ApiError;
 import io.stargate.sdk.data.domain.ApiResponse;
+import io.stargate.sdk.data.domain.JsonDocumentRaw;
 import io.stargate.sdk.data.exception.DataApiDocumentAlreadyExistException;
 import io.stargate.sdk.data.exception.DataApiErrorCode;
 import io.stargate.sdk.data.exception.DataApiException;
@@ -10,10 +15,19 @@ import io.stargate.sdk.data.exception.DataApiInvalidArgumentException;
 import io.stargate.sdk.http.LoadBalancedHttpClient;
 import io.stargate.sdk.http.ServiceHttp;
 import io.stargate.sdk.http.domain.ApiResponseHttp;
+import io.stargate.sdk.tracing.ServiceCallScope;
+import io.stargate.sdk.tracing.ServiceCallSpan;
+import io.stargate.sdk.tracing.ServiceCallTracing;
 import io.stargate.sdk.utils.JsonUtils;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 
 import static io.stargate.sdk.utils.AnsiUtils.magenta;
@@ -25,6 +39,27 @@ import static io.stargate.sdk.utils.AnsiUtils.yellow;
 @Slf4j
 public class DataApiUtils {
 
+    /** Debug log format for requests, colors are computed once. */
+    private static final String LOG_REQUEST       = "[request]=" + yellow("{}");
+
+    /** Debug log format for responses. */
+    private static final String LOG_RESPONSE      = "[response]=" + yellow("{}");
+
+    /** Debug log format for a single document. */
+    private static final String LOG_DOCUMENT      = "[apiData/document]=" + yellow("1 document retrieved, id='{}'");
+
+    /** Debug log format for documents. */
+    private static final String LOG_DOCUMENTS     = "[apiData/documents]=" + yellow("{} document(s).");
+
+    /** Debug log format for raw documents. */
+    private static final String LOG_RAW_DOCUMENTS = "[apiData/rawDocuments]=" + yellow("{} document(s).");
+
+    /** Type of the status of a raw response. */
+    private static final TypeReference<Map<String, Object>> STATUS_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    /** Type of the errors of a raw response. */
+    private static final TypeReference<List<ApiError>> ERRORS_TYPE = new TypeReference<List<ApiError>>() {};
+
     /**
      * Hide Constructor.
      */
@@ -48,38 +83,291 @@ public class DataApiUtils {
             @NonNull LoadBalancedHttpClient stargateHttpClient,
             @NonNull Function<ServiceHttp, String> rootResource,
             @NonNull String operation, Object body) {
+        return executeOperation(stargateHttpClient, rootResource, operation, body, false);
+    }
+
+    /**
+     * Wrapper to execute Http POST request.
+     *
+     * @param stargateHttpClient
+     *      http client
+     * @param operation
+     *      operation name
+     * @param rootResource
+     *      rest resource
+     * @param body
+     *      body to send
+     * @param binaryVectors
+     *      if true vectors are sent as EJson binary
+     * @return
+     *      json Api response
+     */
+    public static ApiResponse executeOperation(
+            @NonNull LoadBalancedHttpClient stargateHttpClient,
+            @NonNull Function<ServiceHttp, String> rootResource,
+            @NonNull String operation, Object body, boolean binaryVectors) {
+        return executeOperation(stargateHttpClient, rootResource, operation, body, binaryVectors,
+                json -> JsonUtils.unmarshallBeanForDataApi(json, ApiResponse.class));
+    }
+
+    /**
+     * Wrapper to execute Http POST request, documents are kept as raw json slices of the response.
+     *
+     * @param stargateHttpClient
+     *      http client
+     * @param operation
+     *      operation name
+     * @param rootResource
+     *      rest resource
+     * @param body
+     *      body to send
+     * @param binaryVectors
+     *      if true vectors are sent as EJson binary
+     * @return
+     *      json Api response with <code>rawDocuments</code> populated
+     */
+    public static ApiResponse executeOperationRaw(
+            @NonNull LoadBalancedHttpClient stargateHttpClient,
+            @NonNull Function<ServiceHttp, String> rootResource,
+            @NonNull String operation, Object body, boolean binaryVectors) {
+        return executeOperation(stargateHttpClient, rootResource, operation, body, binaryVectors,
+                DataApiUtils::unmarshallRawResponse);
+    }
+
+    /**
+     * Wrapper to execute Http POST request on the non-blocking client.
+     *
+     * @param stargateHttpClient
+     *      http client
+     * @param operation
+     *      operation name
+     * @param rootResource
+     *      rest resource
+     * @param body
+     *      body to send
+     * @param binaryVectors
+     *      if true vectors are sent as EJson binary
+     * @return
+     *      json Api response when available
+     */
+    public static CompletableFuture<ApiResponse> executeOperationAsync(
+            @NonNull LoadBalancedHttpClient stargateHttpClient,
+            @NonNull Function<ServiceHttp, String> rootResource,
+            @NonNull String operation, Object body, boolean binaryVectors) {
+        return executeOperationAsync(stargateHttpClient, rootResource, operation, body, binaryVectors,
+                json -> JsonUtils.unmarshallBeanForDataApi(json, ApiResponse.class));
+    }
+
+    /**
+     * Wrapper to execute Http POST request on the non-blocking client, documents are kept as raw json
+     * slices of the response.
+     *
+     * @param stargateHttpClient
+     *      http client
+     * @param operation
+     *      operation name
+     * @param rootResource
+     *      rest resource
+     * @param body
+     *      body to send
+     * @param binaryVectors
+     *      if true vectors are sent as EJson binary
+     * @return
+     *      json Api response with <code>rawDocuments</code> populated when available
+     */
+    public static CompletableFuture<ApiResponse> executeOperationRawAsync(
+            @NonNull LoadBalancedHttpClient stargateHttpClient,
+            @NonNull Function<ServiceHttp, String> rootResource,
+            @NonNull String operation, Object body, boolean binaryVectors) {
+        return executeOperationAsync(stargateHttpClient, rootResource, operation, body, binaryVectors,
+                DataApiUtils::unmarshallRawResponse);
+    }
+
+    /**
+     * Execute the request and parse the response with provided function.
+     */
+    private static ApiResponse executeOperation(
+            LoadBalancedHttpClient stargateHttpClient,
+            Function<ServiceHttp, String> rootResource,
+            String operation, Object body, boolean binaryVectors,
+            Function<String, ApiResponse> responseParser) {
+        String stringBody = buildOperationBody(operation, body, binaryVectors);
+        ApiResponseHttp httpRes;
+        String previousOperation = ServiceCallContext.setOperation(operation);
+        ServiceCallSpan span = ServiceCallTracing.startSpan(operation).setAttribute("stargate.operation", operation);
+        try (ServiceCallScope scope = span.makeCurrent()) {
+            httpRes = stargateHttpClient.POST(rootResource, stringBody);
+        } catch (RuntimeException e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            span.end();
+            ServiceCallContext.restoreOperation(previousOperation);
+        }
+        return readResponse(operation, httpRes, responseParser);
+    }
+
+    /**
+     * Send the request on the non-blocking client, the response is parsed on the I/O thread completing
+     * the call. The span of the operation ends with the call.
+     */
+    private static CompletableFuture<ApiResponse> executeOperationAsync(
+            LoadBalancedHttpClient stargateHttpClient,
+            Function<ServiceHttp, String> rootResource,
+            String operation, Object body, boolean binaryVectors,
+            Function<String, ApiResponse> responseParser) {
+        String stringBody = buildOperationBody(operation, body, binaryVectors);
+        CompletableFuture<ApiResponseHttp> call;
+        String previousOperation = ServiceCallContext.setOperation(operation);
+        ServiceCallSpan span = ServiceCallTracing.startSpan(operation).setAttribute("stargate.operation", operation);
+        try (ServiceCallScope scope = span.makeCurrent()) {
+            call = stargateHttpClient.POST_ASYNC(rootResource, stringBody);
+        } catch (RuntimeException e) {
+            span.recordError(e);
+            span.end();
+            throw e;
+        } finally {
+            ServiceCallContext.restoreOperation(previousOperation);
+        }
+        CompletableFuture<ApiResponse> result = call.whenComplete((httpRes, error) -> {
+            if (error != null) {
+                span.recordError(error instanceof CompletionException ? error.getCause() : error);
+            }
+            span.end();
+        }).thenApply(httpRes -> readResponse(operation, httpRes, responseParser));
+        result.whenComplete((res, error) -> {
+            if (result.isCancelled()) {
+                call.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Json body of an operation.
+     */
+    private static String buildOperationBody(String operation, Object body, boolean binaryVectors) {
         String stringBody = "{\"" + operation + "\":";
         if (body == null) {
             stringBody += "{}";
         } else if (body instanceof String) {
             stringBody += (String) body;
         } else {
-            String obj = JsonUtils.marshallForDataApi(body);
-            //log.debug("[body(class)]=" + yellow(" {}"), body.getClass());
-            //log.debug("[body(str)]=" + yellow(" {}"), obj);
-            stringBody += obj;
+            stringBody += JsonUtils.marshallForDataApi(body, binaryVectors);
         }
         stringBody += "}";
-        log.debug(magenta(operation) + "[request]=" + yellow("{}"), stringBody);
-        ApiResponseHttp httpRes = stargateHttpClient.POST(rootResource, stringBody);
-        log.debug(magenta(operation) + "[response]=" + yellow("{}"), httpRes.getBody());
-        ApiResponse jsonRes = JsonUtils.unmarshallBeanForDataApi(httpRes.getBody(), ApiResponse.class);
+        if (log.isDebugEnabled()) {
+            log.debug(magenta(operation) + LOG_REQUEST, stringBody);
+        }
+        return stringBody;
+    }
+
+    /**
+     * Parse the response of an operation and raise its errors.
+     */
+    private static ApiResponse readResponse(String operation, ApiResponseHttp httpRes, Function<String, ApiResponse> responseParser) {
+        ApiResponse jsonRes = responseParser.apply(httpRes.getBody());
+        if (log.isDebugEnabled()) {
+            logResponse(operation, httpRes.getBody(), jsonRes);
+        }
+
+        // If insertedIds is present then it could lead to upsert
+        if (jsonRes.getStatus()!= null && !jsonRes.getStatus().containsKey("insertedIds") ||
+           (jsonRes.getStatus()==null && jsonRes.getErrors() != null)) {
+            DataApiUtils.validate(jsonRes);
+        }
+        return jsonRes;
+    }
+
+    /**
+     * Log the response of an operation, only called when debug is enabled.
+     */
+    private static void logResponse(String operation, String body, ApiResponse jsonRes) {
+        String prefix = magenta(operation);
+        log.debug(prefix + LOG_RESPONSE, body);
         if (jsonRes.getData() != null) {
             ApiData data = jsonRes.getData();
             if (data.getDocument() != null) {
-                log.debug(magenta(operation) + "[apiData/document]=" + yellow("1 document retrieved, id='{}'"), data.getDocument().getId());
+                log.debug(prefix + LOG_DOCUMENT, data.getDocument().getId());
             }
             if (data.getDocuments() != null) {
-                log.debug(magenta(operation) + "[apiData/documents]=" + yellow("{} document(s)."), data.getDocuments().size());
+                log.debug(prefix + LOG_DOCUMENTS, data.getDocuments().size());
+            }
+            if (data.getRawDocuments() != null) {
+                log.debug(prefix + LOG_RAW_DOCUMENTS, data.getRawDocuments().size());
             }
         }
+    }
 
-        // If insertedIds is present then it could lead to upsert
-        if (jsonRes.getStatus()!= null && !jsonRes.getStatus().containsKey("insertedIds") ||
-           (jsonRes.getStatus()==null && jsonRes.getErrors() != null)) {
-            DataApiUtils.validate(jsonRes);
+    /**
+     * Parse an Api response keeping documents as raw json.
+     * <p>
+     * The response is read with the streaming parser, each document of <code>data.documents</code> is
+     * skipped and its boundaries used to slice the original body: no map and no value are built for it.
+     *
+     * @param body
+     *      response body
+     * @return
+     *      Api response
+     */
+    public static ApiResponse unmarshallRawResponse(String body) {
+        try (JsonParser jp = JsonUtils.getDataApiSerializationProvider().createParser(body)) {
+            ApiResponse response = new ApiResponse();
+            if (jp.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Api response should be a json object");
+            }
+            while (jp.nextToken() == JsonToken.FIELD_NAME) {
+                String field = jp.currentName();
+                JsonToken token = jp.nextToken();
+                if ("data".equals(field) && token == JsonToken.START_OBJECT) {
+                    response.setData(readRawData(jp, body));
+                } else if ("status".equals(field) && token == JsonToken.START_OBJECT) {
+                    response.setStatus(JsonUtils.readValueForDataApi(jp, body, STATUS_TYPE.getType()));
+                } else if ("errors".equals(field) && token == JsonToken.START_ARRAY) {
+                    response.setErrors(JsonUtils.readValueForDataApi(jp, body, ERRORS_TYPE.getType()));
+                } else {
+                    jp.skipChildren();
+                }
+            }
+            return response;
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot unmarshall object " + body, e);
         }
-        return jsonRes;
+    }
+
+    /**
+     * Read the 'data' object of the response, parser is positioned on START_OBJECT.
+     */
+    private static ApiData readRawData(JsonParser jp, String body) throws IOException {
+        ApiData data = new ApiData();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String field = jp.currentName();
+            JsonToken token = jp.nextToken();
+            if ("documents".equals(field) && token == JsonToken.START_ARRAY) {
+                List<JsonDocumentRaw> documents = new ArrayList<>();
+                while (jp.nextToken() == JsonToken.START_OBJECT) {
+                    documents.add(readRawDocument(jp, body));
+                }
+                data.setRawDocuments(documents);
+            } else if ("document".equals(field) && token == JsonToken.START_OBJECT) {
+                data.setRawDocuments(new ArrayList<>(List.of(readRawDocument(jp, body))));
+            } else if ("nextPageState".equals(field)) {
+                data.setNextPageState(token == JsonToken.VALUE_NULL ? null : jp.getValueAsString());
+            } else {
+                jp.skipChildren();
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Slice a document out of the body, parser is positioned on START_OBJECT.
+     */
+    private static JsonDocumentRaw readRawDocument(JsonParser jp, String body) throws IOException {
+        int start = (int) jp.currentTokenLocation().getCharOffset();
+        jp.skipChildren();
+        int end   = (int) jp.currentLocation().getCharOffset();
+        return new JsonDocumentRaw(body.substring(start, end));
     }
 
     /**
@@ -19,13 +19,22 @@ package io.stargate.sdk.doc;
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.stargate.sdk.api.ApiResponse;
 import io.stargate.sdk.api.odm.RecordMapper;
+import io.stargate.sdk.audit.ServiceCallContext;
+import io.stargate.sdk.core.domain.CachedCount;
 import io.stargate.sdk.core.domain.Page;
+import io.stargate.sdk.core.domain.PagePrefetcher;
+import io.stargate.sdk.core.domain.SegmentedCount;
 import io.stargate.sdk.doc.domain.CollectionDefinition;
 import io.stargate.sdk.doc.domain.PageableQuery;
+import io.stargate.sdk.doc.domain.PageableQueryBuilder;
 import io.stargate.sdk.doc.domain.Query;
 import io.stargate.sdk.http.LoadBalancedHttpClient;
 import io.stargate.sdk.http.ServiceHttp;
 import io.stargate.sdk.http.domain.ApiResponseHttp;
+import io.stargate.sdk.jfr.PageFetchEvent;
+import io.stargate.sdk.tracing.ServiceCallScope;
+import io.stargate.sdk.tracing.ServiceCallSpan;
+import io.stargate.sdk.tracing.ServiceCallTracing;
 import io.stargate.sdk.utils.Assert;
 import io.stargate.sdk.utils.JsonUtils;
 import io.stargate.sdk.utils.Utils;
@@ -33,14 +42,19 @@ import io.stargate.sdk.utils.Utils;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Work on a dedicated collection without using the Pojo className.
@@ -63,6 +77,15 @@ public class CollectionClient {
     
     /** Collection name. */
     protected String collectionName;
+
+    /** Field selected when counting, documents are returned without content. */
+    private static final String COUNT_FIELD = "field_not_exist";
+
+    /** Default time to live of the approximate count. */
+    public static final Duration DEFAULT_COUNT_TTL = Duration.ofMinutes(5);
+
+    /** Approximate count, created on first use. */
+    private volatile CachedCount approximateCount;
     
     /* Mapping type. */
     private static TypeReference<ApiResponse<Map<String, LinkedHashMap<?,?>>>> RESPONSE_SEARCH =
@@ -276,8 +299,105 @@ public class CollectionClient {
      *      number of record
      */
     public long count() {
-        // limit fields to be retrieved to limit payload and read count
-        return findAll(Query.builder().select("field_not_exist").build()).count();
+        return count(Query.builder().build());
+    }
+
+    /**
+     * Count items matching a query. The Document API has no count resource so every page is read, with
+     * {@link PageableQuery#PAGING_SIZE_MAX} documents per request as a findAll: the number of round trips is
+     * the same. Only payloads and decoding are reduced, a single field that does not exist is selected and
+     * documents are counted without being unmarshalled. Use segments to count faster.
+     *
+     * @param query
+     *      query with the where clause, fields are ignored
+     * @return
+     *      number of records
+     */
+    public long count(Query query) {
+        Assert.notNull(query, "query");
+        PageableQueryBuilder builder = PageableQuery.builder()
+                .pageSize(PageableQuery.PAGING_SIZE_MAX)
+                .select(COUNT_FIELD);
+        query.getWhere().ifPresent(builder::jsonWhere);
+        PageableQuery pageQuery = builder.build();
+        long count = 0;
+        do {
+            ApiResponse<Map<String, LinkedHashMap<?,?>>> searchResults = httpGetFindPage(pageQuery);
+            if (null == searchResults || null == searchResults.getData()) {
+                break;
+            }
+            count += searchResults.getData().size();
+            pageQuery.setPageState(searchResults.getPageState());
+        } while (pageQuery.getPageState().isPresent());
+        return count;
+    }
+
+    /**
+     * Count disjoint segments of the collection concurrently and sum the counts, the segments are queries
+     * on a field splitting the collection evenly.
+     *
+     * @param segments
+     *      disjoint queries covering the collection
+     * @param parallelism
+     *      segments counted at the same time
+     * @return
+     *      number of records
+     */
+    public long count(List<Query> segments, int parallelism) {
+        Assert.notNull(segments, "segments");
+        return SegmentedCount.sum(segments.stream()
+                .map(segment -> (Supplier<Long>) () -> count(segment))
+                .collect(Collectors.toList()), parallelism);
+    }
+
+    /**
+     * Approximate count of the collection, computed once and served from memory for the time to live
+     * set with {@link #withCountTtl(Duration)}, 5 minutes by default.
+     *
+     * @return
+     *      approximate number of records
+     */
+    public long countApproximate() {
+        CachedCount cached = approximateCount;
+        if (cached == null) {
+            synchronized (this) {
+                if (approximateCount == null) {
+                    approximateCount = new CachedCount(this::count, DEFAULT_COUNT_TTL);
+                }
+                cached = approximateCount;
+            }
+        }
+        return cached.get();
+    }
+
+    /**
+     * Time to live of the approximate count.
+     *
+     * @param ttl
+     *      time to live
+     * @return
+     *      current instance
+     */
+    public CollectionClient withCountTtl(Duration ttl) {
+        this.approximateCount = new CachedCount(this::count, ttl);
+        return this;
+    }
+
+    /**
+     * Compute the approximate count with segments counted concurrently.
+     *
+     * @param segments
+     *      disjoint queries covering the collection
+     * @param parallelism
+     *      segments counted at the same time
+     * @param ttl
+     *      time to live
+     * @return
+     *      current instance
+     */
+    public CollectionClient withSegmentedCount(List<Query> segments, int parallelism, Duration ttl) {
+        this.approximateCount = new CachedCount(() -> count(segments, parallelism), ttl);
+        return this;
     }
     
     // --- Find all --- 
@@ -341,7 +461,7 @@ public class CollectionClient {
      *          all items matchin criteria
      */
     public Stream<Document<String>> findAll(Query query) {
-        return findAll(query, (PageSupplier<String>) (cc, q) -> cc.findPage(q));
+        return findAll(query, (PageSupplier<String>) (cc, q) -> cc.findPage(q), 0);
     }
     
     /**
@@ -360,7 +480,7 @@ public class CollectionClient {
      *          all items matchin criteria
      */
     public <DOC> Stream<Document<DOC>> findAll(Query query, RecordMapper<DOC> documentMapper) {
-        return findAll(query, (PageSupplier<DOC>) (cc, q) -> cc.findPage(q, documentMapper));
+        return findAll(query, (PageSupplier<DOC>) (cc, q) -> cc.findPage(q, documentMapper), 0);
     }
     
     /**
@@ -379,11 +499,44 @@ public class CollectionClient {
      *          all items matchin criteria
      */
     public <DOC> Stream<Document<DOC>> findAll(Query query, Class<DOC> beanClass) {
-        return findAll(query, (PageSupplier<DOC>) (cc, q) -> cc.findPage(q, beanClass));
+        return findAll(query, (PageSupplier<DOC>) (cc, q) -> cc.findPage(q, beanClass), 0);
     }
     
     /**
-     * Mutualization of searching on multiple pages to do findAll().
+     * Search documents with a filter, the next pages are requested while the current one is consumed.
+     *
+     * @param query
+     *          list of filters
+     * @param prefetchDepth
+     *          pages requested ahead of the page consumed, 0 to disable prefetching
+     * @return
+     *          all items matching criteria, fetched as the stream is consumed
+     */
+    public Stream<Document<String>> findAll(Query query, int prefetchDepth) {
+        return findAll(query, (PageSupplier<String>) (cc, q) -> cc.findPage(q), prefetchDepth);
+    }
+
+    /**
+     * Search documents with a filter, the next pages are requested while the current one is consumed.
+     *
+     * @param <DOC>
+     *          working class
+     * @param query
+     *          list of filters
+     * @param beanClass
+     *          class for working bean
+     * @param prefetchDepth
+     *          pages requested ahead of the page consumed, 0 to disable prefetching
+     * @return
+     *          all items matching criteria, fetched as the stream is consumed
+     */
+    public <DOC> Stream<Document<DOC>> findAll(Query query, Class<DOC> beanClass, int prefetchDepth) {
+        return findAll(query, (PageSupplier<DOC>) (cc, q) -> cc.findPage(q, beanClass), prefetchDepth);
+    }
+
+    /**
+     * Mutualization of searching on multiple pages to do findAll(), pages are fetched as the stream is consumed.
+     * The operation span ends when the last page is fetched or when the stream is closed.
      * 
      * @param <DOC>
      *      current working class
@@ -391,23 +544,62 @@ public class CollectionClient {
      *      current query
      * @param pageLoader
      *      single page retrieve
+     * @param prefetchDepth
+     *      pages requested ahead of the page consumed
      * @return
+     *      all items
      */
-    private <DOC> Stream<Document<DOC>> findAll(Query query, PageSupplier<DOC> pageLoader) {
-        List<Document<DOC>> documents = new ArrayList<>();
-        PageableQuery pageQuery = new PageableQuery(query);
-        String pageState = null;
-        do {
-            Page<Document<DOC>> pageX = pageLoader.findPage(this, pageQuery);
-            if (pageX.getPageState().isPresent())  {
-                pageState = pageX.getPageState().get();
-            } else {
-                pageState = null;
-            }
-            documents.addAll(pageX.getResults());
+    private <DOC> Stream<Document<DOC>> findAll(Query query, PageSupplier<DOC> pageLoader, int prefetchDepth) {
+        PagePrefetcher<Document<DOC>> pages = new PagePrefetcher<>((pageState, pageNumber) -> {
+            PageableQuery pageQuery = new PageableQuery(query);
             pageQuery.setPageState(pageState);
-        } while(pageState != null);
-        return documents.stream();
+            return findPageTraced(pageLoader, pageQuery, pageNumber);
+        }, null, prefetchDepth).operationSpan(() -> ServiceCallTracing.startSpan("CollectionClient.findAll")
+                .setAttribute("stargate.collection", collectionName));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED), false)
+                .flatMap(page -> page.isEmpty() ? Stream.empty() : page.getResults().stream())
+                .onClose(pages::close);
+    }
+
+    /**
+     * Fetch a page in its own span.
+     *
+     * @param <DOC>
+     *      current working class
+     * @param pageLoader
+     *      single page retrieve
+     * @param pageQuery
+     *      query with the paging state
+     * @param pageNumber
+     *      page number starting at 1
+     * @return
+     *      page of results
+     */
+    private <DOC> Page<Document<DOC>> findPageTraced(PageSupplier<DOC> pageLoader, PageableQuery pageQuery, int pageNumber) {
+        ServiceCallSpan pageSpan = ServiceCallTracing.startSpan("page")
+                .setAttribute("stargate.collection", collectionName)
+                .setAttribute("stargate.page", pageNumber);
+        int previousPage = ServiceCallContext.setPage(pageNumber);
+        PageFetchEvent jfrEvent = new PageFetchEvent();
+        jfrEvent.begin();
+        try (ServiceCallScope pageScope = pageSpan.makeCurrent()) {
+            Page<Document<DOC>> page = pageLoader.findPage(this, pageQuery);
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.api        = "document";
+                jfrEvent.collection = collectionName;
+                jfrEvent.page       = pageNumber;
+                jfrEvent.documents  = page.isEmpty() ? 0 : page.getResults().size();
+                jfrEvent.hasMore    = page.getPageState().isPresent();
+                jfrEvent.commit();
+            }
+            return page;
+        } catch (RuntimeException e) {
+            pageSpan.recordError(e);
+            throw e;
+        } finally {
+            pageSpan.end();
+            ServiceCallContext.restorePage(previousPage);
+        }
     }
     
     /**
@@ -499,7 +691,7 @@ public class CollectionClient {
             return new Page<Document<DOC>>(query.getPageSize(), 
                     searchResults.getPageState(), searchResults.getData()
                     .entrySet().stream()
-                    .map(doc -> new Document<DOC>(doc.getKey(), JsonUtils.getObjectMapper().convertValue(doc.getValue(), beanClass)))
+                    .map(doc -> new Document<DOC>(doc.getKey(), JsonUtils.convertValue(doc.getValue(), beanClass)))
                     .collect(Collectors.toList()));
         }
         // no data
@@ -59,6 +59,16 @@ public class StargateDocumentRepository <DOC> {
     public long count() {
         return collectionClient.count();
     }
+
+    /**
+     * Approximate count of the collection, served from memory for the time to live of the client.
+     *
+     * @return
+     *      approximate number of records.
+     */
+    public long countApproximate() {
+        return collectionClient.countApproximate();
+    }
     
     /**
      * Delete a document from its iid.
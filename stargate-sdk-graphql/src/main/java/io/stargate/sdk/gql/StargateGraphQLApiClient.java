@@ -125,6 +125,13 @@ public class StargateGraphQLApiClient {
         return new GraphQLKeyspaceDDLClient(stargateHttpClient);
     }
 
-    
+    /**
+     * Gets stargateHttpClient
+     *
+     * @return value of stargateHttpClient
+     */
+    public LoadBalancedHttpClient getStargateHttpClient() {
+        return stargateHttpClient;
+    }
 
 }
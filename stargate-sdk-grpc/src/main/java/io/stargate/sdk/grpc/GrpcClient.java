@@ -4,19 +4,27 @@ import com.evanlennick.retry4j.CallExecutorBuilder;
 import com.evanlennick.retry4j.Status;
 import com.evanlennick.retry4j.config.RetryConfig;
 import com.evanlennick.retry4j.config.RetryConfigBuilder;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.protobuf.*;
+import io.grpc.Metadata;
+import io.grpc.stub.AbstractStub;
+import io.grpc.stub.MetadataUtils;
 import io.stargate.grpc.StargateBearerToken;
 import io.stargate.proto.QueryOuterClass;
 import io.stargate.proto.StargateGrpc;
 import io.stargate.sdk.api.ApiConstants;
 import io.stargate.sdk.audit.ServiceCallObserver;
+import io.stargate.sdk.audit.ServiceCallObserverDispatcher;
 import io.stargate.sdk.grpc.audit.ServiceGrpcCallEvent;
 import io.stargate.sdk.grpc.domain.BatchGrpc;
 import io.stargate.sdk.grpc.domain.QueryGrpc;
 import io.stargate.sdk.grpc.domain.ResultSetGrpc;
 import io.stargate.sdk.grpc.utils.FuturesUtils;
 import io.stargate.sdk.grpc.utils.StreamObserverToReactivePublisher;
-import io.stargate.sdk.utils.CompletableFutures;
+import io.stargate.sdk.jfr.GrpcCallEvent;
+import io.stargate.sdk.tracing.ServiceCallScope;
+import io.stargate.sdk.tracing.ServiceCallSpan;
+import io.stargate.sdk.tracing.ServiceCallTracing;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
@@ -27,8 +35,8 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 /**
  * Wrapping the HttpClient and provide helpers
@@ -109,28 +117,32 @@ public class GrpcClient implements ApiConstants {
      *      service response
      */
     public ResultSetGrpc execute(ServiceGrpc sGrpc, QueryGrpc query, String token) {
-        // Initializing the invocation event
-        ServiceGrpcCallEvent event = new ServiceGrpcCallEvent(sGrpc, query);
+        // Initializing the invocation event, only when someone listens
+        ServiceGrpcCallEvent event = observerDispatcher.hasObservers() ? new ServiceGrpcCallEvent(sGrpc, query) : null;
+        ServiceCallSpan span = startSpan(sGrpc, ServiceGrpcCallEvent.OPERATION_QUERY);
         // Create Stub
-        StargateGrpc.StargateBlockingStub syncStub = StargateGrpc.newBlockingStub(sGrpc.getChannel())
+        StargateGrpc.StargateBlockingStub syncStub = traced(StargateGrpc.newBlockingStub(sGrpc.getChannel()), span)
                 .withCallCredentials(new StargateBearerToken(token))
                 .withDeadlineAfter(5, TimeUnit.SECONDS);
         try {
             // Execute
             Status< QueryOuterClass.Response> status = executeWithRetries(syncStub, mapGrpcQuery(query));
+            span.setAttribute("stargate.grpc.tries", status.getTotalTries());
             // Audit Mapping
-            event.setTotalTries(status.getTotalTries());
-            event.setLastException(status.getLastExceptionThatCausedRetry());
-            event.setResponseElapsedTime(status.getTotalElapsedDuration().toMillis());
-            event.setResponseTimestamp(status.getEndTime());
+            if (event != null) {
+                event.setTotalTries(status.getTotalTries());
+                event.setLastException(status.getLastExceptionThatCausedRetry());
+                event.setResponseElapsedTime(status.getTotalElapsedDuration().toMillis());
+                event.setResponseTimestamp(status.getEndTime());
+            }
             // Response Mapping
             return new ResultSetGrpc(status.getResult().getResultSet());
         } catch (RuntimeException e) {
-            event.setErrorClass(e.getClass().getName());
-            event.setErrorMessage(e.getMessage());
+            recordError(event, span, e);
             throw e;
         } finally {
-            CompletableFuture.runAsync(()-> notifyAsync(listener->listener.onCall(event)));
+            span.end();
+            notifyCall(event);
         }
     }
 
@@ -148,25 +160,28 @@ public class GrpcClient implements ApiConstants {
      *      service response
      */
     public ResultSetGrpc executeBatch(ServiceGrpc sGrpc, BatchGrpc batch, String token) {
-        // Initializing the invocation event
-        ServiceGrpcCallEvent event = new ServiceGrpcCallEvent(sGrpc, batch);
+        // Initializing the invocation event, only when someone listens
+        ServiceGrpcCallEvent event = observerDispatcher.hasObservers() ? new ServiceGrpcCallEvent(sGrpc, batch) : null;
+        ServiceCallSpan span = startSpan(sGrpc, ServiceGrpcCallEvent.OPERATION_BATCH);
         // Create Stub
-        StargateGrpc.StargateBlockingStub syncStub = StargateGrpc.newBlockingStub(sGrpc.getChannel())
+        StargateGrpc.StargateBlockingStub syncStub = traced(StargateGrpc.newBlockingStub(sGrpc.getChannel()), span)
                 .withCallCredentials(new StargateBearerToken(token))
                 .withDeadlineAfter(5, TimeUnit.SECONDS);
         try {
             // Execute
             long top =- System.currentTimeMillis();
             QueryOuterClass.Response response = syncStub.executeBatch(mapGrpcBatch(batch));
-            event.setResponseElapsedTime(System.currentTimeMillis() - top);
-            event.setResponseTimestamp(event.getResponseElapsedTime());
+            if (event != null) {
+                event.setResponseElapsedTime(System.currentTimeMillis() - top);
+                event.setResponseTimestamp(event.getResponseElapsedTime());
+            }
             return new ResultSetGrpc(response.getResultSet());
         } catch (RuntimeException e) {
-            event.setErrorClass(e.getClass().getName());
-            event.setErrorMessage(e.getMessage());
+            recordError(event, span, e);
             throw e;
         } finally {
-            CompletableFuture.runAsync(()-> notifyAsync(listener->listener.onCall(event)));
+            span.end();
+            notifyCall(event);
         }
     }
 
@@ -183,24 +198,19 @@ public class GrpcClient implements ApiConstants {
      *      service response
      */
     public CompletableFuture<ResultSetGrpc> executeAsync(ServiceGrpc sGrpc, QueryGrpc query, String token) {
-        ServiceGrpcCallEvent event = new ServiceGrpcCallEvent(sGrpc, query);
-        StargateGrpc.StargateFutureStub futureStub = StargateGrpc.newFutureStub(sGrpc.getChannel())
+        ServiceGrpcCallEvent event = observerDispatcher.hasObservers() ? new ServiceGrpcCallEvent(sGrpc, query) : null;
+        ServiceCallSpan span = startSpan(sGrpc, ServiceGrpcCallEvent.OPERATION_QUERY);
+        StargateGrpc.StargateFutureStub futureStub = traced(StargateGrpc.newFutureStub(sGrpc.getChannel()), span)
                 .withCallCredentials(new StargateBearerToken(token))
                 .withDeadlineAfter(5, TimeUnit.SECONDS);
-        long startTime = System.currentTimeMillis();
         try {
-            return FuturesUtils
-                    .asCompletableFuture(futureStub.executeQuery(mapGrpcQuery(query)))
-                    .thenApply(res -> {
-                        event.setResponseTime(System.currentTimeMillis() - startTime);
-                        return new ResultSetGrpc(res.getResultSet());
-                    });
+            return completeAsync(event, span, futureStub.executeQuery(mapGrpcQuery(query)));
         } catch (RuntimeException e) {
-            event.setErrorClass(e.getClass().getName());
-            event.setErrorMessage(e.getMessage());
+            recordError(event, span, e);
+            span.end();
             throw e;
         } finally {
-            CompletableFuture.runAsync(()-> notifyAsync(listener->listener.onCall(event)));
+            notifyCall(event);
         }
     }
 
@@ -217,29 +227,43 @@ public class GrpcClient implements ApiConstants {
      *      service response
      */
     public CompletableFuture<ResultSetGrpc> executeBatchAsync(ServiceGrpc sGrpc, BatchGrpc batch, String token) {
-        ServiceGrpcCallEvent event = new ServiceGrpcCallEvent(sGrpc, batch);
-        StargateGrpc.StargateFutureStub futureStub = StargateGrpc.newFutureStub(sGrpc.getChannel())
+        ServiceGrpcCallEvent event = observerDispatcher.hasObservers() ? new ServiceGrpcCallEvent(sGrpc, batch) : null;
+        ServiceCallSpan span = startSpan(sGrpc, ServiceGrpcCallEvent.OPERATION_BATCH);
+        StargateGrpc.StargateFutureStub futureStub = traced(StargateGrpc.newFutureStub(sGrpc.getChannel()), span)
                 .withCallCredentials(new StargateBearerToken(token))
                 .withDeadlineAfter(5, TimeUnit.SECONDS);
-        long startTime = System.currentTimeMillis();
         try {
-            return FuturesUtils
-                    .asCompletableFuture(futureStub.executeBatch(mapGrpcBatch(batch)))
-                    .thenApply(res -> {
-                        event.setResponseTime(System.currentTimeMillis() - startTime);
-                        return new ResultSetGrpc(res.getResultSet());
-                    });
+            return completeAsync(event, span, futureStub.executeBatch(mapGrpcBatch(batch)));
         } catch (RuntimeException e) {
-            event.setErrorClass(e.getClass().getName());
-            event.setErrorMessage(e.getMessage());
+            recordError(event, span, e);
+            span.end();
             throw e;
         } finally {
-            CompletableFuture.runAsync(()-> notifyAsync(listener->listener.onCall(event)));
+            notifyCall(event);
         }
     }
 
     /**
-     * Execute a reactive query.
+     * Map the response of an asynchronous call and end its span.
+     */
+    private static CompletableFuture<ResultSetGrpc> completeAsync(ServiceGrpcCallEvent event, ServiceCallSpan span,
+                                                                  ListenableFuture<QueryOuterClass.Response> response) {
+        long startTime = System.currentTimeMillis();
+        return FuturesUtils
+                .asCompletableFuture(response)
+                .thenApply(res -> {
+                    if (event != null) {
+                        event.setResponseTime(System.currentTimeMillis() - startTime);
+                    }
+                    return new ResultSetGrpc(res.getResultSet());
+                })
+                .whenComplete((res, error) -> endSpan(span, error));
+    }
+
+    /**
+     * Execute a reactive query. The query is sent, and its span started, on subscription: each subscription
+     * is a call. The span is a child of the context current when the Mono is created, whatever the thread
+     * subscribing.
      *
      * @param sGrpc
      *      gRPC service
@@ -251,27 +275,15 @@ public class GrpcClient implements ApiConstants {
      *      service response
      */
     public Mono<ResultSetGrpc> executeReactive(ServiceGrpc sGrpc, QueryGrpc query, String token) {
-        ServiceGrpcCallEvent event = new ServiceGrpcCallEvent(sGrpc, query);
-        StargateGrpc.StargateStub reactiveStub = StargateGrpc.newStub(sGrpc.getChannel())
-                .withCallCredentials(new StargateBearerToken(token))
-                .withDeadlineAfter(5, TimeUnit.SECONDS);
-        long startTime = System.currentTimeMillis();
-        try {
-            StreamObserverToReactivePublisher streamObserverPublisher = new StreamObserverToReactivePublisher<QueryOuterClass.Response>();
-            Mono<QueryOuterClass.Response> mono = Mono.from(streamObserverPublisher);
-            reactiveStub.executeQuery(mapGrpcQuery(query), streamObserverPublisher);
-            return mono.map(res -> new ResultSetGrpc(res.getResultSet()));
-        } catch (RuntimeException e) {
-            event.setErrorClass(e.getClass().getName());
-            event.setErrorMessage(e.getMessage());
-            throw e;
-        } finally {
-            CompletableFuture.runAsync(()-> notifyAsync(listener->listener.onCall(event)));
-        }
+        return Mono.defer(ServiceCallTracing.wrap(() -> executeReactive(sGrpc, ServiceGrpcCallEvent.OPERATION_QUERY,
+                () -> new ServiceGrpcCallEvent(sGrpc, query), token,
+                (stub, observer) -> stub.executeQuery(mapGrpcQuery(query), observer))));
     }
 
     /**
-     * Execute a reactive query.
+     * Execute a reactive batch. The batch is sent, and its span started, on subscription: each subscription
+     * is a call. The span is a child of the context current when the Mono is created, whatever the thread
+     * subscribing.
      *
      * @param sGrpc
      *      gRPC service
@@ -283,23 +295,42 @@ public class GrpcClient implements ApiConstants {
      *      service response
      */
     public Mono<ResultSetGrpc> executeBatchReactive(ServiceGrpc sGrpc, BatchGrpc batch, String token) {
-        ServiceGrpcCallEvent event = new ServiceGrpcCallEvent(sGrpc, batch);
-        StargateGrpc.StargateStub reactiveStub = StargateGrpc.newStub(sGrpc.getChannel())
+        return Mono.defer(ServiceCallTracing.wrap(() -> executeReactive(sGrpc, ServiceGrpcCallEvent.OPERATION_BATCH,
+                () -> new ServiceGrpcCallEvent(sGrpc, batch), token,
+                (stub, observer) -> stub.executeBatch(mapGrpcBatch(batch), observer))));
+    }
+
+    /**
+     * Send a reactive call within its span, invoked on subscription.
+     */
+    private Mono<ResultSetGrpc> executeReactive(ServiceGrpc sGrpc, String operation, Supplier<ServiceGrpcCallEvent> newEvent, String token,
+            BiConsumer<StargateGrpc.StargateStub, StreamObserverToReactivePublisher<QueryOuterClass.Response>> call) {
+        ServiceGrpcCallEvent event = observerDispatcher.hasObservers() ? newEvent.get() : null;
+        ServiceCallSpan span = startSpan(sGrpc, operation);
+        StargateGrpc.StargateStub reactiveStub = traced(StargateGrpc.newStub(sGrpc.getChannel()), span)
                 .withCallCredentials(new StargateBearerToken(token))
                 .withDeadlineAfter(5, TimeUnit.SECONDS);
-        long startTime = System.currentTimeMillis();
-        try {
-            StreamObserverToReactivePublisher streamObserverPublisher = new StreamObserverToReactivePublisher<QueryOuterClass.Response>();
-            Mono<QueryOuterClass.Response> mono = Mono.from(streamObserverPublisher);
-            reactiveStub.executeBatch(mapGrpcBatch(batch), streamObserverPublisher);
-            return mono.map(res -> new ResultSetGrpc(res.getResultSet()));
-        } catch (RuntimeException e) {
+        StreamObserverToReactivePublisher<QueryOuterClass.Response> streamObserverPublisher = new StreamObserverToReactivePublisher<>();
+        return Mono.from(streamObserverPublisher)
+                // sent once the publisher has its subscriber, a fast response is never lost
+                .doOnSubscribe(subscription -> call.accept(reactiveStub, streamObserverPublisher))
+                .map(res -> new ResultSetGrpc(res.getResultSet()))
+                .doOnError(e -> recordError(event, span, e))
+                .doFinally(signal -> {
+                    span.end();
+                    notifyCall(event);
+                });
+    }
+
+    /**
+     * Record the error of a call in its event, when observed, and in its span.
+     */
+    private static void recordError(ServiceGrpcCallEvent event, ServiceCallSpan span, Throwable e) {
+        if (event != null) {
             event.setErrorClass(e.getClass().getName());
             event.setErrorMessage(e.getMessage());
-            throw e;
-        } finally {
-            CompletableFuture.runAsync(()-> notifyAsync(listener->listener.onCall(event)));
         }
+        span.recordError(e);
     }
 
     /**
@@ -336,6 +367,132 @@ public class GrpcClient implements ApiConstants {
         return null;
     }
 
+    /**
+     * Start the client span of a call, child of the current context.
+     *
+     * @param sGrpc
+     *      gRPC service
+     * @param operation
+     *      gRPC method, {@link ServiceGrpcCallEvent#OPERATION_QUERY} or {@link ServiceGrpcCallEvent#OPERATION_BATCH}
+     * @return
+     *      started span
+     */
+    private ServiceCallSpan startSpan(ServiceGrpc sGrpc, String operation) {
+        ServiceCallSpan span = ServiceCallTracing.startSpan(operation, ServiceCallSpan.Kind.CLIENT)
+                .setAttribute("rpc.system", "grpc")
+                .setAttribute("rpc.method", operation);
+        GrpcCallEvent jfrEvent = new GrpcCallEvent();
+        if (!jfrEvent.isEnabled()) {
+            return span;
+        }
+        jfrEvent.operation = operation;
+        jfrEvent.node      = sGrpc != null ? sGrpc.getId() : null;
+        jfrEvent.begin();
+        return new RecordedSpan(span, jfrEvent);
+    }
+
+    /**
+     * Span also committing a flight recorder event when it ends, all call paths (sync, async and reactive)
+     * already end their span once.
+     */
+    private static final class RecordedSpan implements ServiceCallSpan {
+
+        /** Tracing span. */
+        private final ServiceCallSpan delegate;
+
+        /** Flight recorder event. */
+        private final GrpcCallEvent jfrEvent;
+
+        /**
+         * Wrap a span.
+         *
+         * @param delegate
+         *      tracing span
+         * @param jfrEvent
+         *      started event
+         */
+        RecordedSpan(ServiceCallSpan delegate, GrpcCallEvent jfrEvent) {
+            this.delegate = delegate;
+            this.jfrEvent = jfrEvent;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ServiceCallSpan setAttribute(String key, String value) {
+            delegate.setAttribute(key, value);
+            return this;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ServiceCallSpan setAttribute(String key, long value) {
+            if ("stargate.grpc.tries".equals(key)) {
+                jfrEvent.tries = (int) value;
+            }
+            delegate.setAttribute(key, value);
+            return this;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void recordError(Throwable error) {
+            jfrEvent.error = error.getClass().getName();
+            delegate.recordError(error);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void inject(BiConsumer<String, String> headers) {
+            delegate.inject(headers);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ServiceCallScope makeCurrent() {
+            return delegate.makeCurrent();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void end() {
+            delegate.end();
+            jfrEvent.commit();
+        }
+    }
+
+    /**
+     * Propagate the trace context of the span in the call metadata.
+     *
+     * @param stub
+     *      current stub
+     * @param span
+     *      client span
+     * @return
+     *      stub sending the trace headers
+     * @param <S>
+     *      stub type
+     */
+    private static <S extends AbstractStub<S>> S traced(S stub, ServiceCallSpan span) {
+        Metadata headers = new Metadata();
+        span.inject((key, value) -> headers.put(Metadata.Key.of(key, Metadata.ASCII_STRING_MARSHALLER), value));
+        return headers.keys().isEmpty() ? stub : stub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    /**
+     * Complete the span of an asynchronous call.
+     *
+     * @param span
+     *      client span
+     * @param error
+     *      error if any
+     */
+    private static void endSpan(ServiceCallSpan span, Throwable error) {
+        if (error != null) {
+            span.recordError(error);
+        }
+        span.end();
+    }
+
     /**
      * Map grpc Input base on the Grpc Query bean.
      *
@@ -433,6 +590,19 @@ public class GrpcClient implements ApiConstants {
         return vb.build();
     }
 
+    /**
+     * Notify the observers of a call, the notification is only built when someone listens.
+     *
+     * @param event
+     *      call event, null when nobody listened at the start of the call
+     */
+    private static void notifyCall(ServiceGrpcCallEvent event) {
+        ServiceCallObserverDispatcher dispatcher = observerDispatcher;
+        if (event != null && dispatcher.hasObservers()) {
+            dispatcher.dispatch(listener -> listener.onCall(event));
+        }
+    }
+
     /**
      * Implementing retries.
      *
@@ -445,17 +615,29 @@ public class GrpcClient implements ApiConstants {
     private Status<QueryOuterClass.Response> executeWithRetries(StargateGrpc.StargateBlockingStub stub, QueryOuterClass.Query grpcQuery) {
         return new CallExecutorBuilder<QueryOuterClass.Response>()
                 .config(retryConfig)
-                .onSuccessListener(s -> CompletableFuture.runAsync(()-> notifyAsync(listener->listener.onSuccess(s))))
-                .onCompletionListener(s -> CompletableFuture.runAsync(()-> notifyAsync(listener->listener.onCompletion(s))))
+                .onSuccessListener(s -> {
+                    if (observerDispatcher.hasObservers()) {
+                        observerDispatcher.dispatch(listener -> listener.onSuccess(s));
+                    }
+                })
+                .onCompletionListener(s -> {
+                    if (observerDispatcher.hasObservers()) {
+                        observerDispatcher.dispatch(listener -> listener.onCompletion(s));
+                    }
+                })
                 .onFailureListener(s -> {
                     LOGGER.error("Calls failed after {} retries", s.getTotalTries());
-                    CompletableFuture.runAsync(()-> notifyAsync(listener->listener.onFailure(s)));
+                    if (observerDispatcher.hasObservers()) {
+                        observerDispatcher.dispatch(listener -> listener.onFailure(s));
+                    }
                 })
                 .afterFailedTryListener(s -> {
                     LOGGER.error("Failure on attempt {}/{} ", s.getTotalTries(), retryConfig.getMaxNumberOfTries());
                     LOGGER.error("Failed request {} on {}", grpcQuery.getCql() ,stub.getChannel().toString() );
                     LOGGER.error("+ Exception was ", s.getLastExceptionThatCausedRetry());
-                    CompletableFuture.runAsync(()-> notifyAsync(listener->listener.onFailedTry(s)));
+                    if (observerDispatcher.hasObservers()) {
+                        observerDispatcher.dispatch(listener -> listener.onFailedTry(s));
+                    }
                 })
                 .build()
                 .execute(() -> stub.executeQuery(grpcQuery));
@@ -468,6 +650,10 @@ public class GrpcClient implements ApiConstants {
     /** Observers. */
     protected static Map<String, ServiceCallObserver> apiInvocationsObserversMap = new ConcurrentHashMap<>();
 
+    /** Dispatch events to observers on a dedicated thread. */
+    protected static volatile ServiceCallObserverDispatcher observerDispatcher =
+            new ServiceCallObserverDispatcher("stargate-grpc-observers", apiInvocationsObserversMap);
+
     /**
      * Register a new listener.
      *
@@ -481,17 +667,40 @@ public class GrpcClient implements ApiConstants {
     }
 
     /**
-     * Asynchronously send calls to listener for tracing.
+     * Remove a listener if it is still the one registered under this name.
+     *
+     * @param name
+     *      current name
+     * @param listener
+     *      listener registered under the name
+     */
+    public static void unregisterListener(String name, ServiceCallObserver listener) {
+        apiInvocationsObserversMap.remove(name, listener);
+    }
+
+    /**
+     * Update the queue used to notify observers, pending events of the previous queue are discarded.
+     *
+     * @param capacity
+     *      maximum number of pending events
+     * @param dropPolicy
+     *      behaviour when the queue is full
+     */
+    public static synchronized void withObserverQueue(int capacity, ServiceCallObserverDispatcher.DropPolicy dropPolicy) {
+        ServiceCallObserverDispatcher previous = observerDispatcher;
+        observerDispatcher = new ServiceCallObserverDispatcher("stargate-grpc-observers",
+                apiInvocationsObserversMap, capacity, dropPolicy);
+        previous.close();
+    }
+
+    /**
+     * Access the observer dispatcher (dropped events, pending events).
      *
-     * @param lambda
-     *      operations to execute
      * @return
-     *      void
+     *      observer dispatcher
      */
-    private void notifyAsync(Consumer<ServiceCallObserver> lambda) {
-        CompletableFutures.allDone(apiInvocationsObserversMap.values().stream()
-                .map(l -> CompletableFuture.runAsync(() -> lambda.accept(l)))
-                .collect(Collectors.toList()));
+    public static ServiceCallObserverDispatcher getObserverDispatcher() {
+        return observerDispatcher;
     }
 
 }
@@ -8,10 +8,12 @@ import io.stargate.sdk.grpc.domain.QueryGrpc;
 import io.stargate.sdk.grpc.domain.ResultSetGrpc;
 import io.stargate.sdk.loadbalancer.LoadBalancedResource;
 import io.stargate.sdk.loadbalancer.NoneResourceAvailableException;
+import io.stargate.sdk.loadbalancer.ResourceStats;
 import io.stargate.sdk.loadbalancer.UnavailableResourceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -54,9 +56,18 @@ public class GrpcClientLoadBalanced implements ApiConstants {
                 lb = deployment.lookupStargateNode();
                 ServiceGrpc serviceGrpc = lb.getResource();
                 if (serviceGrpc != null) {
-                    return GrpcClient
-                            .getInstance()
-                            .execute(serviceGrpc, query, deployment.lookupToken());
+                    ResourceStats stats = lb.getStats();
+                    long start = stats.onRequestStart();
+                    boolean error = true;
+                    try {
+                        ResultSetGrpc rs = GrpcClient
+                                .getInstance()
+                                .execute(serviceGrpc, query, deployment.lookupToken());
+                        error = false;
+                        return rs;
+                    } finally {
+                        stats.onRequestEnd(start, error);
+                    }
                 }
             } catch(UnavailableResourceException rex) {
                 LOGGER.warn("A stargate node is down [], falling back to another node...");
@@ -91,9 +102,18 @@ public class GrpcClientLoadBalanced implements ApiConstants {
                 lb = deployment.lookupStargateNode();
                 ServiceGrpc serviceGrpc = lb.getResource();
                 if (serviceGrpc != null) {
-                    return GrpcClient
-                            .getInstance()
-                            .executeBatch(serviceGrpc, batch, deployment.lookupToken());
+                    ResourceStats stats = lb.getStats();
+                    long start = stats.onRequestStart();
+                    boolean error = true;
+                    try {
+                        ResultSetGrpc rs = GrpcClient
+                                .getInstance()
+                                .executeBatch(serviceGrpc, batch, deployment.lookupToken());
+                        error = false;
+                        return rs;
+                    } finally {
+                        stats.onRequestEnd(start, error);
+                    }
                 }
             } catch(UnavailableResourceException rex) {
                 LOGGER.warn("A stargate node is down [], falling back to another node...");
@@ -127,7 +147,15 @@ public class GrpcClientLoadBalanced implements ApiConstants {
                 // Get an available node from LB
                 lb = deployment.lookupStargateNode();
                 ServiceGrpc sGrpc = lb.getResource();
-                return GrpcClient.getInstance().executeAsync(sGrpc, query, deployment.lookupToken());
+                ResourceStats stats = lb.getStats();
+                long start = stats.onRequestStart();
+                try {
+                    return GrpcClient.getInstance().executeAsync(sGrpc, query, deployment.lookupToken())
+                            .whenComplete((res, error) -> stats.onRequestEnd(start, error != null));
+                } catch (RuntimeException e) {
+                    stats.onRequestEnd(start, true);
+                    throw e;
+                }
             } catch (UnavailableResourceException rex) {
                 LOGGER.warn("A stargate node is down [], falling back to another node...");
                 try {
@@ -158,7 +186,14 @@ public class GrpcClientLoadBalanced implements ApiConstants {
         while (true) {
             try {
                 lb = deployment.lookupStargateNode();
-                return GrpcClient.getInstance().executeReactive(lb.getResource(), query, deployment.lookupToken());
+                ResourceStats stats = lb.getStats();
+                Mono<ResultSetGrpc> call = GrpcClient.getInstance()
+                        .executeReactive(lb.getResource(), query, deployment.lookupToken());
+                // Accounted once per subscription, a Mono never subscribed is never in flight
+                return Mono.defer(() -> {
+                    long start = stats.onRequestStart();
+                    return call.doFinally(signal -> stats.onRequestEnd(start, signal == SignalType.ON_ERROR));
+                });
             } catch (UnavailableResourceException rex) {
                 LOGGER.warn("A stargate node is down [], falling back to another node...");
                 try {
@@ -176,4 +211,12 @@ public class GrpcClientLoadBalanced implements ApiConstants {
         }
     }
 
+    /**
+     * Gets deployment
+     *
+     * @return value of deployment
+     */
+    public ManagedServiceDeployment<ServiceGrpc> getDeployment() {
+        return deployment;
+    }
 }
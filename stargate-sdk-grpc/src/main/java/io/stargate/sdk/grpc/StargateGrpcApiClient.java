@@ -364,4 +364,13 @@ public class StargateGrpcApiClient {
         GrpcClient.getInstance().setRetryConfig(retryConfig);
     }
 
+    /**
+     * Gets the load balanced client (topology, fail-over).
+     *
+     * @return value of lbGrpcClient
+     */
+    public GrpcClientLoadBalanced getGrpcClientLoadBalanced() {
+        return lbGrpcClient;
+    }
+
 }
@@ -13,6 +13,12 @@ import io.stargate.sdk.grpc.domain.QueryGrpc;
  */
 public class ServiceGrpcCallEvent extends ServiceCallEvent<ServiceGrpc> implements ApiConstants {
 
+    /** Operation name for a query, gRPC method of the Stargate service. */
+    public static final String OPERATION_QUERY = "ExecuteQuery";
+
+    /** Operation name for a batch, gRPC method of the Stargate service. */
+    public static final String OPERATION_BATCH = "ExecuteBatch";
+
     /** grpc Query. */
     protected final QueryGrpc query;
 
@@ -36,6 +42,7 @@ public class ServiceGrpcCallEvent extends ServiceCallEvent<ServiceGrpc> implemen
         this.service  = service;
         this.query = query;
         this.batch = null;
+        this.operationName = OPERATION_QUERY;
     }
 
     /**
@@ -52,6 +59,7 @@ public class ServiceGrpcCallEvent extends ServiceCallEvent<ServiceGrpc> implemen
         this.service  = service;
         this.batch = batch;
         this.query = null;
+        this.operationName = OPERATION_BATCH;
     }
 
     /**
@@ -0,0 +1,139 @@
+package io.stargate.sdk.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.stargate.sdk.ManagedServiceDatacenter;
+import io.stargate.sdk.ManagedServiceDeployment;
+import io.stargate.sdk.audit.ServiceCallObserverDispatcher;
+import io.stargate.sdk.http.RetryHttpClient;
+import io.stargate.sdk.loadbalancer.LoadBalancedResource;
+import lombok.NonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bind the state of the Stargate clients to a Micrometer registry: availability of nodes and datacenters,
+ * fail-over counts, http connection pool and observers queue.
+ * <p>
+ * Meters are read from the live objects when the registry is scraped, nothing is added on the request path.
+ * Invocations themselves (latency, retries, payload sizes) are recorded by {@link StargateMetricsObserver}.
+ */
+public class StargateClientMetrics implements MeterBinder {
+
+    /** Availability of a node (1 or 0). */
+    public static final String METER_NODE_AVAILABLE = "stargate.client.node.available";
+
+    /** Availability of a datacenter (1 or 0). */
+    public static final String METER_DATACENTER_AVAILABLE = "stargate.client.datacenter.available";
+
+    /** Fail-over counts. */
+    public static final String METER_FAILOVERS = "stargate.client.failovers";
+
+    /** Http connection pool. */
+    public static final String METER_HTTP_POOL = "stargate.client.http.pool.connections";
+
+    /** Events discarded by the observers queue. */
+    public static final String METER_OBSERVERS_DROPPED = "stargate.client.observers.dropped";
+
+    /** Deployments to monitor, key is the api name (rest, document, graphql, data, grpc). */
+    private final Map<String, ManagedServiceDeployment<?>> deployments = new LinkedHashMap<>();
+
+    /** Observer dispatchers to monitor, key is the protocol, http is always bound. */
+    private final Map<String, Supplier<ServiceCallObserverDispatcher>> dispatchers = new LinkedHashMap<>();
+
+    /**
+     * Default constructor.
+     */
+    public StargateClientMetrics() {}
+
+    /**
+     * Add a deployment to monitor.
+     *
+     * @param api
+     *      api name used as a tag
+     * @param deployment
+     *      deployment of the api
+     * @return
+     *      current binder
+     */
+    public StargateClientMetrics withDeployment(@NonNull String api, @NonNull ManagedServiceDeployment<?> deployment) {
+        deployments.put(api, deployment);
+        return this;
+    }
+
+    /**
+     * Add an observer dispatcher to monitor, for instance the gRPC one.
+     *
+     * @param protocol
+     *      protocol used as a tag
+     * @param dispatcher
+     *      access to the current dispatcher, it can be replaced
+     * @return
+     *      current binder
+     */
+    public StargateClientMetrics withObserverDispatcher(@NonNull String protocol, @NonNull Supplier<ServiceCallObserverDispatcher> dispatcher) {
+        dispatchers.put(protocol, dispatcher);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        deployments.forEach((api, deployment) -> bindDeployment(registry, api, deployment));
+
+        // Http connection pool, shared by all http apis
+        RetryHttpClient http = RetryHttpClient.getInstance();
+        Gauge.builder(METER_HTTP_POOL, http, c -> c.getConnectionPoolStats().getLeased())
+             .tag("state", "leased")
+             .register(registry);
+        Gauge.builder(METER_HTTP_POOL, http, c -> c.getConnectionPoolStats().getAvailable())
+             .tag("state", "available")
+             .register(registry);
+        Gauge.builder(METER_HTTP_POOL, http, c -> c.getConnectionPoolStats().getPending())
+             .tag("state", "pending")
+             .register(registry);
+        Gauge.builder(METER_HTTP_POOL, http, c -> c.getConnectionPoolStats().getMax())
+             .tag("state", "max")
+             .register(registry);
+
+        // Dispatchers can be replaced, always read the current one
+        bindDispatcher(registry, "http", RetryHttpClient::getObserverDispatcher);
+        dispatchers.forEach((protocol, dispatcher) -> bindDispatcher(registry, protocol, dispatcher));
+    }
+
+    /**
+     * Events dropped by an observer dispatcher.
+     */
+    private void bindDispatcher(MeterRegistry registry, String protocol, Supplier<ServiceCallObserverDispatcher> dispatcher) {
+        FunctionCounter.builder(METER_OBSERVERS_DROPPED, dispatcher, d -> d.get().getDroppedEvents())
+                       .tag("protocol", protocol)
+                       .register(registry);
+    }
+
+    /**
+     * Availability and fail-over of a deployment.
+     */
+    private void bindDeployment(MeterRegistry registry, String api, ManagedServiceDeployment<?> deployment) {
+        FunctionCounter.builder(METER_FAILOVERS, deployment, ManagedServiceDeployment::getNodeFailOverCount)
+                       .tags("api", api, "type", "node")
+                       .register(registry);
+        FunctionCounter.builder(METER_FAILOVERS, deployment, ManagedServiceDeployment::getDatacenterFailOverCount)
+                       .tags("api", api, "type", "datacenter")
+                       .register(registry);
+        for (ManagedServiceDatacenter<?> dc : deployment.getDatacenters().values()) {
+            Gauge.builder(METER_DATACENTER_AVAILABLE, dc, d -> d.isAvailable() ? 1 : 0)
+                 .tags("api", api, "datacenter", dc.getDatacenterName())
+                 .register(registry);
+            for (LoadBalancedResource<?> node : dc.getStargateNodesLB().getResourceList()) {
+                Gauge.builder(METER_NODE_AVAILABLE, node, n -> n.isAvailable() ? 1 : 0)
+                     .tags("api", api, "datacenter", dc.getDatacenterName(), "node", node.getId())
+                     .register(registry);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+package io.stargate.sdk.metrics;
+
+import com.evanlennick.retry4j.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.stargate.sdk.Service;
+import io.stargate.sdk.audit.ServiceCallCaptureLevel;
+import io.stargate.sdk.audit.ServiceCallEvent;
+import io.stargate.sdk.audit.ServiceCallObserver;
+import io.stargate.sdk.http.audit.PayloadStatsRecorder;
+import io.stargate.sdk.http.audit.ServiceHttpCallEvent;
+import lombok.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Observer recording http and gRPC invocations in a Micrometer registry.
+ * <p>
+ * Events are received from the observers dispatching thread, nothing is recorded on the calling thread.
+ * Only timings are needed so headers and bodies are never captured for this observer.
+ */
+public class StargateMetricsObserver implements ServiceCallObserver<Object, Service, ServiceCallEvent<Service>> {
+
+    /** Name used to register the observer. */
+    public static final String NAME = "micrometer";
+
+    /** Latency of each invocation (retries included). */
+    public static final String METER_REQUESTS = "stargate.client.requests";
+
+    /** Number of retries. */
+    public static final String METER_RETRIES = "stargate.client.retries";
+
+    /** Size of request bodies. */
+    public static final String METER_REQUEST_SIZE = "stargate.client.request.size";
+
+    /** Size of response bodies once decoded. */
+    public static final String METER_RESPONSE_SIZE = "stargate.client.response.size";
+
+    /** Size of response bodies as received on the wire, compressed when encoded. */
+    public static final String METER_RESPONSE_WIRE_SIZE = "stargate.client.response.wire.size";
+
+    /** Number of token renewals. */
+    public static final String METER_TOKEN_REFRESHES = "stargate.client.token.refreshes";
+
+    /** Path of the authentication endpoint. */
+    private static final String PATH_AUTH = "/v1/auth";
+
+    /** Target registry. */
+    private final MeterRegistry registry;
+
+    /**
+     * Constructor with the registry.
+     *
+     * @param registry
+     *      target registry
+     */
+    public StargateMetricsObserver(@NonNull MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ServiceCallCaptureLevel getCaptureLevel() {
+        return ServiceCallCaptureLevel.TIMINGS;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onCall(ServiceCallEvent<Service> event) {
+        record(event);
+    }
+
+    /**
+     * Record an invocation, http or gRPC.
+     *
+     * @param event
+     *      invocation event
+     */
+    public void record(ServiceCallEvent<?> event) {
+        boolean http = event instanceof ServiceHttpCallEvent;
+        Tags tags = Tags.of(
+                "protocol", http ? "http" : "grpc",
+                "operation", event.resolveOperationName(),
+                "node", event.getService() != null ? event.getService().getId() : "none");
+        Timer.builder(METER_REQUESTS)
+             .description("Invocations of the Stargate APIs, retries included")
+             .tags(tags.and("outcome", outcomeOf(event)))
+             // Buckets are published so that percentiles can be aggregated across nodes and instances
+             .publishPercentileHistogram()
+             .register(registry)
+             .record(event.getResponseElapsedTime(), TimeUnit.MILLISECONDS);
+        if (event.getTotalTries() > 1) {
+            Counter.builder(METER_RETRIES)
+                   .tags(tags)
+                   .register(registry)
+                   .increment(event.getTotalTries() - 1);
+        }
+        if (http) {
+            ServiceHttpCallEvent httpEvent = (ServiceHttpCallEvent) event;
+            String collection = PayloadStatsRecorder.collectionOf(httpEvent.getHttpRequestUrl());
+            Tags sizeTags = tags.and("collection", collection != null ? collection : "none");
+            recordSize(METER_REQUEST_SIZE, sizeTags, httpEvent.getHttpRequestSize());
+            recordSize(METER_RESPONSE_SIZE, sizeTags, httpEvent.getHttpResponseSize());
+            recordSize(METER_RESPONSE_WIRE_SIZE, sizeTags.and("encoding",
+                    httpEvent.getHttpResponseEncoding() != null ? httpEvent.getHttpResponseEncoding() : "identity"),
+                    httpEvent.getHttpResponseWireSize());
+            if (httpEvent.getHttpRequestUrl() != null && httpEvent.getHttpRequestUrl().endsWith(PATH_AUTH)) {
+                Counter.builder(METER_TOKEN_REFRESHES)
+                       .tag("outcome", outcomeOf(event))
+                       .register(registry)
+                       .increment();
+            }
+        }
+    }
+
+    /**
+     * Record a payload size when known.
+     */
+    private void recordSize(String name, Tags tags, long size) {
+        if (size >= 0) {
+            DistributionSummary.builder(name)
+                               .baseUnit("bytes")
+                               .tags(tags)
+                               .register(registry)
+                               .record(size);
+        }
+    }
+
+    /**
+     * Outcome of the call.
+     *
+     * @param event
+     *      current event
+     * @return
+     *      SUCCESS, CLIENT_ERROR or SERVER_ERROR
+     */
+    static String outcomeOf(ServiceCallEvent<?> event) {
+        int code = (event instanceof ServiceHttpCallEvent) ? ((ServiceHttpCallEvent) event).getHttpResponseCode() : 0;
+        if (code >= 500 || (code < 400 && event.getErrorClass() != null)) {
+            return "SERVER_ERROR";
+        }
+        return code >= 400 ? "CLIENT_ERROR" : "SUCCESS";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSuccess(Status<Object> s) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onCompletion(Status<Object> s) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFailure(Status<Object> s) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFailedTry(Status<Object> s) {}
+
+}
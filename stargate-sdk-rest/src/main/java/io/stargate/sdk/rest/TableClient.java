@@ -17,25 +17,30 @@
 package io.stargate.sdk.rest;
 
 import io.stargate.sdk.api.ApiResponse;
+import io.stargate.sdk.core.domain.CachedCount;
 import io.stargate.sdk.core.domain.ObjectMap;
 import io.stargate.sdk.core.domain.RowMapper;
 import io.stargate.sdk.core.domain.RowResultPage;
 import io.stargate.sdk.http.domain.ApiResponseHttp;
 import io.stargate.sdk.core.domain.Page;
+import io.stargate.sdk.core.domain.SegmentedCount;
 import io.stargate.sdk.core.Sort;
 import io.stargate.sdk.http.ServiceHttp;
 import io.stargate.sdk.http.LoadBalancedHttpClient;
 import io.stargate.sdk.rest.domain.*;
 import io.stargate.sdk.utils.Assert;
 import io.stargate.sdk.utils.JsonUtils;
+import io.stargate.sdk.utils.Utils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -69,6 +74,9 @@ public class TableClient {
     
     /** Hold a reference to client to keep singletons.*/
     private Map <String, IndexClient> indexsClient = new HashMap<>();
+
+    /** Approximate count, defined with withCount(). */
+    private volatile CachedCount approximateCount;
     
     private static final TypeReference<ApiResponse<List<ColumnDefinition>>> TYPE_LIST_COLUMNS =
             new TypeReference<ApiResponse<List<ColumnDefinition>>>() {};
@@ -236,6 +244,93 @@ public class TableClient {
                     .collect(Collectors.toList()));
      }
      
+     /**
+      * Count the rows matching a query. The REST API has no count resource so every page is read, with
+      * {@link SearchTableQuery#PAGING_SIZE_MAX} rows per request as a search: the number of round trips is
+      * the same. Rows are counted without being mapped, select a single small column, such as the partition
+      * key, to limit the payload. Use segments to count faster.
+      *
+      * @param query
+      *         where clause and fields to retrieve, page size and sort are ignored
+      * @return
+      *         number of rows
+      */
+     public long count(SearchTableQuery query) {
+         Assert.notNull(query, "query");
+         long count = 0;
+         String pageState = null;
+         do {
+             SearchTableQuery.SearchTableQueryBuilder builder = SearchTableQuery.builder()
+                     .withPageSize(SearchTableQuery.PAGING_SIZE_MAX);
+             query.getWhere().ifPresent(builder::withWhereClauseJson);
+             if (null != query.getFieldsToRetrieve()) {
+                 builder.withReturnedFields(query.getFieldsToRetrieve().toArray(new String[0]));
+             }
+             if (null != pageState) {
+                 builder.withPageState(pageState);
+             }
+             ApiResponseHttp res = stargateHttpClient.GET(tableResource, buildSearchUrlSuffix(builder.build()));
+             ApiResponse<List<LinkedHashMap<String,?>>> result = unmarshallType(res.getBody(), TYPE_RESULTS);
+             if (null == result.getData()) {
+                 break;
+             }
+             count += result.getData().size();
+             pageState = Utils.hasLength(result.getPageState()) ? result.getPageState() : null;
+         } while (null != pageState);
+         return count;
+     }
+
+     /**
+      * Count disjoint segments of the table concurrently and sum the counts.
+      *
+      * @param segments
+      *         disjoint queries, on a token or a column splitting the table evenly
+      * @param parallelism
+      *         segments counted at the same time
+      * @return
+      *         number of rows
+      */
+     public long count(List<SearchTableQuery> segments, int parallelism) {
+         Assert.notNull(segments, "segments");
+         return SegmentedCount.sum(segments.stream()
+                 .map(segment -> (Supplier<Long>) () -> count(segment))
+                 .collect(Collectors.toList()), parallelism);
+     }
+
+     /**
+      * Approximate count computed with the segments set in {@link #withCount(List, int, Duration)},
+      * served from memory for the time to live.
+      *
+      * @return
+      *         approximate number of rows
+      */
+     public long countApproximate() {
+         CachedCount cached = approximateCount;
+         if (cached == null) {
+             throw new IllegalStateException("Approximate count needs queries to count, use withCount()");
+         }
+         return cached.get();
+     }
+
+     /**
+      * Define how the approximate count is computed, the REST API needs a where clause for each query.
+      *
+      * @param segments
+      *         disjoint queries covering the table
+      * @param parallelism
+      *         segments counted at the same time
+      * @param ttl
+      *         time to live of the count
+      * @return
+      *         current instance
+      */
+     public TableClient withCount(List<SearchTableQuery> segments, int parallelism, Duration ttl) {
+         Assert.notNull(segments, "segments");
+         List<SearchTableQuery> copy = new ArrayList<>(segments);
+         this.approximateCount = new CachedCount(() -> count(copy, parallelism), ttl);
+         return this;
+     }
+
      /**
       * Build URL suffix from the filtered and sorted fields.
       * 
@@ -0,0 +1,100 @@
+package io.stargate.test.audit;
+
+import com.evanlennick.retry4j.Status;
+import io.stargate.sdk.audit.ServiceCallObserver;
+import io.stargate.sdk.audit.ServiceCallObserverDispatcher;
+import io.stargate.sdk.audit.ServiceCallObserverDispatcher.DropPolicy;
+import io.stargate.sdk.http.ServiceHttp;
+import io.stargate.sdk.http.audit.ServiceHttpCallEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded queue and drop policies of the observer dispatcher.
+ */
+public class ServiceCallObserverDispatcherTest {
+
+    /** Observer doing nothing, notifications are recorded by the dispatched consumers. */
+    private static final ServiceCallObserver<String, ServiceHttp, ServiceHttpCallEvent> OBSERVER =
+            new ServiceCallObserver<String, ServiceHttp, ServiceHttpCallEvent>() {
+        public void onCall(ServiceHttpCallEvent event) {}
+        public void onSuccess(Status<String> s) {}
+        public void onCompletion(Status<String> s) {}
+        public void onFailure(Status<String> s) {}
+        public void onFailedTry(Status<String> s) {}
+    };
+
+    /**
+     * Block the dispatching thread on the first event, dispatch 4 more events in a queue of 2
+     * and return the events received once released.
+     */
+    private static List<Integer> fillQueue(ServiceCallObserverDispatcher dispatcher) throws InterruptedException {
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        dispatcher.dispatch(o -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(1);
+        });
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 2; i <= 5; i++) {
+            int value = i;
+            dispatcher.dispatch(o -> received.add(value));
+        }
+        Assertions.assertEquals(2, dispatcher.getPendingEvents());
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (received.size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return received;
+    }
+
+    @Test
+    public void shouldDropNewestWhenFull() throws Exception {
+        Map<String, ServiceCallObserver<?, ?, ?>> observers = new ConcurrentHashMap<>();
+        observers.put("o1", OBSERVER);
+        try (ServiceCallObserverDispatcher dispatcher =
+                     new ServiceCallObserverDispatcher("test-newest", observers, 2, DropPolicy.DROP_NEWEST)) {
+            Assertions.assertEquals(List.of(1, 2, 3), fillQueue(dispatcher));
+            Assertions.assertEquals(2, dispatcher.getDroppedEvents());
+        }
+    }
+
+    @Test
+    public void shouldDropOldestWhenFull() throws Exception {
+        Map<String, ServiceCallObserver<?, ?, ?>> observers = new ConcurrentHashMap<>();
+        observers.put("o1", OBSERVER);
+        try (ServiceCallObserverDispatcher dispatcher =
+                     new ServiceCallObserverDispatcher("test-oldest", observers, 2, DropPolicy.DROP_OLDEST)) {
+            Assertions.assertEquals(List.of(1, 4, 5), fillQueue(dispatcher));
+            Assertions.assertEquals(2, dispatcher.getDroppedEvents());
+        }
+    }
+
+    @Test
+    public void shouldIgnoreEventsWithoutObservers() {
+        Map<String, ServiceCallObserver<?, ?, ?>> observers = new ConcurrentHashMap<>();
+        try (ServiceCallObserverDispatcher dispatcher =
+                     new ServiceCallObserverDispatcher("test-empty", observers, 1, DropPolicy.DROP_NEWEST)) {
+            Assertions.assertFalse(dispatcher.hasObservers());
+            dispatcher.dispatch(o -> Assertions.fail("No observer registered"));
+            dispatcher.dispatch(o -> Assertions.fail("No observer registered"));
+            Assertions.assertEquals(0, dispatcher.getPendingEvents());
+            Assertions.assertEquals(0, dispatcher.getDroppedEvents());
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+package io.stargate.test.audit;
+
+import com.evanlennick.retry4j.Status;
+import com.sun.net.httpserver.HttpServer;
+import io.stargate.sdk.StargateClientBuilder;
+import io.stargate.sdk.audit.ServiceCallCaptureLevel;
+import io.stargate.sdk.audit.ServiceCallObserver;
+import io.stargate.sdk.http.RetryHttpClient;
+import io.stargate.sdk.http.ServiceHttp;
+import io.stargate.sdk.http.audit.ServiceHttpCallEvent;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Capture levels and body limits of http events.
+ */
+public class ServiceHttpCallEventTest {
+
+    private static final ServiceHttp NODE = new ServiceHttp("node1", "http://localhost:8181", "http://localhost:8181/stargate/health");
+
+    private static HttpPost post(String body) {
+        HttpPost post = new HttpPost("http://localhost:8181/v1/ns1/col1");
+        post.addHeader("Authorization", "secret");
+        post.addHeader("X-Custom", "value");
+        post.setEntity(new StringEntity(body, ContentType.APPLICATION_JSON));
+        return post;
+    }
+
+    @Test
+    public void shouldCaptureHeadersOnly() {
+        ServiceHttpCallEvent event = new ServiceHttpCallEvent(NODE, post("{\"find\":{}}"), ServiceCallCaptureLevel.HEADERS, -1);
+        Assertions.assertEquals("***", event.getHttpRequestHeaders().get("Authorization"));
+        Assertions.assertEquals("value", event.getHttpRequestHeaders().get("X-Custom"));
+        Assertions.assertNull(event.getHttpRequestBody());
+        event.captureResponseHeaders(Map.of("Content-Type", "application/json"));
+        event.captureResponseBody("{\"data\":{}}");
+        Assertions.assertEquals("application/json", event.getHttpResponseHeaders().get("Content-Type"));
+        Assertions.assertNull(event.getHttpResponseBody());
+    }
+
+    @Test
+    public void shouldKeepCredentialsWhenNotMasked() {
+        ServiceHttpCallEvent event = new ServiceHttpCallEvent(NODE, post("{\"find\":{}}"), ServiceCallCaptureLevel.HEADERS, -1, false, false);
+        Assertions.assertEquals("secret", event.getHttpRequestHeaders().get("Authorization"));
+    }
+
+    @Test
+    public void shouldKeepUrlAndSizeWithoutCapture() {
+        ServiceHttpCallEvent event = new ServiceHttpCallEvent(NODE, post("{\"find\":{}}"), ServiceCallCaptureLevel.NONE, -1);
+        Assertions.assertEquals("http://localhost:8181/v1/ns1/col1", event.getHttpRequestUrl());
+        Assertions.assertEquals(11, event.getHttpRequestSize());
+        Assertions.assertTrue(event.getHttpRequestHeaders().isEmpty());
+        Assertions.assertNull(event.getHttpRequestBody());
+    }
+
+    @Test
+    public void shouldKeepRequestEntityOnlyWhenRequested() {
+        ServiceHttpCallEvent released = new ServiceHttpCallEvent(NODE, post("{\"find\":{}}"), ServiceCallCaptureLevel.TIMINGS, -1);
+        Assertions.assertNull(released.readRequestBody(-1));
+        ServiceHttpCallEvent kept = new ServiceHttpCallEvent(NODE, post("{\"find\":{}}"), ServiceCallCaptureLevel.TIMINGS, -1, true);
+        Assertions.assertEquals("{\"find\":{}}", kept.readRequestBody(-1));
+    }
+
+    @Test
+    public void shouldTruncateBodiesInCharacters() {
+        // Multi bytes characters: the limit counts characters for both bodies
+        String body = "{\"name\":\"éééééé\"}";
+        ServiceHttpCallEvent event = new ServiceHttpCallEvent(NODE, post(body), ServiceCallCaptureLevel.BODIES, 12);
+        Assertions.assertEquals(body.substring(0, 12) + ServiceHttpCallEvent.TRUNCATED_SUFFIX, event.getHttpRequestBody());
+        event.captureResponseBody(body);
+        Assertions.assertEquals(body.substring(0, 12) + ServiceHttpCallEvent.TRUNCATED_SUFFIX, event.getHttpResponseBody());
+
+        ServiceHttpCallEvent exact = new ServiceHttpCallEvent(NODE, post(body), ServiceCallCaptureLevel.BODIES, body.length());
+        Assertions.assertEquals(body, exact.getHttpRequestBody());
+        exact.captureResponseBody(body);
+        Assertions.assertEquals(body, exact.getHttpResponseBody());
+
+        ServiceHttpCallEvent unlimited = new ServiceHttpCallEvent(NODE, post(body), ServiceCallCaptureLevel.BODIES, -1);
+        Assertions.assertEquals(body, unlimited.getHttpRequestBody());
+    }
+
+    @Test
+    public void shouldApplyObservedBodyMaxSize() throws Exception {
+        Assertions.assertEquals(20, new StargateClientBuilder().withHttpObservedBodyMaxSize(20).getHttpObservedBodyMaxSize());
+        Assertions.assertEquals(-1, RetryHttpClient.DEFAULT_OBSERVED_BODY_SIZE);
+
+        String response = "{\"data\":{\"documents\":[{\"_id\":\"1\"},{\"_id\":\"2\"}]}}";
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/ns1/coll1", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        CompletableFuture<ServiceHttpCallEvent> captured = new CompletableFuture<>();
+        RetryHttpClient.registerListener("body-capture", new ServiceCallObserver<String, ServiceHttp, ServiceHttpCallEvent>() {
+            public void onCall(ServiceHttpCallEvent event) { captured.complete(event); }
+            public void onSuccess(Status<String> s) {}
+            public void onCompletion(Status<String> s) {}
+            public void onFailure(Status<String> s) {}
+            public void onFailedTry(Status<String> s) {}
+        });
+        int previous = RetryHttpClient.getObservedBodyMaxSize();
+        RetryHttpClient.withObservedBodyMaxSize(20);
+        try {
+            String url = "http://localhost:" + server.getAddress().getPort();
+            HttpPost post = new HttpPost(url + "/v1/ns1/coll1");
+            String request = "{\"find\":{\"filter\":{\"name\":\"a long value\"}}}";
+            post.setEntity(new StringEntity(request, ContentType.APPLICATION_JSON));
+            RetryHttpClient.getInstance().executeHttp(new ServiceHttp("node1", url, url + "/health"), post, true);
+
+            ServiceHttpCallEvent event = captured.get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(request.substring(0, 20) + ServiceHttpCallEvent.TRUNCATED_SUFFIX, event.getHttpRequestBody());
+            Assertions.assertEquals(response.substring(0, 20) + ServiceHttpCallEvent.TRUNCATED_SUFFIX, event.getHttpResponseBody());
+        } finally {
+            RetryHttpClient.withObservedBodyMaxSize(previous);
+            RetryHttpClient.unregisterListener("body-capture");
+            server.stop(0);
+        }
+    }
+
+}
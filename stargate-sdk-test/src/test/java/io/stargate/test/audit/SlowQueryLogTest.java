@@ -0,0 +1,63 @@
+package io.stargate.test.audit;
+
+import io.stargate.sdk.audit.ServiceCallCaptureLevel;
+import io.stargate.sdk.http.ServiceHttp;
+import io.stargate.sdk.http.audit.ServiceHttpCallEvent;
+import io.stargate.sdk.http.audit.SlowQueryLogObserver;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Slow query log entries, sampling and redaction.
+ */
+public class SlowQueryLogTest {
+
+    private static final ServiceHttp NODE = new ServiceHttp("node1", "http://localhost:8181", "http://localhost:8181/stargate/health");
+
+    @Test
+    public void shouldRedactDataApiFilter() {
+        HttpPost post = new HttpPost("http://localhost:8181/v1/ns1/col1");
+        post.setEntity(new StringEntity("{\"find\":{\"filter\":{\"email\":\"john@doe.com\",\"age\":{\"$gt\":21}},\"sort\":{\"$vector\":[0.1,0.2]}}}"));
+        // Only timings are captured, the body is read again for the entry
+        ServiceHttpCallEvent event = new ServiceHttpCallEvent(NODE, post, ServiceCallCaptureLevel.TIMINGS, -1, true);
+        event.setOperationName("find");
+        event.setPageNumber(3);
+        event.setHttpResponseCode(200);
+        event.setResponseElapsedTime(1500);
+        Assertions.assertNull(event.getHttpRequestBody());
+
+        String entry = new SlowQueryLogObserver(1000, 1).toEntry(event);
+        Assertions.assertTrue(entry.contains("\"operation\":\"find\""));
+        Assertions.assertTrue(entry.contains("\"page\":3"));
+        Assertions.assertTrue(entry.contains("\"node\":\"node1\""));
+        Assertions.assertTrue(entry.contains("\"shape\":{\"find\":{\"filter\":{\"email\":\"?\",\"age\":{\"$gt\":\"?\"}},\"sort\":{\"$vector\":[\"?\"]}}}"));
+        Assertions.assertFalse(entry.contains("john@doe.com"));
+    }
+
+    @Test
+    public void shouldRedactRestWhereClause() {
+        ServiceHttpCallEvent event = new ServiceHttpCallEvent(NODE,
+                new HttpGet("http://localhost:8082/v2/keyspaces/ks1/table1?where=%7B%22city%22%3A%7B%22%24eq%22%3A%22Paris%22%7D%7D"),
+                ServiceCallCaptureLevel.TIMINGS, -1);
+        String entry = new SlowQueryLogObserver(0, 1).toEntry(event);
+        Assertions.assertTrue(entry.contains("\"operation\":\"GET /v2/keyspaces/{}/{}\""));
+        Assertions.assertTrue(entry.contains("\"shape\":{\"city\":{\"$eq\":\"?\"}}"));
+    }
+
+    @Test
+    public void shouldSampleSlowCallsOnly() {
+        SlowQueryLogObserver observer = new SlowQueryLogObserver(100, 0);
+        ServiceHttpCallEvent event = new ServiceHttpCallEvent(NODE,
+                new HttpGet("http://localhost:8082/v2/schemas/keyspaces"), ServiceCallCaptureLevel.TIMINGS, -1);
+        event.setResponseElapsedTime(50);
+        observer.onCall(event);
+        event.setResponseElapsedTime(200);
+        observer.onCall(event);
+        Assertions.assertEquals(1, observer.getSlowCalls());
+        Assertions.assertEquals(0, observer.getLoggedCalls());
+    }
+
+}
@@ -0,0 +1,311 @@
+package io.stargate.test.data;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.stargate.sdk.ServiceDatacenter;
+import io.stargate.sdk.ServiceDeployment;
+import io.stargate.sdk.api.SimpleTokenProvider;
+import io.stargate.sdk.data.CollectionClient;
+import io.stargate.sdk.data.DataApiClient;
+import io.stargate.sdk.http.ServiceHttp;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In memory Data API with a single collection <code>ns1.coll1</code>, documents are sorted by _id.
+ * <p>
+ * Supports find (no filter, _id equality, _id $in and _id ranges), findOne, countDocuments, insertOne,
+ * insertMany, deleteOne and deleteMany, pages of 20 documents with the offset as paging state. Commands are counted.
+ */
+public class FakeDataApiServer implements AutoCloseable {
+
+    /** Page size of the Data API. */
+    private static final int PAGE_SIZE = 20;
+
+    /** Json. */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** Documents by id. */
+    private final Map<String, ObjectNode> documents = new ConcurrentHashMap<>();
+
+    /** Commands received. */
+    private final Map<String, AtomicInteger> commands = new ConcurrentHashMap<>();
+
+    /** Commands currently executed. */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /** Highest number of commands executed at the same time. */
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    /** Failures to return by command. */
+    private final Map<String, AtomicInteger> failures = new ConcurrentHashMap<>();
+
+    /** Delay of each command. */
+    private volatile long delayMillis;
+
+    /** Http server. */
+    private final HttpServer server;
+
+    /** Threads handling the requests. */
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    /**
+     * Start the server on a random port.
+     *
+     * @throws IOException
+     *      cannot start the server
+     */
+    public FakeDataApiServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Add documents <code>doc000</code>... with a field <code>index</code>.
+     *
+     * @param count
+     *      number of documents
+     * @return
+     *      current instance
+     */
+    public FakeDataApiServer withDocuments(int count) {
+        for (int i = 0; i < count; i++) {
+            String id = String.format("doc%03d", i);
+            ObjectNode doc = MAPPER.createObjectNode().put("_id", id).put("index", i);
+            documents.put(id, doc);
+        }
+        return this;
+    }
+
+    /**
+     * Delay each command.
+     *
+     * @param delayMillis
+     *      delay in milliseconds
+     * @return
+     *      current instance
+     */
+    public FakeDataApiServer withDelay(long delayMillis) {
+        this.delayMillis = delayMillis;
+        return this;
+    }
+
+    /**
+     * Answer the next commands with an error.
+     *
+     * @param command
+     *      command name
+     * @param times
+     *      number of errors
+     * @return
+     *      current instance
+     */
+    public FakeDataApiServer failNext(String command, int times) {
+        failures.put(command, new AtomicInteger(times));
+        return this;
+    }
+
+    /**
+     * Client on the collection.
+     *
+     * @return
+     *      collection client
+     */
+    public CollectionClient collection() {
+        String url = "http://localhost:" + server.getAddress().getPort();
+        DataApiClient client = new DataApiClient(new ServiceDeployment<ServiceHttp>()
+                .addDatacenter(new ServiceDatacenter<>("dc1", new SimpleTokenProvider("token"),
+                        new ServiceHttp("node1", url, url + "/health"))));
+        return client.namespace("ns1").collection("coll1");
+    }
+
+    /**
+     * Number of commands received.
+     *
+     * @param command
+     *      command name
+     * @return
+     *      count
+     */
+    public int count(String command) {
+        AtomicInteger count = commands.get(command);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Highest number of commands executed at the same time.
+     *
+     * @return
+     *      max in flight
+     */
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    /**
+     * Documents stored.
+     *
+     * @return
+     *      documents by id
+     */
+    public Map<String, ObjectNode> getDocuments() {
+        return documents;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            JsonNode body = MAPPER.readTree(exchange.getRequestBody());
+            String command = body.fieldNames().next();
+            commands.computeIfAbsent(command, k -> new AtomicInteger()).incrementAndGet();
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+            AtomicInteger failure = failures.get(command);
+            JsonNode response = failure != null && failure.getAndDecrement() > 0
+                    ? error("Transient failure of " + command)
+                    : execute(command, body.get(command));
+            byte[] bytes = MAPPER.writeValueAsBytes(response);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private JsonNode execute(String command, JsonNode payload) {
+        ObjectNode response = MAPPER.createObjectNode();
+        switch (command) {
+            case "findNamespaces":
+                response.putObject("status").putArray("namespaces").add("ns1");
+                break;
+            case "findCollections":
+                response.putObject("status").putArray("collections").addObject().put("name", "coll1");
+                break;
+            case "countDocuments":
+                response.putObject("status").put("count", matching(payload).size());
+                break;
+            case "findOne": {
+                List<ObjectNode> docs = matching(payload);
+                ObjectNode data = response.putObject("data");
+                if (!docs.isEmpty()) {
+                    data.set("document", docs.get(0));
+                }
+                break;
+            }
+            case "find": {
+                List<ObjectNode> docs = matching(payload);
+                JsonNode options = payload == null ? null : payload.get("options");
+                int offset = options != null && options.hasNonNull("pagingState") ? Integer.parseInt(options.get("pagingState").asText()) : 0;
+                int limit  = options != null && options.has("limit") ? options.get("limit").asInt() : Integer.MAX_VALUE;
+                int end    = Math.min(Math.min(offset + PAGE_SIZE, docs.size()), limit);
+                ObjectNode data = response.putObject("data");
+                ArrayNode page = data.putArray("documents");
+                for (int i = offset; i < end; i++) {
+                    page.add(docs.get(i));
+                }
+                if (end < Math.min(docs.size(), limit)) {
+                    data.put("nextPageState", String.valueOf(end));
+                }
+                break;
+            }
+            case "deleteOne":
+            case "deleteMany": {
+                List<ObjectNode> docs = matching(payload);
+                docs.forEach(doc -> documents.remove(doc.get("_id").asText()));
+                response.putObject("status").put("deletedCount", docs.size());
+                break;
+            }
+            case "insertOne":
+            case "insertMany": {
+                ArrayNode ids = response.putObject("status").putArray("insertedIds");
+                Iterator<JsonNode> docs = command.equals("insertOne")
+                        ? List.of(payload.get("document")).iterator()
+                        : payload.get("documents").elements();
+                while (docs.hasNext()) {
+                    ObjectNode doc = (ObjectNode) docs.next();
+                    documents.put(doc.get("_id").asText(), doc);
+                    ids.add(doc.get("_id").asText());
+                }
+                break;
+            }
+            default:
+                return error("Unsupported command " + command);
+        }
+        return response;
+    }
+
+    private static JsonNode error(String message) {
+        ObjectNode response = MAPPER.createObjectNode();
+        response.putArray("errors").addObject().put("message", message);
+        return response;
+    }
+
+    /**
+     * Documents matching the filter of a command, sorted by _id.
+     */
+    private List<ObjectNode> matching(JsonNode payload) {
+        JsonNode id = payload == null || payload.get("filter") == null ? null : payload.get("filter").get("_id");
+        List<ObjectNode> result = new ArrayList<>();
+        documents.keySet().stream().sorted().forEach(key -> {
+            if (matches(id, key)) {
+                result.add(documents.get(key));
+            }
+        });
+        return result;
+    }
+
+    private static boolean matches(JsonNode condition, String id) {
+        if (condition == null) {
+            return true;
+        }
+        if (condition.isTextual()) {
+            return condition.asText().equals(id);
+        }
+        if (condition.has("$eq")) {
+            return condition.get("$eq").asText().equals(id);
+        }
+        if (condition.has("$in")) {
+            Set<String> ids = new HashSet<>();
+            condition.get("$in").forEach(n -> ids.add(n.asText()));
+            return ids.contains(id);
+        }
+        if (condition.has("$gte") && id.compareTo(condition.get("$gte").asText()) < 0) {
+            return false;
+        }
+        return !condition.has("$lt") || id.compareTo(condition.get("$lt").asText()) < 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+}
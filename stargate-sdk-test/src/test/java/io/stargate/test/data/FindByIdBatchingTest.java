@@ -0,0 +1,82 @@
+package io.stargate.test.data;
+
+import io.stargate.sdk.data.CollectionClient;
+import io.stargate.sdk.data.FindByIdBatcher;
+import io.stargate.sdk.data.domain.JsonDocumentResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent findById calls are grouped in _id $in queries.
+ */
+public class FindByIdBatchingTest {
+
+    @Test
+    public void shouldBatchConcurrentFindById() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(30)) {
+            CollectionClient collection = server.collection().withFindByIdBatching(Duration.ofMillis(200), 10);
+            FindByIdBatcher batcher = collection.getFindByIdBatcher();
+            List<CompletableFuture<Optional<JsonDocumentResult>>> futures = new ArrayList<>();
+            // 10 distinct ids fill the first batch, the 5 next ones wait for the window
+            for (int i = 0; i < 15; i++) {
+                futures.add(batcher.findByIdAsync(String.format("doc%03d", i)));
+            }
+            futures.add(batcher.findByIdAsync("doc012"));
+            futures.add(batcher.findByIdAsync("missing"));
+            for (int i = 0; i < 15; i++) {
+                Assertions.assertEquals(String.format("doc%03d", i), futures.get(i).get().get().getId());
+            }
+            Assertions.assertEquals("doc012", futures.get(15).get().get().getId());
+            Assertions.assertFalse(futures.get(16).get().isPresent());
+            Assertions.assertEquals(2, server.count("find"));
+            Assertions.assertEquals(0, server.count("findOne"));
+            Assertions.assertEquals(2, batcher.getBatchCount());
+
+            // Synchronous calls go through the batcher too
+            Assertions.assertEquals("doc020", collection.findById("doc020").get().getId());
+            Assertions.assertEquals(3, server.count("find"));
+            Assertions.assertEquals(0, server.count("findOne"));
+
+            collection.withoutFindByIdBatching();
+            collection.findById("doc020");
+            Assertions.assertEquals(1, server.count("findOne"));
+        }
+    }
+
+    @Test
+    public void shouldFailEveryCallerOfBatch() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(5)) {
+            CollectionClient collection = server.collection().withFindByIdBatching(Duration.ofMillis(100), 20);
+            server.failNext("find", 1);
+            CompletableFuture<Optional<JsonDocumentResult>> f1 = collection.getFindByIdBatcher().findByIdAsync("doc001");
+            CompletableFuture<Optional<JsonDocumentResult>> f2 = collection.getFindByIdBatcher().findByIdAsync("doc002");
+            Assertions.assertThrows(Exception.class, f1::join);
+            Assertions.assertThrows(Exception.class, f2::join);
+            Assertions.assertEquals("doc001", collection.findById("doc001").get().getId());
+        }
+    }
+
+    @Test
+    public void shouldFindDirectlyOnceClosed() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(5)) {
+            CollectionClient collection = server.collection().withFindByIdBatching(Duration.ofSeconds(10), 20);
+            FindByIdBatcher batcher = collection.getFindByIdBatcher();
+            CompletableFuture<Optional<JsonDocumentResult>> pending = batcher.findByIdAsync("doc001");
+            // Replacing the batcher sends its pending batch, callers still holding it are not rejected
+            collection.withFindByIdBatching();
+            Assertions.assertEquals("doc001", pending.get(5, TimeUnit.SECONDS).get().getId());
+            Assertions.assertEquals("doc002", batcher.findById("doc002").get().getId());
+            Assertions.assertEquals(1, server.count("find"));
+            Assertions.assertEquals(1, server.count("findOne"));
+            collection.withoutFindByIdBatching();
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package io.stargate.test.data;
+
+import io.stargate.sdk.data.CollectionClient;
+import io.stargate.sdk.data.domain.FindByIdsResult;
+import io.stargate.sdk.data.domain.JsonDocumentResult;
+import io.stargate.sdk.data.domain.odm.DocumentResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk fetch of documents by identifiers.
+ */
+public class FindByIdsTest {
+
+    @Test
+    public void shouldFindByIdsInInputOrder() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(100).withDelay(100)) {
+            CollectionClient collection = server.collection();
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < 90; i++) {
+                ids.add(String.format("doc%03d", i));
+            }
+            ids.add("missing1");
+            ids.add("missing2");
+            Collections.shuffle(ids, new Random(42));
+            ids.add(ids.get(0));
+
+            FindByIdsResult<JsonDocumentResult> result = collection.findByIds(ids, 20, 3);
+            List<String> expected = ids.stream()
+                    .distinct()
+                    .filter(id -> !id.startsWith("missing"))
+                    .collect(Collectors.toList());
+            Assertions.assertEquals(expected, result.getDocuments().stream()
+                    .map(JsonDocumentResult::getId)
+                    .collect(Collectors.toList()));
+            Assertions.assertEquals(ids.stream().filter(id -> id.startsWith("missing")).collect(Collectors.toList()),
+                    result.getMissingIds());
+            Assertions.assertFalse(result.isComplete());
+            Assertions.assertEquals(5, server.count("find"));
+            Assertions.assertTrue(server.getMaxInFlight() <= 3);
+            Assertions.assertTrue(server.getMaxInFlight() > 1);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void shouldFindByIdsTypedAndAsync() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(10)) {
+            CollectionClient collection = server.collection();
+            FindByIdsResult<DocumentResult<Map>> typed = collection
+                    .findByIdsAsync(List.of("doc004", "doc001"), Map.class)
+                    .get();
+            Assertions.assertTrue(typed.isComplete());
+            Assertions.assertEquals("doc004", typed.getDocuments().get(0).getId());
+            Assertions.assertEquals(4, ((Number) typed.getDocuments().get(0).getData().get("index")).intValue());
+            Assertions.assertEquals("doc001", typed.getDocuments().get(1).getId());
+
+            Assertions.assertTrue(collection.findByIds(List.of()).getDocuments().isEmpty());
+            Assertions.assertEquals(1, server.count("find"));
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package io.stargate.test.data;
+
+import io.stargate.sdk.data.CollectionClient;
+import io.stargate.sdk.data.NearCache;
+import io.stargate.sdk.data.domain.JsonDocument;
+import io.stargate.sdk.data.domain.query.DeleteQuery;
+import io.stargate.sdk.data.domain.query.SelectQuery;
+import io.stargate.sdk.http.domain.FilterOperator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+/**
+ * Client side cache of findById and findOne.
+ */
+public class NearCacheTest {
+
+    @Test
+    public void shouldServeHotDocumentsFromCache() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(5)) {
+            NearCache nearCache = new NearCache(100, Duration.ofMinutes(1));
+            CollectionClient collection = server.collection().withNearCache(nearCache);
+            for (int i = 0; i < 10; i++) {
+                Assertions.assertEquals("doc001", collection.findById("doc001").get().getId());
+            }
+            Assertions.assertEquals(1, server.count("findOne"));
+            Assertions.assertEquals(9, nearCache.getStats().hitCount());
+            Assertions.assertEquals(1, nearCache.getStats().missCount());
+
+            // Query on _id only shares the entry, other queries are cached by their json
+            collection.findOne(SelectQuery.builder().where("_id", FilterOperator.EQUALS_TO, "doc001").build());
+            collection.findOne(SelectQuery.builder().where("index", FilterOperator.EQUALS_TO, 2).build());
+            collection.findOne(SelectQuery.builder().where("index", FilterOperator.EQUALS_TO, 2).build());
+            Assertions.assertEquals(2, server.count("findOne"));
+        }
+    }
+
+    @Test
+    public void shouldInvalidateOnLocalWrites() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(5)) {
+            CollectionClient collection = server.collection().withNearCache(new NearCache());
+            Assertions.assertFalse(collection.findById("new").isPresent());
+            Assertions.assertFalse(collection.findById("new").isPresent());
+            Assertions.assertEquals(1, server.count("findOne"));
+
+            collection.insertOne(new JsonDocument().id("new").put("index", 10));
+            Assertions.assertTrue(collection.findById("new").isPresent());
+            Assertions.assertEquals(2, server.count("findOne"));
+
+            // Other documents are still cached
+            collection.findById("doc002");
+            collection.deleteById("new");
+            collection.findById("doc002");
+            Assertions.assertEquals(3, server.count("findOne"));
+            Assertions.assertFalse(collection.findById("new").isPresent());
+            Assertions.assertEquals(4, server.count("findOne"));
+        }
+    }
+
+    @Test
+    public void shouldInvalidateQueriesAndCollections() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(5)) {
+            NearCache nearCache = new NearCache();
+            CollectionClient collection = server.collection().withNearCache(nearCache);
+            SelectQuery byIndex = SelectQuery.builder().where("index", FilterOperator.EQUALS_TO, 2).build();
+            collection.findById("doc001");
+            collection.findOne(byIndex);
+            Assertions.assertEquals(2, server.count("findOne"));
+
+            // A write on a known _id invalidates the queries, other documents stay cached
+            collection.insertOne(new JsonDocument().id("new").put("index", 10));
+            collection.findById("doc001");
+            collection.findOne(byIndex);
+            Assertions.assertEquals(3, server.count("findOne"));
+
+            // A write on unknown documents invalidates the whole collection
+            collection.deleteMany(DeleteQuery.builder().where("index", FilterOperator.EQUALS_TO, 4).build());
+            collection.findById("doc001");
+            collection.findOne(byIndex);
+            Assertions.assertEquals(5, server.count("findOne"));
+            collection.findById("doc001");
+            collection.findOne(byIndex);
+            Assertions.assertEquals(5, server.count("findOne"));
+        }
+    }
+
+}
@@ -0,0 +1,181 @@
+package io.stargate.test.data;
+
+import io.stargate.sdk.core.domain.Page;
+import io.stargate.sdk.core.domain.PagePrefetcher;
+import io.stargate.sdk.data.domain.PagedResultIterable;
+import io.stargate.sdk.data.domain.ResultIterable;
+import io.stargate.sdk.data.domain.query.SelectQuery;
+import io.stargate.sdk.tracing.ServiceCallScope;
+import io.stargate.sdk.tracing.ServiceCallSpan;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Lazy paging and prefetching of the Data API results.
+ */
+public class PagedResultIterableTest {
+
+    /** 3 pages of 20 documents and a last page of 5. */
+    private static final int TOTAL = 65;
+
+    /**
+     * Fake pages, the paging state is the offset of the next page.
+     */
+    private static ResultIterable<Integer> results(SelectQuery query, AtomicInteger fetches) {
+        return results(query, fetches, new CountDownLatch(0));
+    }
+
+    /**
+     * Fake pages, each fetch counts down the latch.
+     */
+    private static ResultIterable<Integer> results(SelectQuery query, AtomicInteger fetches, CountDownLatch fetched) {
+        return new PagedResultIterable<>(query, (pageQuery, pageNumber) -> {
+            fetches.incrementAndGet();
+            fetched.countDown();
+            Object state = pageQuery.getOptions() == null ? null : pageQuery.getOptions().get("pagingState");
+            int offset = state == null ? 0 : Integer.parseInt((String) state);
+            List<Integer> docs = new ArrayList<>();
+            for (int i = offset; i < Math.min(offset + SelectQuery.PAGING_SIZE_MAX, TOTAL); i++) {
+                docs.add(i);
+            }
+            int next = offset + SelectQuery.PAGING_SIZE_MAX;
+            return new Page<>(SelectQuery.PAGING_SIZE_MAX, next < TOTAL ? String.valueOf(next) : null, docs);
+        });
+    }
+
+    @Test
+    public void shouldFetchPagesWhenConsumed() {
+        AtomicInteger fetches = new AtomicInteger();
+        ResultIterable<Integer> results = results(SelectQuery.builder().build(), fetches);
+        Assertions.assertEquals(0, fetches.get());
+        Iterator<Integer> it = results.iterator();
+        for (int i = 0; i < 21; i++) {
+            Assertions.assertEquals(i, it.next());
+        }
+        Assertions.assertEquals(2, fetches.get());
+        Assertions.assertFalse(results.isFullyFetched());
+        Assertions.assertEquals(TOTAL, results.stream().count());
+        Assertions.assertTrue(results.isFullyFetched());
+    }
+
+    @Test
+    public void shouldHonourLimitWithoutOverFetching() {
+        AtomicInteger fetches = new AtomicInteger();
+        SelectQuery query = SelectQuery.builder().withLimit(15).build();
+        List<Integer> docs = results(query, fetches).stream().collect(Collectors.toList());
+        Assertions.assertEquals(15, docs.size());
+        Assertions.assertEquals(1, fetches.get());
+        // The query is not altered by paging
+        Assertions.assertFalse(query.getOptions().containsKey("pagingState"));
+    }
+
+    @Test
+    public void shouldFetchBatchesOfPages() {
+        AtomicInteger fetches = new AtomicInteger();
+        ResultIterable<Integer> results = results(SelectQuery.builder().build(), fetches).batchSize(50);
+        Assertions.assertEquals(0, results.one());
+        Assertions.assertEquals(3, fetches.get());
+        Assertions.assertEquals(TOTAL, results.all().size());
+    }
+
+    @Test
+    public void shouldPrefetchNextPages() throws InterruptedException {
+        AtomicInteger fetches   = new AtomicInteger();
+        AtomicInteger submitted = new AtomicInteger();
+        CountDownLatch fetched  = new CountDownLatch(3);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PagedResultIterable<Integer> results = (PagedResultIterable<Integer>) results(SelectQuery.builder().build(), fetches, fetched);
+            Iterator<Integer> it = results.prefetch(2, task -> {
+                submitted.incrementAndGet();
+                executor.execute(task);
+            }).iterator();
+            Assertions.assertEquals(0, it.next());
+            // first page handed out, the 2 next pages are requested ahead and no more
+            Assertions.assertTrue(fetched.await(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(3, submitted.get());
+            Assertions.assertEquals(3, fetches.get());
+            int expected = 1;
+            while (it.hasNext()) {
+                Assertions.assertEquals(expected++, it.next());
+            }
+            Assertions.assertEquals(TOTAL, expected);
+            Assertions.assertEquals(4, fetches.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldPropagatePrefetchError() {
+        PagePrefetcher<Integer> pages = new PagePrefetcher<>((pageState, pageNumber) -> {
+            if (pageNumber == 2) {
+                throw new IllegalStateException("page 2");
+            }
+            return new Page<>(1, "next", Collections.singletonList(pageNumber));
+        }, null, 3);
+        Assertions.assertEquals(1, pages.next().getResults().get(0));
+        IllegalStateException e = Assertions.assertThrows(IllegalStateException.class, pages::next);
+        Assertions.assertEquals("page 2", e.getMessage());
+        Assertions.assertFalse(pages.hasNext());
+    }
+
+    /**
+     * Span recording its end and its number of pages.
+     */
+    private static final class RecordingSpan implements ServiceCallSpan {
+        private final AtomicInteger ended = new AtomicInteger();
+        private long pages = -1;
+        public ServiceCallSpan setAttribute(String key, String value) { return this; }
+        public ServiceCallSpan setAttribute(String key, long value) {
+            if ("stargate.pages".equals(key)) {
+                pages = value;
+            }
+            return this;
+        }
+        public void recordError(Throwable error) {}
+        public void inject(BiConsumer<String, String> headers) {}
+        public ServiceCallScope makeCurrent() { return () -> {}; }
+        public void end() { ended.incrementAndGet(); }
+    }
+
+    @Test
+    public void shouldEndOperationSpanOnceExhaustedOrClosed() {
+        List<RecordingSpan> spans = new ArrayList<>();
+        PagedResultIterable<Integer> results = (PagedResultIterable<Integer>) results(SelectQuery.builder().build(), new AtomicInteger());
+        results.operationSpan(() -> {
+            RecordingSpan span = new RecordingSpan();
+            spans.add(span);
+            return span;
+        });
+        Assertions.assertTrue(spans.isEmpty());
+
+        // Exhausted: one span for the 4 pages
+        Assertions.assertEquals(TOTAL, results.all().size());
+        Assertions.assertEquals(1, spans.size());
+        Assertions.assertEquals(1, spans.get(0).ended.get());
+        Assertions.assertEquals(4, spans.get(0).pages);
+
+        // Abandoned after the first page then closed
+        try (Stream<Integer> stream = results.stream()) {
+            Assertions.assertEquals(5, stream.limit(5).count());
+            Assertions.assertEquals(0, spans.get(1).ended.get());
+        }
+        Assertions.assertEquals(1, spans.get(1).ended.get());
+        Assertions.assertEquals(1, spans.get(1).pages);
+    }
+
+}
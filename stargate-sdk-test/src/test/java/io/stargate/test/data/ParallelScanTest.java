@@ -0,0 +1,87 @@
+package io.stargate.test.data;
+
+import io.stargate.sdk.data.CollectionClient;
+import io.stargate.sdk.data.ParallelScan;
+import io.stargate.sdk.data.domain.JsonDocumentResult;
+import io.stargate.sdk.data.domain.query.Filter;
+import io.stargate.sdk.data.domain.query.ScanSegments;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Segmented scans of a collection.
+ */
+public class ParallelScanTest {
+
+    @Test
+    public void shouldSplitIdRanges() {
+        List<Filter> segments = ScanSegments.idRanges("doc020", "doc050");
+        Assertions.assertEquals(3, segments.size());
+        Assertions.assertEquals(Map.of("$lt", "doc020"), segments.get(0).getFilter().get("_id"));
+        Assertions.assertEquals(Map.of("$gte", "doc020", "$lt", "doc050"), segments.get(1).getFilter().get("_id"));
+        Assertions.assertEquals(Map.of("$gte", "doc050"), segments.get(2).getFilter().get("_id"));
+        Assertions.assertEquals(8, ScanSegments.uuidRanges(8).size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ScanSegments.idRanges("b", "a"));
+    }
+
+    @Test
+    public void shouldMergeSegmentsInStream() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(100).withDelay(20)) {
+            ParallelScan scan = server.collection()
+                    .parallelScan(ScanSegments.idRanges("doc025", "doc050", "doc075"))
+                    .parallelism(2);
+            Set<String> ids;
+            try (Stream<JsonDocumentResult> documents = scan.stream()) {
+                ids = documents.map(JsonDocumentResult::getId).collect(Collectors.toSet());
+            }
+            Assertions.assertEquals(100, ids.size());
+            // 4 segments of 25 documents, 2 pages each
+            Assertions.assertEquals(8, server.count("find"));
+            Assertions.assertEquals(2, server.getMaxInFlight());
+        }
+    }
+
+    @Test
+    public void shouldForwardErrorsOfReaders() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(60)) {
+            Map<Integer, Boolean> daemons = new ConcurrentHashMap<>();
+            ParallelScan scan = new ParallelScan(server.collection(), ScanSegments.idRanges("doc030")) {
+                @Override
+                public Stream<JsonDocumentResult> segment(int segment) {
+                    daemons.put(segment, Thread.currentThread().isDaemon());
+                    if (segment == 1) {
+                        throw new AssertionError("segment 1");
+                    }
+                    return super.segment(segment);
+                }
+            };
+            try (Stream<JsonDocumentResult> documents = scan.stream()) {
+                AssertionError e = Assertions.assertThrows(AssertionError.class, documents::count);
+                Assertions.assertEquals("segment 1", e.getMessage());
+            }
+            Assertions.assertEquals(Boolean.TRUE, daemons.get(1));
+        }
+    }
+
+    @Test
+    public void shouldCallbackPerSegment() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(60)) {
+            CollectionClient collection = server.collection();
+            Map<Integer, Long> counts = new ConcurrentHashMap<>();
+            collection.parallelScan(ScanSegments.idRanges("doc010"))
+                    .forEachSegment((segment, documents) -> counts.put(segment, documents.count()));
+            Assertions.assertEquals(Map.of(0, 10L, 1, 50L), counts);
+            Assertions.assertEquals(60, collection.reactive()
+                    .scan(collection.parallelScan(ScanSegments.idRanges("doc030")))
+                    .count().block());
+        }
+    }
+
+}
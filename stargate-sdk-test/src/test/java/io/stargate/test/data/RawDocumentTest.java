@@ -0,0 +1,69 @@
+package io.stargate.test.data;
+
+import io.stargate.sdk.data.domain.ApiResponse;
+import io.stargate.sdk.data.domain.JsonDocumentRaw;
+import io.stargate.sdk.data.domain.JsonDocumentResult;
+import io.stargate.sdk.data.utils.DataApiUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Documents kept as raw json slices of the response.
+ */
+public class RawDocumentTest {
+
+    static final String RESPONSE = "{\"data\":{\"documents\":["
+            + "{\"_id\":\"1\",\"name\":\"a\",\"tags\":[\"x\",{\"y\":1}]},"
+            + " {\"_id\":\"2\",\"$vector\":[1.0,0.5]}],"
+            + "\"nextPageState\":\"abc\"},\"status\":{\"count\":2}}";
+
+    @Test
+    public void shouldSliceDocuments() {
+        ApiResponse res = DataApiUtils.unmarshallRawResponse(RESPONSE);
+        List<JsonDocumentRaw> docs = res.getData().getRawDocuments();
+        Assertions.assertEquals(2, docs.size());
+        Assertions.assertEquals("{\"_id\":\"1\",\"name\":\"a\",\"tags\":[\"x\",{\"y\":1}]}", docs.get(0).getJson());
+        Assertions.assertEquals("{\"_id\":\"2\",\"$vector\":[1.0,0.5]}", docs.get(1).getJson());
+        Assertions.assertEquals("abc", res.getData().getNextPageState());
+        Assertions.assertEquals(2, res.getStatusKeyAsInt("count"));
+        Assertions.assertNull(res.getData().getDocuments());
+    }
+
+    @Test
+    public void shouldParseLazily() {
+        JsonDocumentRaw raw = DataApiUtils.unmarshallRawResponse(RESPONSE).getData().getRawDocuments().get(1);
+        Assertions.assertEquals("2", raw.getDocument().getId());
+        Assertions.assertArrayEquals(new float[] {1f, 0.5f}, raw.getDocument().getVector());
+        Assertions.assertSame(raw.getDocument(), raw.getDocument());
+    }
+
+    @Test
+    public void shouldDecodeFieldsOnAccess() {
+        JsonDocumentResult doc = JsonDocumentResult.lazy(
+                "{\"_id\":\"1\",\"$similarity\":0.5,\"age\":3,\"tags\":[\"x\"],\"$vector\":[1,2]}");
+        Assertions.assertEquals("1", doc.getId());
+        Assertions.assertEquals(0.5f, doc.getSimilarity());
+        Assertions.assertEquals(3L, doc.getLong("age"));
+        Assertions.assertTrue(doc.isAttributeExist("tags"));
+        Assertions.assertFalse(doc.isAttributeExist("$vector"));
+        Assertions.assertNull(doc.getString("missing"));
+        Assertions.assertArrayEquals(new float[] {1f, 2f}, doc.getVector());
+        Assertions.assertEquals(2, doc.getData().size());
+    }
+
+    @Test
+    public void shouldDecodeStringAndNullFieldsOnAccess() {
+        JsonDocumentResult doc = JsonDocumentResult.lazy(
+                "{\"_id\":\"1\",\"name\":\"a \\\"b\\\"\",\"empty\":null,\"last\":\"z\"}");
+        Assertions.assertEquals("a \"b\"", doc.getString("name"));
+        Assertions.assertTrue(doc.isAttributeExist("empty"));
+        Assertions.assertEquals("z", doc.getString("last"));
+        Assertions.assertEquals(3, doc.getData().size());
+
+        JsonDocumentRaw raw = DataApiUtils.unmarshallRawResponse(RESPONSE).getData().getRawDocuments().get(0);
+        Assertions.assertEquals("a", raw.getDocument().getString("name"));
+        Assertions.assertEquals(2, raw.getDocument().getData().size());
+    }
+}
@@ -0,0 +1,110 @@
+package io.stargate.test.data;
+
+import io.stargate.sdk.data.ReactiveCollectionClient;
+import io.stargate.sdk.data.domain.JsonDocument;
+import io.stargate.sdk.data.domain.JsonDocumentResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reactive client on the non-blocking http client.
+ */
+public class ReactiveCollectionClientTest {
+
+    @Test
+    public void shouldFetchPagesOnDemand() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(65)) {
+            ReactiveCollectionClient client = server.collection().reactive();
+            List<JsonDocumentResult> first = client.findAll().take(5).collectList().block();
+            Assertions.assertEquals(5, first.size());
+            Assertions.assertEquals("doc000", first.get(0).getId());
+            Assertions.assertEquals(1, server.count("find"));
+            Assertions.assertEquals(65, client.findAll().count().block());
+            Assertions.assertEquals(5, server.count("find"));
+        }
+    }
+
+    @Test
+    public void shouldFindById() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(3)) {
+            ReactiveCollectionClient client = server.collection().reactive();
+            Assertions.assertEquals("doc001", client.findById("doc001").block().getId());
+            Assertions.assertNull(client.findById("unknown").block());
+            Assertions.assertEquals(3, client.countDocuments(null).block());
+        }
+    }
+
+    @Test
+    public void shouldInsertInChunksWithBoundedConcurrency() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDelay(50)) {
+            ReactiveCollectionClient client = server.collection().reactive();
+            Flux<JsonDocument> docs = Flux.range(0, 45).map(i -> new JsonDocument().id("id" + i).put("index", i));
+            Assertions.assertEquals(45, client.insertMany(docs, 10, 2).count().block());
+            Assertions.assertEquals(5, server.count("insertMany"));
+            Assertions.assertEquals(45, server.getDocuments().size());
+            Assertions.assertTrue(server.getMaxInFlight() <= 2);
+        }
+    }
+
+    @Test
+    public void shouldRequestPagesWithDemand() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(65)) {
+            ReactiveCollectionClient client = server.collection().reactive();
+            AtomicInteger received = new AtomicInteger();
+            CountDownLatch firstPage = new CountDownLatch(20);
+            CountDownLatch nextDocument = new CountDownLatch(21);
+            BaseSubscriber<JsonDocumentResult> subscriber = new BaseSubscriber<JsonDocumentResult>() {
+                @Override
+                protected void hookOnSubscribe(Subscription subscription) {
+                    request(20);
+                }
+                @Override
+                protected void hookOnNext(JsonDocumentResult value) {
+                    received.incrementAndGet();
+                    firstPage.countDown();
+                    nextDocument.countDown();
+                }
+            };
+            client.findAll().subscribe(subscriber);
+            Assertions.assertTrue(firstPage.await(5, TimeUnit.SECONDS));
+            Thread.sleep(200);
+            // Documents of the first page requested, nothing fetched ahead
+            Assertions.assertEquals(1, server.count("find"));
+            subscriber.request(1);
+            Assertions.assertTrue(nextDocument.await(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(2, server.count("find"));
+            Assertions.assertEquals(21, received.get());
+            subscriber.dispose();
+        }
+    }
+
+    @Test
+    public void shouldNotHoldThreadsWhileWaiting() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(3)) {
+            ReactiveCollectionClient client = server.collection().reactive();
+            server.withDelay(300);
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            long start = System.nanoTime();
+            Assertions.assertEquals(10, Flux.range(0, 10)
+                    .flatMap(i -> client.findById("doc001"))
+                    .doOnNext(doc -> threads.add(Thread.currentThread().getName()))
+                    .count().block());
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            // Calls in flight together, responses signaled by the I/O threads of the http client
+            Assertions.assertTrue(server.getMaxInFlight() > 1);
+            Assertions.assertTrue(elapsed < 3000, "elapsed " + elapsed);
+            threads.forEach(name -> Assertions.assertTrue(name.startsWith("httpclient-dispatch"), name));
+        }
+    }
+
+}
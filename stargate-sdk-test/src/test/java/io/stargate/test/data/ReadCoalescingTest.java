@@ -0,0 +1,72 @@
+package io.stargate.test.data;
+
+import io.stargate.sdk.data.CollectionClient;
+import io.stargate.sdk.data.domain.JsonDocumentResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Identical reads in flight share a single call.
+ */
+public class ReadCoalescingTest {
+
+    private static final int THREADS = 8;
+
+    private static List<Optional<JsonDocumentResult>> concurrentFindById(CollectionClient collection, String id) {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<CompletableFuture<Optional<JsonDocumentResult>>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return collection.findById(id);
+                }, executor));
+            }
+            start.countDown();
+            List<Optional<JsonDocumentResult>> results = new ArrayList<>();
+            futures.forEach(f -> results.add(f.join()));
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldCoalesceIdenticalReads() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(5).withDelay(300)) {
+            CollectionClient collection = server.collection();
+            collection.setCoalesceReads(true);
+            List<Optional<JsonDocumentResult>> results = concurrentFindById(collection, "doc003");
+            results.forEach(r -> Assertions.assertEquals("doc003", r.get().getId()));
+            Assertions.assertEquals(1, server.count("findOne"));
+            Assertions.assertEquals(THREADS - 1, collection.getReadCoalescer().getCoalesced());
+            Assertions.assertEquals(0, collection.getReadCoalescer().getInFlight());
+
+            // Completed calls are not reused
+            collection.findById("doc003");
+            Assertions.assertEquals(2, server.count("findOne"));
+        }
+    }
+
+    @Test
+    public void shouldNotCoalesceByDefault() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(5).withDelay(100)) {
+            concurrentFindById(server.collection(), "doc003");
+            Assertions.assertEquals(THREADS, server.count("findOne"));
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+package io.stargate.test.data;
+
+import com.evanlennick.retry4j.config.RetryConfigBuilder;
+import io.stargate.sdk.data.CollectionClient;
+import io.stargate.sdk.data.ResumableScan;
+import io.stargate.sdk.data.domain.ApiError;
+import io.stargate.sdk.data.domain.JsonDocumentResult;
+import io.stargate.sdk.data.domain.ScanCheckpoint;
+import io.stargate.sdk.data.domain.query.SelectQuery;
+import io.stargate.sdk.data.exception.DataApiException;
+import io.stargate.sdk.loadbalancer.UnavailableResourceException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Scans resumed from a checkpoint.
+ */
+public class ResumableScanTest {
+
+    @Test
+    public void shouldResumeFromCheckpoint() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(50)) {
+            CollectionClient collection = server.collection();
+            SelectQuery query = SelectQuery.builder().build();
+            List<ScanCheckpoint> saved = new ArrayList<>();
+            ResumableScan scan = collection.resumableScan(query).onCheckpoint(saved::add);
+            for (int i = 0; i < 25; i++) {
+                scan.next();
+            }
+            ScanCheckpoint checkpoint = scan.getCheckpoint();
+            Assertions.assertEquals(25, checkpoint.getCount());
+            Assertions.assertEquals(5, checkpoint.getOffset());
+            Assertions.assertEquals(1, saved.size());
+
+            // Process restarted
+            ScanCheckpoint restored = ScanCheckpoint.fromJson(checkpoint.toJson());
+            List<String> ids = collection.resumableScan(query, restored).stream()
+                    .map(JsonDocumentResult::getId).collect(Collectors.toList());
+            Assertions.assertEquals(25, ids.size());
+            Assertions.assertEquals("doc025", ids.get(0));
+            Assertions.assertEquals("doc049", ids.get(24));
+        }
+    }
+
+    @Test
+    public void shouldRetryFailedPage() throws Exception {
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(45)) {
+            ResumableScan scan = server.collection().resumableScan(SelectQuery.builder().build())
+                    .pageRetry(new RetryConfigBuilder()
+                            .retryOnAnyException()
+                            .withDelayBetweenTries(Duration.ofMillis(10))
+                            .withFixedBackoff()
+                            .withMaxNumberOfTries(3).build());
+            for (int i = 0; i < 20; i++) {
+                scan.next();
+            }
+            server.failNext("find", 2);
+            Assertions.assertEquals(25, scan.stream().count());
+            // 3 pages, the second one requested 3 times
+            Assertions.assertEquals(5, server.count("find"));
+            Assertions.assertTrue(scan.getCheckpoint().isCompleted());
+            Assertions.assertEquals(45, scan.getCheckpoint().getCount());
+        }
+    }
+
+    @Test
+    public void shouldRetryTransientErrorsOnly() throws Exception {
+        Assertions.assertTrue(ResumableScan.isTransient(new RuntimeException("Error in HTTP Request", new SocketTimeoutException())));
+        Assertions.assertTrue(ResumableScan.isTransient(new UnavailableResourceException("down (http:503)")));
+        Assertions.assertTrue(ResumableScan.isTransient(new RuntimeException("{} (http:500)")));
+        ApiError serverError = new ApiError();
+        serverError.setErrorCode("SERVER_READ_TIMEOUT");
+        Assertions.assertTrue(ResumableScan.isTransient(new DataApiException(serverError)));
+        Assertions.assertFalse(ResumableScan.isTransient(new IllegalArgumentException("Error Code=400 (HTTP_BAD_REQUEST)")));
+        Assertions.assertFalse(ResumableScan.isTransient(new DataApiException(new ApiError())));
+
+        // Default retry: an invalid query fails at once
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(5)) {
+            server.failNext("find", 1);
+            ResumableScan scan = server.collection().resumableScan(SelectQuery.builder().build());
+            Assertions.assertThrows(DataApiException.class, scan::hasNext);
+            Assertions.assertEquals(1, server.count("find"));
+        }
+    }
+
+    @Test
+    public void shouldSerializeCheckpoint() throws Exception {
+        ScanCheckpoint checkpoint = new ScanCheckpoint();
+        checkpoint.setPageState("state");
+        checkpoint.setOffset(3);
+        checkpoint.setCount(43);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(checkpoint);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Assertions.assertEquals(checkpoint, in.readObject());
+        }
+    }
+
+}
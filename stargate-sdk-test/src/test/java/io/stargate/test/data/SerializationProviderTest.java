@@ -0,0 +1,102 @@
+package io.stargate.test.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.stargate.sdk.data.domain.ApiResponse;
+import io.stargate.sdk.data.domain.JsonDocument;
+import io.stargate.sdk.data.domain.JsonDocumentResult;
+import io.stargate.sdk.data.utils.DataApiUtils;
+import io.stargate.sdk.serialization.JacksonSerializationProvider;
+import io.stargate.sdk.serialization.SerializationProvider;
+import io.stargate.sdk.utils.JsonUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plugging a custom serialization backend.
+ */
+public class SerializationProviderTest {
+
+    @Test
+    public void shouldUseCustomDataApiProvider() {
+        SerializationProvider previous = JsonUtils.getDataApiSerializationProvider();
+        AtomicInteger calls = new AtomicInteger();
+        try {
+            JsonUtils.withDataApiSerializationProvider(new JacksonSerializationProvider(
+                    new ObjectMapper().registerModule(JsonUtils.getDataApiModule())) {
+                @Override
+                public String marshall(Object o) {
+                    calls.incrementAndGet();
+                    return super.marshall(o);
+                }
+            });
+            String json = JsonUtils.marshallForDataApi(new JsonDocument().id("1").put("a", 1));
+            Assertions.assertEquals(1, calls.get());
+            Assertions.assertEquals("1", new JsonDocument(json).getId());
+        } finally {
+            JsonUtils.withDataApiSerializationProvider(previous);
+        }
+    }
+
+    /**
+     * Backend not based on Jackson for the SDK, counting the values it binds.
+     */
+    private static final class CountingProvider implements SerializationProvider {
+        private final SerializationProvider delegate = new JacksonSerializationProvider(
+                new ObjectMapper().registerModule(JsonUtils.getDataApiModule()));
+        private final AtomicInteger unmarshalls = new AtomicInteger();
+        public String marshall(Object o) { return delegate.marshall(o); }
+        public void marshall(Object o, OutputStream out) { delegate.marshall(o, out); }
+        public <T> T unmarshall(String body, Class<T> clazz) { unmarshalls.incrementAndGet(); return delegate.unmarshall(body, clazz); }
+        public <T> T unmarshall(String body, Type type) { unmarshalls.incrementAndGet(); return delegate.unmarshall(body, type); }
+        public <T> T unmarshall(InputStream in, Class<T> clazz) { unmarshalls.incrementAndGet(); return delegate.unmarshall(in, clazz); }
+        public <T> T convertValue(Object bean, Class<T> clazz) { return delegate.convertValue(bean, clazz); }
+    }
+
+    @Test
+    public void shouldScanDocumentsWithAnyProvider() {
+        SerializationProvider previous = JsonUtils.getDataApiSerializationProvider();
+        CountingProvider provider = new CountingProvider();
+        try {
+            JsonUtils.withDataApiSerializationProvider(provider);
+            JsonDocument doc = new JsonDocument("{\"_id\":\"1\",\"$vector\":[1,0.5],\"a\":{\"b\":[1,2]},\"c\":true}");
+            Assertions.assertEquals("1", doc.getId());
+            Assertions.assertArrayEquals(new float[] {1f, 0.5f}, doc.getVector());
+            Assertions.assertEquals(Map.of("b", List.of(1, 2)), doc.getData().get("a"));
+            Assertions.assertEquals(true, doc.getData().get("c"));
+            Assertions.assertEquals(2, provider.unmarshalls.get());
+
+            ApiResponse response = DataApiUtils.unmarshallRawResponse(
+                    "{\"data\":{\"documents\":[{\"_id\":\"2\",\"$similarity\":0.5,\"x\":\"y\"}]},"
+                    + "\"status\":{\"count\":1},\"errors\":[{\"message\":\"m\",\"errorCode\":\"E\"}]}");
+            Assertions.assertEquals(1, response.getStatus().get("count"));
+            Assertions.assertEquals("E", response.getErrors().get(0).getErrorCode());
+            JsonDocumentResult result = response.getData().getRawDocuments().get(0).getDocument();
+            Assertions.assertEquals("2", result.getId());
+            Assertions.assertEquals(0.5f, result.getSimilarity());
+            Assertions.assertEquals("y", result.getString("x"));
+            Assertions.assertEquals(5, provider.unmarshalls.get());
+        } finally {
+            JsonUtils.withDataApiSerializationProvider(previous);
+        }
+    }
+
+    @Test
+    public void shouldStream() {
+        SerializationProvider provider = JsonUtils.getSerializationProvider();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        provider.marshall(Map.of("a", 1), out);
+        Assertions.assertEquals("{\"a\":1}", out.toString(StandardCharsets.UTF_8));
+        Map<?, ?> map = provider.unmarshall(new ByteArrayInputStream(out.toByteArray()), Map.class);
+        Assertions.assertEquals(1, map.get("a"));
+    }
+}
@@ -0,0 +1,106 @@
+package io.stargate.test.data;
+
+import io.stargate.sdk.data.domain.ApiResponse;
+import io.stargate.sdk.data.domain.JsonDocument;
+import io.stargate.sdk.data.domain.JsonDocumentResult;
+import io.stargate.sdk.data.domain.query.SelectQuery;
+import io.stargate.sdk.utils.JsonUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serialization of vectors as Json arrays and EJson binaries.
+ */
+public class VectorCodecTest {
+
+    static final float[] VECTOR = { 0.1f, -0.25f, 1.0e-7f, 3.4028235e38f, 0f };
+
+    @Test
+    public void shouldRoundTripJsonArray() {
+        JsonDocument doc = new JsonDocument().id("1").vector(VECTOR).put("name", "hello");
+        String json = JsonUtils.marshallForDataApi(doc);
+        System.out.println(json);
+        JsonDocument doc2 = new JsonDocument(json);
+        Assertions.assertEquals("1", doc2.getId());
+        Assertions.assertEquals("hello", doc2.getString("name"));
+        Assertions.assertArrayEquals(VECTOR, doc2.getVector());
+        Assertions.assertFalse(doc2.isAttributeExist("$vector"));
+    }
+
+    @Test
+    public void shouldRoundTripBinary() {
+        JsonDocument doc = new JsonDocument().id("1").vector(VECTOR);
+        String json = JsonUtils.marshallForDataApi(doc, true);
+        System.out.println(json);
+        Assertions.assertTrue(json.contains("\"$binary\""));
+        Assertions.assertArrayEquals(VECTOR, new JsonDocument(json).getVector());
+    }
+
+    @Test
+    public void shouldReadIntegerVectorFromMap() {
+        JsonDocument doc = new JsonDocument(JsonUtils.unmarshallBean("{\"_id\":\"1\",\"$vector\":[1,0,0.5]}", java.util.Map.class));
+        Assertions.assertArrayEquals(new float[] {1f, 0f, 0.5f}, doc.getVector());
+    }
+
+    @Test
+    public void shouldEncodeSortVectorAsBinary() {
+        String json = JsonUtils.marshallForDataApi(SelectQuery.findByVector(VECTOR), true);
+        System.out.println(json);
+        Assertions.assertTrue(json.contains("\"$binary\""));
+    }
+
+    @Test
+    public void shouldReadDocumentResult() {
+        JsonDocumentResult res = JsonUtils.getDataApiObjectMapper().convertValue(
+                JsonUtils.unmarshallBean("{\"_id\":\"1\",\"$vector\":[1,0.5],\"$similarity\":0.75,\"name\":\"hello\"}",
+                        java.util.Map.class), JsonDocumentResult.class);
+        Assertions.assertEquals("1", res.getId());
+        Assertions.assertArrayEquals(new float[] {1f, 0.5f}, res.getVector());
+        Assertions.assertEquals(0.75f, res.getSimilarity());
+        Assertions.assertEquals("hello", res.getString("name"));
+        Assertions.assertFalse(res.isAttributeExist("$vector"));
+        Assertions.assertEquals(0.75f, res.getFloat("$similarity"));
+    }
+
+    @Test
+    public void shouldReadFindResponse() {
+        String body = "{\"data\":{\"documents\":["
+                + "{\"_id\":\"1\",\"$vector\":[1,0.5],\"$similarity\":0.75,\"name\":\"hello\",\"tags\":[\"a\",\"b\"]},"
+                + "{\"_id\":\"2\",\"$vector\":{\"$binary\":\"" + binary(VECTOR) + "\"},\"$similarity\":0.5,\"nested\":{\"x\":1}}"
+                + "],\"nextPageState\":\"abc\"}}";
+        ApiResponse response = JsonUtils.unmarshallBeanForDataApi(body, ApiResponse.class);
+        List<JsonDocumentResult> docs = response.getData().getDocuments();
+        Assertions.assertEquals(2, docs.size());
+        Assertions.assertEquals("abc", response.getData().getNextPageState());
+
+        JsonDocumentResult first = docs.get(0);
+        Assertions.assertEquals("1", first.getId());
+        Assertions.assertArrayEquals(new float[] {1f, 0.5f}, first.getVector());
+        Assertions.assertEquals(0.75f, first.getSimilarity());
+        Assertions.assertEquals(0.75f, first.getFloat("$similarity"));
+        Assertions.assertEquals("hello", first.getString("name"));
+        Assertions.assertEquals(List.of("a", "b"), first.getData().get("tags"));
+
+        JsonDocumentResult second = docs.get(1);
+        Assertions.assertEquals("2", second.getId());
+        Assertions.assertArrayEquals(VECTOR, second.getVector());
+        Assertions.assertEquals(0.5f, second.getSimilarity());
+        Assertions.assertEquals(Map.of("x", 1), second.getData().get("nested"));
+    }
+
+    /**
+     * EJson binary of a vector, big-endian floats in base64.
+     */
+    private static String binary(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES);
+        for (float f : vector) {
+            buffer.putFloat(f);
+        }
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+}
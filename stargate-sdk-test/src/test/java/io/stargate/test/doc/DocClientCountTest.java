@@ -0,0 +1,115 @@
+package io.stargate.test.doc;
+
+import com.sun.net.httpserver.HttpServer;
+import io.stargate.sdk.ServiceDatacenter;
+import io.stargate.sdk.ServiceDeployment;
+import io.stargate.sdk.api.SimpleTokenProvider;
+import io.stargate.sdk.doc.CollectionClient;
+import io.stargate.sdk.doc.StargateDocumentApiClient;
+import io.stargate.sdk.doc.domain.Query;
+import io.stargate.sdk.http.ServiceHttp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Count documents of a collection against a fake Document API.
+ */
+public class DocClientCountTest {
+
+    /** Documents in group a. */
+    private static final int GROUP_A = 30;
+
+    /** Documents in group b. */
+    private static final int GROUP_B = 15;
+
+    private HttpServer server;
+
+    private final AtomicInteger pages = new AtomicInteger();
+
+    /** Query strings received, checked on the test thread. */
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+
+    private CollectionClient collection;
+
+    @BeforeEach
+    public void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            pages.incrementAndGet();
+            String query = URLDecoder.decode(exchange.getRequestURI().getRawQuery(), StandardCharsets.UTF_8);
+            queries.add(query);
+            int total = query.contains("\"a\"") ? GROUP_A : query.contains("\"b\"") ? GROUP_B : GROUP_A + GROUP_B;
+            int offset = query.contains("page-state=") ? Integer.parseInt(query.replaceAll(".*page-state=(\\d+).*", "$1")) : 0;
+            int end = Math.min(offset + 20, total);
+            StringBuilder body = new StringBuilder("{");
+            if (end < total) {
+                body.append("\"pageState\":\"").append(end).append("\",");
+            }
+            body.append("\"data\":{");
+            for (int i = offset; i < end; i++) {
+                body.append(i > offset ? "," : "").append("\"doc").append(i).append("\":{}");
+            }
+            body.append("}}");
+            byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        String url = "http://localhost:" + server.getAddress().getPort();
+        collection = new StargateDocumentApiClient(new ServiceDeployment<ServiceHttp>()
+                .addDatacenter(new ServiceDatacenter<>("dc1", new SimpleTokenProvider("token"),
+                        new ServiceHttp("node1", url, url + "/health"))))
+                .namespace("ns1").collection("coll1");
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void shouldCountPagesWithoutFields() {
+        Assertions.assertEquals(45, collection.count());
+        Assertions.assertEquals(3, pages.get());
+        Assertions.assertEquals(3, queries.size());
+        for (String query : queries) {
+            Assertions.assertTrue(query.contains("page-size=20"), query);
+            Assertions.assertTrue(query.contains("fields="), query);
+        }
+    }
+
+    @Test
+    public void shouldCountSegmentsConcurrently() {
+        Assertions.assertEquals(45, collection.count(Arrays.asList(
+                Query.builder().where("group").isEqualsTo("a").build(),
+                Query.builder().where("group").isEqualsTo("b").build()), 2));
+        Assertions.assertEquals(3, pages.get());
+    }
+
+    @Test
+    public void shouldCacheApproximateCount() throws InterruptedException {
+        collection.withCountTtl(Duration.ofMillis(200));
+        Assertions.assertEquals(45, collection.countApproximate());
+        Assertions.assertEquals(45, collection.countApproximate());
+        Assertions.assertEquals(3, pages.get());
+        Thread.sleep(250);
+        Assertions.assertEquals(45, collection.countApproximate());
+        Assertions.assertEquals(6, pages.get());
+    }
+
+}
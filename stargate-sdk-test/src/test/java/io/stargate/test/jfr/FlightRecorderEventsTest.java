@@ -0,0 +1,61 @@
+package io.stargate.test.jfr;
+
+import com.sun.net.httpserver.HttpServer;
+import io.stargate.sdk.http.RetryHttpClient;
+import io.stargate.sdk.http.ServiceHttp;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Flight Recorder events emitted by the http client.
+ */
+public class FlightRecorderEventsTest {
+
+    @Test
+    public void shouldRecordHttpAttempt() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v2/schemas/keyspaces", exchange -> {
+            byte[] body = "{\"data\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        Path dump = Files.createTempFile("stargate", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.stargate.sdk.HttpAttempt");
+            recording.start();
+            String url = "http://localhost:" + server.getAddress().getPort();
+            ServiceHttp node = new ServiceHttp("node1", url, url + "/health");
+            RetryHttpClient.getInstance().executeHttp(node, new HttpGet(url + "/v2/schemas/keyspaces"), true);
+            recording.stop();
+            recording.dump(dump);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                    .filter(e -> e.getEventType().getName().equals("io.stargate.sdk.HttpAttempt"))
+                    .collect(Collectors.toList());
+            Assertions.assertEquals(1, events.size());
+            RecordedEvent event = events.get(0);
+            Assertions.assertEquals("GET", event.getString("method"));
+            Assertions.assertEquals("/v2/schemas/keyspaces", event.getString("path"));
+            Assertions.assertEquals("node1", event.getString("node"));
+            Assertions.assertEquals(200, event.getInt("statusCode"));
+            Assertions.assertEquals(11, event.getLong("responseBytes"));
+        } finally {
+            server.stop(0);
+            Files.deleteIfExists(dump);
+        }
+    }
+
+}
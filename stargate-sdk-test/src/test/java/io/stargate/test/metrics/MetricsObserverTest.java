@@ -0,0 +1,107 @@
+package io.stargate.test.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.stargate.sdk.StargateClient;
+import io.stargate.sdk.audit.ServiceCallCaptureLevel;
+import io.stargate.sdk.grpc.GrpcClient;
+import io.stargate.sdk.http.RetryHttpClient;
+import io.stargate.sdk.http.ServiceHttp;
+import io.stargate.sdk.http.audit.ServiceHttpCallEvent;
+import io.stargate.sdk.metrics.StargateClientMetrics;
+import io.stargate.sdk.metrics.StargateMetricsObserver;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Recording invocations in a Micrometer registry.
+ */
+public class MetricsObserverTest {
+
+    private static final ServiceHttp NODE = new ServiceHttp("node1", "http://localhost:8181", "http://localhost:8181/stargate/health");
+
+    @Test
+    public void shouldRecordDataApiCommand() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        // Latency buckets are published for aggregated percentiles
+        Set<String> histograms = new HashSet<>();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (Boolean.TRUE.equals(config.isPercentileHistogram())) {
+                    histograms.add(id.getName());
+                }
+                return config;
+            }
+        });
+        HttpPost post = new HttpPost("http://localhost:8181/v1/ns1/col1");
+        post.setEntity(new StringEntity("{\"find\":{}}"));
+        ServiceHttpCallEvent event = new ServiceHttpCallEvent(NODE, post, ServiceCallCaptureLevel.TIMINGS, -1);
+        event.setOperationName("find");
+        event.setHttpResponseCode(200);
+        event.setHttpResponseSize(100);
+        event.setResponseElapsedTime(12);
+        event.setTotalTries(2);
+        new StargateMetricsObserver(registry).record(event);
+
+        Assertions.assertEquals(1, registry.get(StargateMetricsObserver.METER_REQUESTS)
+                .tags("operation", "find", "outcome", "SUCCESS", "node", "node1").timer().count());
+        Assertions.assertEquals(1, registry.get(StargateMetricsObserver.METER_RETRIES).counter().count());
+        Assertions.assertEquals(11, registry.get(StargateMetricsObserver.METER_REQUEST_SIZE).summary().totalAmount());
+        Assertions.assertEquals(100, registry.get(StargateMetricsObserver.METER_RESPONSE_SIZE).summary().totalAmount());
+        Assertions.assertTrue(histograms.contains(StargateMetricsObserver.METER_REQUESTS));
+    }
+
+    @Test
+    public void shouldBindDroppedEventsOfEachDispatcher() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new StargateClientMetrics()
+                .withObserverDispatcher("grpc", GrpcClient::getObserverDispatcher)
+                .bindTo(registry);
+        Assertions.assertNotNull(registry.get(StargateClientMetrics.METER_OBSERVERS_DROPPED).tag("protocol", "http").functionCounter());
+        Assertions.assertNotNull(registry.get(StargateClientMetrics.METER_OBSERVERS_DROPPED).tag("protocol", "grpc").functionCounter());
+    }
+
+    @Test
+    public void shouldInstrumentClientsOnlyWhenRequested() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        Assertions.assertFalse(RetryHttpClient.getObserverDispatcher().hasObservers());
+        // The registry of the CQL session does not instrument the http clients
+        StargateClient.builder().withCqlMetricsRegistry(registry).build().close();
+        Assertions.assertNull(registry.find(StargateClientMetrics.METER_NODE_AVAILABLE).gauge());
+        Assertions.assertFalse(RetryHttpClient.getObserverDispatcher().hasObservers());
+
+        StargateClient client = StargateClient.builder()
+                .withMetricsRegistry(registry)
+                .enableLatencyStats()
+                .enablePayloadStats()
+                .withSlowQueryLog(1000, 1)
+                .build();
+        Assertions.assertNotNull(registry.find(StargateClientMetrics.METER_NODE_AVAILABLE).gauge());
+        Assertions.assertTrue(RetryHttpClient.getObserverDispatcher().hasObservers());
+        // Observers registered by the client are removed with it
+        client.close();
+        Assertions.assertFalse(RetryHttpClient.getObserverDispatcher().hasObservers());
+    }
+
+    @Test
+    public void shouldTemplateRestResources() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ServiceHttpCallEvent event = new ServiceHttpCallEvent(NODE,
+                new HttpGet("http://localhost:8082/v2/keyspaces/ks1/table1/pk1?fields=a"), ServiceCallCaptureLevel.TIMINGS, -1);
+        event.setHttpResponseCode(404);
+        new StargateMetricsObserver(registry).record(event);
+        Assertions.assertEquals(1, registry.get(StargateMetricsObserver.METER_REQUESTS)
+                .tags("operation", "GET /v2/keyspaces/{}/{}/{}", "outcome", "CLIENT_ERROR").timer().count());
+    }
+
+}
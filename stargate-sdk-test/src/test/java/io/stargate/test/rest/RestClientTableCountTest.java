@@ -0,0 +1,119 @@
+package io.stargate.test.rest;
+
+import com.sun.net.httpserver.HttpServer;
+import io.stargate.sdk.ServiceDatacenter;
+import io.stargate.sdk.ServiceDeployment;
+import io.stargate.sdk.api.SimpleTokenProvider;
+import io.stargate.sdk.http.ServiceHttp;
+import io.stargate.sdk.rest.StargateRestApiClient;
+import io.stargate.sdk.rest.TableClient;
+import io.stargate.sdk.rest.domain.SearchTableQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Count rows of a table against a fake REST API.
+ */
+public class RestClientTableCountTest {
+
+    /** Rows in partition a. */
+    private static final int PARTITION_A = 30;
+
+    /** Rows in partition b. */
+    private static final int PARTITION_B = 15;
+
+    private HttpServer server;
+
+    /** Query strings received, checked on the test thread. */
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+
+    private TableClient table;
+
+    @BeforeEach
+    public void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String query = URLDecoder.decode(exchange.getRequestURI().getRawQuery(), StandardCharsets.UTF_8);
+            queries.add(query);
+            int total = query.contains("\"a\"") ? PARTITION_A : PARTITION_B;
+            int offset = query.contains("page-state=") ? Integer.parseInt(query.replaceAll(".*page-state=(\\d+).*", "$1")) : 0;
+            int end = Math.min(offset + 20, total);
+            StringBuilder body = new StringBuilder("{\"count\":").append(end - offset).append(",");
+            if (end < total) {
+                body.append("\"pageState\":\"").append(end).append("\",");
+            }
+            body.append("\"data\":[");
+            for (int i = offset; i < end; i++) {
+                body.append(i > offset ? "," : "").append("{\"id\":\"row").append(i).append("\"}");
+            }
+            body.append("]}");
+            byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        String url = "http://localhost:" + server.getAddress().getPort();
+        table = new StargateRestApiClient(new ServiceDeployment<ServiceHttp>()
+                .addDatacenter(new ServiceDatacenter<>("dc1", new SimpleTokenProvider("token"),
+                        new ServiceHttp("node1", url, url + "/health"))))
+                .keyspace("ks1").table("table1");
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    private static SearchTableQuery partition(String value) {
+        return SearchTableQuery.builder()
+                .withWhereClauseJson("{\"part\":{\"$eq\":\"" + value + "\"}}")
+                .withReturnedFields("id")
+                .build();
+    }
+
+    @Test
+    public void shouldCountPages() {
+        Assertions.assertEquals(PARTITION_A, table.count(partition("a")));
+        Assertions.assertEquals(2, queries.size());
+        for (String query : queries) {
+            Assertions.assertTrue(query.contains("page-size=20"), query);
+            Assertions.assertTrue(query.contains("fields=id"), query);
+        }
+        Assertions.assertTrue(queries.get(1).contains("page-state=20"));
+    }
+
+    @Test
+    public void shouldCountSegmentsConcurrently() {
+        Assertions.assertEquals(PARTITION_A + PARTITION_B,
+                table.count(Arrays.asList(partition("a"), partition("b")), 2));
+        Assertions.assertEquals(3, queries.size());
+    }
+
+    @Test
+    public void shouldCacheApproximateCount() throws InterruptedException {
+        Assertions.assertThrows(IllegalStateException.class, table::countApproximate);
+        table.withCount(Collections.singletonList(partition("b")), 1, Duration.ofMillis(200));
+        Assertions.assertEquals(PARTITION_B, table.countApproximate());
+        Assertions.assertEquals(PARTITION_B, table.countApproximate());
+        Assertions.assertEquals(1, queries.size());
+        Thread.sleep(250);
+        Assertions.assertEquals(PARTITION_B, table.countApproximate());
+        Assertions.assertEquals(2, queries.size());
+    }
+
+}
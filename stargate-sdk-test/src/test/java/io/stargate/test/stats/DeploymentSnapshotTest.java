@@ -0,0 +1,77 @@
+package io.stargate.test.stats;
+
+import io.stargate.sdk.DeploymentMonitor;
+import io.stargate.sdk.ManagedServiceDeployment;
+import io.stargate.sdk.ServiceDatacenter;
+import io.stargate.sdk.ServiceDeployment;
+import io.stargate.sdk.http.ServiceHttp;
+import io.stargate.sdk.loadbalancer.DatacenterSnapshot;
+import io.stargate.sdk.loadbalancer.DeploymentSnapshot;
+import io.stargate.sdk.loadbalancer.LoadBalancedResource;
+import io.stargate.sdk.loadbalancer.NodeSnapshot;
+import io.stargate.sdk.loadbalancer.ResourceStats;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Live state of datacenters and nodes.
+ */
+public class DeploymentSnapshotTest {
+
+    private ManagedServiceDeployment<ServiceHttp> deployment() {
+        return new ManagedServiceDeployment<>(new ServiceDeployment<ServiceHttp>()
+                .addDatacenter(new ServiceDatacenter<>("dc1", null,
+                        new ServiceHttp("node1", "http://localhost:8181", "http://localhost:8181/health"),
+                        new ServiceHttp("node2", "http://localhost:8182", "http://localhost:8182/health"))));
+    }
+
+    private LoadBalancedResource<ServiceHttp> node(ManagedServiceDeployment<ServiceHttp> deployment, String id) {
+        return deployment.getLocalDatacenterClient().getStargateNodesLB().getResourceList().stream()
+                .filter(n -> n.getId().equals(id)).findFirst().orElseThrow(IllegalStateException::new);
+    }
+
+    @Test
+    public void shouldSnapshotTrafficAndEjectedNodes() {
+        ManagedServiceDeployment<ServiceHttp> deployment = deployment();
+        ResourceStats stats = node(deployment, "node1").getStats();
+        stats.onRequestEnd(stats.onRequestStart(), false);
+        stats.onRequestEnd(stats.onRequestStart(), true);
+        stats.onRequestStart();
+        deployment.failOverStargateNode(node(deployment, "node2"), new RuntimeException("connection refused"));
+
+        DeploymentSnapshot snapshot = deployment.snapshot();
+        Assertions.assertEquals("dc1", snapshot.getCurrentDatacenter());
+        Assertions.assertEquals(1, snapshot.getNodeFailOverCount());
+        DatacenterSnapshot dc = snapshot.getDatacenters().get(0);
+        Assertions.assertTrue(dc.isCurrent());
+        Assertions.assertEquals(1, dc.getAvailableNodes());
+        NodeSnapshot node1 = dc.getNodes().stream().filter(n -> n.getId().equals("node1")).findFirst().get();
+        Assertions.assertEquals(1, node1.getInFlight());
+        Assertions.assertEquals(2, node1.getRequestCount());
+        Assertions.assertEquals(1, node1.getErrorCount());
+        Assertions.assertEquals(2, node1.getLatency().getCount());
+        NodeSnapshot node2 = dc.getNodes().stream().filter(n -> n.getId().equals("node2")).findFirst().get();
+        Assertions.assertFalse(node2.isAvailable());
+        Assertions.assertEquals("connection refused", node2.getUnavailabilityCause());
+        Assertions.assertNotNull(node2.getUnavailableSince());
+    }
+
+    @Test
+    public void shouldExposeDeploymentThroughJmx() throws Exception {
+        ManagedServiceDeployment<ServiceHttp> deployment = deployment();
+        ObjectName name = DeploymentMonitor.register("test", deployment);
+        try {
+            Assertions.assertEquals("dc1", ManagementFactory.getPlatformMBeanServer().getAttribute(name, "CurrentDatacenter"));
+            CompositeData[] dcs = (CompositeData[]) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Datacenters");
+            Assertions.assertEquals(1, dcs.length);
+            Assertions.assertEquals(2, ((CompositeData[]) dcs[0].get("nodes")).length);
+        } finally {
+            DeploymentMonitor.unregister(name);
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package io.stargate.test.stats;
+
+import io.stargate.sdk.audit.LatencyHistogram;
+import io.stargate.sdk.audit.LatencySnapshot;
+import io.stargate.sdk.audit.ServiceCallCaptureLevel;
+import io.stargate.sdk.audit.ServiceCallStats;
+import io.stargate.sdk.audit.ServiceCallStatsRecorder;
+import io.stargate.sdk.http.ServiceHttp;
+import io.stargate.sdk.http.audit.ServiceHttpCallEvent;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Latency histograms and statistics per operation and node.
+ */
+public class LatencyStatsTest {
+
+    private static final ServiceHttp NODE = new ServiceHttp("node1", "http://localhost:8181", "http://localhost:8181/stargate/health");
+
+    @Test
+    public void shouldComputePercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i, i > 990);
+        }
+        LatencySnapshot snapshot = histogram.snapshot();
+        Assertions.assertEquals(1000, snapshot.getCount());
+        Assertions.assertEquals(10, snapshot.getErrors());
+        Assertions.assertEquals(1000, snapshot.getMax());
+        Assertions.assertEquals(500.5, snapshot.getMean(), 0.01);
+        // Relative error is bounded by the bucket width
+        Assertions.assertEquals(500, snapshot.getP50(), 500 * 0.0625);
+        Assertions.assertEquals(990, snapshot.getP99(), 990 * 0.0625);
+        Assertions.assertTrue(snapshot.getP999() <= 1000);
+    }
+
+    @Test
+    public void shouldRecordPerOperationAndNode() {
+        ServiceCallStatsRecorder recorder = new ServiceCallStatsRecorder();
+        for (String command : new String[] {"find", "find", "insertOne"}) {
+            ServiceHttpCallEvent event = new ServiceHttpCallEvent(NODE,
+                    new HttpPost("http://localhost:8181/v1/ns1/col1"), ServiceCallCaptureLevel.TIMINGS, -1);
+            event.setOperationName(command);
+            event.setHttpResponseCode(command.equals("insertOne") ? 503 : 200);
+            event.setResponseElapsedTime(20);
+            recorder.record(event);
+        }
+        ServiceCallStats stats = recorder.stats();
+        Assertions.assertEquals(3, stats.getGlobal().getCount());
+        Assertions.assertEquals(2, stats.getOperations().get("find").getCount());
+        Assertions.assertEquals(1.0, stats.getOperations().get("insertOne").getErrorRate());
+        Assertions.assertEquals(3, stats.getNodes().get("node1").getCount());
+        Assertions.assertEquals(20, recorder.getOperationHistogram("find").getValueAtPercentile(99));
+    }
+
+}
@@ -0,0 +1,84 @@
+package io.stargate.test.stats;
+
+import com.sun.net.httpserver.HttpServer;
+import io.stargate.sdk.http.RetryHttpClient;
+import io.stargate.sdk.http.ServiceHttp;
+import io.stargate.sdk.http.audit.PayloadSnapshot;
+import io.stargate.sdk.http.audit.PayloadStats;
+import io.stargate.sdk.http.audit.PayloadStatsRecorder;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bytes counted per operation and collection, decoded and on the wire.
+ */
+public class PayloadStatsTest {
+
+    @Test
+    public void shouldResolveCollection() {
+        Assertions.assertEquals("ns1.coll1", PayloadStatsRecorder.collectionOf("http://localhost:8181/v1/ns1/coll1"));
+        Assertions.assertEquals("ns1.coll1", PayloadStatsRecorder.collectionOf("https://db.astra.com/api/json/v1/ns1/coll1"));
+        Assertions.assertEquals("ns1.coll1", PayloadStatsRecorder.collectionOf("http://localhost:8082/v2/namespaces/ns1/collections/coll1/doc1"));
+        Assertions.assertEquals("ks1.t1", PayloadStatsRecorder.collectionOf("http://localhost:8082/v2/keyspaces/ks1/t1?where=x"));
+        Assertions.assertNull(PayloadStatsRecorder.collectionOf("http://localhost:8181/v1/ns1"));
+        Assertions.assertNull(PayloadStatsRecorder.collectionOf("http://localhost:8082/v2/schemas/keyspaces/ks1/tables"));
+        Assertions.assertNull(PayloadStatsRecorder.collectionOf("http://localhost:8081/v1/auth"));
+    }
+
+    @Test
+    public void shouldCountCompressedResponse() throws Exception {
+        StringBuilder json = new StringBuilder("{\"data\":{\"documents\":[");
+        for (int i = 0; i < 200; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"_id\":\"").append(i).append("\",\"name\":\"same value\"}");
+        }
+        String body = json.append("]}}").toString();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/ns1/coll1", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody())) {
+                out.write(body.getBytes());
+            }
+            exchange.close();
+        });
+        server.start();
+        PayloadStatsRecorder recorder = new PayloadStatsRecorder();
+        RetryHttpClient.registerListener(PayloadStatsRecorder.NAME, recorder);
+        try {
+            String url = "http://localhost:" + server.getAddress().getPort();
+            HttpPost post = new HttpPost(url + "/v1/ns1/coll1");
+            post.setEntity(new StringEntity("{\"find\":{}}", ContentType.APPLICATION_JSON));
+            String result = RetryHttpClient.getInstance()
+                    .executeHttp(new ServiceHttp("node1", url, url + "/health"), post, true)
+                    .getBody();
+            Assertions.assertEquals(body, result);
+
+            long deadline = System.currentTimeMillis() + 5000;
+            // Collection counters are updated last
+            while (!recorder.stats().getCollections().containsKey("ns1.coll1") && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            PayloadStats stats = recorder.stats();
+            PayloadSnapshot coll = stats.getCollections().get("ns1.coll1");
+            Assertions.assertNotNull(coll);
+            Assertions.assertEquals(1, coll.getCount());
+            Assertions.assertEquals(11, coll.getRequestBytes());
+            Assertions.assertEquals(body.length(), coll.getResponseBytes());
+            Assertions.assertEquals(1, coll.getCompressedResponses());
+            Assertions.assertTrue(coll.getResponseWireBytes() > 0);
+            Assertions.assertTrue(coll.getResponseWireBytes() < coll.getResponseBytes());
+        } finally {
+            RetryHttpClient.unregisterListener(PayloadStatsRecorder.NAME, recorder);
+            server.stop(0);
+        }
+    }
+
+}
@@ -0,0 +1,223 @@
+package io.stargate.test.tracing;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.stub.StreamObserver;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.stargate.proto.QueryOuterClass;
+import io.stargate.proto.StargateGrpc;
+import io.stargate.sdk.data.CollectionClient;
+import io.stargate.sdk.data.domain.JsonDocumentResult;
+import io.stargate.sdk.data.domain.query.SelectQuery;
+import io.stargate.sdk.grpc.GrpcClient;
+import io.stargate.sdk.grpc.ServiceGrpc;
+import io.stargate.sdk.grpc.domain.QueryGrpc;
+import io.stargate.sdk.tracing.ServiceCallScope;
+import io.stargate.sdk.tracing.ServiceCallSpan;
+import io.stargate.sdk.tracing.ServiceCallTracer;
+import io.stargate.sdk.tracing.ServiceCallTracing;
+import io.stargate.sdk.tracing.otel.OpenTelemetrySpan;
+import io.stargate.sdk.tracing.otel.OpenTelemetryTracer;
+import io.stargate.test.data.FakeDataApiServer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Spans and context propagation with OpenTelemetry.
+ */
+public class TracingTest {
+
+    /**
+     * Tracer exporting the finished spans to memory.
+     */
+    private static ServiceCallTracer tracer(InMemorySpanExporter exporter) {
+        return new OpenTelemetryTracer(OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder()
+                        .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                        .build())
+                .build());
+    }
+
+    @Test
+    public void shouldPropagateContext() {
+        InMemorySpanExporter exporter = InMemorySpanExporter.create();
+        ServiceCallTracer tracer = tracer(exporter);
+
+        ServiceCallSpan operation = tracer.startSpan("CollectionClient.find", ServiceCallSpan.Kind.INTERNAL);
+        String traceId = ((OpenTelemetrySpan) operation).getSpan().getSpanContext().getTraceId();
+        Map<String, String> headers = new HashMap<>();
+        try (ServiceCallScope scope = operation.makeCurrent()) {
+            // W3C header sent with the http attempt
+            ServiceCallSpan attempt = tracer.startSpan("POST", ServiceCallSpan.Kind.CLIENT);
+            attempt.inject(headers::put);
+            attempt.end();
+            // Parent kept on another thread
+            CompletableFuture.supplyAsync(tracer.wrap(() -> {
+                tracer.startSpan("page", ServiceCallSpan.Kind.INTERNAL).end();
+                return true;
+            })).join();
+        } finally {
+            operation.end();
+        }
+
+        Assertions.assertTrue(headers.get("traceparent").contains(traceId));
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        Assertions.assertEquals(3, spans.size());
+        String operationId = ((OpenTelemetrySpan) operation).getSpan().getSpanContext().getSpanId();
+        spans.stream()
+             .filter(s -> !s.getName().equals("CollectionClient.find"))
+             .forEach(s -> Assertions.assertEquals(operationId, s.getParentSpanId()));
+    }
+
+    @Test
+    public void shouldNestSpansOfClientCall() throws Exception {
+        InMemorySpanExporter exporter = InMemorySpanExporter.create();
+        ServiceCallTracer previous = ServiceCallTracing.getTracer();
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(25)) {
+            // Client created first, the calls checking the collection are not traced
+            CollectionClient collection = server.collection();
+            ServiceCallTracing.withTracer(tracer(exporter));
+            Assertions.assertEquals(25, collection.find(SelectQuery.builder().build()).count());
+        } finally {
+            ServiceCallTracing.withTracer(previous);
+        }
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        List<SpanData> operations = spans.stream()
+                .filter(s -> s.getName().equals("CollectionClient.find"))
+                .collect(Collectors.toList());
+        Assertions.assertEquals(1, operations.size());
+        SpanData operation = operations.get(0);
+        Assertions.assertEquals(2L, operation.getAttributes().asMap().entrySet().stream()
+                .filter(e -> e.getKey().getKey().equals("stargate.pages"))
+                .findFirst().get().getValue());
+
+        // Operation > page > find command > http attempt, all in the same trace
+        List<SpanData> pages = children(spans, operation);
+        Assertions.assertEquals(2, pages.size());
+        for (SpanData page : pages) {
+            Assertions.assertEquals("page", page.getName());
+            List<SpanData> commands = children(spans, page);
+            Assertions.assertEquals(1, commands.size());
+            Assertions.assertEquals("find", commands.get(0).getName());
+            List<SpanData> attempts = children(spans, commands.get(0));
+            Assertions.assertEquals(1, attempts.size());
+            Assertions.assertEquals("POST", attempts.get(0).getName());
+            Assertions.assertEquals(SpanKind.CLIENT, attempts.get(0).getKind());
+        }
+        Assertions.assertEquals(7, spans.size());
+        spans.forEach(s -> Assertions.assertEquals(operation.getTraceId(), s.getTraceId()));
+    }
+
+    @Test
+    public void shouldKeepParentOfGrpcCalls() throws Exception {
+        Server server = Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                .addService(new StargateGrpc.StargateImplBase() {
+                    @Override
+                    public void executeQuery(QueryOuterClass.Query request, StreamObserver<QueryOuterClass.Response> observer) {
+                        observer.onNext(QueryOuterClass.Response.newBuilder()
+                                .setResultSet(QueryOuterClass.ResultSet.newBuilder().build())
+                                .build());
+                        observer.onCompleted();
+                    }
+                })
+                .build()
+                .start();
+        ServiceGrpc node = new ServiceGrpc("node1", "localhost:" + server.getPort(), "localhost:" + server.getPort());
+        InMemorySpanExporter exporter = InMemorySpanExporter.create();
+        ServiceCallTracer previous = ServiceCallTracing.getTracer();
+        ServiceCallTracing.withTracer(tracer(exporter));
+        ServiceCallSpan operation = ServiceCallTracing.startSpan("operation");
+        try (ServiceCallScope scope = operation.makeCurrent()) {
+            GrpcClient.getInstance().executeAsync(node, new QueryGrpc("SELECT 1"), "token").get(5, TimeUnit.SECONDS);
+            // Subscribed on another thread, the span keeps the parent of the assembly
+            GrpcClient.getInstance().executeReactive(node, new QueryGrpc("SELECT 2"), "token")
+                    .subscribeOn(Schedulers.parallel())
+                    .block(Duration.ofSeconds(5));
+        } finally {
+            operation.end();
+            ServiceCallTracing.withTracer(previous);
+            node.getChannel().shutdownNow();
+            server.shutdownNow();
+        }
+
+        String operationId = ((OpenTelemetrySpan) operation).getSpan().getSpanContext().getSpanId();
+        List<SpanData> calls = exporter.getFinishedSpanItems().stream()
+                .filter(s -> s.getName().equals("ExecuteQuery"))
+                .collect(Collectors.toList());
+        Assertions.assertEquals(2, calls.size());
+        for (SpanData call : calls) {
+            Assertions.assertEquals(SpanKind.CLIENT, call.getKind());
+            Assertions.assertEquals(operationId, call.getParentSpanId());
+        }
+    }
+
+    @Test
+    public void shouldNestSpansOfReactiveFind() throws Exception {
+        InMemorySpanExporter exporter = InMemorySpanExporter.create();
+        ServiceCallTracer previous = ServiceCallTracing.getTracer();
+        ServiceCallSpan operation;
+        try (FakeDataApiServer server = new FakeDataApiServer().withDocuments(25)) {
+            CollectionClient collection = server.collection();
+            ServiceCallTracing.withTracer(tracer(exporter));
+            operation = ServiceCallTracing.startSpan("operation");
+            Flux<JsonDocumentResult> documents;
+            try (ServiceCallScope scope = operation.makeCurrent()) {
+                documents = collection.reactive().findAll();
+            }
+            // Subscribed out of the context of the caller
+            Assertions.assertEquals(25, documents.subscribeOn(Schedulers.parallel()).count().block());
+            operation.end();
+        } finally {
+            ServiceCallTracing.withTracer(previous);
+        }
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        String operationId = ((OpenTelemetrySpan) operation).getSpan().getSpanContext().getSpanId();
+        SpanData find = spans.stream()
+                .filter(s -> s.getName().equals("CollectionClient.find"))
+                .findFirst().get();
+        Assertions.assertEquals(operationId, find.getParentSpanId());
+
+        // find > page > find command > http attempt, ended with the calls
+        List<SpanData> pages = children(spans, find);
+        Assertions.assertEquals(2, pages.size());
+        for (SpanData page : pages) {
+            Assertions.assertEquals("page", page.getName());
+            List<SpanData> commands = children(spans, page);
+            Assertions.assertEquals(1, commands.size());
+            Assertions.assertEquals("find", commands.get(0).getName());
+            List<SpanData> attempts = children(spans, commands.get(0));
+            Assertions.assertEquals(1, attempts.size());
+            Assertions.assertEquals(SpanKind.CLIENT, attempts.get(0).getKind());
+            Assertions.assertTrue(attempts.get(0).hasEnded());
+        }
+        Assertions.assertEquals(8, spans.size());
+    }
+
+    /**
+     * Finished spans with the given parent.
+     */
+    private static List<SpanData> children(List<SpanData> spans, SpanData parent) {
+        return spans.stream()
+                .filter(s -> s.getParentSpanId().equals(parent.getSpanId()))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,85 @@
+package io.stargate.sdk.tracing.otel;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.stargate.sdk.tracing.ServiceCallScope;
+import io.stargate.sdk.tracing.ServiceCallSpan;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Wrapper of an OpenTelemetry span.
+ */
+public class OpenTelemetrySpan implements ServiceCallSpan {
+
+    /** OpenTelemetry span. */
+    private final Span span;
+
+    /** Propagation of the context in request headers. */
+    private final TextMapPropagator propagator;
+
+    /**
+     * Constructor with the span.
+     *
+     * @param span
+     *      started span
+     * @param propagator
+     *      context propagator
+     */
+    public OpenTelemetrySpan(Span span, TextMapPropagator propagator) {
+        this.span       = span;
+        this.propagator = propagator;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ServiceCallSpan setAttribute(String key, String value) {
+        span.setAttribute(key, value);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ServiceCallSpan setAttribute(String key, long value) {
+        span.setAttribute(key, value);
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void recordError(Throwable error) {
+        span.recordException(error);
+        span.setStatus(StatusCode.ERROR, error.getMessage() != null ? error.getMessage() : error.getClass().getName());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void inject(BiConsumer<String, String> headers) {
+        propagator.inject(Context.current().with(span), headers, BiConsumer::accept);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ServiceCallScope makeCurrent() {
+        return span.makeCurrent()::close;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void end() {
+        span.end();
+    }
+
+    /**
+     * Gets the OpenTelemetry span.
+     *
+     * @return
+     *      span
+     */
+    public Span getSpan() {
+        return span;
+    }
+
+}
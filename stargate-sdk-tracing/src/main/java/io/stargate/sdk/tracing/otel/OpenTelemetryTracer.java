@@ -0,0 +1,64 @@
+package io.stargate.sdk.tracing.otel;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.stargate.sdk.tracing.ServiceCallSpan;
+import io.stargate.sdk.tracing.ServiceCallTracer;
+import lombok.NonNull;
+
+import java.util.function.Supplier;
+
+/**
+ * Tracer relying on OpenTelemetry.
+ * <p>
+ * Spans are children of the current OpenTelemetry context, the trace context is propagated to Stargate
+ * with the propagators of the application or W3C <code>traceparent</code> when none is configured.
+ */
+public class OpenTelemetryTracer implements ServiceCallTracer {
+
+    /** Name of the instrumentation scope. */
+    public static final String INSTRUMENTATION_NAME = "io.stargate.sdk";
+
+    /** OpenTelemetry tracer. */
+    private final Tracer tracer;
+
+    /** Propagation of the context in request headers. */
+    private final TextMapPropagator propagator;
+
+    /**
+     * Constructor with the OpenTelemetry instance of the application.
+     *
+     * @param openTelemetry
+     *      configured OpenTelemetry (sdk or GlobalOpenTelemetry)
+     */
+    public OpenTelemetryTracer(@NonNull OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+        TextMapPropagator configured = openTelemetry.getPropagators().getTextMapPropagator();
+        this.propagator = (configured == TextMapPropagator.noop()) ? W3CTraceContextPropagator.getInstance() : configured;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ServiceCallSpan startSpan(String name, ServiceCallSpan.Kind kind) {
+        return new OpenTelemetrySpan(tracer.spanBuilder(name)
+                .setSpanKind(kind == ServiceCallSpan.Kind.CLIENT ? SpanKind.CLIENT : SpanKind.INTERNAL)
+                .startSpan(), propagator);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> Supplier<T> wrap(Supplier<T> task) {
+        Context parent = Context.current();
+        return () -> {
+            try (Scope scope = parent.makeCurrent()) {
+                return task.get();
+            }
+        };
+    }
+
+}
@@ -20,21 +20,35 @@ import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.CqlSessionBuilder;
 import com.datastax.oss.driver.api.core.config.DriverConfigLoader;
 import com.datastax.oss.driver.api.core.config.TypedDriverOption;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.stargate.sdk.audit.ServiceCallObserver;
+import io.stargate.sdk.audit.ServiceCallStats;
+import io.stargate.sdk.audit.ServiceCallStatsRecorder;
 import io.stargate.sdk.data.DataApiClient;
 import io.stargate.sdk.doc.StargateDocumentApiClient;
 import io.stargate.sdk.gql.StargateGraphQLApiClient;
+import io.stargate.sdk.grpc.GrpcClient;
 import io.stargate.sdk.grpc.ServiceGrpc;
 import io.stargate.sdk.grpc.StargateGrpcApiClient;
 import io.stargate.sdk.http.RetryHttpClient;
 import io.stargate.sdk.http.ServiceHttp;
+import io.stargate.sdk.http.audit.PayloadStats;
+import io.stargate.sdk.http.audit.PayloadStatsRecorder;
+import io.stargate.sdk.http.audit.SlowQueryLogObserver;
+import io.stargate.sdk.loadbalancer.DeploymentSnapshot;
+import io.stargate.sdk.metrics.StargateClientMetrics;
+import io.stargate.sdk.metrics.StargateMetricsObserver;
 import io.stargate.sdk.rest.StargateRestApiClient;
+import io.stargate.sdk.tracing.ServiceCallTracing;
 import io.stargate.sdk.utils.AnsiUtils;
 import io.stargate.sdk.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.management.ObjectName;
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -89,6 +103,26 @@ public class StargateClient implements Closeable {
      */
     protected DataApiClient apiDataClient;
 
+    /**
+     * Latency statistics, when enabled.
+     */
+    protected ServiceCallStatsRecorder statsRecorder;
+
+    /**
+     * Payload statistics, when enabled.
+     */
+    protected PayloadStatsRecorder payloadRecorder;
+
+    /**
+     * Registered MBeans, when JMX is enabled.
+     */
+    protected final List<ObjectName> mbeans = new ArrayList<>();
+
+    /**
+     * Observers registered by this client on the static http and gRPC clients, removed on close.
+     */
+    protected final List<Runnable> observersRegistrations = new ArrayList<>();
+
     // ------------------------------------------------
     // ---------------- Initializing   ----------------
     // ------------------------------------------------
@@ -165,11 +199,55 @@ public class StargateClient implements Closeable {
         if (config.getRequestConfig() != null) {
             RetryHttpClient.withRequestConfig(config.getRequestConfig());
         }
+        if (config.getHttpObservedBodyMaxSize() != null) {
+            RetryHttpClient.withObservedBodyMaxSize(config.getHttpObservedBodyMaxSize());
+        }
         if (!config.getObservers().isEmpty()) {
             for (Map.Entry<String, ServiceCallObserver> obs : config.getObservers().entrySet()) {
-                RetryHttpClient.registerListener(obs.getKey(), obs.getValue());
+                registerHttpListener(obs.getKey(), obs.getValue());
             }
         }
+
+        if (config.getSlowQueryLog() != null) {
+            registerHttpListener(SlowQueryLogObserver.NAME, config.getSlowQueryLog());
+        }
+
+        // ------------- Tracing ------------------
+
+        if (config.getTracer() != null) {
+            ServiceCallTracing.withTracer(config.getTracer());
+        }
+
+        // ------------- Latency Stats ------------
+
+        if (config.isEnabledLatencyStats()) {
+            statsRecorder = new ServiceCallStatsRecorder();
+            registerHttpListener(ServiceCallStatsRecorder.NAME, statsRecorder);
+            if (apiGrpcClient != null) {
+                registerGrpcListener(ServiceCallStatsRecorder.NAME, statsRecorder);
+            }
+            LOGGER.info("+ Stats        :[" + green("ENABLED") + "]");
+        }
+
+        if (config.isEnabledPayloadStats()) {
+            payloadRecorder = new PayloadStatsRecorder();
+            registerHttpListener(PayloadStatsRecorder.NAME, payloadRecorder);
+            LOGGER.info("+ Payload Stats:[" + green("ENABLED") + "]");
+        }
+
+        // ------------- JMX ----------------------
+
+        if (config.isEnabledJmx()) {
+            deployments().forEach((api, deployment) -> mbeans.add(DeploymentMonitor.register(api, deployment)));
+            LOGGER.info("+ JMX          :[" + green("ENABLED") + "]");
+        }
+
+        // ------------- Metrics ------------------
+
+        if (config.getMetricsRegistry() != null && MicrometerMetrics.isRegistry(config.getMetricsRegistry())) {
+            MicrometerMetrics.bind(this, config.getMetricsRegistry());
+            LOGGER.info("+ Metrics      :[" + green("ENABLED") + "]");
+        }
     }
 
     /**
@@ -313,6 +391,36 @@ public class StargateClient implements Closeable {
             cqlSession.close();
             LOGGER.info("Closing CqlSession.");
         }
+        mbeans.forEach(DeploymentMonitor::unregister);
+        mbeans.clear();
+        observersRegistrations.forEach(Runnable::run);
+        observersRegistrations.clear();
+    }
+
+    /**
+     * Register an observer of the http calls, removed when the client is closed.
+     *
+     * @param name
+     *      observer name
+     * @param observer
+     *      observer
+     */
+    private void registerHttpListener(String name, ServiceCallObserver<?,?,?> observer) {
+        RetryHttpClient.registerListener(name, observer);
+        observersRegistrations.add(() -> RetryHttpClient.unregisterListener(name, observer));
+    }
+
+    /**
+     * Register an observer of the gRPC calls, removed when the client is closed.
+     *
+     * @param name
+     *      observer name
+     * @param observer
+     *      observer
+     */
+    private void registerGrpcListener(String name, ServiceCallObserver<?,?,?> observer) {
+        GrpcClient.registerListener(name, observer);
+        observersRegistrations.add(() -> GrpcClient.unregisterListener(name, observer));
     }
     
     // ------------------------------------------------
@@ -392,6 +500,62 @@ public class StargateClient implements Closeable {
         return this.apiGrpcClient;
     }
 
+    /**
+     * Live state of the deployments: availability and traffic per datacenter and node.
+     *
+     * @return
+     *      snapshot per api (rest, document, graphql, data, grpc)
+     */
+    public Map<String, DeploymentSnapshot> snapshot() {
+        Map<String, DeploymentSnapshot> snapshots = new LinkedHashMap<>();
+        deployments().forEach((api, deployment) -> snapshots.put(api, deployment.snapshot()));
+        return snapshots;
+    }
+
+    /**
+     * Deployments of the http and gRPC apis.
+     *
+     * @return
+     *      deployment per api
+     */
+    private Map<String, ManagedServiceDeployment<?>> deployments() {
+        Map<String, ManagedServiceDeployment<?>> deployments = new LinkedHashMap<>();
+        deployments.put("rest", apiRestClient.getStargateHttpClient().getDeployment());
+        deployments.put("document", apiDocumentClient.getStargateHttpClient().getDeployment());
+        deployments.put("graphql", apiGraphQLClient.getStargateHttpClient().getDeployment());
+        deployments.put("data", apiDataClient.getStargateHttpClient().getDeployment());
+        if (apiGrpcClient != null) {
+            deployments.put("grpc", apiGrpcClient.getGrpcClientLoadBalanced().getDeployment());
+        }
+        return deployments;
+    }
+
+    /**
+     * Latency statistics of the invocations, globally, per operation and per node.
+     *
+     * @return
+     *      statistics snapshot
+     */
+    public ServiceCallStats stats() {
+        if (statsRecorder == null) {
+            throw new IllegalStateException("Latency statistics are not enabled, use enableLatencyStats() in the builder");
+        }
+        return statsRecorder.stats();
+    }
+
+    /**
+     * Bytes exchanged with the http apis, globally, per operation and per collection.
+     *
+     * @return
+     *      statistics snapshot
+     */
+    public PayloadStats payloadStats() {
+        if (payloadRecorder == null) {
+            throw new IllegalStateException("Payload statistics are not enabled, use enablePayloadStats() in the builder");
+        }
+        return payloadRecorder.stats();
+    }
+
     /**
      * Set value for currentDatacenter
      *
@@ -400,4 +564,50 @@ public class StargateClient implements Closeable {
     public void setCurrentDatacenter(String currentDatacenter) {
         this.currentDatacenter = currentDatacenter;
     }
+
+    /**
+     * Micrometer is optional, classes are only loaded when the registry is a Micrometer one.
+     */
+    private static final class MicrometerMetrics {
+
+        /** Micrometer registry class. */
+        private static final String REGISTRY_CLASS = "io.micrometer.core.instrument.MeterRegistry";
+
+        /**
+         * Check if the registry is a Micrometer registry without loading Micrometer classes.
+         *
+         * @param registry
+         *      registry provided in the builder
+         * @return
+         *      if Micrometer is available and the registry is a MeterRegistry
+         */
+        static boolean isRegistry(Object registry) {
+            try {
+                return Class.forName(REGISTRY_CLASS, false, registry.getClass().getClassLoader()).isInstance(registry);
+            } catch (ClassNotFoundException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Register the observer on http and gRPC clients and bind the state of the deployments.
+         *
+         * @param client
+         *      current client
+         * @param registry
+         *      micrometer registry
+         */
+        static void bind(StargateClient client, Object registry) {
+            MeterRegistry meterRegistry = (MeterRegistry) registry;
+            StargateMetricsObserver observer = new StargateMetricsObserver(meterRegistry);
+            client.registerHttpListener(StargateMetricsObserver.NAME, observer);
+            StargateClientMetrics metrics = new StargateClientMetrics();
+            client.deployments().forEach(metrics::withDeployment);
+            if (client.apiGrpcClient != null) {
+                client.registerGrpcListener(StargateMetricsObserver.NAME, observer);
+                metrics.withObserverDispatcher("grpc", GrpcClient::getObserverDispatcher);
+            }
+            metrics.bindTo(meterRegistry);
+        }
+    }
 }
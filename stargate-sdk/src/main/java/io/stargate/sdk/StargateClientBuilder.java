@@ -11,7 +11,9 @@ import io.stargate.sdk.api.SimpleTokenProvider;
 import io.stargate.sdk.audit.ServiceCallObserver;
 import io.stargate.sdk.grpc.ServiceGrpc;
 import io.stargate.sdk.http.ServiceHttp;
+import io.stargate.sdk.http.audit.SlowQueryLogObserver;
 import io.stargate.sdk.http.auth.TokenProviderHttpAuth;
+import io.stargate.sdk.tracing.ServiceCallTracer;
 import io.stargate.sdk.utils.Utils;
 import com.evanlennick.retry4j.config.RetryConfig;
 import io.stargate.sdk.utils.Assert;
@@ -916,7 +918,8 @@ public class StargateClientBuilder implements Serializable {
     }
     
     /**
-     * Metrics registry.
+     * Metrics registry of the CQL session, see {@link #withMetricsRegistry(Object)} to instrument the http
+     * and gRPC clients.
      *
      * @param registry
      *      target metrics registry
@@ -1157,6 +1160,109 @@ public class StargateClientBuilder implements Serializable {
         return this.enabledGrpc;
     }
 
+    /** If the flag is enabled latency of invocations is recorded in histograms. */
+    protected boolean enabledLatencyStats = false;
+
+    /**
+     * Record latency of http and gRPC invocations per operation and per node, statistics are
+     * available with <code>StargateClient.stats()</code>.
+     *
+     * @return
+     *      reference of current object
+     */
+    public StargateClientBuilder enableLatencyStats() {
+        this.enabledLatencyStats = true;
+        return this;
+    }
+
+    /**
+     * Getter accessor for attribute 'enabledLatencyStats'.
+     *
+     * @return
+     *       current value of 'enabledLatencyStats'
+     */
+    public boolean isEnabledLatencyStats() {
+        return this.enabledLatencyStats;
+    }
+
+    /** If the flag is enabled bytes exchanged with the http apis are counted. */
+    protected boolean enabledPayloadStats = false;
+
+    /**
+     * Count request and response bytes of the http apis per operation and per collection, decoded and
+     * on the wire. Counters are available with <code>StargateClient.payloadStats()</code>.
+     *
+     * @return
+     *      reference of current object
+     */
+    public StargateClientBuilder enablePayloadStats() {
+        this.enabledPayloadStats = true;
+        return this;
+    }
+
+    /**
+     * Getter accessor for attribute 'enabledPayloadStats'.
+     *
+     * @return
+     *       current value of 'enabledPayloadStats'
+     */
+    public boolean isEnabledPayloadStats() {
+        return this.enabledPayloadStats;
+    }
+
+    /** If the flag is enabled deployments are registered as JMX MBeans. */
+    protected boolean enabledJmx = false;
+
+    /**
+     * Register the state of the deployments (availability and traffic per datacenter and node) as
+     * MBeans <code>io.stargate.sdk:type=Deployment,api=&lt;api&gt;</code>.
+     *
+     * @return
+     *      reference of current object
+     */
+    public StargateClientBuilder enableJmx() {
+        this.enabledJmx = true;
+        return this;
+    }
+
+    /**
+     * Getter accessor for attribute 'enabledJmx'.
+     *
+     * @return
+     *       current value of 'enabledJmx'
+     */
+    public boolean isEnabledJmx() {
+        return this.enabledJmx;
+    }
+
+    /** Registry instrumenting the http and gRPC clients, null when disabled. */
+    protected Object metricsRegistry;
+
+    /**
+     * Instrument the http and gRPC clients with a Micrometer <code>MeterRegistry</code> (latencies, retries,
+     * fail-over, nodes availability, connection pool, dropped events). Other registries are ignored.
+     *
+     * @param registry
+     *      micrometer registry
+     * @return
+     *      reference of current object
+     */
+    public StargateClientBuilder withMetricsRegistry(Object registry) {
+        Assert.notNull(registry, "registry");
+        this.metricsRegistry = registry;
+        return this;
+    }
+
+    /**
+     * Getter accessor for attribute 'metricsRegistry'.
+     *
+     * @return
+     *       current value of 'metricsRegistry'
+     */
+    public Object getMetricsRegistry() {
+        return this.metricsRegistry;
+    }
+
     // ------------------------------------------------
     // ------------- HTTP Client ----------------------
     // ------------------------------------------------
@@ -1169,6 +1275,86 @@ public class StargateClientBuilder implements Serializable {
     
     /** Observers. */ 
     protected Map<String, ServiceCallObserver> httpObservers = new HashMap<>();
+
+    /** Maximum size of bodies captured for observers. */
+    protected Integer httpObservedBodyMaxSize;
+
+    /**
+     * Limit the size of request and response bodies captured in events for observers.
+     *
+     * @param maxSize
+     *            maximum size in characters, negative means unlimited
+     * @return self reference
+     */
+    public StargateClientBuilder withHttpObservedBodyMaxSize(int maxSize) {
+        this.httpObservedBodyMaxSize = maxSize;
+        return this;
+    }
+
+    /**
+     * Getter accessor for attribute 'httpObservedBodyMaxSize'.
+     *
+     * @return
+     *       current value of 'httpObservedBodyMaxSize'
+     */
+    public Integer getHttpObservedBodyMaxSize() {
+        return httpObservedBodyMaxSize;
+    }
+
+    /** Slow query log, null when disabled. */
+    protected SlowQueryLogObserver slowQueryLog;
+
+    /**
+     * Log http calls slower than a threshold, sampled, as single line json with the shape of the query
+     * (values redacted), page, payload sizes and node. Bodies are not captured for the other calls.
+     *
+     * @param thresholdMillis
+     *            calls slower than this threshold are logged
+     * @param sampleRate
+     *            ratio of slow calls logged, between 0 and 1
+     * @return self reference
+     */
+    public StargateClientBuilder withSlowQueryLog(long thresholdMillis, double sampleRate) {
+        this.slowQueryLog = new SlowQueryLogObserver(thresholdMillis, sampleRate);
+        return this;
+    }
+
+    /**
+     * Getter accessor for attribute 'slowQueryLog'.
+     *
+     * @return
+     *       current value of 'slowQueryLog'
+     */
+    public SlowQueryLogObserver getSlowQueryLog() {
+        return slowQueryLog;
+    }
+
+    /** Tracer for the api operations. */
+    protected ServiceCallTracer tracer;
+
+    /**
+     * Trace api operations, http attempts, fail-over and pages. Use <code>new OpenTelemetryTracer(openTelemetry)</code>
+     * to export the spans with OpenTelemetry.
+     *
+     * @param tracer
+     *            tracer implementation
+     * @return self reference
+     */
+    public StargateClientBuilder withTracer(ServiceCallTracer tracer) {
+        Assert.notNull(tracer, "tracer");
+        this.tracer = tracer;
+        return this;
+    }
+
+    /**
+     * Getter accessor for attribute 'tracer'.
+     *
+     * @return
+     *       current value of 'tracer'
+     */
+    public ServiceCallTracer getTracer() {
+        return tracer;
+    }
     
     /**
      * Enable fine Grained configuration of the HTTP Client.